@@ -0,0 +1,136 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.jenkins.build.model.JenkinsBuild;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.build.service.BuildJsonDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jenkins 빌드 목록 JSON 디코딩 비용 비교.
+ * <p>
+ * legacy 는 기존 구현(요청마다 new ObjectMapper 로 Map 트리 생성, 빌드마다 ZoneId/DateTimeFormatter 생성, 최신 빌드는 전체 max)을 재현하고,
+ * streaming 은 BuildJsonDecoder 로 필요한 필드만 읽어 BuildInfo 로 변환합니다.
+ * 빌드마다 actions(파라미터, cause) 와 changeSets 가 포함된 tree 응답을 사용합니다.
+ * 실행: ./gradlew jmh -PjmhArgs="BuildJsonBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class BuildJsonBenchmark {
+
+    @Param({"legacy", "streaming"})
+    public String mode;
+
+    @Param({"1000", "10000"})
+    public int builds;
+
+    private byte[] payload;
+    private BuildJsonDecoder decoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        decoder = new BuildJsonDecoder(new ObjectMapper());
+        StringBuilder json = new StringBuilder("{\"_class\":\"org.jenkinsci.plugins.workflow.job.WorkflowJob\",\"builds\":[");
+        for (int n = builds; n >= 1; n--) {
+            if (n != builds) {
+                json.append(',');
+            }
+            json.append("{\"_class\":\"org.jenkinsci.plugins.workflow.job.WorkflowRun\",\"actions\":[")
+                    .append("{\"_class\":\"hudson.model.ParametersAction\",\"parameters\":[{\"name\":\"DO_BUILD\",\"value\":true},{\"name\":\"DO_TEST\",\"value\":false}]},")
+                    .append("{\"_class\":\"hudson.model.CauseAction\",\"causes\":[{\"shortDescription\":\"Started by user admin\",\"userId\":\"admin\",\"userName\":\"admin\"}]},")
+                    .append("{},{\"_class\":\"org.jenkinsci.plugins.workflow.libs.LibrariesAction\"}],")
+                    .append("\"building\":false,\"duration\":").append(10_000 + n)
+                    .append(",\"number\":").append(n)
+                    .append(",\"result\":\"").append(n % 7 == 0 ? "FAILURE" : "SUCCESS")
+                    .append("\",\"timestamp\":").append(1_720_000_000_000L + n * 60_000L)
+                    .append(",\"url\":\"http://jenkins.example.com/job/sample-job/").append(n).append("/\"")
+                    .append(",\"changeSets\":[{\"kind\":\"git\",\"items\":[{\"commitId\":\"").append(Integer.toHexString(n * 7919))
+                    .append("\",\"msg\":\"fix build ").append(n).append("\"}]}]}");
+        }
+        payload = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void list(Blackhole bh) throws Exception {
+        if ("legacy".equals(mode)) {
+            Map<String, Object> body = new ObjectMapper().readValue(payload, Map.class);
+            for (Map<String, Object> build : (List<Map<String, Object>>) body.get("builds")) {
+                bh.consume(legacyFrom(build));
+            }
+            return;
+        }
+        for (JenkinsBuild build : decoder.readBuilds(new ByteArrayInputStream(payload), 0).getBuilds()) {
+            bh.consume(BuildResponseDto.BuildInfo.from(build));
+        }
+    }
+
+    @Benchmark
+    public Object latest() throws Exception {
+        if ("legacy".equals(mode)) {
+            Map<String, Object> body = new ObjectMapper().readValue(payload, Map.class);
+            return ((List<Map<String, Object>>) body.get("builds")).stream()
+                    .max(Comparator.comparingInt(b -> (Integer) b.get("number")))
+                    .map(BuildJsonBenchmark::legacyFrom)
+                    .orElseThrow();
+        }
+        return BuildResponseDto.BuildInfo.from(decoder.readLatest(new ByteArrayInputStream(payload)));
+    }
+
+    private static BuildResponseDto.BuildInfo legacyFrom(Map<String, Object> build) {
+        long timestamp = ((Number) build.get("timestamp")).longValue();
+        long durationMs = ((Number) build.get("duration")).longValue();
+        String buildUrl = (String) build.get("url");
+
+        String triggeredBy = "unknown";
+        outer:
+        for (Map<String, Object> action : (List<Map<String, Object>>) build.get("actions")) {
+            List<Map<String, Object>> causes = action == null ? null : (List<Map<String, Object>>) action.get("causes");
+            if (causes != null) {
+                for (Map<String, Object> cause : causes) {
+                    if (cause.containsKey("userName")) {
+                        triggeredBy = (String) cause.get("userName");
+                        break outer;
+                    }
+                }
+            }
+        }
+
+        String jobName = "unknown";
+        String[] parts = buildUrl.split("/");
+        for (int i = 0; i < parts.length; i++) {
+            if ("job".equals(parts[i]) && i + 1 < parts.length) {
+                jobName = parts[i + 1];
+                break;
+            }
+        }
+
+        return BuildResponseDto.BuildInfo.builder()
+                .jobName(jobName)
+                .buildNumber((Integer) build.get("number"))
+                .status((String) build.get("result"))
+                .building((Boolean) build.getOrDefault("building", false))
+                .durationStr(String.format("%.1f초", durationMs / 1000.0))
+                .startedAt(Instant.ofEpochMilli(timestamp)
+                        .atZone(ZoneId.of("Asia/Seoul"))
+                        .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                .triggeredBy(triggeredBy)
+                .buildUrl(buildUrl)
+                .build();
+    }
+}
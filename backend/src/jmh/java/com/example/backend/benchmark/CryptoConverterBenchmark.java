@@ -0,0 +1,85 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.converter.CryptoConverter;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JenkinsInfo.apiToken 변환 비용 비교.
+ * <p>
+ * legacy 는 기존 구현(값마다 Cipher.getInstance, 암호화마다 SecureRandom.getInstanceStrong)을 그대로 재현하고,
+ * uncached 는 Cipher 재사용 + DRBG 만, cached 는 평문 캐시까지 사용합니다.
+ * decrypt 가 엔티티 한 건 로드 비용, encrypt 가 저장 비용에 해당합니다.
+ * 실행: ./gradlew jmh -PjmhArgs="CryptoConverterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CryptoConverterBenchmark {
+
+    private static final String API_TOKEN = "11a2b3c4d5e6f708192a3b4c5d6e7f8091";
+
+    @Param({"legacy", "uncached", "cached"})
+    public String mode;
+
+    private byte[] key;
+    private SecretKeySpec secretKeySpec;
+    private CryptoConverter converter;
+    private String ciphertext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        secretKeySpec = new SecretKeySpec(key, "AES");
+        converter = new CryptoConverter(Base64.getEncoder().encodeToString(key), "cached".equals(mode) ? 1024 : 0);
+        ciphertext = legacyEncrypt(API_TOKEN);
+    }
+
+    @Benchmark
+    public String decrypt() throws Exception {
+        return "legacy".equals(mode) ? legacyDecrypt(ciphertext) : converter.convertToEntityAttribute(ciphertext);
+    }
+
+    @Benchmark
+    public String encrypt() throws Exception {
+        return "legacy".equals(mode) ? legacyEncrypt(API_TOKEN) : converter.convertToDatabaseColumn(API_TOKEN);
+    }
+
+    private String legacyEncrypt(String attribute) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        byte[] iv = new byte[12];
+        SecureRandom.getInstanceStrong().nextBytes(iv);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
+        byte[] combined = ByteBuffer.allocate(iv.length + encrypted.length)
+                .put(iv)
+                .put(encrypted)
+                .array();
+        return Base64.getEncoder().encodeToString(combined);
+    }
+
+    private String legacyDecrypt(String dbData) throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(dbData));
+        byte[] iv = new byte[12];
+        buffer.get(iv);
+        byte[] encrypted = new byte[buffer.remaining()];
+        buffer.get(encrypted);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.backend.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestTemplate 하위 transport 별 Jenkins API 호출 비용 비교.
+ * 로컬 HTTP 서버에 /api/json 형태의 요청을 반복하여 연결 재사용 여부에 따른 처리량 차이를 측정합니다.
+ * (TLS 환경에서는 handshake 비용이 추가되어 pooled 의 이점이 더 커집니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class HttpClientTransportBenchmark {
+
+    private static final byte[] BODY = ("{\"builds\":[{\"number\":42,\"result\":\"SUCCESS\","
+            + "\"timestamp\":1720000000000,\"duration\":12345}]}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"simple", "jdk", "pooled"})
+    public String transport;
+
+    private HttpServer server;
+    private CloseableHttpClient pooledClient;
+    private RestTemplate restTemplate;
+    private String url;
+    private HttpEntity<Void> entity;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 헤더/바디 분할 전송 시 Nagle 지연이 측정값을 지배하지 않도록 설정
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/job/sample/api/json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(BODY);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(16));
+        server.start();
+
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/job/sample/api/json";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("admin", "token");
+        entity = new HttpEntity<>(headers);
+
+        restTemplate = new RestTemplate(createFactory());
+    }
+
+    private ClientHttpRequestFactory createFactory() {
+        switch (transport) {
+            case "simple":
+                return new SimpleClientHttpRequestFactory();
+            case "jdk":
+                return new JdkClientHttpRequestFactory();
+            default:
+                PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(20)
+                        .build();
+                pooledClient = HttpClients.custom()
+                        .setConnectionManager(cm)
+                        .disableCookieManagement()
+                        .evictIdleConnections(TimeValue.ofSeconds(30))
+                        .build();
+                return new HttpComponentsClientHttpRequestFactory(pooledClient);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (pooledClient != null) {
+            pooledClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String exchange() {
+        return restTemplate.exchange(url, HttpMethod.GET, entity, String.class).getBody();
+    }
+}
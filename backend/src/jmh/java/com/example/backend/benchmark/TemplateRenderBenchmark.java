@@ -0,0 +1,70 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.service.TemplateRegistry;
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job 생성/수정 시 config.xml 렌더링 처리량 비교.
+ * <p>
+ * legacy 는 기존 ConfigService 와 같이 요청마다 compile(factory 캐시 조회) 후 StringWriter 에 렌더링하고,
+ * registry 는 미리 컴파일된 템플릿을 스레드별 재사용 버퍼에 렌더링합니다.
+ * scriptLines 로 config 에 들어가는 Jenkinsfile 크기를 조절합니다.
+ * 실행: ./gradlew jmh -PjmhArgs="TemplateRenderBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TemplateRenderBenchmark {
+
+    @Param({"legacy", "registry"})
+    public String mode;
+
+    @Param({"60", "600"})
+    public int scriptLines;
+
+    private MustacheFactory mustacheFactory;
+    private TemplateRegistry registry;
+    private Map<String, Object> context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mustacheFactory = new DefaultMustacheFactory();
+        registry = new TemplateRegistry(mustacheFactory, false, "does-not-exist", 1000, 4096, 65536);
+
+        StringBuilder script = new StringBuilder("pipeline {\n  agent any\n  stages {\n");
+        for (int i = 0; i < scriptLines; i++) {
+            script.append("    stage('Step ").append(i).append("') { steps { sh './gradlew task").append(i).append("' } }\n");
+        }
+        script.append("  }\n}\n");
+
+        context = new HashMap<>();
+        context.put("description", "benchmark job");
+        context.put("githubUrl", "https://github.com/baepo-minjok/pipely");
+        context.put("script", script.toString());
+        context.put("trigger", true);
+        context.put("cronExpression", "H 2 * * *");
+    }
+
+    @Benchmark
+    public String renderConfig() throws Exception {
+        if ("legacy".equals(mode)) {
+            Mustache mustache = mustacheFactory.compile("template/config.mustache");
+            StringWriter writer = new StringWriter();
+            mustache.execute(writer, context).flush();
+            return writer.toString();
+        }
+        return registry.render("config", context);
+    }
+}
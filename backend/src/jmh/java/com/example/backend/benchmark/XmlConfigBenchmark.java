@@ -0,0 +1,215 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.parser.XmlConfigParser;
+import org.openjdk.jmh.annotations.*;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * config.xml 처리 비용 비교.
+ * <p>
+ * legacy 는 기존 구현(호출마다 DocumentBuilderFactory 로 DOM 생성, 파라미터 주입은 정규식, cron 수정은 Transformer 직렬화)을 재현하고,
+ * stax 는 XmlConfigParser 의 StAX 엔진을 사용합니다.
+ * stages 로 script/파라미터 개수를 바꿔 실제 Job 크기(수 KB ~ 수십 KB)의 config.xml 을 만듭니다.
+ * read 는 stage 이름 + cron 조회, inject 는 stagePipeline1 의 조회 + 파라미터 주입, cron 은 스케줄 수정에 해당합니다.
+ * 실행: ./gradlew jmh -PjmhArgs="XmlConfigBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class XmlConfigBenchmark {
+
+    private static final Pattern STAGE_PATTERN = Pattern.compile("stage\\([\"'](.+?)[\"']\\)");
+
+    @Param({"legacy", "stax"})
+    public String mode;
+
+    @Param({"8", "80"})
+    public int stages;
+
+    private XmlConfigParser parser;
+    private String configXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new XmlConfigParser();
+        configXml = buildConfig(stages);
+    }
+
+    @Benchmark
+    public Object read() throws Exception {
+        if ("legacy".equals(mode)) {
+            return legacyStageNames(configXml).size() + legacyCronSpec(configXml).length();
+        }
+        XmlConfigParser.ConfigSummary summary = XmlConfigParser.summarize(configXml);
+        return summary.getStageNames().size() + summary.getCronSpec().length();
+    }
+
+    @Benchmark
+    public String inject() throws Exception {
+        if ("legacy".equals(mode)) {
+            return legacyInject(configXml, legacyStageNames(configXml));
+        }
+        return parser.injectStageParameters(configXml, parser.getPipelineStageNamesFromXml(configXml));
+    }
+
+    @Benchmark
+    public String cron() throws Exception {
+        return "legacy".equals(mode)
+                ? legacyUpdateCron(configXml, "H 3 * * *")
+                : XmlConfigParser.updateCronSpecInXml(configXml, "H 3 * * *");
+    }
+
+    private static String buildConfig(int stages) {
+        StringBuilder script = new StringBuilder("pipeline {\n  agent any\n  stages {\n");
+        StringBuilder params = new StringBuilder();
+        for (int i = 0; i < stages; i++) {
+            script.append("    stage('Step").append(i).append("') {\n")
+                    .append("      steps {\n")
+                    .append("        dir('module-").append(i).append("') {\n")
+                    .append("          sh './gradlew :module-").append(i).append(":build -x test && echo \"done <").append(i).append(">\"'\n")
+                    .append("        }\n")
+                    .append("      }\n")
+                    .append("    }\n");
+            if (i % 2 == 0) {
+                params.append("        <hudson.model.BooleanParameterDefinition>\n")
+                        .append("          <name>DO_STEP").append(i).append("</name>\n")
+                        .append("          <defaultValue>true</defaultValue>\n")
+                        .append("          <description>step").append(i).append(" step toggle</description>\n")
+                        .append("        </hudson.model.BooleanParameterDefinition>\n");
+            }
+        }
+        script.append("  }\n}\n");
+
+        return "<?xml version='1.1' encoding='UTF-8'?>\n"
+                + "<flow-definition plugin=\"workflow-job@1400.v7fd111b_ec82f\">\n"
+                + "  <actions>\n"
+                + "    <org.jenkinsci.plugins.pipeline.modeldefinition.actions.DeclarativeJobAction plugin=\"pipeline-model-definition@2.2198\"/>\n"
+                + "  </actions>\n"
+                + "  <description>benchmark job</description>\n"
+                + "  <keepDependencies>false</keepDependencies>\n"
+                + "  <properties>\n"
+                + "    <com.coravy.hudson.plugins.github.GithubProjectProperty plugin=\"github@1.19.2\">\n"
+                + "      <projectUrl>https://github.com/example/repo/</projectUrl>\n"
+                + "      <displayName></displayName>\n"
+                + "    </com.coravy.hudson.plugins.github.GithubProjectProperty>\n"
+                + "    <hudson.model.ParametersDefinitionProperty>\n"
+                + "      <parameterDefinitions>\n"
+                + params
+                + "      </parameterDefinitions>\n"
+                + "    </hudson.model.ParametersDefinitionProperty>\n"
+                + "    <org.jenkinsci.plugins.workflow.job.properties.PipelineTriggersJobProperty>\n"
+                + "      <triggers>\n"
+                + "        <hudson.triggers.TimerTrigger>\n"
+                + "          <spec>H 2 * * *</spec>\n"
+                + "        </hudson.triggers.TimerTrigger>\n"
+                + "      </triggers>\n"
+                + "    </org.jenkinsci.plugins.workflow.job.properties.PipelineTriggersJobProperty>\n"
+                + "  </properties>\n"
+                + "  <definition class=\"org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition\" plugin=\"workflow-cps@3894.vd0f0248b_a_fc4\">\n"
+                + "    <script><![CDATA[\n" + script + "    ]]></script>\n"
+                + "    <sandbox>true</sandbox>\n"
+                + "  </definition>\n"
+                + "  <triggers/>\n"
+                + "  <disabled>false</disabled>\n"
+                + "</flow-definition>\n";
+    }
+
+    private static Document legacyParse(String xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
+
+    private static List<String> legacyStageNames(String xml) throws Exception {
+        List<String> stageNames = new ArrayList<>();
+        NodeList scripts = legacyParse(xml).getElementsByTagName("script");
+        for (int i = 0; i < scripts.getLength(); i++) {
+            Node scriptNode = scripts.item(i);
+            if (scriptNode != null && scriptNode.getTextContent().contains("pipeline")) {
+                Matcher matcher = STAGE_PATTERN.matcher(scriptNode.getTextContent());
+                while (matcher.find()) {
+                    stageNames.add(matcher.group(1));
+                }
+                break;
+            }
+        }
+        return stageNames;
+    }
+
+    private static String legacyCronSpec(String xml) throws Exception {
+        NodeList triggers = legacyParse(xml).getElementsByTagName("hudson.triggers.TimerTrigger");
+        if (triggers.getLength() == 0) {
+            return "없음";
+        }
+        NodeList specList = ((Element) triggers.item(0)).getElementsByTagName("spec");
+        return specList.getLength() > 0 ? specList.item(0).getTextContent().trim() : "없음";
+    }
+
+    private static String legacyInject(String xml, List<String> stages) {
+        Set<String> existingParams = new HashSet<>();
+        Matcher matcher = Pattern.compile("<name>(DO_\\w+)</name>").matcher(xml);
+        while (matcher.find()) {
+            existingParams.add(matcher.group(1));
+        }
+        StringBuilder newParamDefs = new StringBuilder();
+        for (String stage : stages) {
+            String paramName = "DO_" + stage.toUpperCase();
+            if (!existingParams.contains(paramName)) {
+                newParamDefs.append("        <hudson.model.BooleanParameterDefinition>\n")
+                        .append("          <name>").append(paramName).append("</name>\n")
+                        .append("          <defaultValue>true</defaultValue>\n")
+                        .append("          <description>").append(stage.toLowerCase()).append(" step toggle</description>\n")
+                        .append("        </hudson.model.BooleanParameterDefinition>\n");
+            }
+        }
+        if (newParamDefs.length() > 0) {
+            xml = xml.replaceFirst("</parameterDefinitions>", newParamDefs + "    </parameterDefinitions>");
+        }
+        Matcher scriptMatcher = Pattern.compile("<script>(<!\\[CDATA\\[)?(.*?)(\\]\\]>)?</script>", Pattern.DOTALL).matcher(xml);
+        if (scriptMatcher.find()) {
+            String script = scriptMatcher.group(2);
+            for (String stage : stages) {
+                String stageName = stage.substring(0, 1).toUpperCase() + stage.substring(1).toLowerCase();
+                String pattern = "stage\\([\"']" + stageName + "[\"']\\)\\s*\\{";
+                String replacement = "stage('" + stageName + "') {\n    when {\n        expression { params.DO_" + stage.toUpperCase() + " }\n    }";
+                script = script.replaceFirst(pattern, replacement);
+            }
+            xml = xml.replace(scriptMatcher.group(0), "<script>" + script + "</script>");
+        }
+        return xml;
+    }
+
+    private static String legacyUpdateCron(String xml, String newSpec) throws Exception {
+        Document doc = legacyParse(xml);
+        NodeList timerTriggers = doc.getElementsByTagName("hudson.triggers.TimerTrigger");
+        ((Element) timerTriggers.item(0)).getElementsByTagName("spec").item(0).setTextContent(newSpec);
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        StringWriter writer = new StringWriter();
+        transformer.transform(new DOMSource(doc), new StreamResult(writer));
+        return writer.toString();
+    }
+}
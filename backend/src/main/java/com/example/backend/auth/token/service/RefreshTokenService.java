@@ -4,6 +4,7 @@ import com.example.backend.auth.token.model.RefreshToken;
 import com.example.backend.auth.token.repository.RefreshTokenRepository;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.service.CustomUserDetails;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import com.example.backend.config.jwt.JwtTokenProvider;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
@@ -22,6 +23,7 @@ import java.util.Optional;
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     @Value("${jwt.refresh-expiration}")
     private long refreshTokenDurationMs;
@@ -85,6 +87,7 @@ public class RefreshTokenService {
     @Transactional
     public void deleteByUser(Users user) {
         refreshTokenRepository.deleteByUser(user);
+        jwtPrincipalCache.invalidate(user.getEmail());
     }
 
 }
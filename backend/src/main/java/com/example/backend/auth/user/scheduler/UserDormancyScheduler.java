@@ -3,8 +3,10 @@ package com.example.backend.auth.user.scheduler;
 import com.example.backend.auth.email.service.EmailService;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -14,12 +16,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+/**
+ * 마지막 로그인 후 user.dormancy.period.days 가 지난 ACTIVE 사용자를 휴면 처리하고 안내 메일을 보냅니다.
+ * user.dormancy.scheduler.enabled=true 일 때만 등록됩니다.
+ */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.dormancy.scheduler.enabled", havingValue = "true")
 public class UserDormancyScheduler {
 
     private final EmailService emailService;
     private final UserRepository userRepository;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     @Value("${user.dormancy.period.days}")
     private long dormancyPeriodDays;
@@ -30,6 +38,7 @@ public class UserDormancyScheduler {
         LocalDateTime threshold = LocalDateTime.now().minusDays(dormancyPeriodDays);
 
         int pageSize = 100;
+        // 처리한 사용자는 ACTIVE 조건에서 빠지므로 다음 페이지가 아닌 첫 페이지를 다시 조회
         Pageable pageable = PageRequest.of(0, pageSize);
         Page<Users> page;
         do {
@@ -38,15 +47,11 @@ public class UserDormancyScheduler {
                 // 상태 변경
                 user.setStatus(Users.UserStatus.DORMANT);
                 userRepository.save(user);
+                jwtPrincipalCache.invalidate(user.getEmail());
                 // 이메일 발송: 휴면 안내
                 emailService.sendDormantNotificationEmail(user.getEmail());
             }
-            if (page.hasNext()) {
-                pageable = page.nextPageable();
-            } else {
-                break;
-            }
-        } while (true);
+        } while (page.hasNext());
     }
 
 }
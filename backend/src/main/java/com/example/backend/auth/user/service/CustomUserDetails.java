@@ -1,6 +1,7 @@
 package com.example.backend.auth.user.service;
 
 import com.example.backend.auth.user.model.Users;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,14 +9,26 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
-    private final Users user;
+    private final UUID id;
+    private final String email;
+    private final Users.UserStatus status;
     private final List<GrantedAuthority> authorities;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Users> userLoader;
+    @Getter(AccessLevel.NONE)
+    private Users user;
 
     public CustomUserDetails(Users user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.status = user.getStatus();
+        this.userLoader = null;
         this.user = user;
         // 예: users.getRoles()가 "USER,ADMIN" 같은 포맷일 때
         if (user.getRoles() != null && !user.getRoles().isEmpty()) {
@@ -31,6 +44,18 @@ public class CustomUserDetails implements UserDetails {
         }
     }
 
+    /**
+     * 캐시된 인증 정보로 만드는 요청별 principal. Users 엔티티는 처음 필요할 때 userLoader 로 조회합니다.
+     */
+    public CustomUserDetails(UUID id, String email, Users.UserStatus status, List<GrantedAuthority> authorities,
+                             Supplier<Users> userLoader) {
+        this.id = id;
+        this.email = email;
+        this.status = status;
+        this.authorities = authorities;
+        this.userLoader = userLoader;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -38,13 +63,13 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUserEntity().getPassword();
     }
 
     @Override
     public String getUsername() {
         // 로그인 식별자로 이메일을 사용한다면
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -70,6 +95,13 @@ public class CustomUserDetails implements UserDetails {
 
     // 편의 메서드: 도메인 Users 반환
     public Users getUserEntity() {
-        return this.user;
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
+
+    public Users getUser() {
+        return getUserEntity();
     }
 }
@@ -1,6 +1,9 @@
 package com.example.backend.auth.user.service;
 
+import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,4 +25,12 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
 
+    /**
+     * 캐시로 인증된 요청에서 Users 엔티티가 필요할 때 조회합니다.
+     */
+    public Users loadUserEntity(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
 }
@@ -4,6 +4,7 @@ import com.example.backend.auth.user.model.DormantActivationToken;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.repository.DormantActivationTokenRepository;
 import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class DormantTokenService {
 
     private final DormantActivationTokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     @Value("${user.dormancy.token.expiration.hours:24}")
     private long tokenExpirationHours;
@@ -87,6 +89,7 @@ public class DormantTokenService {
         user.setStatus(Users.UserStatus.ACTIVE);
         user.setLastLogin(LocalDateTime.now());
         userRepository.save(user);
+        jwtPrincipalCache.invalidate(user.getEmail());
 
         return user;
     }
@@ -5,6 +5,7 @@ import com.example.backend.auth.user.model.PasswordResetToken;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.repository.PasswordResetTokenRepository;
 import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class PasswordResetService {
     private final UserRepository userRepository;
     private final EmailService emailService; // 이메일 발송 서비스
     private final PasswordEncoder passwordEncoder;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     // 토큰 만료 기간: 예시 1시간
     private final long EXPIRATION_HOURS = 1L;
@@ -91,6 +93,7 @@ public class PasswordResetService {
         // 비밀번호 인코딩 후 저장
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        jwtPrincipalCache.invalidate(user.getEmail());
 
         // 사용된 토큰은 삭제
         tokenRepository.deleteAllByUser(user);
@@ -4,6 +4,7 @@ import com.example.backend.auth.email.service.EmailService;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.model.dto.UserRequestDto.SignupDto;
 import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     /**
      * Local 유저 회원가입
@@ -144,11 +146,13 @@ public class UserService {
         user.setStatus(Users.UserStatus.WITHDRAWN);
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        jwtPrincipalCache.invalidate(user.getEmail());
 
     }
 
     public void setUserStatusActive(Users user) {
         user.setStatus(Users.UserStatus.ACTIVE);
         userRepository.save(user);
+        jwtPrincipalCache.invalidate(user.getEmail());
     }
 }
\ No newline at end of file
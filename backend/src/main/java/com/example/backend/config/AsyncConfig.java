@@ -0,0 +1,28 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Jenkins 응답 이후의 blocking 작업(LLM 호출, 대용량 로그 파싱 등)을 처리하는 executor.
+     * non-blocking HTTP 클라이언트의 I/O 스레드에서 blocking 작업이 실행되지 않도록 분리합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor jenkinsTaskExecutor(
+            @Value("${jenkins.task.pool-size:8}") int poolSize,
+            @Value("${jenkins.task.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("jenkins-task-");
+        executor.initialize();
+        return executor;
+    }
+}
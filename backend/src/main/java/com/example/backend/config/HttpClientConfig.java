@@ -1,12 +1,31 @@
 package com.example.backend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
 import java.time.Duration;
@@ -17,11 +36,104 @@ public class HttpClientConfig {
 
     private final RestTemplateBuilder restTemplateBuilder;
 
+    @Value("${jenkins.http.max-total:200}")
+    private int maxTotal;
+    @Value("${jenkins.http.max-per-host:20}")
+    private int maxPerHost;
+    @Value("${jenkins.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+    @Value("${jenkins.http.read-timeout:5s}")
+    private Duration readTimeout;
+    @Value("${jenkins.http.idle-evict:30s}")
+    private Duration idleEvict;
+    @Value("${jenkins.http.time-to-live:5m}")
+    private Duration timeToLive;
+    @Value("${jenkins.http.max-in-memory-size:32MB}")
+    private DataSize maxInMemorySize;
+
+    /**
+     * 동기/비동기 클라이언트가 같은 SSLContext를 공유하므로 같은 호스트로의 재연결은 TLS 세션을 재사용합니다.
+     */
+    @Bean
+    public DefaultClientTlsStrategy jenkinsTlsStrategy() {
+        return new DefaultClientTlsStrategy(SSLContexts.createSystemDefault());
+    }
+
+    /**
+     * Jenkins 호스트(scheme + host + port)별로 분리된 커넥션 풀.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager jenkinsConnectionManager(DefaultClientTlsStrategy jenkinsTlsStrategy) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setTlsSocketStrategy(jenkinsTlsStrategy)
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerHost)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient jenkinsHttpClient(PoolingHttpClientConnectionManager jenkinsConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(jenkinsConnectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                // 여러 사용자가 같은 Jenkins 호스트를 공유하므로 세션 쿠키가 섞이지 않게 비활성화
+                .disableCookieManagement()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEvict))
+                .build();
+    }
+
+    /**
+     * HttpClientService.exchangeAsync 에서 사용하는 non-blocking 클라이언트.
+     * 동기 풀과 같은 호스트별 제한/타임아웃을 따릅니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient jenkinsHttpAsyncClient(DefaultClientTlsStrategy jenkinsTlsStrategy) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(jenkinsTlsStrategy)
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerHost)
+                .setDefaultConnectionConfig(connectionConfig())
+                .build();
+
+        return HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .disableCookieManagement()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEvict))
+                .build();
+    }
+
+    @Bean
+    public WebClient jenkinsWebClient(WebClient.Builder webClientBuilder, CloseableHttpAsyncClient jenkinsHttpAsyncClient) {
+        return webClientBuilder
+                .clientConnector(new HttpComponentsClientHttpConnector(jenkinsHttpAsyncClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+    }
+
+    private ConnectionConfig connectionConfig() {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(CloseableHttpClient jenkinsHttpClient) {
         RestTemplate restTemplate = restTemplateBuilder
-                .connectTimeout(Duration.ofSeconds(5))
-                .readTimeout(Duration.ofSeconds(5))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(jenkinsHttpClient))
                 .build();
 
         // 기본 에러 핸들러 보관
@@ -0,0 +1,69 @@
+package com.example.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jenkins 커넥션 풀 지표.
+ * 전체 풀 합계는 micrometer 기본 바인더로, 호스트별 leased/available/pending 은 주기적으로 갱신하는 MultiGauge 로 노출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpClientMetrics implements MeterBinder {
+
+    private final PoolingHttpClientConnectionManager jenkinsConnectionManager;
+
+    private MultiGauge leasedGauge;
+    private MultiGauge availableGauge;
+    private MultiGauge pendingGauge;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new PoolingHttpClientConnectionManagerMetricsBinder(jenkinsConnectionManager, "jenkins").bindTo(registry);
+
+        leasedGauge = MultiGauge.builder("jenkins.http.pool.host.leased")
+                .description("호스트별 사용 중인 커넥션 수")
+                .register(registry);
+        availableGauge = MultiGauge.builder("jenkins.http.pool.host.available")
+                .description("호스트별 유휴 커넥션 수")
+                .register(registry);
+        pendingGauge = MultiGauge.builder("jenkins.http.pool.host.pending")
+                .description("호스트별 커넥션 대기 요청 수")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${jenkins.http.metrics-refresh-ms:15000}")
+    public void refreshHostGauges() {
+        if (leasedGauge == null) {
+            return;
+        }
+
+        List<MultiGauge.Row<?>> leased = new ArrayList<>();
+        List<MultiGauge.Row<?>> available = new ArrayList<>();
+        List<MultiGauge.Row<?>> pending = new ArrayList<>();
+
+        for (HttpRoute route : jenkinsConnectionManager.getRoutes()) {
+            PoolStats stats = jenkinsConnectionManager.getStats(route);
+            Tags tags = Tags.of("host", route.getTargetHost().toURI());
+            leased.add(MultiGauge.Row.of(tags, stats.getLeased()));
+            available.add(MultiGauge.Row.of(tags, stats.getAvailable()));
+            pending.add(MultiGauge.Row.of(tags, stats.getPending()));
+        }
+
+        leasedGauge.register(leased, true);
+        availableGauge.register(available, true);
+        pendingGauge.register(pending, true);
+    }
+}
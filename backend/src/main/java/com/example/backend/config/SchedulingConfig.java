@@ -0,0 +1,13 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업을 활성화합니다. (UserDormancyScheduler 는 user.dormancy.scheduler.enabled 로 따로 켭니다)
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 설정하며, 한 작업이 오래 걸려도 다른 작업과 폴링이 밀리지 않도록 1 보다 크게 둡니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
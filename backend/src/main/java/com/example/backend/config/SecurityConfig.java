@@ -3,6 +3,7 @@ package com.example.backend.config;
 import com.example.backend.auth.user.service.CustomOAuth2UserService;
 import com.example.backend.config.jwt.JwtAuthenticationFilter;
 import com.example.backend.handler.OAuth2LoginSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +39,9 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
 
+                        // CompletableFuture 응답의 async/error dispatch 는 JWT 필터를 다시 거치지 않으므로,
+                        // 인가는 최초 요청에서만 검사 (STATELESS 라 SecurityContext 가 이어지지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/auth/withdraw", "/api/auth/user/logout").authenticated()
                         .requestMatchers(
                                 "/", "/css/**", "/js/**",
@@ -46,6 +50,8 @@ public class SecurityConfig {
                                 "/login/oauth2/**",
                                 "/api/email/**",
                                 "/api/auth/token",
+                                // Jenkins 빌드 알림 (JenkinsInfo 별 토큰으로 인증)
+                                "/api/jenkins/notifications/**",
 
                                 //swagger
                                 "/swagger**",
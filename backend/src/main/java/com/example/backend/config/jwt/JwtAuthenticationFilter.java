@@ -55,12 +55,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
-        if (token != null && tokenProvider.validateToken(token)) {
-
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext()
-                    .setAuthentication(authentication);
-
+        if (token != null) {
+            // 토큰은 한 번만 파싱하고, 인증 정보는 캐시에서 가져옴
+            tokenProvider.parseClaims(token).ifPresent(claims -> {
+                Authentication authentication = tokenProvider.getAuthentication(claims);
+                SecurityContextHolder.getContext()
+                        .setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response);
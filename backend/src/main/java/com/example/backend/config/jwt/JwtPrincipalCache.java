@@ -0,0 +1,155 @@
+package com.example.backend.config.jwt;
+
+import com.example.backend.auth.user.model.Users;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Access Token 으로 인증된 사용자 정보 캐시.
+ * <p>
+ * (subject, 토큰 발급 시각) 을 키로 사용하므로 같은 토큰의 반복 요청은 사용자 조회 SQL 없이 인증됩니다.
+ * 요청 간에 공유되므로 Users 엔티티가 아닌 변경할 수 없는 스냅샷(CachedPrincipal)만 저장합니다.
+ * 항목은 ttl 과 토큰 만료 시각 중 먼저 오는 시점에 만료되며, 항목 수는 max-entries 로 제한됩니다.
+ * 로그아웃, 탈퇴, 비밀번호 변경, 휴면 상태 변경 시 해당 사용자의 항목을 모두 제거해야 합니다.
+ */
+@Slf4j
+@Component
+public class JwtPrincipalCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public JwtPrincipalCache(
+            @Value("${jwt.principal-cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${jwt.principal-cache.max-entries:10000}") int maxEntries
+    ) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    JwtPrincipalCache(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없거나 만료되었으면 loader 로 만들어 저장합니다.
+     */
+    public CachedPrincipal get(String subject, Date issuedAt, Date expiration, Supplier<CachedPrincipal> loader) {
+        String key = key(subject, issuedAt);
+        long now = clock.getAsLong();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.principal;
+        }
+
+        CachedPrincipal principal = loader.get();
+        long expiresAt = now + ttlMillis;
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        if (expiresAt > now && maxEntries > 0) {
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            entries.put(key, new Entry(subject, principal, expiresAt));
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자의 모든 캐시 항목을 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거하여, 커밋 전 다른 요청이 이전 상태를 다시 캐시하는 것을 막습니다.
+     */
+    public void invalidate(String subject) {
+        if (subject == null) {
+            return;
+        }
+        remove(subject);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(subject);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.principal-cache.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void remove(String subject) {
+        entries.values().removeIf(entry -> entry.subject.equals(subject));
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // 그래도 가득 차 있으면 가장 먼저 만료될 항목부터 10% 를 한 번에 제거
+        long overflow = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        if (overflow > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                    .limit(overflow)
+                    .toList()
+                    .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+        log.debug("인증 캐시 정리 - 남은 항목: {}건", entries.size());
+    }
+
+    private static String key(String subject, Date issuedAt) {
+        return subject + ":" + (issuedAt != null ? issuedAt.getTime() : 0);
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final String subject;
+        private final CachedPrincipal principal;
+        private final long expiresAt;
+    }
+
+    /**
+     * 인증에 필요한 사용자 정보의 스냅샷. 요청마다 이 값으로 새 principal 을 만듭니다.
+     */
+    @Getter
+    public static final class CachedPrincipal {
+        private final UUID id;
+        private final String email;
+        private final Users.UserStatus status;
+        private final List<GrantedAuthority> authorities;
+
+        CachedPrincipal(UUID id, String email, Users.UserStatus status, Collection<? extends GrantedAuthority> authorities) {
+            this.id = id;
+            this.email = email;
+            this.status = status;
+            this.authorities = List.copyOf(authorities);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.config.jwt;
 
+import com.example.backend.auth.user.service.CustomUserDetails;
 import com.example.backend.auth.user.service.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -14,12 +15,14 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final CustomUserDetailsService customUserDetailsService;
+    private final JwtPrincipalCache jwtPrincipalCache;
     @Value("${jwt.secret}")
     private String secret;
     @Value("${jwt.access-expiration}")
@@ -80,11 +83,17 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * 서명과 만료를 검증하고 claims 를 반환합니다. 유효하지 않으면 empty.
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
-            return true;
+            return Optional.of(Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -94,7 +103,30 @@ public class JwtTokenProvider {
                 .parseClaimsJws(token)
                 .getBody();
 
+        return loadAuthentication(claims.getSubject());
+    }
+
+    /**
+     * 검증된 Access Token 의 claims 로 Authentication 을 반환합니다.
+     * 같은 토큰으로 다시 요청하면 사용자를 조회하지 않고 캐시된 스냅샷으로 요청별 principal 을 만듭니다.
+     * Users 엔티티는 요청에서 필요할 때만 조회되며, 요청 간에 공유되지 않습니다.
+     */
+    public Authentication getAuthentication(Claims claims) {
         String username = claims.getSubject();
+        JwtPrincipalCache.CachedPrincipal cached = jwtPrincipalCache.get(username, claims.getIssuedAt(), claims.getExpiration(),
+                () -> snapshot(customUserDetailsService.loadUserByUsername(username)));
+        CustomUserDetails userDetails = new CustomUserDetails(cached.getId(), cached.getEmail(), cached.getStatus(),
+                cached.getAuthorities(), () -> customUserDetailsService.loadUserEntity(cached.getEmail()));
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    private static JwtPrincipalCache.CachedPrincipal snapshot(UserDetails userDetails) {
+        CustomUserDetails details = (CustomUserDetails) userDetails;
+        return new JwtPrincipalCache.CachedPrincipal(details.getId(), details.getEmail(), details.getStatus(),
+                details.getAuthorities());
+    }
+
+    private Authentication loadAuthentication(String username) {
         UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
         return new UsernamePasswordAuthenticationToken(
                 userDetails, "", userDetails.getAuthorities());
@@ -7,41 +7,26 @@ import jakarta.persistence.Converter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
 import java.util.Base64;
 
 @Component
 @Converter
 public class CryptoConverter implements AttributeConverter<String, String> {
 
-    private final String algorithm = "AES/GCM/NoPadding";
-    private final int ivSize = 12;
-    private final SecretKeySpec secretKeySpec;
+    private final CryptoEngine cryptoEngine;
 
-    public CryptoConverter(@Value("${encryption.key}") String base64Key) {
+    public CryptoConverter(
+            @Value("${encryption.key}") String base64Key,
+            @Value("${encryption.cache.max-entries:1024}") int cacheSize
+    ) {
         byte[] keyBytes = Base64.getDecoder().decode(base64Key);
-        this.secretKeySpec = new SecretKeySpec(keyBytes, "AES");
+        this.cryptoEngine = new CryptoEngine(keyBytes, cacheSize);
     }
 
     @Override
     public String convertToDatabaseColumn(String attribute) {
         try {
-            Cipher cipher = Cipher.getInstance(algorithm);
-            byte[] iv = new byte[ivSize];
-            SecureRandom.getInstanceStrong().nextBytes(iv);
-            GCMParameterSpec spec = new GCMParameterSpec(128, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, spec);
-            byte[] encrypted = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
-            byte[] combined = ByteBuffer.allocate(iv.length + encrypted.length)
-                    .put(iv)
-                    .put(encrypted)
-                    .array();
-            return Base64.getEncoder().encodeToString(combined);
+            return cryptoEngine.encrypt(attribute);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.JENKINS_SECRET_ENCRYPTION_FAIL);
         }
@@ -50,21 +35,9 @@ public class CryptoConverter implements AttributeConverter<String, String> {
     @Override
     public String convertToEntityAttribute(String dbData) {
         try {
-            byte[] combined = Base64.getDecoder().decode(dbData);
-            ByteBuffer buffer = ByteBuffer.wrap(combined);
-            byte[] iv = new byte[ivSize];
-            buffer.get(iv);
-            byte[] encrypted = new byte[buffer.remaining()];
-            buffer.get(encrypted);
-
-            Cipher cipher = Cipher.getInstance(algorithm);
-            GCMParameterSpec spec = new GCMParameterSpec(128, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, spec);
-            byte[] decrypted = cipher.doFinal(encrypted);
-            return new String(decrypted, StandardCharsets.UTF_8);
+            return cryptoEngine.decrypt(dbData);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.JENKINS_SECRET_DECRYPTION_FAIL);
         }
     }
 }
-
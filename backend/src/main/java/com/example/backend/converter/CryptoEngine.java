@@ -0,0 +1,99 @@
+package com.example.backend.converter;
+
+import com.example.backend.util.SecureRandomUtil;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AES-GCM 암복호화 엔진.
+ * <p>
+ * Cipher 는 스레드마다 하나씩 재사용하고, IV 는 공유 DRBG(SecureRandomUtil, blocking 되지 않는 SecureRandom)로 만듭니다.
+ * 복호화 결과는 암호문 → 평문 LRU 캐시에 보관하므로, 같은 JenkinsInfo 를 반복 조회할 때 다시 복호화하지 않습니다.
+ * (암호문마다 IV 가 다르므로 같은 평문이라도 다시 저장하면 새 키가 됩니다.)
+ */
+public class CryptoEngine {
+
+    static final String ALGORITHM = "AES/GCM/NoPadding";
+    static final int IV_SIZE = 12;
+    static final int TAG_BITS = 128;
+
+    private final SecretKeySpec secretKeySpec;
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(CryptoEngine::newCipher);
+    private final Map<String, String> plaintextCache;
+
+    public CryptoEngine(byte[] key, int cacheSize) {
+        this.secretKeySpec = new SecretKeySpec(key, "AES");
+        this.plaintextCache = cacheSize > 0
+                ? Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                        return size() > cacheSize;
+                    }
+                })
+                : null;
+    }
+
+    public String encrypt(String plaintext) throws GeneralSecurityException {
+        byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = SecureRandomUtil.nextBytes(IV_SIZE);
+
+        Cipher cipher = ciphers.get();
+        cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_BITS, iv));
+        // IV 와 암호문을 한 버퍼에 바로 기록
+        byte[] combined = new byte[IV_SIZE + cipher.getOutputSize(input.length)];
+        System.arraycopy(iv, 0, combined, 0, IV_SIZE);
+        cipher.doFinal(input, 0, input.length, combined, IV_SIZE);
+
+        String ciphertext = Base64.getEncoder().encodeToString(combined);
+        // 저장 직후 다시 읽는 경우가 많으므로 평문도 같이 보관
+        cache(ciphertext, plaintext);
+        return ciphertext;
+    }
+
+    public String decrypt(String ciphertext) throws GeneralSecurityException {
+        if (plaintextCache != null) {
+            String cached = plaintextCache.get(ciphertext);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] combined = Base64.getDecoder().decode(ciphertext);
+        if (combined.length < IV_SIZE) {
+            throw new GeneralSecurityException("암호문 길이가 IV 보다 짧습니다.");
+        }
+        Cipher cipher = ciphers.get();
+        cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_BITS, combined, 0, IV_SIZE));
+        byte[] decrypted = cipher.doFinal(combined, IV_SIZE, combined.length - IV_SIZE);
+
+        String plaintext = new String(decrypted, StandardCharsets.UTF_8);
+        cache(ciphertext, plaintext);
+        return plaintext;
+    }
+
+    int cacheSize() {
+        return plaintextCache != null ? plaintextCache.size() : 0;
+    }
+
+    private void cache(String ciphertext, String plaintext) {
+        if (plaintextCache != null) {
+            plaintextCache.put(ciphertext, plaintext);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -19,6 +19,7 @@ public enum ErrorCode {
     MISSING_PARAMETER(HttpStatus.BAD_REQUEST, "MISSING_PARAMETER_400", "파라미터가 존재하지 않습니다."),
     IOEXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "IOEXCEPTION_500", "파일 처리 오류입니다."),
     GIT_CLONE_FAILED(HttpStatus.BAD_REQUEST, "GIT_CLONE_FAILED_400", "Git clone에 실패했습니다."),
+    GIT_REPOSITORY_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "GIT_REPOSITORY_NOT_ALLOWED_400", "허용되지 않는 Git 저장소 주소입니다."),
     METHOD_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "METHOD_UNAUTHORIZED_401", "해당 경로에 대한 권한이 없습니다."),
     /**
      * Cookie 관련 ErrorCode
@@ -66,6 +67,7 @@ public enum ErrorCode {
     JENKINS_SECRET_ENCRYPTION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_SECRET_ENCRYPTION_FAIL_500", "암호화 실패 오류"),
     JENKINS_SECRET_DECRYPTION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_SECRET_DECRYPTION_FAIL_500", "복호화 실패 오류"),
     JENKINS_XML_UPDATE_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "XML_UPDATE_FAIL_500", "CRON 스케줄 XML 수정 중 오류가 발생했습니다."),
+    JENKINS_TASK_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "JENKINS_TASK_REJECTED_503", "Jenkins 요청 작업이 많아 처리하지 못했습니다."),
 
     /**
      * Jenkins/error 도메인에서 사용하는 ErrorCode
@@ -98,6 +100,7 @@ public enum ErrorCode {
      */
     JENKINS_BUILD_TRIGGER_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_BUILD_TRIGGER_FAILED_500", "젠킨스 빌드 트리거에 실패했습니다."),
     JENKINS_BUILD_HISTORY_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_BUILD_HISTORY_PARSE_ERROR_500", "빌드 이력 정보를 파싱하지 못했습니다."),
+    JENKINS_STAGE_TIMING_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_STAGE_TIMING_PARSE_ERROR_500", "스테이지 실행 정보를 파싱하지 못했습니다."),
     JENKINS_LATEST_BUILD_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_LATEST_BUILD_PARSE_ERROR_500", "최신 빌드 정보를 파싱하지 못했습니다."),
     JENKINS_CONSOLE_LOG_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_CONSOLE_LOG_PARSE_ERROR_500", "콘솔 로그 파싱에 실패했습니다."),
     JENKINS_STREAM_LOG_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_STREAM_LOG_FAILED_500", "스트리밍 로그 조회에 실패했습니다."),
@@ -105,7 +108,12 @@ public enum ErrorCode {
     JENKINS_CONFIG_XML_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_CONFIG_XML_UPDATE_FAILED_500", "config.xml 업데이트에 실패했습니다."),
     JENKINS_XML_CRON_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_XML_CRON_PARSE_ERROR_500", "cron 설정 XML 파싱에 실패했습니다."),
     JENKINS_TRIGGER_SETTING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "JENKINS_TRIGGER_SETTING_FAILED_500", "Jenkins 트리거 셋팅 중 오류가 발생했습니다."),
-    JENKINS_JOB_TYPE_FAILED(HttpStatus.BAD_REQUEST, "JENKINS_JOB_TYPE_FAILED_400", "freestyle 또는 pipeline 파라미터가 필요합니다");
+    JENKINS_JOB_TYPE_FAILED(HttpStatus.BAD_REQUEST, "JENKINS_JOB_TYPE_FAILED_400", "freestyle 또는 pipeline 파라미터가 필요합니다"),
+    /**
+     * Jenkins/notification 도메인에서 사용하는 ErrorCode
+     */
+    JENKINS_NOTIFICATION_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "JENKINS_NOTIFICATION_UNAUTHORIZED_401", "유효하지 않은 Jenkins 알림 토큰입니다."),
+    JENKINS_NOTIFICATION_INVALID(HttpStatus.BAD_REQUEST, "JENKINS_NOTIFICATION_INVALID_400", "Jenkins 알림 형식이 올바르지 않습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -2,7 +2,9 @@ package com.example.backend.jenkins.build.controller;
 
 import com.example.backend.exception.BaseResponse;
 import com.example.backend.jenkins.build.model.dto.*;
+import com.example.backend.jenkins.build.service.BuildLogStreamService;
 import com.example.backend.jenkins.build.service.BuildService;
+import com.example.backend.jenkins.build.service.BuildStatusWatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,10 +12,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,21 +30,49 @@ import java.util.UUID;
 public class BuildController {
 
     private final BuildService buildService;
+    private final BuildLogStreamService buildLogStreamService;
+    private final BuildStatusWatchService buildStatusWatchService;
 
     @Operation(summary = "Job의 스테이지 목록 조회", description = "특정 Job에 설정된 Jenkins 스테이지 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BuildResponseDto.Stage.class)))
     @GetMapping("/stage")
-    public ResponseEntity<BaseResponse<BuildResponseDto.Stage>> getScript(
+    public CompletableFuture<ResponseEntity<BaseResponse<BuildResponseDto.Stage>>> getScript(
             @RequestParam UUID pipeLine) {
-        return ResponseEntity.ok(BaseResponse.success(buildService.getJobPipelineStage(pipeLine)));
+        return buildService.getJobPipelineStageAsync(pipeLine)
+                .thenApply(stage -> ResponseEntity.ok(BaseResponse.success(stage)));
+    }
+
+    @Operation(summary = "빌드 스테이지 실행 정보 조회",
+            description = "workflow API 로 빌드의 스테이지별 상태, 시작 시각, 소요 시간을 조회합니다. buildNumber 가 없으면 마지막 빌드를 조회하며, 종료된 빌드는 저장된 값을 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BuildResponseDto.StageTimeline.class)))
+    @PreAuthorize("@pipelineService.isOwner(#userId, #pipeLine)")
+    @GetMapping("/stage/timeline")
+    public CompletableFuture<ResponseEntity<BaseResponse<BuildResponseDto.StageTimeline>>> getStageTimeline(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @RequestParam UUID pipeLine,
+            @RequestParam(required = false) Integer buildNumber) {
+        return buildService.getStageTimelineAsync(pipeLine, buildNumber)
+                .thenApply(timeline -> ResponseEntity.ok(BaseResponse.success(timeline)));
+    }
+
+    @Operation(summary = "느린 스테이지 통계",
+            description = "최근 종료된 빌드 builds 건(기본 20, 최대 100)의 스테이지 소요 시간을 스테이지별로 집계해 평균이 긴 순서로 반환합니다.")
+    @PreAuthorize("@pipelineService.isOwner(#userId, #pipeLine)")
+    @GetMapping("/stage/slowest")
+    public CompletableFuture<ResponseEntity<BaseResponse<List<BuildResponseDto.StageDurationStat>>>> getSlowestStages(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @RequestParam UUID pipeLine,
+            @RequestParam(required = false) Integer builds) {
+        return buildService.getSlowestStagesAsync(pipeLine, builds)
+                .thenApply(stats -> ResponseEntity.ok(BaseResponse.success(stats)));
     }
 
     @Operation(summary = "특정 스테이지 실행", description = "파라미터에 해당하는 Jenkins 스테이지만 실행합니다.")
     @PostMapping("/stage/trigger")
-    public ResponseEntity<BaseResponse<String>> Steps(
+    public CompletableFuture<ResponseEntity<BaseResponse<String>>> Steps(
             @RequestBody BuildRequestDto.BuildStageRequestDto dto) {
-        buildService.StageJenkinsBuild(dto);
-        return ResponseEntity.ok(BaseResponse.success("특정 Steps 실행"));
+        return buildService.stageJenkinsBuildAsync(dto)
+                .thenApply(ignored -> ResponseEntity.ok(BaseResponse.success("특정 Steps 실행")));
     }
 //
 //    @Operation(summary = "스테이지 설정", description = "Jenkins Job의 스테이지 정보를 config.xml에 설정합니다.")
@@ -50,22 +86,40 @@ public class BuildController {
 
     @Operation(summary = "빌드 이력 조회", description = "특정 Job의 빌드 이력을 조회합니다.")
     @PostMapping("/builds")
-    public ResponseEntity<BaseResponse<?>> getBuildsHistory(
+    public CompletableFuture<ResponseEntity<BaseResponse<?>>> getBuildsHistory(
             @RequestBody BuildRequestDto.getBuildHistory dto) {
-        return ResponseEntity.ok(BaseResponse.success(buildService.getBuildInfo(dto)));
+        return buildService.getBuildInfoAsync(dto)
+                .thenApply(info -> ResponseEntity.ok(BaseResponse.success(info)));
     }
 
     @Operation(summary = "빌드 로그 조회", description = "특정 빌드의 로그를 조회합니다.")
     @PostMapping("/log")
-    public ResponseEntity<BaseResponse<BuildResponseDto.BuildLogDto>> getBuildLog(
+    public CompletableFuture<ResponseEntity<BaseResponse<BuildResponseDto.BuildLogDto>>> getBuildLog(
             @RequestBody BuildRequestDto.GetLogRequestDto dto) {
-        return ResponseEntity.ok(BaseResponse.success(buildService.getBuildLog(dto)));
+        return buildService.getBuildLogAsync(dto)
+                .thenApply(buildLog -> ResponseEntity.ok(BaseResponse.success(buildLog)));
+    }
+
+    @Operation(summary = "빌드 실시간 로그 조회",
+            description = "마지막 빌드의 로그를 SSE 로 전달합니다. log 이벤트는 새로 추가된 로그 조각(BuildStreamLogDto)이며, 빌드가 끝나면 end 이벤트 후 스트림이 닫힙니다.")
+    @ApiResponse(responseCode = "200", description = "스트림 시작", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = BuildResponseDto.BuildStreamLogDto.class)))
+    @PreAuthorize("@pipelineService.isOwner(#userId, #pipeLine)")
+    @GetMapping(value = "/streamlog", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLog(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @RequestParam UUID pipeLine) {
+        return buildLogStreamService.subscribe(pipeLine);
     }
 
-    @Operation(summary = "빌드 실시간 로그 조회", description = "빌드 로그를 실시간으로 조회합니다.")
-    @GetMapping(value = "/streamlog")
-    public ResponseEntity<BaseResponse<BuildResponseDto.BuildStreamLogDto>> streamLog(
+    @Operation(summary = "빌드 상태 실시간 구독",
+            description = "최근 빌드 목록의 변경분을 SSE 로 전달합니다. 같은 파이프라인을 보는 모든 구독자가 하나의 Jenkins 조회를 공유합니다. "
+                    + "snapshot 이벤트는 합류 시점의 최근 빌드 목록(BuildInfo[]), changes 이벤트는 추가/변경된 빌드(changed)와 사라진 빌드 번호(removed)입니다.")
+    @ApiResponse(responseCode = "200", description = "스트림 시작", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = BuildResponseDto.BuildInfo.class)))
+    @PreAuthorize("@pipelineService.isOwner(#userId, #pipeLine)")
+    @GetMapping(value = "/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchBuilds(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestParam UUID pipeLine) {
-        return ResponseEntity.ok(BaseResponse.success(buildService.getStreamLog(pipeLine)));
+        return buildStatusWatchService.subscribe(pipeLine);
     }
 }
@@ -0,0 +1,57 @@
+package com.example.backend.jenkins.build.model;
+
+import com.example.backend.jenkins.job.model.Pipeline;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * Jenkins 빌드 이력의 로컬 사본.
+ * BuildHistoryStore 가 새 빌드와 진행 중인 빌드만 Jenkins 에서 받아와 갱신합니다.
+ */
+@Entity
+@Table(name = "build_record",
+        uniqueConstraints = @UniqueConstraint(name = "uq_build_record", columnNames = {"pipeline_id", "build_number"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildRecord {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pipeline_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Pipeline pipeline;
+
+    @Column(name = "build_number", nullable = false)
+    private Integer buildNumber;
+
+    // 빌드 결과 (진행 중이면 null)
+    private String result;
+
+    // 진행 중 여부
+    private Boolean building;
+
+    // 빌드 시작 시각 (epoch ms)
+    private Long timestamp;
+
+    // 빌드 소요 시간 (ms)
+    private Long duration;
+
+    // 빌드 트리거 사용자
+    private String triggeredBy;
+
+    private String buildUrl;
+}
@@ -0,0 +1,59 @@
+package com.example.backend.jenkins.build.model;
+
+import com.example.backend.jenkins.job.model.Pipeline;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * 종료된 빌드의 스테이지별 실행 정보.
+ * 종료된 빌드의 workflow API 응답은 바뀌지 않으므로 BuildStageStore 가 한 번만 저장하고 수정하지 않습니다.
+ */
+@Entity
+@Table(name = "build_stage_record",
+        uniqueConstraints = @UniqueConstraint(name = "uq_build_stage_record", columnNames = {"pipeline_id", "build_number", "order_index"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildStageRecord {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pipeline_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Pipeline pipeline;
+
+    @Column(name = "build_number", nullable = false)
+    private Integer buildNumber;
+
+    // 빌드 안에서의 실행 순서
+    @Column(name = "order_index", nullable = false)
+    private Integer orderIndex;
+
+    @Column(nullable = false)
+    private String stageName;
+
+    // 스테이지 결과 (SUCCESS, FAILED, NOT_EXECUTED 등)
+    private String status;
+
+    // 스테이지 시작 시각 (epoch ms)
+    private Long startTimeMillis;
+
+    // 스테이지 소요 시간 (ms)
+    private Long durationMillis;
+
+    // input 대기 등으로 멈춰 있던 시간 (ms)
+    private Long pauseDurationMillis;
+}
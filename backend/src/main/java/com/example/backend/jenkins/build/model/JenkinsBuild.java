@@ -0,0 +1,33 @@
+package com.example.backend.jenkins.build.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Jenkins 빌드 JSON(number,result,timestamp,duration,building,url,actions[causes[userName]])을 읽은 값.
+ * BuildJsonDecoder 가 필요한 필드만 스트리밍으로 읽어 만듭니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class JenkinsBuild {
+
+    private final int number;
+
+    // 빌드 결과 (진행 중이면 null)
+    private final String result;
+
+    // 빌드 시작 시각 (epoch ms)
+    private final long timestamp;
+
+    // 빌드 소요 시간 (ms)
+    private final long duration;
+
+    private final boolean building;
+
+    private final String url;
+
+    // actions[].causes[] 중 첫 번째 userName (없으면 "unknown")
+    private final String triggeredBy;
+}
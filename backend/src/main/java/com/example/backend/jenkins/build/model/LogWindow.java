@@ -0,0 +1,28 @@
+package com.example.backend.jenkins.build.model;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * 빌드 로그 조회 범위.
+ * HEAD / TAIL / PAGE 는 줄 단위, BYTES 는 바이트 오프셋 단위입니다.
+ */
+public enum LogWindow {
+
+
+    HEAD,
+    TAIL,
+    PAGE,
+    BYTES;
+
+
+
+    @JsonCreator
+    public static LogWindow fromString(String value) {
+        try {
+            return LogWindow.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 LogWindow입니다: " + value);
+        }
+    }
+
+
+}
@@ -0,0 +1,42 @@
+package com.example.backend.jenkins.build.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Jenkins workflow API(/wfapi/describe) 응답 중 빌드 상태와 스테이지별 실행 정보만 읽은 값.
+ * BuildJsonDecoder 가 스트리밍으로 읽어 만듭니다.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkflowRun {
+
+    // 아직 끝나지 않은 빌드의 status (이후 스테이지 값이 바뀔 수 있음)
+    private static final Set<String> RUNNING_STATUSES = Set.of("IN_PROGRESS", "PAUSED_PENDING_INPUT", "QUEUED");
+
+    // SUCCESS, FAILED, UNSTABLE, ABORTED, IN_PROGRESS, PAUSED_PENDING_INPUT 등
+    private final String status;
+
+    // 실행 순서의 스테이지
+    private final List<Stage> stages;
+
+    public boolean isCompleted() {
+        return status != null && !RUNNING_STATUSES.contains(status);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stage {
+        private final String name;
+        private final String status;
+        // 스테이지 시작 시각 (epoch ms)
+        private final long startTimeMillis;
+        // 스테이지 소요 시간 (ms, input 대기 시간 포함)
+        private final long durationMillis;
+        // input 등으로 멈춰 있던 시간 (ms)
+        private final long pauseDurationMillis;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.jenkins.build.model.dto;
 
 import com.example.backend.jenkins.build.model.JobType;
+import com.example.backend.jenkins.build.model.LogWindow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -61,6 +62,21 @@ public class BuildRequestDto {
 
         @Schema(description = "파이프라인 UUID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
         private UUID pipeLine;
+
+        @Schema(description = "조회 범위 (HEAD, TAIL, PAGE, BYTES), 기본값 PAGE", example = "TAIL")
+        private LogWindow window;
+
+        @Schema(description = "PAGE 조회 시 0부터 시작하는 페이지 번호, 기본값 0", example = "0")
+        private Integer page;
+
+        @Schema(description = "HEAD/TAIL/PAGE 조회 시 줄 수, 기본값 1000", example = "1000")
+        private Integer size;
+
+        @Schema(description = "BYTES 조회 시 시작 바이트 오프셋, 기본값 0", example = "0")
+        private Long start;
+
+        @Schema(description = "BYTES 조회 시 최대 바이트 수, 기본값 65536", example = "65536")
+        private Integer length;
     }
 
 
@@ -79,5 +95,14 @@ public class BuildRequestDto {
 
         @Schema(description = "파이프라인 UUID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
         private UUID pipeLine;
+
+        @Schema(description = "HISTORY 조회 페이지 (0부터 시작, 기본 0). before 가 있으면 무시", example = "0")
+        private Integer page;
+
+        @Schema(description = "HISTORY 조회 페이지 크기 (기본 20, 최대 100)", example = "20")
+        private Integer size;
+
+        @Schema(description = "HISTORY 커서. 이 번호보다 작은 빌드부터 조회 (이전 응답의 nextCursor)", example = "115")
+        private Integer before;
     }
 }
@@ -1,14 +1,15 @@
 package com.example.backend.jenkins.build.model.dto;
 
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.model.JenkinsBuild;
+import com.example.backend.jenkins.build.model.LogWindow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
-import org.jsoup.nodes.Element;
 
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class BuildResponseDto {
 
@@ -16,9 +17,14 @@ public class BuildResponseDto {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @EqualsAndHashCode
     @Schema(description = "Jenkins 빌드 정보 응답 DTO")
     public static class BuildInfo {
 
+        // 시작 시간은 한국시간 기준 (DateTimeFormatter 는 불변이라 공유)
+        private static final DateTimeFormatter STARTED_AT_FORMAT =
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.of("Asia/Seoul"));
+
         @Schema(description = "Job 이름", example = "sample-job")
         private String jobName;
 
@@ -43,67 +49,50 @@ public class BuildResponseDto {
         @Schema(description = "빌드 URL", example = "http://jenkins.example.com/job/sample-job/42/")
         private String buildUrl;
 
-        public static BuildInfo from(Map<String, Object> build) {
-            long timestamp = ((Number) build.get("timestamp")).longValue();
-            long durationMs = ((Number) build.get("duration")).longValue();
-
-            String triggeredBy = "unknown";
-            List<Map<String, Object>> actions = (List<Map<String, Object>>) build.get("actions");
-            if (actions != null) {
-                for (Map<String, Object> action : actions) {
-                    if (action == null) continue;
-                    List<Map<String, Object>> causes = (List<Map<String, Object>>) action.get("causes");
-                    if (causes != null) {
-                        for (Map<String, Object> cause : causes) {
-                            if (cause.containsKey("userName")) {
-                                triggeredBy = (String) cause.get("userName");
-                                break;
-                            }
-                        }
-                    }
-                }
-            }
+        public static BuildInfo from(JenkinsBuild build) {
+            return BuildInfo.builder()
+                    .jobName(jobNameOf(build.getUrl()))
+                    .buildNumber(build.getNumber())
+                    .status(build.getResult())
+                    .building(build.isBuilding())
+                    .durationStr(formatDuration(build.getDuration()))
+                    .startedAt(formatStartedAt(build.getTimestamp()))
+                    .triggeredBy(build.getTriggeredBy())
+                    .buildUrl(build.getUrl())
+                    .build();
+        }
+
+        public static BuildInfo from(BuildRecord record) {
+            return BuildInfo.builder()
+                    .jobName(jobNameOf(record.getBuildUrl()))
+                    .buildNumber(record.getBuildNumber())
+                    .status(record.getResult())
+                    .building(Boolean.TRUE.equals(record.getBuilding()))
+                    .durationStr(formatDuration(record.getDuration()))
+                    .startedAt(formatStartedAt(record.getTimestamp()))
+                    .triggeredBy(record.getTriggeredBy())
+                    .buildUrl(record.getBuildUrl())
+                    .build();
+        }
 
-            String buildUrl = (String) build.get("url");
-            String jobName = "unknown";
+        private static String jobNameOf(String buildUrl) {
             if (buildUrl != null) {
                 String[] parts = buildUrl.split("/");
                 for (int i = 0; i < parts.length; i++) {
                     if ("job".equals(parts[i]) && i + 1 < parts.length) {
-                        jobName = parts[i + 1];
-                        break;
+                        return parts[i + 1];
                     }
                 }
             }
-
-            return BuildInfo.builder()
-                    .jobName(jobName)
-                    .buildNumber((Integer) build.get("number"))
-                    .status((String) build.get("result"))
-                    .building((Boolean) build.getOrDefault("building", false))
-                    .durationStr(String.format("%.1f초", durationMs / 1000.0))
-                    .startedAt(Instant.ofEpochMilli(timestamp)
-                            .atZone(ZoneId.of("Asia/Seoul"))
-                            .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-                    .triggeredBy(triggeredBy)
-                    .buildUrl(buildUrl)
-                    .build();
+            return "unknown";
         }
 
-        public static BuildInfo latestFrom(Map<String, Object> body) {
-            List<Map<String, Object>> builds = (List<Map<String, Object>>) body.get("builds");
-
-            return builds.stream()
-                    .max(Comparator.comparingInt(b -> (Integer) b.get("number")))
-                    .map(BuildInfo::from)
-                    .orElseThrow(() -> new IllegalArgumentException("빌드가 존재하지 않습니다."));
+        private static String formatDuration(long durationMs) {
+            return String.format("%.1f초", durationMs / 1000.0);
         }
 
-        public static List<BuildInfo> listFrom(Map<String, Object> body) {
-            List<Map<String, Object>> builds = (List<Map<String, Object>>) body.get("builds");
-            return builds.stream()
-                    .map(BuildInfo::from)
-                    .collect(Collectors.toList());
+        private static String formatStartedAt(long timestamp) {
+            return STARTED_AT_FORMAT.format(Instant.ofEpochMilli(timestamp));
         }
     }
 
@@ -111,37 +100,87 @@ public class BuildResponseDto {
     @NoArgsConstructor
     @Getter
     @Builder
-    @Schema(description = "실시간 로그 응답 DTO")
+    @Schema(description = "빌드 이력 페이지 응답 DTO")
+    public static class BuildHistoryPage {
+
+        @Schema(description = "빌드 목록 (최신순)")
+        private List<BuildInfo> builds;
+
+        @Schema(description = "현재 페이지 (page 로 조회한 경우만, 0부터 시작)", example = "0")
+        private Integer page;
+
+        @Schema(description = "페이지 크기", example = "20")
+        private int size;
+
+        @Schema(description = "저장된 전체 빌드 수", example = "135")
+        private long totalElements;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "다음 페이지 요청에 before 로 넘길 빌드 번호 (다음 페이지가 없으면 null)", example = "115")
+        private Integer nextCursor;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    @Schema(description = "실시간 로그 조각 (SSE log 이벤트 데이터)")
     public static class BuildStreamLogDto {
 
-        @Schema(description = "로그 라인 리스트", example = "[\"Started by user admin\", \"Building...\"]")
-        private List<String> log;
+        @Schema(description = "빌드 번호", example = "42")
+        private int buildNumber;
 
-        public static BuildStreamLogDto getStreamLog(String body) {
-            List<String> lines = Arrays.asList(body.split("\\r?\\n"));
-            return BuildStreamLogDto.builder()
-                    .log(lines)
-                    .build();
-        }
+        @Schema(description = "이 조각의 시작 오프셋 (Jenkins progressiveText start)", example = "0")
+        private long start;
+
+        @Schema(description = "다음 조각의 시작 오프셋 (X-Text-Size)", example = "2048")
+        private long nextStart;
+
+        @Schema(description = "새로 추가된 로그 텍스트", example = "Started by user admin\nBuilding...\n")
+        private String text;
+
+        @Schema(description = "빌드가 진행 중이어서 로그가 더 있는지 여부 (X-More-Data)", example = "true")
+        private boolean more;
     }
 
     @AllArgsConstructor
     @NoArgsConstructor
     @Getter
     @Builder
-    @Schema(description = "빌드 로그 응답 DTO")
+    @Schema(description = "빌드 로그 응답 DTO (요청한 범위만 포함)")
     public static class BuildLogDto {
 
         @Schema(description = "로그 라인 리스트", example = "[\"Compiling...\", \"Build finished successfully.\"]")
         private List<String> log;
 
-        public static BuildLogDto getLog(Element pre) {
-            String rawLog = pre.text();
-            List<String> lines = List.of(rawLog.split("\n"));
-            return BuildLogDto.builder()
-                    .log(lines)
-                    .build();
-        }
+        @Schema(description = "조회 범위", example = "PAGE")
+        private LogWindow window;
+
+        @Schema(description = "페이지 번호 (PAGE/HEAD)", example = "0")
+        private Integer page;
+
+        @Schema(description = "요청 줄 수 또는 바이트 수", example = "1000")
+        private Integer size;
+
+        @Schema(description = "첫 줄의 1부터 시작하는 줄 번호 (줄 단위 조회)", example = "1")
+        private Long firstLine;
+
+        @Schema(description = "전체 줄 수 (끝까지 읽은 경우에만)", example = "3521")
+        private Long totalLines;
+
+        @Schema(description = "이후 로그 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "시작 바이트 오프셋 (BYTES)", example = "0")
+        private Long start;
+
+        @Schema(description = "다음 요청의 시작 바이트 오프셋 (BYTES)", example = "1048576")
+        private Long nextStart;
+
+        @Schema(description = "전체 로그 바이트 수 (BYTES, X-Text-Size)", example = "209715200")
+        private Long totalBytes;
     }
 
     @AllArgsConstructor
@@ -158,4 +197,67 @@ public class BuildResponseDto {
             return Stage.builder().stage(body).build();
         }
     }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "빌드의 스테이지별 실행 정보 응답 DTO")
+    public static class StageTimeline {
+
+        @Schema(description = "빌드 번호", example = "42")
+        private int buildNumber;
+
+        @Schema(description = "빌드 종료 여부 (true 면 이후 조회는 Jenkins 를 호출하지 않음)", example = "true")
+        private boolean completed;
+
+        @Schema(description = "실행 순서의 스테이지 목록")
+        private List<StageTiming> stages;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class StageTiming {
+
+        @Schema(description = "스테이지 이름", example = "Test")
+        private String name;
+
+        @Schema(description = "스테이지 결과", example = "SUCCESS")
+        private String status;
+
+        @Schema(description = "시작 시각 (epoch ms)", example = "1720589400000")
+        private long startTimeMillis;
+
+        @Schema(description = "소요 시간 (ms)", example = "5400")
+        private long durationMillis;
+
+        @Schema(description = "input 대기 등으로 멈춰 있던 시간 (ms)", example = "0")
+        private long pauseDurationMillis;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "스테이지별 소요 시간 통계 응답 DTO")
+    public static class StageDurationStat {
+
+        @Schema(description = "스테이지 이름", example = "Test")
+        private String name;
+
+        @Schema(description = "집계한 빌드 수", example = "20")
+        private int builds;
+
+        @Schema(description = "평균 소요 시간 (ms)", example = "5400")
+        private long avgDurationMillis;
+
+        @Schema(description = "최대 소요 시간 (ms)", example = "9100")
+        private long maxDurationMillis;
+
+        @Schema(description = "SUCCESS 가 아닌 실행 횟수 (NOT_EXECUTED 제외)", example = "2")
+        private int failures;
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.backend.jenkins.build.repository;
+
+import com.example.backend.jenkins.build.model.BuildRecord;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BuildRecordRepository extends JpaRepository<BuildRecord, UUID> {
+
+    @Query("select max(b.buildNumber) from BuildRecord b where b.pipeline.id = :pipelineId")
+    Optional<Integer> findMaxBuildNumberByPipelineId(@Param("pipelineId") UUID pipelineId);
+
+    @Query("select min(b.buildNumber) from BuildRecord b where b.pipeline.id = :pipelineId")
+    Optional<Integer> findMinBuildNumberByPipelineId(@Param("pipelineId") UUID pipelineId);
+
+    long countByPipelineId(UUID pipelineId);
+
+    @Query("select b.buildNumber from BuildRecord b where b.pipeline.id = :pipelineId and b.building = true")
+    List<Integer> findBuildingNumbersByPipelineId(@Param("pipelineId") UUID pipelineId);
+
+    List<BuildRecord> findByPipelineIdAndBuildNumberIn(UUID pipelineId, Collection<Integer> buildNumbers);
+
+    Optional<BuildRecord> findFirstByPipelineIdOrderByBuildNumberDesc(UUID pipelineId);
+
+    Page<BuildRecord> findByPipelineIdOrderByBuildNumberDesc(UUID pipelineId, Pageable pageable);
+
+    // 커서(before) 페이지 조회. count 쿼리 없이 limit 만 적용
+    List<BuildRecord> findByPipelineIdAndBuildNumberLessThanOrderByBuildNumberDesc(UUID pipelineId, int buildNumber, Pageable pageable);
+}
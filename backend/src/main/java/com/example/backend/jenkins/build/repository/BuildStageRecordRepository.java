@@ -0,0 +1,12 @@
+package com.example.backend.jenkins.build.repository;
+
+import com.example.backend.jenkins.build.model.BuildStageRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface BuildStageRecordRepository extends JpaRepository<BuildStageRecord, UUID> {
+
+    List<BuildStageRecord> findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(UUID pipelineId, int buildNumber);
+}
@@ -0,0 +1,486 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.model.JenkinsBuild;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.build.repository.BuildRecordRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.service.HttpClientService;
+import com.example.backend.service.JenkinsBuildQueryPlanner;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline 별 빌드 이력을 DB 에 보관하고, Jenkins 에서는 변경분만 가져옵니다.
+ * <p>
+ * 갱신 대상은 저장된 최대 빌드 번호보다 큰 빌드, 최신 sync-page-size 구간, 아직 building 으로 저장된 빌드뿐이므로,
+ * 요청 비용이 전체 이력 크기가 아니라 새 빌드 수에 비례합니다.
+ * 처음에는 최신 구간만 저장하고, 이전 빌드는 이력 페이지를 넘길 때 저장된 빌드 바로 다음 구간({from,to})만 Jenkins 에서 받아 채웁니다.
+ * 이전 구간은 100건으로 잘리는 builds 대신 allBuilds 에서 읽으므로 Jenkins 에 남아 있는 이력 끝까지 넘겨 볼 수 있습니다.
+ * 이력 조회는 항상 로컬 DB 에서 페이지 단위로 처리하며, Jenkins 가 응답하지 않으면 저장된 이력을 그대로 반환합니다.
+ * Jenkins 알림(apply)을 받고 있는 pipeline 은 reconcile-interval 에 한 번만 Jenkins 와 다시 맞춥니다.
+ */
+@Slf4j
+@Service
+public class BuildHistoryStore {
+
+    static final String BUILD_FIELDS = "number,result,timestamp,duration,building,url,actions[causes[userName]]";
+
+    private final HttpClientService httpClientService;
+    private final JenkinsBuildQueryPlanner jenkinsBuildQueryPlanner;
+    private final BuildRecordRepository buildRecordRepository;
+    private final BuildJsonDecoder buildJsonDecoder;
+    private final Executor jenkinsTaskExecutor;
+    private final int syncPageSize;
+    private final long reconcileIntervalMillis;
+
+    // pipeline 별로 동시에 하나의 갱신만 실행 (같은 빌드를 중복 insert 하지 않도록)
+    private final Map<UUID, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    // pipeline 별 이전 구간 채우기는 순서대로 실행 (같은 구간을 중복 insert 하지 않도록)
+    private final Map<UUID, CompletableFuture<Integer>> backfills = new ConcurrentHashMap<>();
+    // Jenkins 에 남은 가장 오래된 빌드까지 저장한 pipeline (새 빌드는 위쪽에만 추가되므로 다시 확인하지 않음)
+    private final Set<UUID> fullyLoaded = ConcurrentHashMap.newKeySet();
+    // pipeline 별 마지막 알림 반영 시각과 마지막 Jenkins 동기화 시각 (epoch ms)
+    private final Map<UUID, Long> notifiedAt = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> reconciledAt = new ConcurrentHashMap<>();
+
+    public BuildHistoryStore(
+            HttpClientService httpClientService,
+            JenkinsBuildQueryPlanner jenkinsBuildQueryPlanner,
+            BuildRecordRepository buildRecordRepository,
+            BuildJsonDecoder buildJsonDecoder,
+            @Qualifier("jenkinsTaskExecutor") Executor jenkinsTaskExecutor,
+            @Value("${jenkins.build-history.sync-page-size:20}") int syncPageSize,
+            @Value("${jenkins.build-history.reconcile-interval:5m}") Duration reconcileInterval
+    ) {
+        this.httpClientService = httpClientService;
+        this.jenkinsBuildQueryPlanner = jenkinsBuildQueryPlanner;
+        this.buildRecordRepository = buildRecordRepository;
+        this.buildJsonDecoder = buildJsonDecoder;
+        this.jenkinsTaskExecutor = jenkinsTaskExecutor;
+        this.syncPageSize = syncPageSize;
+        this.reconcileIntervalMillis = reconcileInterval.toMillis();
+    }
+
+    /**
+     * Jenkins 의 새 빌드/진행 중 빌드를 DB 에 반영합니다.
+     * 같은 pipeline 에 대한 갱신이 이미 진행 중이면 그 결과를 공유합니다.
+     */
+    public CompletableFuture<Void> refresh(PipelineMeta pipeline) {
+        if (isKeptByNotifications(pipeline.getId())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(pipeline.getId(), mine);
+        if (running != null) {
+            return running;
+        }
+
+        doRefresh(pipeline).whenComplete((ignored, ex) -> {
+            inFlight.remove(pipeline.getId(), mine);
+            if (ex != null) {
+                mine.completeExceptionally(ex);
+            } else {
+                reconciledAt.put(pipeline.getId(), System.currentTimeMillis());
+                mine.complete(null);
+            }
+        });
+        return mine;
+    }
+
+    /**
+     * Jenkins 조회 없이 알게 된 빌드 상태(알림 등)를 저장합니다.
+     * update 에는 저장된 레코드(없으면 새 레코드)가 전달되며, 값이 있는 필드만 바꾸면 됩니다.
+     */
+    public Applied apply(PipelineMeta pipeline, int buildNumber, Consumer<BuildRecord> update) {
+        notifiedAt.put(pipeline.getId(), System.currentTimeMillis());
+        try {
+            return doApply(pipeline, buildNumber, update);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 빌드를 refresh 가 먼저 insert 한 경우 저장된 레코드에 다시 반영
+            return doApply(pipeline, buildNumber, update);
+        }
+    }
+
+    private Applied doApply(PipelineMeta pipeline, int buildNumber, Consumer<BuildRecord> update) {
+        BuildRecord record = buildRecordRepository.findByPipelineIdAndBuildNumberIn(pipeline.getId(), Set.of(buildNumber))
+                .stream()
+                .findFirst()
+                .orElse(null);
+        // 처음 보는 빌드는 진행 중이던 것으로 간주
+        boolean wasBuilding = record == null || !Boolean.FALSE.equals(record.getBuilding());
+        if (record == null) {
+            record = BuildRecord.builder()
+                    .pipeline(Pipeline.builder().id(pipeline.getId()).build())
+                    .buildNumber(buildNumber)
+                    .building(true)
+                    .timestamp(0L)
+                    .duration(0L)
+                    .build();
+        }
+        update.accept(record);
+        return new Applied(buildRecordRepository.save(record), wasBuilding);
+    }
+
+    private boolean isKeptByNotifications(UUID pipelineId) {
+        long now = System.currentTimeMillis();
+        Long notified = notifiedAt.get(pipelineId);
+        Long reconciled = reconciledAt.get(pipelineId);
+        return notified != null && reconciled != null
+                && now - notified < reconcileIntervalMillis
+                && now - reconciled < reconcileIntervalMillis;
+    }
+
+    public BuildResponseDto.BuildInfo getLatest(PipelineMeta pipeline) {
+        return buildRecordRepository.findFirstByPipelineIdOrderByBuildNumberDesc(pipeline.getId())
+                .map(BuildResponseDto.BuildInfo::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_BUILD_INFO_MISSING));
+    }
+
+    /**
+     * before 보다 작은 번호의 빌드를 최신순으로 size 건 조회합니다. (before 가 null 이면 최신 빌드부터)
+     * 응답의 nextCursor 를 다음 요청의 before 로 넘기면 이어지는 페이지를 받습니다.
+     */
+    public CompletableFuture<BuildResponseDto.BuildHistoryPage> getHistoryBefore(PipelineMeta pipeline, Integer before, int size) {
+        return getSliceBefore(pipeline, before, size)
+                .thenApplyAsync(slice -> BuildResponseDto.BuildHistoryPage.builder()
+                        .builds(slice.getRecords().stream().map(BuildResponseDto.BuildInfo::from).toList())
+                        .size(size)
+                        .totalElements(buildRecordRepository.countByPipelineId(pipeline.getId()))
+                        .hasNext(slice.isHasNext())
+                        .nextCursor(slice.getNextCursor())
+                        .build(), jenkinsTaskExecutor);
+    }
+
+    /**
+     * 커서 페이지의 빌드 레코드. 저장된 이력에 size + 1 건이 없으면 Jenkins 에서 부족한 만큼의 이전 구간만 받아 채운 뒤 다시 조회합니다.
+     */
+    public CompletableFuture<HistorySlice> getSliceBefore(PipelineMeta pipeline, Integer before, int size) {
+        int cursor = before != null ? before : Integer.MAX_VALUE;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        return CompletableFuture.supplyAsync(() -> findBefore(pipeline.getId(), cursor, size + 1), jenkinsTaskExecutor)
+                .thenCompose(records -> records.size() > size
+                        ? CompletableFuture.completedFuture(records)
+                        : backfill(pipeline, size + 1 - records.size()).thenApplyAsync(
+                                added -> added > 0 ? findBefore(pipeline.getId(), cursor, size + 1) : records, jenkinsTaskExecutor))
+                .thenApply(records -> HistorySlice.of(records, size));
+    }
+
+    /**
+     * page 번호로 조회합니다. 요청한 페이지까지 저장된 이력이 부족하면 이전 구간을 먼저 채웁니다.
+     */
+    public CompletableFuture<BuildResponseDto.BuildHistoryPage> getHistory(PipelineMeta pipeline, int page, int size) {
+        return CompletableFuture.supplyAsync(() -> buildRecordRepository.countByPipelineId(pipeline.getId()), jenkinsTaskExecutor)
+                .thenCompose(stored -> backfill(pipeline, (int) Math.min((long) (page + 1) * size + 1 - stored, Integer.MAX_VALUE)))
+                .thenApplyAsync(ignored -> {
+                    Page<BuildRecord> records = buildRecordRepository.findByPipelineIdOrderByBuildNumberDesc(
+                            pipeline.getId(), PageRequest.of(page, size));
+                    List<BuildRecord> content = records.getContent();
+
+                    return BuildResponseDto.BuildHistoryPage.builder()
+                            .builds(records.map(BuildResponseDto.BuildInfo::from).getContent())
+                            .page(page)
+                            .size(size)
+                            .totalElements(records.getTotalElements())
+                            .hasNext(records.hasNext())
+                            .nextCursor(records.hasNext() ? content.get(content.size() - 1).getBuildNumber() : null)
+                            .build();
+                }, jenkinsTaskExecutor);
+    }
+
+    private List<BuildRecord> findBefore(UUID pipelineId, int before, int limit) {
+        return buildRecordRepository.findByPipelineIdAndBuildNumberLessThanOrderByBuildNumberDesc(
+                pipelineId, before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 저장된 가장 오래된 빌드 다음의 need 건을 Jenkins 에서 받아 저장하고, 새로 저장한 건수를 반환합니다.
+     * 저장된 이력에 빈 번호가 있거나 Jenkins 에서 빌드가 삭제되면 저장된 건수와 Jenkins 목록의 위치가 달라지므로,
+     * 시작 위치는 Jenkins 목록에서 저장된 최소 번호보다 작은 첫 빌드를 찾아 정합니다.
+     */
+    private CompletableFuture<Integer> backfill(PipelineMeta pipeline, int need) {
+        if (need <= 0 || fullyLoaded.contains(pipeline.getId())) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        CompletableFuture<Integer> next = backfills.compute(pipeline.getId(), (id, running) ->
+                (running != null ? running.exceptionally(ex -> 0) : CompletableFuture.completedFuture(0))
+                        .thenCompose(ignored -> doBackfill(pipeline, need)));
+        next.whenComplete((added, ex) -> backfills.remove(pipeline.getId(), next));
+        return next;
+    }
+
+    private CompletableFuture<Integer> doBackfill(PipelineMeta pipeline, int need) {
+        JenkinsInfo info = pipeline.getJenkinsInfo();
+        return CompletableFuture.supplyAsync(() -> new BackfillState(
+                        buildRecordRepository.countByPipelineId(pipeline.getId()),
+                        buildRecordRepository.findMinBuildNumberByPipelineId(pipeline.getId()).orElse(Integer.MAX_VALUE)),
+                        jenkinsTaskExecutor)
+                .thenCompose(state -> locateOlder(pipeline, state.getMinBuildNumber(), 0,
+                                (int) Math.min(state.getStored() + need, Integer.MAX_VALUE))
+                        .thenCompose(from -> {
+                            if (from == null) {
+                                fullyLoaded.add(pipeline.getId());
+                                return CompletableFuture.completedFuture(0);
+                            }
+                            int to = from + need;
+                            return httpClientService.readAsync(
+                                            jenkinsBuildQueryPlanner.jobAllBuildsUri(info, pipeline.getName(), BUILD_FIELDS, from, to),
+                                            jsonEntity(info), (body, headers) -> buildJsonDecoder.readBuilds(body, 0))
+                                    .thenApplyAsync(page -> {
+                                        if (page == null || page.getSeen() < to - from) {
+                                            fullyLoaded.add(pipeline.getId());
+                                        }
+                                        if (page == null) {
+                                            return 0;
+                                        }
+                                        // 위치를 찾은 뒤 새 빌드가 생겨 구간이 밀렸을 수 있으므로 저장된 최소 번호보다 작은 빌드만 반영
+                                        List<JenkinsBuild> older = page.getBuilds().stream()
+                                                .filter(build -> build.getNumber() < state.getMinBuildNumber())
+                                                .toList();
+                                        upsert(pipeline, older);
+                                        return older.size();
+                                    }, jenkinsTaskExecutor);
+                        }));
+    }
+
+    /**
+     * Jenkins 빌드 목록에서 번호가 minBuildNumber 보다 작은 첫 빌드의 위치를 찾습니다. (그런 빌드가 없으면 null)
+     * 번호만 [from, to) 구간씩 읽으며, 찾지 못하면 구간을 두 배로 늘려 이어서 찾습니다.
+     */
+    private CompletableFuture<Integer> locateOlder(PipelineMeta pipeline, int minBuildNumber, int from, int to) {
+        JenkinsInfo info = pipeline.getJenkinsInfo();
+        return httpClientService.readAsync(
+                        jenkinsBuildQueryPlanner.jobAllBuildsUri(info, pipeline.getName(), "number", from, to),
+                        jsonEntity(info), (body, headers) -> buildJsonDecoder.readBuilds(body, minBuildNumber - 1))
+                .thenCompose(page -> {
+                    if (page == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    if (page.isReachedStop()) {
+                        return CompletableFuture.completedFuture(from + page.getSeen() - 1);
+                    }
+                    if (page.getSeen() < to - from) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return locateOlder(pipeline, minBuildNumber, to, (int) Math.min((long) to + (to - from), Integer.MAX_VALUE));
+                });
+    }
+
+    private CompletableFuture<Void> doRefresh(PipelineMeta pipeline) {
+        return CompletableFuture.supplyAsync(() -> loadSyncState(pipeline.getId()), jenkinsTaskExecutor)
+                .thenCompose(state -> fetchChanges(pipeline, state)
+                        .thenAcceptAsync(builds -> upsert(pipeline, builds), jenkinsTaskExecutor)
+                        .exceptionally(ex -> {
+                            // 저장된 이력이 있으면 Jenkins 장애와 무관하게 로컬 이력을 제공
+                            if (state.getMaxBuildNumber() > 0) {
+                                log.warn("빌드 이력 갱신 실패, 저장된 이력 사용 - jobName: {}, 원인: {}", pipeline.getName(),
+                                        ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+                                return null;
+                            }
+                            throw ex instanceof RuntimeException re ? re : new CustomException(ErrorCode.JENKINS_SERVER_ERROR);
+                        }));
+    }
+
+    private SyncState loadSyncState(UUID pipelineId) {
+        int max = buildRecordRepository.findMaxBuildNumberByPipelineId(pipelineId).orElse(0);
+        return new SyncState(max, buildRecordRepository.findBuildingNumbersByPipelineId(pipelineId));
+    }
+
+    private CompletableFuture<List<JenkinsBuild>> fetchChanges(PipelineMeta pipeline, SyncState state) {
+        // 처음 동기화할 때는 첫 구간만, 이후에는 작은 페이지로 저장된 번호를 만날 때까지 조회
+        return fetchNewBuilds(pipeline, state.getMaxBuildNumber(), 0, syncPageSize, new ArrayList<>())
+                .thenCompose(newBuilds -> {
+                    Set<Integer> fetched = newBuilds.stream()
+                            .map(JenkinsBuild::getNumber)
+                            .collect(Collectors.toSet());
+                    List<Integer> stillBuilding = state.getBuildingNumbers().stream()
+                            .filter(n -> !fetched.contains(n))
+                            .toList();
+
+                    return fetchBuilds(pipeline, stillBuilding).thenApply(updated -> {
+                        newBuilds.addAll(updated);
+                        return newBuilds;
+                    });
+                });
+    }
+
+    /**
+     * 저장된 최대 번호를 만날 때까지 [from, from + pageSize) 구간씩 새 빌드를 읽습니다.
+     * 두 번의 동기화 사이에 새 빌드가 많이 쌓였더라도 빈 구간이 남지 않도록 끝까지 읽으며,
+     * 구간 크기는 두 배씩 늘려 max-builds-per-job 까지 키웁니다.
+     * 첫 구간은 이미 저장된 빌드도 다시 읽으므로, 알림이 유실되어 빠지거나 어긋난 최근 빌드가 다음 동기화에서 바로잡힙니다.
+     */
+    private CompletableFuture<List<JenkinsBuild>> fetchNewBuilds(
+            PipelineMeta pipeline, int maxStored, int from, int pageSize, List<JenkinsBuild> acc) {
+
+        JenkinsInfo info = pipeline.getJenkinsInfo();
+        // 이후 구간은 저장된 번호를 만나면 나머지 본문을 파싱하지 않음 (builds 는 최근 100건으로 잘리므로 allBuilds 사용)
+        int stopAtOrBelow = from == 0 ? 0 : maxStored;
+        return httpClientService.readAsync(
+                        jenkinsBuildQueryPlanner.jobAllBuildsUri(info, pipeline.getName(), BUILD_FIELDS, from, from + pageSize),
+                        jsonEntity(info), (body, headers) -> buildJsonDecoder.readBuilds(body, stopAtOrBelow))
+                .thenCompose(page -> {
+                    if (page == null) {
+                        return CompletableFuture.completedFuture(acc);
+                    }
+                    acc.addAll(page.getBuilds());
+
+                    boolean reachedStored = page.isReachedStop()
+                            || page.getBuilds().stream().anyMatch(build -> build.getNumber() <= maxStored);
+                    // 처음 동기화(maxStored == 0)는 첫 구간만 저장하고 나머지는 이력 조회 시 채움
+                    if (maxStored == 0 || reachedStored || page.getSeen() < pageSize) {
+                        return CompletableFuture.completedFuture(acc);
+                    }
+                    int nextSize = Math.max(pageSize, Math.min(pageSize * 2, jenkinsBuildQueryPlanner.getMaxBuildsPerJob()));
+                    return fetchNewBuilds(pipeline, maxStored, from + pageSize, nextSize, acc);
+                });
+    }
+
+    private CompletableFuture<List<JenkinsBuild>> fetchBuilds(PipelineMeta pipeline, List<Integer> buildNumbers) {
+        JenkinsInfo info = pipeline.getJenkinsInfo();
+        List<CompletableFuture<JenkinsBuild>> calls = buildNumbers.stream()
+                .map(number -> httpClientService.readAsync(
+                                jenkinsBuildQueryPlanner.buildUri(info, pipeline.getName(), number, BUILD_FIELDS),
+                                jsonEntity(info), (body, headers) -> buildJsonDecoder.readBuild(body))
+                        .exceptionally(ex -> {
+                            log.warn("진행 중 빌드 갱신 실패 - jobName: {}, buildNumber: {}", pipeline.getName(), number);
+                            return null;
+                        }))
+                .toList();
+
+        return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> calls.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    private void upsert(PipelineMeta pipeline, List<JenkinsBuild> builds) {
+        if (builds.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> numbers = new HashSet<>();
+        builds.forEach(b -> numbers.add(b.getNumber()));
+        Map<Integer, BuildRecord> existing = buildRecordRepository.findByPipelineIdAndBuildNumberIn(pipeline.getId(), numbers)
+                .stream()
+                .collect(Collectors.toMap(BuildRecord::getBuildNumber, Function.identity()));
+
+        List<BuildRecord> records = new ArrayList<>();
+        for (JenkinsBuild build : builds) {
+            BuildRecord stored = existing.get(build.getNumber());
+            // 다시 읽은 구간에서 바뀌지 않은 빌드는 쓰지 않음
+            if (stored != null && isUpToDate(stored, build)) {
+                continue;
+            }
+            BuildRecord record = stored != null ? stored : BuildRecord.builder()
+                    // FK 만 필요하므로 id 만 채운 참조 사용
+                    .pipeline(Pipeline.builder().id(pipeline.getId()).build())
+                    .buildNumber(build.getNumber())
+                    .build();
+
+            record.setResult(build.getResult());
+            record.setBuilding(build.isBuilding());
+            record.setTimestamp(build.getTimestamp());
+            record.setDuration(build.getDuration());
+            record.setTriggeredBy(build.getTriggeredBy());
+            record.setBuildUrl(build.getUrl());
+            records.add(record);
+        }
+
+        if (records.isEmpty()) {
+            return;
+        }
+        buildRecordRepository.saveAll(records);
+        log.info("빌드 이력 갱신 - jobName: {}, 반영: {}건", pipeline.getName(), records.size());
+    }
+
+    private static boolean isUpToDate(BuildRecord record, JenkinsBuild build) {
+        return Objects.equals(record.getResult(), build.getResult())
+                && Objects.equals(record.getBuilding(), build.isBuilding())
+                && Objects.equals(record.getTimestamp(), build.getTimestamp())
+                && Objects.equals(record.getDuration(), build.getDuration())
+                && Objects.equals(record.getTriggeredBy(), build.getTriggeredBy())
+                && Objects.equals(record.getBuildUrl(), build.getUrl());
+    }
+
+    private HttpEntity<?> jsonEntity(JenkinsInfo info) {
+        return new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SyncState {
+        private final int maxBuildNumber;
+        private final List<Integer> buildingNumbers;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class BackfillState {
+        private final long stored;
+        private final int minBuildNumber;
+    }
+
+    /**
+     * apply 결과. wasBuilding 이 true 이고 record 가 더 이상 building 이 아니면 이번 반영으로 빌드가 끝난 것입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Applied {
+        private final BuildRecord record;
+        private final boolean wasBuilding;
+
+        public boolean isFinished() {
+            return wasBuilding && Boolean.FALSE.equals(record.getBuilding());
+        }
+    }
+
+    /**
+     * 커서 페이지 조회 결과. nextCursor 는 다음 요청의 before 값이며 다음 페이지가 없으면 null 입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class HistorySlice {
+        private final List<BuildRecord> records;
+        private final boolean hasNext;
+        private final Integer nextCursor;
+
+        static HistorySlice of(List<BuildRecord> fetched, int size) {
+            if (fetched.size() <= size) {
+                return new HistorySlice(fetched, false, null);
+            }
+            List<BuildRecord> records = fetched.subList(0, size);
+            return new HistorySlice(records, true, records.get(size - 1).getBuildNumber());
+        }
+    }
+}
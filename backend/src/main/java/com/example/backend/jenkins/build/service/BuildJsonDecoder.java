@@ -0,0 +1,248 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.JenkinsBuild;
+import com.example.backend.jenkins.build.model.WorkflowRun;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jenkins 빌드 JSON 을 JsonParser 로 읽어 JenkinsBuild 로 만듭니다.
+ * <p>
+ * Map 트리를 만들지 않고 필요한 필드만 읽으며, 나머지 값은 skipChildren 으로 건너뜁니다.
+ * JsonFactory 는 애플리케이션의 ObjectMapper 것을 공유합니다. (thread-safe)
+ * Jenkins 는 builds 를 최신순으로 반환하므로, 최신 빌드나 저장된 번호까지만 필요한 경우 나머지 본문은 읽지 않습니다.
+ */
+@Component
+public class BuildJsonDecoder {
+
+    private static final String UNKNOWN_USER = "unknown";
+
+    private final JsonFactory jsonFactory;
+
+    public BuildJsonDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * {@code {"builds": [...]}} (또는 allBuilds) 에서 number 가 stopAtOrBelow 이하인 빌드를 만나면 멈춥니다. (전부 읽으려면 0)
+     */
+    public BuildsPage readBuilds(InputStream body, int stopAtOrBelow) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            List<JenkinsBuild> builds = new ArrayList<>();
+            if (!moveToBuilds(parser)) {
+                return new BuildsPage(builds, 0, false);
+            }
+            int seen = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                JenkinsBuild build = readBuildObject(parser);
+                seen++;
+                if (build.getNumber() <= stopAtOrBelow) {
+                    return new BuildsPage(builds, seen, true);
+                }
+                builds.add(build);
+            }
+            return new BuildsPage(builds, seen, false);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.JENKINS_BUILD_HISTORY_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * {@code {"builds": [...]}} 의 첫 빌드(최신)만 읽습니다. 빌드가 없으면 null.
+     */
+    public JenkinsBuild readLatest(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (moveToBuilds(parser) && parser.nextToken() == JsonToken.START_OBJECT) {
+                return readBuildObject(parser);
+            }
+            return null;
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.JENKINS_LATEST_BUILD_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * 단일 빌드 JSON 을 읽습니다. 본문이 비어 있거나 number 가 없으면 null.
+     */
+    public JenkinsBuild readBuild(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JenkinsBuild build = readBuildObject(parser);
+            return build.getNumber() > 0 ? build : null;
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.JENKINS_BUILD_HISTORY_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * workflow API(/wfapi/describe) 응답에서 빌드 status 와 stages 만 읽습니다. 본문이 비어 있으면 null.
+     * 스테이지의 _links 등 나머지 값은 건너뜁니다.
+     */
+    public WorkflowRun readWorkflowRun(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String status = null;
+            List<WorkflowRun.Stage> stages = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("status".equals(field) && value == JsonToken.VALUE_STRING) {
+                    status = parser.getText();
+                } else if ("stages".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        stages.add(readStageObject(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new WorkflowRun(status, stages);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.JENKINS_STAGE_TIMING_PARSE_ERROR);
+        }
+    }
+
+    // 현재 START_OBJECT 의 스테이지 하나를 읽고 END_OBJECT 에서 멈춤
+    private static WorkflowRun.Stage readStageObject(JsonParser parser) throws IOException {
+        String name = null;
+        String status = null;
+        long startTimeMillis = 0L;
+        long durationMillis = 0L;
+        long pauseDurationMillis = 0L;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "status" -> status = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "startTimeMillis" -> startTimeMillis = value.isNumeric() ? parser.getLongValue() : 0L;
+                case "durationMillis" -> durationMillis = value.isNumeric() ? parser.getLongValue() : 0L;
+                case "pauseDurationMillis" -> pauseDurationMillis = value.isNumeric() ? parser.getLongValue() : 0L;
+                default -> parser.skipChildren();
+            }
+        }
+        return new WorkflowRun.Stage(name, status, startTimeMillis, durationMillis, pauseDurationMillis);
+    }
+
+    // 최상위 객체의 builds(또는 allBuilds) 배열 시작까지 이동
+    private static boolean moveToBuilds(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (("builds".equals(field) || "allBuilds".equals(field)) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    // 현재 START_OBJECT 의 빌드 하나를 읽고 END_OBJECT 에서 멈춤
+    private static JenkinsBuild readBuildObject(JsonParser parser) throws IOException {
+        int number = 0;
+        String result = null;
+        long timestamp = 0L;
+        long duration = 0L;
+        boolean building = false;
+        String url = null;
+        String triggeredBy = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "number" -> number = value.isNumeric() ? parser.getIntValue() : 0;
+                case "result" -> result = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "timestamp" -> timestamp = value.isNumeric() ? parser.getLongValue() : 0L;
+                case "duration" -> duration = value.isNumeric() ? parser.getLongValue() : 0L;
+                case "building" -> building = value == JsonToken.VALUE_TRUE;
+                case "url" -> url = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "actions" -> {
+                    if (value == JsonToken.START_ARRAY && triggeredBy == null) {
+                        triggeredBy = readUserName(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new JenkinsBuild(number, result, timestamp, duration, building, url,
+                triggeredBy != null ? triggeredBy : UNKNOWN_USER);
+    }
+
+    // actions[].causes[].userName 중 첫 번째. 찾은 뒤 남은 actions 는 건너뜀
+    private static String readUserName(JsonParser parser) throws IOException {
+        String userName = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT || userName != null) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("causes".equals(field) && value == JsonToken.START_ARRAY && userName == null) {
+                    userName = readCauses(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return userName;
+    }
+
+    private static String readCauses(JsonParser parser) throws IOException {
+        String userName = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT || userName != null) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("userName".equals(field) && value == JsonToken.VALUE_STRING && userName == null) {
+                    userName = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return userName;
+    }
+
+    /**
+     * readBuilds 결과. seen 은 멈출 때까지 읽은 빌드 수(멈춘 빌드 포함)입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BuildsPage {
+        private final List<JenkinsBuild> builds;
+        private final int seen;
+        private final boolean reachedStop;
+    }
+}
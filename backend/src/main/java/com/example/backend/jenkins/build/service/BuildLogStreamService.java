@@ -0,0 +1,316 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.service.PipelineService;
+import com.example.backend.service.HttpClientService;
+import com.example.backend.util.FutureUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Jenkins progressiveText 를 SSE 로 중계합니다.
+ * <p>
+ * (pipeline, build) 마다 하나의 poller 가 start 오프셋을 이어가며 새로 추가된 부분만 가져오고,
+ * 같은 빌드를 보고 있는 모든 viewer 에게 전달합니다.
+ * X-More-Data 가 false 가 되면(빌드 종료) end 이벤트를 보내고 스트림을 닫으며,
+ * viewer 가 모두 떠나면 polling 도 중단합니다.
+ */
+@Slf4j
+@Service
+public class BuildLogStreamService {
+
+    static final String EVENT_LOG = "log";
+    static final String EVENT_END = "end";
+    static final String EVENT_ERROR = "error";
+
+    private static final String HEADER_TEXT_SIZE = "X-Text-Size";
+    private static final String HEADER_MORE_DATA = "X-More-Data";
+
+    private final HttpClientService httpClientService;
+    private final PipelineService pipelineService;
+    private final TaskScheduler taskScheduler;
+    private final Executor jenkinsTaskExecutor;
+    private final Duration pollInterval;
+    private final Duration emitterTimeout;
+    private final int replayChars;
+    private final int maxFailures;
+
+    private final Map<String, LogStream> streams = new ConcurrentHashMap<>();
+
+    public BuildLogStreamService(
+            HttpClientService httpClientService,
+            PipelineService pipelineService,
+            TaskScheduler taskScheduler,
+            @Qualifier("jenkinsTaskExecutor") Executor jenkinsTaskExecutor,
+            @Value("${jenkins.log-stream.poll-interval:1s}") Duration pollInterval,
+            @Value("${jenkins.log-stream.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${jenkins.log-stream.replay-chars:65536}") int replayChars,
+            @Value("${jenkins.log-stream.max-failures:3}") int maxFailures
+    ) {
+        this.httpClientService = httpClientService;
+        this.pipelineService = pipelineService;
+        this.taskScheduler = taskScheduler;
+        this.jenkinsTaskExecutor = jenkinsTaskExecutor;
+        this.pollInterval = pollInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.replayChars = replayChars;
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * 파이프라인의 마지막 빌드 로그 스트림을 구독합니다.
+     * 이미 같은 빌드를 보는 viewer 가 있으면 기존 poller 에 합류하고, 최근 로그 조각을 먼저 받습니다.
+     */
+    public SseEmitter subscribe(UUID pipelineId) {
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(pipelineId);
+        JenkinsInfo info = pipeline.getJenkinsInfo();
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+
+        String lastBuildUri = info.getUri() + "/job/" + pipeline.getName() + "/lastBuild/buildNumber";
+        httpClientService.exchangeAsync(lastBuildUri, HttpMethod.GET,
+                        new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON)), String.class)
+                .thenAccept(body -> attach(pipeline, Integer.parseInt(body.trim()), emitter))
+                .exceptionally(ex -> {
+                    log.warn("실시간 로그 구독 실패 - jobName: {}, 원인: {}", pipeline.getName(), FutureUtil.unwrap(ex).getMessage());
+                    sendError(emitter, FutureUtil.unwrap(ex));
+                    emitter.complete();
+                    return null;
+                });
+        return emitter;
+    }
+
+    int activeStreamCount() {
+        return streams.size();
+    }
+
+    private void attach(PipelineMeta pipeline, int buildNumber, SseEmitter emitter) {
+        String key = pipeline.getId() + ":" + buildNumber;
+        // key 단위로 원자적으로 합류하며, 닫힌 스트림에는 붙지 않고 그 자리를 새 스트림으로 교체
+        streams.compute(key, (k, running) -> {
+            if (running != null && running.addViewer(emitter)) {
+                return running;
+            }
+            LogStream stream = new LogStream(k, pipeline, buildNumber);
+            stream.addViewer(emitter);
+            return stream;
+        });
+    }
+
+    private void sendError(SseEmitter emitter, Throwable ex) {
+        ErrorCode errorCode = ex instanceof CustomException ce ? ce.getErrorCode() : ErrorCode.JENKINS_STREAM_LOG_FAILED;
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_ERROR)
+                    .data(Map.of("code", errorCode.getCode(), "message", errorCode.getMessage()), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ignored) {
+            // 이미 끊긴 viewer
+        }
+    }
+
+    /**
+     * 하나의 (pipeline, build) 로그 스트림. polling 은 항상 한 번에 하나씩 순차로 실행되므로 offset 은 poller 만 변경합니다.
+     */
+    private class LogStream {
+
+        private final String key;
+        private final PipelineMeta pipeline;
+        private final int buildNumber;
+        private final List<SseEmitter> viewers = new CopyOnWriteArrayList<>();
+        // 늦게 합류한 viewer 에게 보낼 최근 로그 조각 (replayChars 이내)
+        private final Deque<BuildResponseDto.BuildStreamLogDto> recent = new ArrayDeque<>();
+        private int recentChars;
+
+        private long offset;
+        private int failures;
+        private boolean started;
+        private boolean closed;
+
+        LogStream(String key, PipelineMeta pipeline, int buildNumber) {
+            this.key = key;
+            this.pipeline = pipeline;
+            this.buildNumber = buildNumber;
+        }
+
+        synchronized boolean addViewer(SseEmitter emitter) {
+            if (closed) {
+                return false;
+            }
+            viewers.add(emitter);
+            emitter.onCompletion(() -> removeViewer(emitter));
+            emitter.onTimeout(() -> removeViewer(emitter));
+            emitter.onError(ex -> removeViewer(emitter));
+
+            for (BuildResponseDto.BuildStreamLogDto chunk : recent) {
+                if (!send(emitter, EVENT_LOG, chunk.getNextStart(), chunk)) {
+                    return true;
+                }
+            }
+            if (!started) {
+                started = true;
+                schedule(Duration.ZERO);
+            }
+            return true;
+        }
+
+        private void removeViewer(SseEmitter emitter) {
+            if (dropViewer(emitter)) {
+                streams.remove(key, this);
+            }
+        }
+
+        // viewer 를 빼고 마지막 viewer 였다면 스트림을 닫음 (이번에 닫았으면 true).
+        // streams.compute 는 map 잠금 안에서 addViewer(LogStream 잠금)를 호출하므로, LogStream 잠금 안에서는 map 을 변경하지 않음
+        private synchronized boolean dropViewer(SseEmitter emitter) {
+            viewers.remove(emitter);
+            if (viewers.isEmpty() && !closed) {
+                closed = true;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized boolean isClosed() {
+            return closed;
+        }
+
+        private void schedule(Duration delay) {
+            taskScheduler.schedule(this::poll, Instant.now().plus(delay));
+        }
+
+        private void poll() {
+            if (isClosed()) {
+                // 전송 실패로 닫힌 스트림은 map 에 남아 있을 수 있으므로 여기서 정리
+                streams.remove(key, this);
+                return;
+            }
+            JenkinsInfo info = pipeline.getJenkinsInfo();
+            URI uri = UriComponentsBuilder
+                    .fromUriString(info.getUri() + "/job/" + pipeline.getName() + "/" + buildNumber + "/logText/progressiveText")
+                    .queryParam("start", offset)
+                    .build().toUri();
+
+            httpClientService.exchangeForEntityAsync(uri, HttpMethod.GET,
+                            new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_FORM_URLENCODED)), String.class)
+                    // emitter.send 는 느린 viewer 에서 blocking 될 수 있으므로 I/O 스레드가 아닌 executor 에서 전달
+                    .thenAcceptAsync(this::onResponse, jenkinsTaskExecutor)
+                    .exceptionally(ex -> {
+                        onFailure(FutureUtil.unwrap(ex));
+                        return null;
+                    });
+        }
+
+        private void onResponse(ResponseEntity<String> response) {
+            failures = 0;
+            String text = response.getBody() == null ? "" : response.getBody();
+            String textSize = response.getHeaders().getFirst(HEADER_TEXT_SIZE);
+            long next = textSize != null
+                    ? Long.parseLong(textSize.trim())
+                    : offset + text.getBytes(StandardCharsets.UTF_8).length;
+            boolean more = Boolean.parseBoolean(response.getHeaders().getFirst(HEADER_MORE_DATA));
+
+            if (!text.isEmpty()) {
+                broadcast(BuildResponseDto.BuildStreamLogDto.builder()
+                        .buildNumber(buildNumber)
+                        .start(offset)
+                        .nextStart(next)
+                        .text(text)
+                        .more(more)
+                        .build());
+            }
+            offset = next;
+
+            if (more) {
+                schedule(pollInterval);
+            } else {
+                finish();
+            }
+        }
+
+        private void onFailure(Throwable ex) {
+            if (++failures < maxFailures) {
+                log.warn("실시간 로그 조회 실패, 재시도 - jobName: {}, buildNumber: {}, 원인: {}",
+                        pipeline.getName(), buildNumber, ex.getMessage());
+                schedule(pollInterval);
+                return;
+            }
+            log.error("실시간 로그 스트림 종료 - jobName: {}, buildNumber: {}", pipeline.getName(), buildNumber, ex);
+            List<SseEmitter> targets = closeAndDrain();
+            targets.forEach(emitter -> {
+                sendError(emitter, ex);
+                emitter.complete();
+            });
+        }
+
+        private synchronized void broadcast(BuildResponseDto.BuildStreamLogDto chunk) {
+            recent.addLast(chunk);
+            recentChars += chunk.getText().length();
+            while (recent.size() > 1 && recentChars > replayChars) {
+                recentChars -= recent.removeFirst().getText().length();
+            }
+            viewers.forEach(emitter -> send(emitter, EVENT_LOG, chunk.getNextStart(), chunk));
+        }
+
+        private void finish() {
+            List<SseEmitter> targets = closeAndDrain();
+            Map<String, Object> end = Map.of("buildNumber", buildNumber, "nextStart", offset);
+            targets.forEach(emitter -> {
+                send(emitter, EVENT_END, offset, end);
+                emitter.complete();
+            });
+            log.info("실시간 로그 스트림 완료 - jobName: {}, buildNumber: {}, viewers: {}",
+                    pipeline.getName(), buildNumber, targets.size());
+        }
+
+        private List<SseEmitter> closeAndDrain() {
+            List<SseEmitter> targets;
+            synchronized (this) {
+                closed = true;
+                targets = List.copyOf(viewers);
+                viewers.clear();
+            }
+            streams.remove(key, this);
+            return targets;
+        }
+
+        private boolean send(SseEmitter emitter, String name, long id, Object data) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(name)
+                        .id(String.valueOf(id))
+                        .data(data, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException ex) {
+                // 연결이 끊긴 viewer 는 제외 (LogStream 잠금 안에서 호출될 수 있으므로 map 정리는 다음 poll 에서)
+                dropViewer(emitter);
+                return false;
+            }
+        }
+    }
+}
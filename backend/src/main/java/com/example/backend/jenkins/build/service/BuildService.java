@@ -3,161 +3,100 @@ package com.example.backend.jenkins.build.service;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.jenkins.build.model.JobType;
+import com.example.backend.jenkins.build.model.LogWindow;
 import com.example.backend.jenkins.build.model.dto.BuildRequestDto;
 import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
-import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
 import com.example.backend.jenkins.job.service.PipelineService;
 import com.example.backend.parser.XmlConfigParser;
 import com.example.backend.service.HttpClientService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.backend.util.FutureUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BuildService {
 
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int DEFAULT_LOG_LINES = 1000;
+    private static final int DEFAULT_LOG_BYTES = 64 * 1024;
+
     private final HttpClientService httpClientService;
+    private final BuildHistoryStore buildHistoryStore;
+    private final BuildStageStore buildStageStore;
+    private final ConsoleLogReader consoleLogReader;
     private final PipelineService pipelineService;
     private final XmlConfigParser xmlConfigParser;
+    @Qualifier("jenkinsTaskExecutor")
+    private final Executor jenkinsTaskExecutor;
 
-    public static String injectParameterBlockForPipelineJob(String xml, List<String> stages) {
-        // 1. 기존 파라미터 목록 파싱
-        Set<String> existingParams = new HashSet<>();
-        Matcher matcher = Pattern.compile("<name>(DO_\\w+)</name>").matcher(xml);
-        while (matcher.find()) {
-            existingParams.add(matcher.group(1));
-        }
-
-        // 2. 새 파라미터 XML 생성
-        StringBuilder newParamDefs = new StringBuilder();
-        for (String stage : stages) {
-            String paramName = "DO_" + stage.toUpperCase();
-            if (!existingParams.contains(paramName)) {
-                newParamDefs.append("        <hudson.model.BooleanParameterDefinition>\n")
-                        .append("          <name>").append(paramName).append("</name>\n")
-                        .append("          <defaultValue>true</defaultValue>\n")
-                        .append("          <description>").append(stage.toLowerCase()).append(" step toggle</description>\n")
-                        .append("        </hudson.model.BooleanParameterDefinition>\n");
-            }
-        }
-
-        // 3. config.xml에 파라미터 블록 병합
-        if (newParamDefs.length() > 0) {
-            if (xml.contains("<parameterDefinitions>")) {
-                xml = xml.replaceFirst("</parameterDefinitions>", newParamDefs + "    </parameterDefinitions>");
-            } else if (xml.contains("<properties>") && xml.contains("</properties>")) {
-                String paramBlock =
-                        "<hudson.model.ParametersDefinitionProperty>\n" +
-                                "    <parameterDefinitions>\n" +
-                                newParamDefs +
-                                "    </parameterDefinitions>\n" +
-                                "</hudson.model.ParametersDefinitionProperty>\n";
-                xml = xml.replaceFirst("</properties>", paramBlock + "</properties>");
-            } else {
-                // properties 태그 자체가 없는 경우
-                String block =
-                        "<properties>\n" +
-                                "  <hudson.model.ParametersDefinitionProperty>\n" +
-                                "    <parameterDefinitions>\n" +
-                                newParamDefs +
-                                "    </parameterDefinitions>\n" +
-                                "  </hudson.model.ParametersDefinitionProperty>\n" +
-                                "</properties>\n";
-                xml = xml.replaceFirst("<definition", block + "<definition");
-            }
-        }
-
-        // 4. <script> 블록 추출 및 수정
-        Matcher scriptMatcher = Pattern.compile("<script>(<!\\[CDATA\\[)?(.*?)(\\]\\]>)?</script>", Pattern.DOTALL).matcher(xml);
-        if (scriptMatcher.find()) {
-            String scriptContent = scriptMatcher.group(2);
-            String modifiedScript = injectStageConditions(scriptContent, stages);
-            String newScriptTag = "<script>" + modifiedScript + "</script>";
-            xml = xml.replace(scriptMatcher.group(0), newScriptTag);
-        }
-
-        return xml;
-    }
-
-    private static String injectStageConditions(String script, List<String> stages) {
-        for (String stage : stages) {
-            String stageName = stage.substring(0, 1).toUpperCase() + stage.substring(1).toLowerCase();
-            // 정규표현식으로 stage 찾기
-            String pattern = "stage\\([\"']" + stageName + "[\"']\\)\\s*\\{";
-            String replacement = "stage('" + stageName + "') {\n    when {\n        expression { params.DO_" + stage.toUpperCase() + " }\n    }";
-            script = script.replaceFirst(pattern, replacement);
-        }
-        return script;
-    }
-
-    public ResponseEntity<?> getBuildInfo(BuildRequestDto.getBuildHistory dto) {
-
-        Pipeline pipeline = pipelineService.getPipelineById(dto.getPipeLine());
-        JenkinsInfo info = pipeline.getJenkinsInfo();
+    /*
+     * 빌드 정보 조회. Jenkins 에서는 새 빌드/진행 중 빌드만 받아 BuildHistoryStore 에 반영하고,
+     * 응답은 저장된 이력에서 만듭니다.
+     * */
+    public CompletableFuture<ResponseEntity<?>> getBuildInfoAsync(BuildRequestDto.getBuildHistory dto) {
 
-        String jobName = pipeline.getName();
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(dto.getPipeLine());
         JobType jobType = dto.getJobType();
-        UUID pipelineId = dto.getPipeLine();
-
+        int page = dto.getPage() != null ? Math.max(dto.getPage(), 0) : 0;
+        int size = dto.getSize() != null ? Math.min(Math.max(dto.getSize(), 1), MAX_HISTORY_PAGE_SIZE) : DEFAULT_HISTORY_PAGE_SIZE;
 
         log.info("빌드 정보 요청 - jobName: {}, jobType: {}", pipeline.getName(), jobType);
-        try {
-            return switch (jobType) {
-                case LATEST -> ResponseEntity.ok(getLastBuildStatus(pipelineId));
-                case HISTORY -> ResponseEntity.ok(getBuildHistory(pipelineId));
-            };
-        } catch (CustomException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("빌드 정보 조회 실패 - jobName: {}", pipeline.getName(), e);
+        CompletableFuture<Void> refreshed = buildHistoryStore.refresh(pipeline);
+        CompletableFuture<ResponseEntity<?>> result = switch (jobType) {
+            case LATEST -> refreshed.thenApplyAsync(
+                    ignored -> ResponseEntity.ok(buildHistoryStore.getLatest(pipeline)), jenkinsTaskExecutor);
+            // 첫 페이지와 before 요청은 커서로, 그 외 page 요청은 기존처럼 offset 으로 조회
+            case HISTORY -> refreshed.thenCompose(ignored -> dto.getBefore() != null || page == 0
+                            ? buildHistoryStore.getHistoryBefore(pipeline, dto.getBefore(), size)
+                            : buildHistoryStore.getHistory(pipeline, page, size))
+                    .thenApply(ResponseEntity::ok);
+        };
+        return result.exceptionally(ex -> {
+            Throwable cause = FutureUtil.unwrap(ex);
+            if (cause instanceof CustomException ce) {
+                throw ce;
+            }
+            log.error("빌드 정보 조회 실패 - jobName: {}", pipeline.getName(), cause);
             throw new CustomException(ErrorCode.JENKINS_SERVER_ERROR);
-        }
+        });
     }
 
-    /*
-     * 특정 job 의 마지막 build 번호 조회
-     * */
-
     /*
      * 특정 스테이지 실행 freestyle
      * */
-    public void StageJenkinsBuild(BuildRequestDto.BuildStageRequestDto dto) {
-        Pipeline pipeline = pipelineService.getPipelineById(dto.getPipeLine());
+    public CompletableFuture<Void> stageJenkinsBuildAsync(BuildRequestDto.BuildStageRequestDto dto) {
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(dto.getPipeLine());
         JenkinsInfo info = pipeline.getJenkinsInfo();
 
         String triggerUrl = info.getUri() + "/job/" + pipeline.getName() + "/buildWithParameters";
         log.info("Jenkins Trigger URL = {}", triggerUrl);
 
-
         HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_FORM_URLENCODED);
 
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         dto.getStageToggles().forEach((key, value) ->
                 body.add("DO_" + key.toUpperCase(), String.valueOf(value)));
-        httpClientService.exchange(triggerUrl, HttpMethod.POST, new HttpEntity<>(body, headers), String.class);
-
-
+        return httpClientService.exchangeAsync(triggerUrl, HttpMethod.POST, new HttpEntity<>(body, headers), String.class)
+                .thenAccept(ignored -> {
+                });
     }
 
     public void stagePipeline1(BuildRequestDto.StageSettingRequestDto dto) {
-        Pipeline pipeline = pipelineService.getPipelineById(dto.getPipeLine());
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(dto.getPipeLine());
         JenkinsInfo info = pipeline.getJenkinsInfo();
         HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_XML);
 
@@ -168,7 +107,7 @@ public class BuildService {
                 String.class
         );
         List<String> stageNames = xmlConfigParser.getPipelineStageNamesFromXml(xml);
-        String updatexml = injectParameterBlockForPipelineJob(xml, stageNames);
+        String updatexml = xmlConfigParser.injectStageParameters(xml, stageNames);
 
 
         String rs = httpClientService.exchange(
@@ -184,136 +123,75 @@ public class BuildService {
     }
 
 
-    /*
-     * 특정 job 빌드 내역 조회
-     * */
-    public List<BuildResponseDto.BuildInfo> getBuildHistory( UUID pipelineId) {
-        String response = JenkinsGetResponse(pipelineId);
-        try {
-            Map<String, Object> body = new ObjectMapper().readValue(response, Map.class);
-            return BuildResponseDto.BuildInfo.listFrom(body);
-        } catch (JsonProcessingException e) {
-            log.error("빌드 이력 JSON 파싱 실패 - jobName: {}", e);
-            throw new CustomException(ErrorCode.JENKINS_BUILD_HISTORY_PARSE_ERROR);
-        }
-    }
-
-    public BuildResponseDto.BuildInfo getLastBuildStatus(UUID pipelineId) {
-        String response = JenkinsGetResponse(pipelineId);
-        try {
-            Map<String, Object> body = new ObjectMapper().readValue(response, Map.class);
-            return BuildResponseDto.BuildInfo.latestFrom(body);
-        } catch (JsonProcessingException e) {
-            log.error("최신 빌드 JSON 파싱 실패 - jobName: {}", e);
-            throw new CustomException(ErrorCode.JENKINS_LATEST_BUILD_PARSE_ERROR);
-        }
-    }
-
     /*
      * job 의 특정 빌드 번호의 빌드 로그 조회
      *
      * */
-    public BuildResponseDto.BuildLogDto getBuildLog(BuildRequestDto.GetLogRequestDto dto) {
-
-        Pipeline pipeline = pipelineService.getPipelineById(dto.getPipeLine());
-        JenkinsInfo info = pipeline.getJenkinsInfo();
-        String url = info.getUri() + "/job/" + pipeline.getName() + "/" + dto.getBuildNumber() + "/console";
-
-        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_FORM_URLENCODED);
-
-        try {
-            String response = httpClientService.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
-            Document doc = Jsoup.parse(response);
-            Element pre = doc.selectFirst("pre.console-output");
-            return BuildResponseDto.BuildLogDto.getLog(pre);
-        } catch (Exception e) {
-            log.error("콘솔 로그 조회 실패 - jobName: {}", pipeline.getName(), e);
-            throw new CustomException(ErrorCode.JENKINS_CONSOLE_LOG_PARSE_ERROR);
-        }
-    }
     /*
-     * cron 시간 읽어옴
+     * /consoleText 를 스트림으로 읽어 요청한 범위만 반환 (blocking I/O 는 jenkinsTaskExecutor 에서 수행)
      * */
+    public CompletableFuture<BuildResponseDto.BuildLogDto> getBuildLogAsync(BuildRequestDto.GetLogRequestDto dto) {
 
-    /*
-     * 특정 job의 실시간 빌드 조회
-     *
-     * */
-    public BuildResponseDto.BuildStreamLogDto getStreamLog(UUID pipeLine) {
-
-
-        Pipeline pipeline = pipelineService.getPipelineById(pipeLine);
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(dto.getPipeLine());
         JenkinsInfo info = pipeline.getJenkinsInfo();
-        // 2. 마지막 빌드 번호 조회
-        String lastBuildUri = info.getUri() + "/job/" + pipeline.getName() + "/lastBuild/buildNumber";
-        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON);
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        String lastBuildResponse = httpClientService.exchange(
-                lastBuildUri, HttpMethod.GET, entity, String.class
-        );
+        LogWindow window = dto.getWindow() != null ? dto.getWindow() : LogWindow.PAGE;
+        int page = dto.getPage() != null ? dto.getPage() : 0;
+        int size = dto.getSize() != null ? dto.getSize() : DEFAULT_LOG_LINES;
+        long start = dto.getStart() != null ? dto.getStart() : 0L;
+        int length = dto.getLength() != null ? dto.getLength() : DEFAULT_LOG_BYTES;
+
+        return CompletableFuture.supplyAsync(() -> consoleLogReader.read(
+                        info, pipeline.getName(), dto.getBuildNumber(), window, page, size, start, length), jenkinsTaskExecutor)
+                .exceptionally(ex -> {
+                    Throwable cause = FutureUtil.unwrap(ex);
+                    if (cause instanceof CustomException ce) {
+                        throw ce;
+                    }
+                    log.error("콘솔 로그 조회 실패 - jobName: {}", pipeline.getName(), cause);
+                    throw new CustomException(ErrorCode.JENKINS_CONSOLE_LOG_PARSE_ERROR);
+                });
+    }
 
-        int lastBuildNumber = Integer.parseInt(lastBuildResponse.trim());
+    public CompletableFuture<BuildResponseDto.Stage> getJobPipelineStageAsync(UUID pipeLine) {
 
-        // 3. progressive 로그 URI 구성
-        URI logUri = UriComponentsBuilder
-                .fromHttpUrl(info.getUri() + "/job/" + pipeline.getName() + "/" + lastBuildNumber + "/logText/progressiveText")
-                .build().toUri();
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(pipeLine);
+        if (!pipeline.getStageNames().isEmpty()) {
+            return CompletableFuture.completedFuture(new BuildResponseDto.Stage(pipeline.getStageNames()));
+        }
+        JenkinsInfo info = pipeline.getJenkinsInfo();
 
-        // 4. 로그 내용 요청 및 반환
-        HttpHeaders logHeaders = httpClientService.buildHeaders(info, MediaType.APPLICATION_FORM_URLENCODED);
-        String logResponse = httpClientService.exchange(logUri.toString(), HttpMethod.GET, new HttpEntity<>(logHeaders), String.class);
+        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_XML);
 
-        return BuildResponseDto.BuildStreamLogDto.getStreamLog(logResponse);
+        return httpClientService.exchangeAsync(
+                        info.getUri() + "/job/" + pipeline.getName() + "/config.xml",
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        String.class)
+                .thenApplyAsync(xml -> new BuildResponseDto.Stage(xmlConfigParser.getPipelineStageNamesFromXml(xml)),
+                        jenkinsTaskExecutor);
     }
 
-
-
-
     /*
-     *
+     * 빌드의 스테이지별 실행 정보 조회. buildNumber 가 없으면 마지막 빌드
      * */
-    public String JenkinsGetResponse(UUID pipelineId) {
-        Pipeline pipeline = pipelineService.getPipelineById(pipelineId);
-        JenkinsInfo info = pipeline.getJenkinsInfo();
-
-        String url = info.getUri() + "/job/" + pipeline.getName() + "/api/json"
-                + "?tree=builds[number,result,timestamp,duration,building,id,url,actions[causes[userId,userName]]]";
-
-        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_FORM_URLENCODED);
-
-        return httpClientService.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    public CompletableFuture<BuildResponseDto.StageTimeline> getStageTimelineAsync(UUID pipeLine, Integer buildNumber) {
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(pipeLine);
+        if (buildNumber != null) {
+            return buildStageStore.getTimeline(pipeline, buildNumber);
+        }
+        return buildHistoryStore.refresh(pipeline)
+                .thenApplyAsync(ignored -> buildHistoryStore.getLatest(pipeline).getBuildNumber(), jenkinsTaskExecutor)
+                .thenCompose(latest -> buildStageStore.getTimeline(pipeline, latest));
     }
 
-
-
-
-
-
     /*
-     *
-     *
-     *
-     *  */
-
-    public BuildResponseDto.Stage getJobPipelineStage(UUID pipeLine) {
-
-        Pipeline pipeline = pipelineService.getPipelineById(pipeLine);
-        JenkinsInfo info = pipeline.getJenkinsInfo();
-
-
-        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.APPLICATION_XML);
-
-        String xml = httpClientService.exchange(
-                info.getUri() + "/job/" + pipeline.getName() + "/config.xml",
-                HttpMethod.GET,
-                new HttpEntity<>(headers),
-                String.class
-        );
-        List<String> stageNames = xmlConfigParser.getPipelineStageNamesFromXml(xml);
-        return new BuildResponseDto.Stage(stageNames);
-
-
+     * 최근 종료된 빌드 기준 스테이지별 소요 시간 통계 (평균이 긴 순)
+     * */
+    public CompletableFuture<List<BuildResponseDto.StageDurationStat>> getSlowestStagesAsync(UUID pipeLine, Integer builds) {
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(pipeLine);
+        int size = builds != null ? Math.min(Math.max(builds, 1), MAX_HISTORY_PAGE_SIZE) : DEFAULT_HISTORY_PAGE_SIZE;
+        return buildStageStore.getSlowestStages(pipeline, size);
     }
 
 
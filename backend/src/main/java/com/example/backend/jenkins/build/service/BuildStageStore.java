@@ -0,0 +1,248 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.model.BuildStageRecord;
+import com.example.backend.jenkins.build.model.WorkflowRun;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto.StageDurationStat;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto.StageTimeline;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto.StageTiming;
+import com.example.backend.jenkins.build.repository.BuildStageRecordRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.service.HttpClientService;
+import com.example.backend.service.JenkinsBuildQueryPlanner;
+import com.example.backend.util.FutureUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 빌드의 스테이지별 실행 정보(workflow API /wfapi/describe)를 조회하고, 종료된 빌드는 한 번만 Jenkins 에서 받아 보관합니다.
+ * <p>
+ * 종료된 빌드의 스테이지 정보는 바뀌지 않으므로 build_stage_record 에 저장한 뒤 다시 Jenkins 를 호출하지 않으며,
+ * 최근 조회한 빌드는 max-entries 크기의 LRU 메모리 캐시에서 DB 조회 없이 반환합니다.
+ * 진행 중인 빌드는 매번 Jenkins 에서 조회하고 저장하지 않습니다.
+ * 같은 빌드의 동시 요청은 하나의 조회 결과를 공유합니다.
+ */
+@Slf4j
+@Service
+public class BuildStageStore {
+
+    private static final String STATUS_SUCCESS = "SUCCESS";
+    private static final String STATUS_NOT_EXECUTED = "NOT_EXECUTED";
+
+    private final HttpClientService httpClientService;
+    private final JenkinsBuildQueryPlanner jenkinsBuildQueryPlanner;
+    private final BuildStageRecordRepository buildStageRecordRepository;
+    private final BuildHistoryStore buildHistoryStore;
+    private final BuildJsonDecoder buildJsonDecoder;
+    private final Executor jenkinsTaskExecutor;
+
+    // 종료된 빌드의 스테이지 정보 ("pipelineId:buildNumber" → timeline)
+    private final Map<String, StageTimeline> completed;
+    private final Map<String, CompletableFuture<StageTimeline>> inFlight = new ConcurrentHashMap<>();
+
+    public BuildStageStore(
+            HttpClientService httpClientService,
+            JenkinsBuildQueryPlanner jenkinsBuildQueryPlanner,
+            BuildStageRecordRepository buildStageRecordRepository,
+            BuildHistoryStore buildHistoryStore,
+            BuildJsonDecoder buildJsonDecoder,
+            @Qualifier("jenkinsTaskExecutor") Executor jenkinsTaskExecutor,
+            @Value("${jenkins.stage-timing.cache.max-entries:2000}") int maxEntries
+    ) {
+        this.httpClientService = httpClientService;
+        this.jenkinsBuildQueryPlanner = jenkinsBuildQueryPlanner;
+        this.buildStageRecordRepository = buildStageRecordRepository;
+        this.buildHistoryStore = buildHistoryStore;
+        this.buildJsonDecoder = buildJsonDecoder;
+        this.jenkinsTaskExecutor = jenkinsTaskExecutor;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StageTimeline> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 빌드의 스테이지별 상태/시작/소요 시간을 실행 순서로 반환합니다.
+     */
+    public CompletableFuture<StageTimeline> getTimeline(PipelineMeta pipeline, int buildNumber) {
+        String key = pipeline.getId() + ":" + buildNumber;
+        StageTimeline cached = completed.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<StageTimeline> mine = new CompletableFuture<>();
+        CompletableFuture<StageTimeline> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture.supplyAsync(() -> findStored(pipeline.getId(), buildNumber), jenkinsTaskExecutor)
+                .thenCompose(stored -> stored != null
+                        ? CompletableFuture.completedFuture(stored)
+                        : fetch(pipeline, buildNumber))
+                .whenComplete((timeline, ex) -> {
+                    if (ex == null && timeline.isCompleted()) {
+                        completed.put(key, timeline);
+                    }
+                    inFlight.remove(key, mine);
+                    if (ex != null) {
+                        mine.completeExceptionally(FutureUtil.unwrap(ex));
+                    } else {
+                        mine.complete(timeline);
+                    }
+                });
+        return mine;
+    }
+
+    /**
+     * 최근 종료된 빌드 builds 건의 스테이지 소요 시간을 스테이지 이름별로 집계해 평균이 긴 순서로 반환합니다.
+     * 이미 저장된 빌드는 Jenkins 를 호출하지 않으며, 스테이지 정보를 받을 수 없는 빌드는 집계에서 제외합니다.
+     */
+    public CompletableFuture<List<StageDurationStat>> getSlowestStages(PipelineMeta pipeline, int builds) {
+        return buildHistoryStore.refresh(pipeline)
+                .thenCompose(ignored -> buildHistoryStore.getSliceBefore(pipeline, null, builds))
+                .thenCompose(slice -> {
+                    List<CompletableFuture<StageTimeline>> timelines = slice.getRecords().stream()
+                            .filter(record -> Boolean.FALSE.equals(record.getBuilding()))
+                            .map(BuildRecord::getBuildNumber)
+                            .map(buildNumber -> getTimeline(pipeline, buildNumber)
+                                    .exceptionally(ex -> {
+                                        log.warn("스테이지 정보 조회 실패, 집계에서 제외 - jobName: {}, buildNumber: {}, 원인: {}",
+                                                pipeline.getName(), buildNumber, FutureUtil.unwrap(ex).getMessage());
+                                        return null;
+                                    }))
+                            .toList();
+                    return CompletableFuture.allOf(timelines.toArray(CompletableFuture[]::new))
+                            .thenApply(done -> aggregate(timelines.stream()
+                                    .map(CompletableFuture::join)
+                                    .filter(Objects::nonNull)
+                                    .toList()));
+                });
+    }
+
+    private StageTimeline findStored(UUID pipelineId, int buildNumber) {
+        List<BuildStageRecord> records = buildStageRecordRepository.findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(pipelineId, buildNumber);
+        if (records.isEmpty()) {
+            return null;
+        }
+        return StageTimeline.builder()
+                .buildNumber(buildNumber)
+                .completed(true)
+                .stages(records.stream()
+                        .map(record -> StageTiming.builder()
+                                .name(record.getStageName())
+                                .status(record.getStatus())
+                                .startTimeMillis(valueOf(record.getStartTimeMillis()))
+                                .durationMillis(valueOf(record.getDurationMillis()))
+                                .pauseDurationMillis(valueOf(record.getPauseDurationMillis()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private CompletableFuture<StageTimeline> fetch(PipelineMeta pipeline, int buildNumber) {
+        JenkinsInfo info = pipeline.getJenkinsInfo();
+        HttpEntity<Void> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
+        return httpClientService.readAsync(jenkinsBuildQueryPlanner.workflowRunUri(info, pipeline.getName(), buildNumber), entity,
+                        (body, headers) -> buildJsonDecoder.readWorkflowRun(body))
+                .thenApplyAsync(run -> {
+                    if (run == null) {
+                        throw new CustomException(ErrorCode.JENKINS_BUILD_INFO_MISSING);
+                    }
+                    if (run.isCompleted()) {
+                        store(pipeline.getId(), buildNumber, run);
+                    }
+                    return toTimeline(buildNumber, run);
+                }, jenkinsTaskExecutor);
+    }
+
+    private void store(UUID pipelineId, int buildNumber, WorkflowRun run) {
+        List<BuildStageRecord> records = new ArrayList<>();
+        for (int i = 0; i < run.getStages().size(); i++) {
+            WorkflowRun.Stage stage = run.getStages().get(i);
+            records.add(BuildStageRecord.builder()
+                    .pipeline(Pipeline.builder().id(pipelineId).build())
+                    .buildNumber(buildNumber)
+                    .orderIndex(i)
+                    .stageName(stage.getName())
+                    .status(stage.getStatus())
+                    .startTimeMillis(stage.getStartTimeMillis())
+                    .durationMillis(stage.getDurationMillis())
+                    .pauseDurationMillis(stage.getPauseDurationMillis())
+                    .build());
+        }
+        try {
+            buildStageRecordRepository.saveAll(records);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우 (종료된 빌드라 내용은 같음)
+            log.debug("스테이지 정보 중복 저장 무시 - pipelineId: {}, buildNumber: {}", pipelineId, buildNumber);
+        }
+    }
+
+    private static StageTimeline toTimeline(int buildNumber, WorkflowRun run) {
+        return StageTimeline.builder()
+                .buildNumber(buildNumber)
+                .completed(run.isCompleted())
+                .stages(run.getStages().stream()
+                        .map(stage -> StageTiming.builder()
+                                .name(stage.getName())
+                                .status(stage.getStatus())
+                                .startTimeMillis(stage.getStartTimeMillis())
+                                .durationMillis(stage.getDurationMillis())
+                                .pauseDurationMillis(stage.getPauseDurationMillis())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static List<StageDurationStat> aggregate(List<StageTimeline> timelines) {
+        Map<String, List<StageTiming>> byName = new LinkedHashMap<>();
+        timelines.forEach(timeline -> timeline.getStages().stream()
+                // 실행되지 않은 스테이지는 소요 시간이 0 이므로 제외
+                .filter(stage -> !STATUS_NOT_EXECUTED.equals(stage.getStatus()))
+                .forEach(stage -> byName.computeIfAbsent(stage.getName(), name -> new ArrayList<>()).add(stage)));
+
+        return byName.entrySet().stream()
+                .map(entry -> {
+                    List<StageTiming> runs = entry.getValue();
+                    long total = runs.stream().mapToLong(StageTiming::getDurationMillis).sum();
+                    return StageDurationStat.builder()
+                            .name(entry.getKey())
+                            .builds(runs.size())
+                            .avgDurationMillis(total / runs.size())
+                            .maxDurationMillis(runs.stream().mapToLong(StageTiming::getDurationMillis).max().orElse(0L))
+                            .failures((int) runs.stream().filter(stage -> !STATUS_SUCCESS.equals(stage.getStatus())).count())
+                            .build();
+                })
+                .sorted(Comparator.comparingLong(StageDurationStat::getAvgDurationMillis).reversed())
+                .toList();
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+}
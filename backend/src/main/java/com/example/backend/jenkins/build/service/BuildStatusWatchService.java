@@ -0,0 +1,69 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.service.PipelineService;
+import com.example.backend.service.JenkinsStatusPoller;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * pipeline 의 최근 빌드 상태를 JenkinsStatusPoller 로 공유 감시합니다.
+ * <p>
+ * poll 마다 BuildHistoryStore 를 갱신한 뒤 최근 빌드 recent-builds 건을 빌드 번호별로 비교하므로,
+ * viewer 는 /api/build/builds 를 반복 호출하지 않고 새 빌드와 상태가 바뀐 빌드만 받습니다.
+ */
+@Service
+public class BuildStatusWatchService {
+
+    private final PipelineService pipelineService;
+    private final BuildHistoryStore buildHistoryStore;
+    private final JenkinsStatusPoller jenkinsStatusPoller;
+    private final int recentBuilds;
+
+    public BuildStatusWatchService(
+            PipelineService pipelineService,
+            BuildHistoryStore buildHistoryStore,
+            JenkinsStatusPoller jenkinsStatusPoller,
+            @Value("${jenkins.status-watch.recent-builds:10}") int recentBuilds
+    ) {
+        this.pipelineService = pipelineService;
+        this.buildHistoryStore = buildHistoryStore;
+        this.jenkinsStatusPoller = jenkinsStatusPoller;
+        this.recentBuilds = recentBuilds;
+    }
+
+    public SseEmitter subscribe(UUID pipelineId) {
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(pipelineId);
+        return jenkinsStatusPoller.subscribe("pipeline:" + pipelineId, new JenkinsStatusPoller.Source<BuildResponseDto.BuildInfo>() {
+            @Override
+            public CompletableFuture<Map<String, BuildResponseDto.BuildInfo>> poll() {
+                return buildHistoryStore.refresh(pipeline)
+                        .thenCompose(ignored -> buildHistoryStore.getSliceBefore(pipeline, null, recentBuilds))
+                        .thenApply(slice -> {
+                            Map<String, BuildResponseDto.BuildInfo> builds = new LinkedHashMap<>();
+                            slice.getRecords().forEach(record ->
+                                    builds.put(String.valueOf(record.getBuildNumber()), BuildResponseDto.BuildInfo.from(record)));
+                            return builds;
+                        });
+            }
+
+            @Override
+            public boolean isActive(Map<String, BuildResponseDto.BuildInfo> builds) {
+                return builds.values().stream().anyMatch(BuildResponseDto.BuildInfo::isBuilding);
+            }
+
+            // pipeline 의 알림은 모든 빌드의 시작/종료를 전달
+            @Override
+            public boolean isKeptByPush() {
+                return true;
+            }
+        });
+    }
+}
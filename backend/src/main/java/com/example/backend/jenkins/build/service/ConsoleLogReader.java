@@ -0,0 +1,168 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.jenkins.build.model.LogWindow;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.parser.BoundedLineReader;
+import com.example.backend.service.HttpClientService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Jenkins /consoleText 를 스트림으로 읽어 요청한 범위만 반환합니다.
+ * <p>
+ * 줄 단위(HEAD / TAIL / PAGE)는 /consoleText 를, 바이트 단위(BYTES)는 progressiveText?start= 를 사용하며,
+ * 필요한 범위를 읽으면 나머지 본문은 받지 않고 연결을 끊습니다.
+ * TAIL 은 끝까지 읽어야 하지만 마지막 size 줄만 보관하므로, 어떤 모드에서도 전체 로그가 힙에 올라오지 않습니다.
+ * blocking I/O 이므로 jenkinsTaskExecutor 에서 호출해야 합니다.
+ */
+@Component
+public class ConsoleLogReader {
+
+    private final HttpClientService httpClientService;
+    private final int maxLines;
+    private final int maxBytes;
+    private final int maxLineChars;
+
+    public ConsoleLogReader(
+            HttpClientService httpClientService,
+            @Value("${jenkins.console-log.max-lines:5000}") int maxLines,
+            @Value("${jenkins.console-log.max-bytes:1048576}") int maxBytes,
+            @Value("${jenkins.console-log.max-line-chars:8192}") int maxLineChars
+    ) {
+        this.httpClientService = httpClientService;
+        this.maxLines = maxLines;
+        this.maxBytes = maxBytes;
+        this.maxLineChars = maxLineChars;
+    }
+
+    /**
+     * @param window HEAD / TAIL / PAGE / BYTES
+     * @param page   PAGE 모드의 0부터 시작하는 페이지 번호
+     * @param size   줄 단위 모드의 줄 수 (최대 max-lines)
+     * @param start  BYTES 모드의 시작 바이트 오프셋
+     * @param length BYTES 모드의 최대 바이트 수 (최대 max-bytes)
+     */
+    public BuildResponseDto.BuildLogDto read(JenkinsInfo info, String jobName, String buildNumber,
+                                             LogWindow window, int page, int size, long start, int length) {
+        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.TEXT_PLAIN);
+        int lines = Math.max(1, Math.min(size, maxLines));
+
+        if (window == LogWindow.BYTES) {
+            URI uri = UriComponentsBuilder
+                    .fromUriString(info.getUri() + "/job/" + jobName + "/" + buildNumber + "/logText/progressiveText")
+                    .queryParam("start", Math.max(0, start))
+                    .encode()
+                    .build().toUri();
+            int bytes = Math.max(1, Math.min(length, maxBytes));
+            return httpClientService.readStream(uri, headers,
+                    (body, responseHeaders) -> readBytes(body, responseHeaders, Math.max(0, start), bytes));
+        }
+
+        URI uri = UriComponentsBuilder
+                .fromUriString(info.getUri() + "/job/" + jobName + "/" + buildNumber + "/consoleText")
+                .encode()
+                .build().toUri();
+        return httpClientService.readStream(uri, headers, (body, responseHeaders) -> switch (window) {
+            case TAIL -> readTail(body, lines);
+            case HEAD -> readPage(body, 0, lines, LogWindow.HEAD);
+            default -> readPage(body, Math.max(0, page), lines, LogWindow.PAGE);
+        });
+    }
+
+    BuildResponseDto.BuildLogDto readPage(InputStream body, int page, int size, LogWindow window) throws IOException {
+        BoundedLineReader reader = BoundedLineReader.utf8(body, maxLineChars);
+        long skip = (long) page * size;
+        for (long i = 0; i < skip; i++) {
+            if (!reader.skipLine()) {
+                return linePage(window, page, size, skip, List.of(), false, i);
+            }
+        }
+
+        List<String> lines = new ArrayList<>(Math.min(size, 1024));
+        String line;
+        while (lines.size() < size && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        boolean hasNext = lines.size() == size && reader.skipLine();
+        Long totalLines = hasNext ? null : skip + lines.size();
+        return linePage(window, page, size, skip, lines, hasNext, totalLines);
+    }
+
+    BuildResponseDto.BuildLogDto readTail(InputStream body, int size) throws IOException {
+        BoundedLineReader reader = BoundedLineReader.utf8(body, maxLineChars);
+        Deque<String> lines = new ArrayDeque<>(Math.min(size, 1024));
+        String line;
+        long total = 0;
+        while ((line = reader.readLine()) != null) {
+            if (lines.size() == size) {
+                lines.removeFirst();
+            }
+            lines.addLast(line);
+            total++;
+        }
+        return linePage(LogWindow.TAIL, null, size, total - lines.size(), new ArrayList<>(lines), false, total);
+    }
+
+    BuildResponseDto.BuildLogDto readBytes(InputStream body, HttpHeaders responseHeaders, long start, int length) throws IOException {
+        byte[] buffer = body.readNBytes(length);
+        // 멀티바이트 문자가 잘리지 않도록 마지막 완성된 UTF-8 문자까지만 사용
+        int used = buffer.length == length ? completeUtf8Length(buffer) : buffer.length;
+        String text = new String(buffer, 0, used, StandardCharsets.UTF_8);
+
+        String textSize = responseHeaders.getFirst("X-Text-Size");
+        Long totalBytes = textSize != null ? Long.valueOf(textSize.trim()) : null;
+        long nextStart = start + used;
+        boolean more = Boolean.parseBoolean(responseHeaders.getFirst("X-More-Data"));
+
+        return BuildResponseDto.BuildLogDto.builder()
+                .log(text.isEmpty() ? List.of() : Arrays.asList(text.split("\\r?\\n")))
+                .window(LogWindow.BYTES)
+                .size(length)
+                .start(start)
+                .nextStart(nextStart)
+                .totalBytes(totalBytes)
+                .hasNext(more || (totalBytes != null ? nextStart < totalBytes : used == length))
+                .build();
+    }
+
+    private BuildResponseDto.BuildLogDto linePage(LogWindow window, Integer page, int size, long skipped,
+                                                  List<String> lines, boolean hasNext, Long totalLines) {
+        return BuildResponseDto.BuildLogDto.builder()
+                .log(lines)
+                .window(window)
+                .page(page)
+                .size(size)
+                .firstLine(skipped + 1)
+                .totalLines(totalLines)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static int completeUtf8Length(byte[] buffer) {
+        int i = buffer.length - 1;
+        // 끝에서부터 continuation byte(10xxxxxx)를 건너뛰어 마지막 문자의 시작 위치를 찾음
+        while (i >= 0 && i > buffer.length - 4 && (buffer[i] & 0xC0) == 0x80) {
+            i--;
+        }
+        if (i < 0) {
+            return buffer.length;
+        }
+        int lead = buffer[i] & 0xFF;
+        int expected = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        return buffer.length - i >= expected ? buffer.length : i;
+    }
+}
@@ -1,27 +1,38 @@
 package com.example.backend.jenkins.error.controller;
 
-import com.example.backend.auth.user.model.Users;
 import com.example.backend.exception.BaseResponse;
 import com.example.backend.jenkins.error.model.dto.*;
 import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.JobSummaryDto;
 import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.JobDto;
+import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.JobHistoryDto;
 import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.RetryDto;
 import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.JenkinsInfoDto;
+import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.TopClustersDto;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.BuildPage;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuild;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuildSummary;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailureClusterDto;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.JobBuilds;
 import com.example.backend.jenkins.error.service.ErrorService;
+import com.example.backend.jenkins.error.service.RecentBuildWatchService;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/jenkins-error")
@@ -29,32 +40,33 @@ import java.util.List;
 public class ErrorController {
 
     private final ErrorService errorService;
+    private final RecentBuildWatchService recentBuildWatchService;
 
     @Operation(
             summary = "특정 Job의 최근 빌드 조회",
             description = "선택한 Job의 가장 최근 빌드 정보를 반환합니다."
     )
     @PostMapping("/recent")
-    public ResponseEntity<BaseResponse<FailedBuild>> getRecentBuild(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+    public CompletableFuture<ResponseEntity<BaseResponse<FailedBuild>>> getRecentBuild(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid JobDto request
     ) {
-        FailedBuild build = errorService.getRecentBuildByJob(request.getJobId(), user.getId());
-        return ResponseEntity.ok(BaseResponse.success(build));
+        return errorService.getRecentBuildByJobAsync(request.getJobId(), userId)
+                .thenApply(build -> ResponseEntity.ok(BaseResponse.success(build)));
     }
 
 
     @Operation(
             summary = "특정 Job의 전체 빌드 조회",
-            description = "선택한 Job의 전체 빌드 기록(성공/실패 포함)을 반환합니다."
+            description = "선택한 Job의 빌드 기록(성공/실패 포함)을 최신순으로 size 건씩 반환합니다. 다음 페이지는 응답의 nextCursor 를 before 로 넘겨 조회합니다."
     )
     @PostMapping("/history")
-    public ResponseEntity<BaseResponse<List<FailedBuild>>> getBuildsByJob(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
-            @RequestBody @Valid JobDto request
+    public CompletableFuture<ResponseEntity<BaseResponse<BuildPage>>> getBuildsByJob(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @RequestBody @Valid JobHistoryDto request
     ) {
-        List<FailedBuild> builds = errorService.getBuildsForJobByUser(request.getJobId(), user.getId());
-        return ResponseEntity.ok(BaseResponse.success(builds));
+        return errorService.getBuildsForJobByUserAsync(request.getJobId(), userId, request.getSize(), request.getBefore())
+                .thenApply(builds -> ResponseEntity.ok(BaseResponse.success(builds)));
     }
 
     @Operation(
@@ -62,41 +74,54 @@ public class ErrorController {
             description = "선택한 Job에서 실패한 빌드 기록만 반환합니다."
     )
     @PostMapping("/history/failed")
-    public ResponseEntity<BaseResponse<List<FailedBuild>>> getFailedBuildsByJob(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+    public CompletableFuture<ResponseEntity<BaseResponse<List<FailedBuild>>>> getFailedBuildsByJob(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid JobDto request
     ) {
-        List<FailedBuild> builds = errorService.getFailedBuildsForJobByUser(request.getJobId(), user.getId());
-        return ResponseEntity.ok(BaseResponse.success(builds));
+        return errorService.getFailedBuildsForJobByUserAsync(request.getJobId(), userId)
+                .thenApply(builds -> ResponseEntity.ok(BaseResponse.success(builds)));
     }
 
 
     @Operation(
             summary = "전체 Job의 최근 빌드 조회",
-            description = "Jenkins 서버 내 전체 Job의 가장 최근 빌드 정보를 반환합니다."
+            description = "Jenkins 서버 내 전체 Job의 가장 최근 빌드 정보를 병렬로 조회합니다. 실패하거나 제한 시간을 넘긴 Job은 skippedJobs로 반환됩니다."
     )
     @PostMapping("/recent/all")
-    public ResponseEntity<BaseResponse<List<FailedBuild>>> getAllRecentBuilds(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+    public CompletableFuture<ResponseEntity<BaseResponse<JobBuilds>>> getAllRecentBuilds(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid JenkinsInfoDto request
     ) {
-        JenkinsInfo info = errorService.getJenkinsInfoByIdAndUser(request.getInfoId(), user.getId());
-        List<FailedBuild> builds = errorService.getRecentBuilds(info);
-        return ResponseEntity.ok(BaseResponse.success(builds));
+        JenkinsInfo info = errorService.getJenkinsInfoByIdAndUser(request.getInfoId(), userId);
+        return errorService.getRecentBuildsAsync(info)
+                .thenApply(builds -> ResponseEntity.ok(BaseResponse.success(builds)));
+    }
+
+    @Operation(
+            summary = "전체 Job의 최근 빌드 실시간 구독",
+            description = "전체 Job의 최근 빌드 변경분을 SSE 로 전달합니다. 같은 Jenkins 를 보는 모든 구독자가 하나의 Jenkins 조회를 공유합니다. "
+                    + "snapshot 이벤트는 합류 시점의 Job 별 최근 빌드, changes 이벤트는 최근 빌드가 바뀐 Job(changed)과 사라진 Job 이름(removed)입니다."
+    )
+    @GetMapping(value = "/recent/all/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchRecentBuilds(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @RequestParam UUID infoId
+    ) {
+        return recentBuildWatchService.subscribe(infoId, userId);
     }
 
     @Operation(
             summary = "전체 Job의 실패한 빌드 조회",
-            description = "Jenkins 서버 내 전체 Job 중 실패한 빌드 기록만 반환합니다."
+            description = "Jenkins 서버 내 전체 Job 중 실패한 빌드 기록만 병렬로 조회합니다. 실패하거나 제한 시간을 넘긴 Job은 skippedJobs로 반환됩니다."
     )
     @PostMapping("/failed/all")
-    public ResponseEntity<BaseResponse<List<FailedBuild>>> getFailedBuilds(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+    public CompletableFuture<ResponseEntity<BaseResponse<JobBuilds>>> getFailedBuilds(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid JenkinsInfoDto request
     ) {
-        JenkinsInfo info = errorService.getJenkinsInfoByIdAndUser(request.getInfoId(), user.getId());
-        List<FailedBuild> builds = errorService.getFailedBuilds(info);
-        return ResponseEntity.ok(BaseResponse.success(builds));
+        JenkinsInfo info = errorService.getJenkinsInfoByIdAndUser(request.getInfoId(), userId);
+        return errorService.getFailedBuildsAsync(info)
+                .thenApply(builds -> ResponseEntity.ok(BaseResponse.success(builds)));
     }
 
     @Operation(
@@ -104,12 +129,25 @@ public class ErrorController {
             description = "특정 Job의 실패한 빌드에 대해 LLM(GPT)을 통해 자연어 요약 및 해결 방안을 제공합니다."
     )
     @PostMapping("/summary")
-    public ResponseEntity<BaseResponse<FailedBuildSummary>> getBuildSummaryWithSolution(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+    public CompletableFuture<ResponseEntity<BaseResponse<FailedBuildSummary>>> getBuildSummaryWithSolution(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid JobSummaryDto request
     ) {
-        FailedBuildSummary builds = errorService.summarizeBuildByJob(request, user.getId());
-        return ResponseEntity.ok(BaseResponse.success(builds));
+        return errorService.summarizeBuildByJobAsync(request, userId)
+                .thenApply(summary -> ResponseEntity.ok(BaseResponse.success(summary)));
+    }
+
+    @Operation(
+            summary = "자주 발생하는 실패 묶음 조회",
+            description = "Jenkins 서버에서 같은 원인으로 반복된 실패 빌드 묶음을 발생 횟수 순으로 반환합니다. 묶음마다 처음/마지막 발생 시각과 공유되는 분석이 포함됩니다."
+    )
+    @PostMapping("/clusters/top")
+    public ResponseEntity<BaseResponse<List<FailureClusterDto>>> getTopFailureClusters(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @RequestBody @Valid TopClustersDto request
+    ) {
+        List<FailureClusterDto> clusters = errorService.getTopFailureClusters(request.getInfoId(), userId, request.getLimit());
+        return ResponseEntity.ok(BaseResponse.success(clusters));
     }
 
     /*@Operation(
@@ -118,20 +156,20 @@ public class ErrorController {
     )
     @PostMapping("/retry")
     public ResponseEntity<BaseResponse<String>> retryWithRollback(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid RetryDto request
     ) {
-        errorService.retryWithRollback(request.getJobId(), user.getId());
+        errorService.retryWithRollback(request.getJobId(), userId);
         return ResponseEntity.ok(BaseResponse.success("Retry with rollback triggered."));
     }
 
 
     @PostMapping("/retry/pipeline")
     public ResponseEntity<BaseResponse<String>> retryWithRollbackByPipeline(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody RetryReqDto request
     ) {
-        errorService.retryWithRollbackByPipeline(request.getJobId(), user.getId());
+        errorService.retryWithRollbackByPipeline(request.getJobId(), userId);
         return ResponseEntity.ok(BaseResponse.success("Retry with rollback triggered."));
     }*/
 }
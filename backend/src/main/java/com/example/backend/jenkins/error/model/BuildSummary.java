@@ -0,0 +1,62 @@
+package com.example.backend.jenkins.error.model;
+
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 종료된 빌드의 LLM 요약 캐시.
+ * (Jenkins, job, buildNumber) 로 찾고, 같은 에러 발췌본(excerptHash)을 가진 다른 빌드의 요약도 재사용합니다.
+ */
+@Entity
+@Table(name = "build_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uq_build_summary", columnNames = {"jenkins_info_id", "job_name", "build_number"}),
+        indexes = {
+                @Index(name = "idx_build_summary_hash", columnList = "excerpt_hash"),
+                @Index(name = "idx_build_summary_accessed", columnList = "last_accessed_at")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildSummary {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "jenkins_info_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private JenkinsInfo jenkinsInfo;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "build_number", nullable = false)
+    private Integer buildNumber;
+
+    // 요약에 사용한 로그 발췌본의 SHA-256
+    @Column(name = "excerpt_hash", nullable = false, length = 64)
+    private String excerptHash;
+
+    @Lob
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    private LocalDateTime createdAt;
+
+    // 크기 제한 초과 시 오래 사용되지 않은 항목부터 삭제
+    @Column(name = "last_accessed_at")
+    private LocalDateTime lastAccessedAt;
+}
@@ -0,0 +1,69 @@
+package com.example.backend.jenkins.error.model;
+
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 같은 원인으로 보이는 실패 빌드 묶음.
+ * signature 는 FailureFingerprinter 가 숫자/경로/시각을 제거한 에러 줄, stack frame, 실패 stage 로 만든 해시이며
+ * 같은 Jenkins 안에서 같은 signature 의 실패는 analysis 를 공유합니다.
+ */
+@Entity
+@Table(name = "failure_cluster",
+        uniqueConstraints = @UniqueConstraint(name = "uq_failure_cluster", columnNames = {"jenkins_info_id", "signature"}),
+        indexes = @Index(name = "idx_failure_cluster_count", columnList = "jenkins_info_id, occurrence_count"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailureCluster {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "jenkins_info_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private JenkinsInfo jenkinsInfo;
+
+    @Column(nullable = false, length = 64)
+    private String signature;
+
+    // 예외 클래스 (없으면 null)
+    private String exceptionType;
+
+    // 정규화된 대표 에러 줄
+    @Column(length = 1000)
+    private String errorLine;
+
+    private String failedStage;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private Long count;
+
+    private LocalDateTime firstSeen;
+
+    private LocalDateTime lastSeen;
+
+    // 가장 최근에 이 묶음으로 들어온 빌드
+    private String lastJobName;
+
+    private Integer lastBuildNumber;
+
+    // LLM 요약 (처음 분석된 빌드의 결과를 재사용)
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String analysis;
+}
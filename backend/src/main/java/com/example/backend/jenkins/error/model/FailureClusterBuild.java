@@ -0,0 +1,42 @@
+package com.example.backend.jenkins.error.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * 실패 묶음에 이미 집계된 빌드.
+ * 같은 빌드를 다시 요약해도 (cluster, job, buildNumber) 가 이미 있으면 occurrence_count 를 올리지 않습니다.
+ */
+@Entity
+@Table(name = "failure_cluster_build",
+        uniqueConstraints = @UniqueConstraint(name = "uq_failure_cluster_build", columnNames = {"cluster_id", "job_name", "build_number"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailureClusterBuild {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cluster_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private FailureCluster cluster;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "build_number", nullable = false)
+    private Integer buildNumber;
+}
@@ -52,6 +52,38 @@ public class ErrorRequestDto {
         private String jobName;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobHistoryDto {
+
+        @Schema(
+                description = "Job ID (파이프라인)",
+                example = "d07c6f08-4ac7-45c5-a7dd-2b0ad91e0a50"
+        )
+        @NotNull(message = "jobId는 필수입니다.")
+        private UUID jobId;
+
+        @Schema(description = "Job 이름", example = "build-backend")
+        @NotBlank(message = "jobName은 비어 있을 수 없습니다.")
+        private String jobName;
+
+        @Schema(
+                description = "페이지 크기 (기본 20, 최대 100)",
+                example = "20"
+        )
+        @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+        private Integer size;
+
+        @Schema(
+                description = "이 번호보다 작은 빌드부터 조회 (이전 응답의 nextCursor, 없으면 최신 빌드부터)",
+                example = "115"
+        )
+        @Min(value = 1, message = "before는 1 이상이어야 합니다.")
+        private Integer before;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -99,4 +131,25 @@ public class ErrorRequestDto {
         private UUID jobId;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TopClustersDto {
+
+        @Schema(
+                description = "JenkinsInfo ID",
+                example = "8e5a678a-a954-4b45-b0dd-8d3a323b07e"
+        )
+        @NotNull(message = "infoId는 필수입니다.")
+        private UUID infoId;
+
+        @Schema(
+                description = "조회할 묶음 수 (기본 10, 최대 100)",
+                example = "10"
+        )
+        @Min(value = 1, message = "limit는 1 이상이어야 합니다.")
+        private Integer limit;
+    }
+
 }
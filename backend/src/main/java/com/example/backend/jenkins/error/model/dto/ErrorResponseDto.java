@@ -1,14 +1,20 @@
 package com.example.backend.jenkins.error.model.dto;
 
+import com.example.backend.jenkins.error.model.FailureCluster;
+import com.example.backend.service.FanOutResult;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
 
 public class ErrorResponseDto {
 
@@ -16,6 +22,7 @@ public class ErrorResponseDto {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @EqualsAndHashCode
     public static class FailedBuild {
 
         @Schema(description = "잡 이름", example = "my-job")
@@ -84,5 +91,116 @@ public class ErrorResponseDto {
         private String naturalResponse;
     }
 
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class BuildPage {
+
+        @Schema(description = "빌드 목록 (최신순)")
+        private List<FailedBuild> builds;
+
+        @Schema(description = "페이지 크기", example = "20")
+        private int size;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "다음 페이지 요청에 before 로 넘길 빌드 번호 (다음 페이지가 없으면 null)", example = "115")
+        private Integer nextCursor;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class JobBuilds {
+
+        @Schema(description = "조회된 빌드 목록")
+        private List<FailedBuild> builds;
+
+        @Schema(description = "조회에 실패했거나 제한 시간을 넘겨 건너뛴 Job 목록")
+        private List<SkippedJob> skippedJobs;
+
+        @Schema(description = "일부 Job 이 누락된 부분 결과인지 여부", example = "false")
+        private boolean partial;
+
+        public static JobBuilds of(List<FailedBuild> builds, List<FanOutResult.SkippedJob> skipped) {
+            return JobBuilds.builder()
+                    .builds(builds)
+                    .skippedJobs(skipped.stream()
+                            .map(s -> new SkippedJob(s.getJobName(), s.getReason()))
+                            .toList())
+                    .partial(!skipped.isEmpty())
+                    .build();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SkippedJob {
+
+        @Schema(description = "잡 이름", example = "my-job")
+        private String jobName;
+
+        @Schema(description = "건너뛴 사유 (에러 코드 또는 DEADLINE_EXCEEDED)", example = "JENKINS_SERVER_ERROR_500")
+        private String reason;
+    }
+
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "실패 묶음 (같은 원인으로 보이는 실패 빌드들)")
+    public static class FailureClusterDto {
+
+        @Schema(description = "묶음 ID")
+        private UUID clusterId;
+
+        @Schema(description = "실패 signature (SHA-256)")
+        private String signature;
+
+        @Schema(description = "예외 클래스", example = "java.lang.OutOfMemoryError")
+        private String exceptionType;
+
+        @Schema(description = "정규화된 대표 에러 줄", example = "java.lang.OutOfMemoryError: Java heap space")
+        private String errorLine;
+
+        @Schema(description = "실패한 stage", example = "Test")
+        private String failedStage;
+
+        @Schema(description = "발생 횟수", example = "12")
+        private long count;
+
+        @Schema(description = "처음 발생 시각")
+        private LocalDateTime firstSeen;
+
+        @Schema(description = "마지막 발생 시각")
+        private LocalDateTime lastSeen;
+
+        @Schema(description = "마지막으로 발생한 Job", example = "deploy-service")
+        private String lastJobName;
+
+        @Schema(description = "마지막으로 발생한 빌드 번호", example = "102")
+        private Integer lastBuildNumber;
+
+        @Schema(description = "공유되는 LLM 분석 (아직 없으면 null)")
+        private String analysis;
+
+        public static FailureClusterDto from(FailureCluster cluster) {
+            return FailureClusterDto.builder()
+                    .clusterId(cluster.getId())
+                    .signature(cluster.getSignature())
+                    .exceptionType(cluster.getExceptionType())
+                    .errorLine(cluster.getErrorLine())
+                    .failedStage(cluster.getFailedStage())
+                    .count(cluster.getCount())
+                    .firstSeen(cluster.getFirstSeen())
+                    .lastSeen(cluster.getLastSeen())
+                    .lastJobName(cluster.getLastJobName())
+                    .lastBuildNumber(cluster.getLastBuildNumber())
+                    .analysis(cluster.getAnalysis())
+                    .build();
+        }
+    }
+
 
 }
@@ -0,0 +1,29 @@
+package com.example.backend.jenkins.error.repository;
+
+import com.example.backend.jenkins.error.model.BuildSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BuildSummaryRepository extends JpaRepository<BuildSummary, UUID> {
+
+    Optional<BuildSummary> findByJenkinsInfoIdAndJobNameAndBuildNumber(UUID jenkinsInfoId, String jobName, Integer buildNumber);
+
+    Optional<BuildSummary> findFirstByExcerptHash(String excerptHash);
+
+    @Transactional
+    @Modifying
+    @Query("update BuildSummary s set s.lastAccessedAt = :now where s.id = :id")
+    void touch(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Query("select s.id from BuildSummary s order by s.lastAccessedAt asc")
+    List<UUID> findIdsOrderByLastAccessedAt(Pageable pageable);
+}
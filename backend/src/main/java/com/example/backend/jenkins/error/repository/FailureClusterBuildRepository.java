@@ -0,0 +1,9 @@
+package com.example.backend.jenkins.error.repository;
+
+import com.example.backend.jenkins.error.model.FailureClusterBuild;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface FailureClusterBuildRepository extends JpaRepository<FailureClusterBuild, UUID> {
+}
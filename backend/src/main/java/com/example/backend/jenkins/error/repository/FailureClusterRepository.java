@@ -0,0 +1,33 @@
+package com.example.backend.jenkins.error.repository;
+
+import com.example.backend.jenkins.error.model.FailureCluster;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface FailureClusterRepository extends JpaRepository<FailureCluster, UUID> {
+
+    Optional<FailureCluster> findByJenkinsInfoIdAndSignature(UUID jenkinsInfoId, String signature);
+
+    List<FailureCluster> findByJenkinsInfoIdOrderByCountDescLastSeenDesc(UUID jenkinsInfoId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update FailureCluster c set c.count = c.count + 1, c.lastSeen = :now, "
+            + "c.lastJobName = :jobName, c.lastBuildNumber = :buildNumber where c.id = :id")
+    void increment(@Param("id") UUID id, @Param("now") LocalDateTime now,
+                   @Param("jobName") String jobName, @Param("buildNumber") Integer buildNumber);
+
+    @Transactional
+    @Modifying
+    @Query("update FailureCluster c set c.analysis = :analysis where c.id = :id and c.analysis is null")
+    void saveAnalysisIfAbsent(@Param("id") UUID id, @Param("analysis") String analysis);
+}
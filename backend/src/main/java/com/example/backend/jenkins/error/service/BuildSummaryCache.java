@@ -0,0 +1,156 @@
+package com.example.backend.jenkins.error.service;
+
+import com.example.backend.jenkins.error.model.BuildSummary;
+import com.example.backend.jenkins.error.repository.BuildSummaryRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 빌드 로그 LLM 요약의 DB 캐시.
+ * <p>
+ * 종료된 빌드의 로그는 바뀌지 않으므로 (Jenkins, job, buildNumber) 로 저장된 요약이 있으면 로그 다운로드와 LLM 호출 없이 반환합니다.
+ * 캐시에 없으면 loader 가 로그를 받아 발췌본 해시를 계산하며, 같은 발췌본의 요약이 이미 있으면 LLM 호출 없이 재사용합니다.
+ * 같은 키의 동시 요청은 하나의 loader 결과를 공유하고, 항목 수가 max-entries 를 넘으면 오래 사용되지 않은 것부터 삭제합니다.
+ */
+@Slf4j
+@Service
+public class BuildSummaryCache {
+
+    private final BuildSummaryRepository buildSummaryRepository;
+    private final Executor jenkinsTaskExecutor;
+    private final int maxEntries;
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public BuildSummaryCache(
+            BuildSummaryRepository buildSummaryRepository,
+            @Qualifier("jenkinsTaskExecutor") Executor jenkinsTaskExecutor,
+            @Value("${jenkins.summary-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.buildSummaryRepository = buildSummaryRepository;
+        this.jenkinsTaskExecutor = jenkinsTaskExecutor;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 요약을 반환하고, 없으면 loader 로 만든 요약을 저장 후 반환합니다.
+     */
+    public CompletableFuture<String> getOrLoad(JenkinsInfo info, String jobName, int buildNumber,
+                                               Supplier<CompletableFuture<Loaded>> loader) {
+        String key = info.getId() + ":" + jobName + ":" + buildNumber;
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture.supplyAsync(() -> findCached(info, jobName, buildNumber), jenkinsTaskExecutor)
+                .thenCompose(cached -> cached.isPresent()
+                        ? CompletableFuture.completedFuture(cached.get())
+                        : loader.get().thenApplyAsync(loaded -> store(info, jobName, buildNumber, loaded), jenkinsTaskExecutor))
+                .whenComplete((summary, ex) -> {
+                    inFlight.remove(key, mine);
+                    if (ex != null) {
+                        mine.completeExceptionally(ex);
+                    } else {
+                        mine.complete(summary);
+                    }
+                });
+        return mine;
+    }
+
+    /**
+     * 같은 발췌본으로 만든 요약이 있으면 반환합니다. (loader 안에서 LLM 호출 전에 사용)
+     */
+    public Optional<String> findByExcerptHash(String excerptHash) {
+        return buildSummaryRepository.findFirstByExcerptHash(excerptHash).map(BuildSummary::getSummary);
+    }
+
+    /**
+     * 크기 제한을 넘은 만큼 마지막 사용 시각이 오래된 항목부터 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${jenkins.summary-cache.evict-interval-ms:600000}")
+    public void evict() {
+        long overflow = buildSummaryRepository.count() - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+        List<UUID> ids = buildSummaryRepository.findIdsOrderByLastAccessedAt(
+                PageRequest.of(0, (int) Math.min(overflow, Integer.MAX_VALUE)));
+        buildSummaryRepository.deleteAllByIdInBatch(ids);
+        log.info("빌드 요약 캐시 정리 - 삭제: {}건", ids.size());
+    }
+
+    public static String hash(String excerpt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(excerpt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Optional<String> findCached(JenkinsInfo info, String jobName, int buildNumber) {
+        return buildSummaryRepository.findByJenkinsInfoIdAndJobNameAndBuildNumber(info.getId(), jobName, buildNumber)
+                .map(cached -> {
+                    buildSummaryRepository.touch(cached.getId(), LocalDateTime.now());
+                    return cached.getSummary();
+                });
+    }
+
+    private String store(JenkinsInfo info, String jobName, int buildNumber, Loaded loaded) {
+        // 진행 중인 빌드는 로그가 더 늘어나므로 저장하지 않음
+        if (!loaded.isCacheable()) {
+            return loaded.getSummary();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            buildSummaryRepository.save(BuildSummary.builder()
+                    .jenkinsInfo(info)
+                    .jobName(jobName)
+                    .buildNumber(buildNumber)
+                    .excerptHash(loaded.getExcerptHash())
+                    .summary(loaded.getSummary())
+                    .createdAt(now)
+                    .lastAccessedAt(now)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우
+            log.debug("빌드 요약 캐시 중복 저장 무시 - jobName: {}, buildNumber: {}", jobName, buildNumber);
+        }
+        return loaded.getSummary();
+    }
+
+    /**
+     * loader 결과. cacheable 은 빌드가 종료되어 로그가 더 이상 바뀌지 않는지 여부입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Loaded {
+        private final String excerptHash;
+        private final String summary;
+        private final boolean cacheable;
+    }
+}
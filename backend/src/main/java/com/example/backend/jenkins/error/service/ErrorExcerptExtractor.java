@@ -0,0 +1,252 @@
+package com.example.backend.jenkins.error.service;
+
+import com.example.backend.parser.BoundedLineReader;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 콘솔 로그를 한 번만 읽으면서 LLM 에 보낼 에러 발췌본을 만듭니다.
+ * <p>
+ * 실패 지점(예외, Caused by, FAILURE, ERROR, 컴파일 에러, 실패한 테스트) 앞뒤 몇 줄만 남기고,
+ * 길게 이어지는 stack frame 과 반복되는 줄은 접습니다.
+ * 발췌본이 token budget 을 넘으면 앞부분(최초 원인)과 뒷부분(최종 실패)을 절반씩 남기므로
+ * 로그 크기와 관계없이 메모리 사용량과 프롬프트 크기가 일정합니다.
+ */
+@Component
+public class ErrorExcerptExtractor {
+
+    // 토큰 수는 대략 4글자당 1토큰으로 추정
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private static final Pattern ANCHOR = Pattern.compile(
+            "Exception|Caused by|FAILURE|FAILED|\\[ERROR]|\\bERROR\\b|\\berror:|\\w+Error\\b"
+                    + "|\\.(java|kt|groovy|scala|ts|js|go|py|c|cpp|cs):\\d+"
+                    + "|Tests run: .*(Failures|Errors): [1-9]");
+    private static final Pattern STACK_FRAME = Pattern.compile("^\\s+(at |\\.\\.\\. \\d+ more)");
+    private static final String FINISHED_PREFIX = "Finished: ";
+    // Declarative/Scripted Pipeline 의 stage 시작 표시: [Pipeline] { (Build)
+    private static final Pattern STAGE_START = Pattern.compile("^\\[Pipeline] \\{ \\((.+)\\)$");
+
+    private final int contextBefore;
+    private final int contextAfter;
+    private final int maxFrames;
+    private final int tailLines;
+    private final int maxLineChars;
+    private final int budgetChars;
+
+    public ErrorExcerptExtractor(
+            @Value("${jenkins.error-excerpt.context-before:5}") int contextBefore,
+            @Value("${jenkins.error-excerpt.context-after:10}") int contextAfter,
+            @Value("${jenkins.error-excerpt.max-frames:8}") int maxFrames,
+            @Value("${jenkins.error-excerpt.tail-lines:20}") int tailLines,
+            @Value("${jenkins.error-excerpt.max-line-chars:2000}") int maxLineChars,
+            @Value("${jenkins.error-excerpt.token-budget:3000}") int tokenBudget
+    ) {
+        this.contextBefore = contextBefore;
+        this.contextAfter = contextAfter;
+        this.maxFrames = maxFrames;
+        this.tailLines = tailLines;
+        this.maxLineChars = maxLineChars;
+        this.budgetChars = tokenBudget * CHARS_PER_TOKEN;
+    }
+
+    public Excerpt extract(InputStream body) throws IOException {
+        return extract(BoundedLineReader.utf8(body, maxLineChars));
+    }
+
+    public Excerpt extract(String log) {
+        try {
+            return extract(new BoundedLineReader(new StringReader(log), maxLineChars));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Excerpt extract(BoundedLineReader reader) throws IOException {
+        Collector out = new Collector(budgetChars);
+        Deque<String> before = new ArrayDeque<>(contextBefore + 1);
+        Deque<String> tail = new ArrayDeque<>(tailLines + 1);
+
+        boolean hasFailure = false;
+        String currentStage = null;
+        String failedStage = null;
+        String lastLine = null;
+        long lineNo = 0;
+        long lastEmitted = 0;
+        int afterRemaining = 0;
+        int frames = 0;
+        int repeats = 0;
+        String previous = null;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            lastLine = line;
+            if (line.startsWith("[Pipeline] {")) {
+                Matcher stage = STAGE_START.matcher(line);
+                if (stage.matches()) {
+                    currentStage = stage.group(1);
+                }
+            }
+            if (!hasFailure && (line.contains("Exception") || line.contains("FAILURE") || line.contains("Caused by"))) {
+                hasFailure = true;
+                failedStage = currentStage;
+            }
+
+            remember(tail, line, tailLines);
+
+            boolean anchor = ANCHOR.matcher(line).find();
+            boolean frame = STACK_FRAME.matcher(line).find();
+            if (!anchor && afterRemaining == 0 && frames == 0) {
+                remember(before, line, contextBefore);
+                previous = null;
+                continue;
+            }
+
+            // 같은 줄의 반복은 한 번만 남김
+            if (line.equals(previous)) {
+                repeats++;
+                lastEmitted = lineNo;
+                continue;
+            }
+            if (repeats > 0) {
+                out.add("    (이전 줄 " + repeats + "회 반복)");
+                repeats = 0;
+            }
+
+            if (frame) {
+                frames++;
+                if (frames > maxFrames) {
+                    lastEmitted = lineNo;
+                    continue;
+                }
+            } else {
+                if (frames > maxFrames) {
+                    out.add("        ... (stack frame " + (frames - maxFrames) + "개 생략)");
+                }
+                frames = 0;
+            }
+
+            // 실패 지점이면 앞쪽 문맥도 포함
+            boolean withContext = anchor && !frame;
+            long first = withContext ? lineNo - before.size() : lineNo;
+            if (first > lastEmitted + 1) {
+                out.add("... (" + (first - lastEmitted - 1) + "줄 생략)");
+            }
+            if (withContext) {
+                before.forEach(out::add);
+            }
+            before.clear();
+
+            out.add(line);
+            previous = line;
+            lastEmitted = lineNo;
+            afterRemaining = anchor ? contextAfter : Math.max(0, afterRemaining - 1);
+        }
+
+        if (frames > maxFrames) {
+            out.add("        ... (stack frame " + (frames - maxFrames) + "개 생략)");
+        }
+        if (repeats > 0) {
+            out.add("    (이전 줄 " + repeats + "회 반복)");
+        }
+
+        // 마지막 줄들 (최종 결과) 중 아직 포함되지 않은 부분
+        long firstTail = lineNo - tail.size() + 1;
+        long fromTail = Math.max(firstTail, lastEmitted + 1);
+        if (fromTail <= lineNo) {
+            if (fromTail > lastEmitted + 1) {
+                out.add("... (" + (fromTail - lastEmitted - 1) + "줄 생략)");
+            }
+            long index = firstTail;
+            for (String t : tail) {
+                if (index++ >= fromTail) {
+                    out.add(t);
+                }
+            }
+        }
+
+        boolean finished = lastLine != null && lastLine.startsWith(FINISHED_PREFIX);
+        return new Excerpt(out.build(), hasFailure, finished, failedStage, lineNo, out.isTruncated());
+    }
+
+    private static void remember(Deque<String> window, String line, int capacity) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (window.size() == capacity) {
+            window.removeFirst();
+        }
+        window.addLast(line);
+    }
+
+    /**
+     * budget 을 넘으면 앞쪽 절반은 고정하고, 뒤쪽 절반은 최근 줄만 유지합니다.
+     */
+    private static class Collector {
+
+        private final int headBudget;
+        private final int tailBudget;
+        private final StringBuilder head = new StringBuilder();
+        private final Deque<String> tail = new ArrayDeque<>();
+        private int tailChars;
+        private long dropped;
+
+        Collector(int budgetChars) {
+            this.headBudget = budgetChars / 2;
+            this.tailBudget = budgetChars - headBudget;
+        }
+
+        void add(String line) {
+            if (tail.isEmpty() && head.length() + line.length() + 1 <= headBudget) {
+                head.append(line).append('\n');
+                return;
+            }
+            tail.addLast(line);
+            tailChars += line.length() + 1;
+            while (tailChars > tailBudget && tail.size() > 1) {
+                tailChars -= tail.removeFirst().length() + 1;
+                dropped++;
+            }
+        }
+
+        boolean isTruncated() {
+            return dropped > 0;
+        }
+
+        String build() {
+            StringBuilder result = new StringBuilder(head);
+            if (dropped > 0) {
+                result.append("... (발췌본 ").append(dropped).append("줄 생략)\n");
+            }
+            tail.forEach(line -> result.append(line).append('\n'));
+            return result.toString();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Excerpt {
+        // LLM 에 보낼 발췌본
+        private final String text;
+        // 예외/FAILURE/Caused by 가 있었는지 (LLM 요약 대상 여부)
+        private final boolean failure;
+        // 마지막 줄이 "Finished: <result>" 인지 (빌드 종료 여부)
+        private final boolean finished;
+        // 처음 실패 표시가 나온 Pipeline stage (stage 표시가 없으면 null)
+        private final String failedStage;
+        private final long totalLines;
+        private final boolean truncated;
+    }
+}
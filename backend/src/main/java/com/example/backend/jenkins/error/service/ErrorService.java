@@ -2,40 +2,66 @@ package com.example.backend.jenkins.error.service;
 
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.service.BuildHistoryStore;
+import com.example.backend.jenkins.error.model.FailureCluster;
 import com.example.backend.jenkins.error.model.dto.ErrorRequestDto.JobSummaryDto;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.BuildPage;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuild;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuildSummary;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailureClusterDto;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.JobBuilds;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
 import com.example.backend.jenkins.info.repository.JenkinsInfoRepository;
-import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
 import com.example.backend.jenkins.job.repository.PipelineRepository;
 import com.example.backend.jenkins.job.service.PipelineService;
 import com.example.backend.service.HttpClientService;
+import com.example.backend.service.JenkinsBuildQueryPlanner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ErrorService {
+    private static final String BUILD_FIELDS = "number,result,timestamp,duration";
+    private static final String NO_ERROR_RESPONSE = "이 빌드는 에러 없이 정상적으로 완료된 것으로 보입니다.";
+    private static final int DEFAULT_TOP_CLUSTERS = 10;
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final JenkinsInfoRepository jenkinsInfoRepository;
     private final HttpClientService httpClientService;
+    private final JenkinsBuildQueryPlanner jenkinsBuildQueryPlanner;
+    private final BuildHistoryStore buildHistoryStore;
     private final LlmService llmService;
+    private final BuildSummaryCache buildSummaryCache;
+    private final ErrorExcerptExtractor errorExcerptExtractor;
+    private final FailureFingerprinter failureFingerprinter;
+    private final FailureClusterService failureClusterService;
 
     private final int maxRetryCount = 3;
     private final int retryIntervalSeconds = 120;
     private final PipelineRepository pipelineRepository;
     private final PipelineService pipelineService;
+    @Qualifier("jenkinsTaskExecutor")
+    private final Executor jenkinsTaskExecutor;
 
     public JenkinsInfo getJenkinsInfoByIdAndUser(UUID infoId, UUID userId) {
         return jenkinsInfoRepository.findById(infoId)
@@ -43,10 +69,10 @@ public class ErrorService {
                 .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_INFO_NOT_FOUND));
     }
 
-    public Pipeline getVerifiedJobWithPipeline(UUID pipelineId, UUID userId) {
-        Pipeline job = pipelineService.getPipelineById(pipelineId);
+    public PipelineMeta getVerifiedJobWithPipeline(UUID pipelineId, UUID userId) {
+        PipelineMeta job = pipelineService.getPipelineMeta(pipelineId);
 
-        if (!job.getJenkinsInfo().getUser().getId().equals(userId)) {
+        if (!userId.equals(job.getOwnerId())) {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
@@ -54,11 +80,19 @@ public class ErrorService {
     }
 
 
-    public ErrorResponseDto.FailedBuild getRecentBuild(JenkinsInfo info, String jobName) {
+    public CompletableFuture<FailedBuild> getRecentBuildAsync(JenkinsInfo info, String jobName) {
         String url = info.getUri() + "/job/" + jobName + "/lastBuild/api/json";
         HttpEntity<?> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
-        Map<?, ?> lastBuild = httpClientService.exchange(url, HttpMethod.GET, entity, Map.class);
+        return httpClientService.exchangeAsync(url, HttpMethod.GET, entity, Map.class)
+                .thenApply(lastBuild -> toRecentBuild(jobName, lastBuild));
+    }
 
+    public CompletableFuture<FailedBuild> getRecentBuildByJobAsync(UUID jobId, UUID userId) {
+        PipelineMeta job = getVerifiedJobWithPipeline(jobId, userId);
+        return getRecentBuildAsync(job.getJenkinsInfo(), job.getName());
+    }
+
+    private FailedBuild toRecentBuild(String jobName, Map<?, ?> lastBuild) {
         if (lastBuild == null || !lastBuild.containsKey("result")) {
             throw new CustomException(ErrorCode.JENKINS_BUILD_INFO_MISSING);
         }
@@ -72,47 +106,38 @@ public class ErrorService {
         );
     }
 
-    public ErrorResponseDto.FailedBuild getRecentBuildByJob(UUID jobId, UUID userId) {
-        Pipeline job = getVerifiedJobWithPipeline(jobId, userId);
-        return getRecentBuild(job.getJenkinsInfo(), job.getName());
+    /**
+     * 빌드 이력을 before 커서 기준으로 size 건씩 조회합니다.
+     * BuildHistoryStore 에 새 빌드를 반영한 뒤 저장된 이력에서 응답하며, 저장되지 않은 이전 구간만 Jenkins 에서 범위 조회합니다.
+     */
+    public CompletableFuture<BuildPage> getBuildsForJobByUserAsync(UUID jobId, UUID userId, Integer size, Integer before) {
+        PipelineMeta job = getVerifiedJobWithPipeline(jobId, userId);
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE) : DEFAULT_HISTORY_PAGE_SIZE;
+
+        return buildHistoryStore.refresh(job)
+                .thenCompose(ignored -> buildHistoryStore.getSliceBefore(job, before, pageSize))
+                .thenApply(slice -> BuildPage.builder()
+                        .builds(slice.getRecords().stream().map(record -> FailedBuild.of(
+                                job.getName(),
+                                record.getBuildNumber(),
+                                record.getResult() != null ? record.getResult() : "UNKNOWN",
+                                record.getTimestamp() != null ? record.getTimestamp() : 0L,
+                                record.getDuration() != null ? record.getDuration() : 0L)).toList())
+                        .size(pageSize)
+                        .hasNext(slice.isHasNext())
+                        .nextCursor(slice.getNextCursor())
+                        .build());
     }
 
 
-    public List<ErrorResponseDto.FailedBuild> getBuildsForJob(JenkinsInfo info, String jobName) {
-        String url = info.getUri() + "/job/" + jobName + "/api/json?tree=builds[number,result,timestamp,duration]";
+    public CompletableFuture<List<FailedBuild>> getFailedBuildsForJobAsync(JenkinsInfo info, String jobName) {
+        URI uri = jenkinsBuildQueryPlanner.jobBuildsUri(info, jobName, BUILD_FIELDS, 0, jenkinsBuildQueryPlanner.getMaxBuildsPerJob());
         HttpEntity<?> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
-        Map<?, ?> jobInfo = httpClientService.exchange(url, HttpMethod.GET, entity, Map.class);
-
-        if (jobInfo == null || !jobInfo.containsKey("builds")) {
-            throw new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND);
-        }
-
-        List<Map<String, Object>> buildList = (List<Map<String, Object>>) jobInfo.get("builds");
-        List<ErrorResponseDto.FailedBuild> builds = new ArrayList<>();
-        for (Map<String, Object> build : buildList) {
-            String result = (String) build.get("result");
-            builds.add(ErrorResponseDto.FailedBuild.of(
-                    jobName,
-                    (Integer) build.get("number"),
-                    result != null ? result : "UNKNOWN",
-                    ((Number) build.get("timestamp")).longValue(),
-                    ((Number) build.get("duration")).longValue()
-            ));
-        }
-        return builds;
+        return httpClientService.exchangeAsync(uri, HttpMethod.GET, entity, Map.class)
+                .thenApply(jobInfo -> toFailedBuilds(jobName, jobInfo));
     }
 
-    public List<ErrorResponseDto.FailedBuild> getBuildsForJobByUser(UUID jobId, UUID userId) {
-        Pipeline job = getVerifiedJobWithPipeline(jobId, userId);
-        return getBuildsForJob(job.getJenkinsInfo(), job.getName());
-    }
-
-
-    public List<ErrorResponseDto.FailedBuild> getFailedBuildsForJob(JenkinsInfo info, String jobName) {
-        String url = info.getUri() + "/job/" + jobName + "/api/json?tree=builds[number,result,timestamp,duration]";
-        HttpEntity<?> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
-        Map<?, ?> jobInfo = httpClientService.exchange(url, HttpMethod.GET, entity, Map.class);
-
+    private List<FailedBuild> toFailedBuilds(String jobName, Map<?, ?> jobInfo) {
         if (jobInfo == null || !jobInfo.containsKey("builds")) {
             throw new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND);
         }
@@ -139,90 +164,97 @@ public class ErrorService {
         return builds;
     }
 
-    public List<FailedBuild> getFailedBuildsForJobByUser(UUID jobId, UUID userId) {
-        Pipeline job = getVerifiedJobWithPipeline(jobId, userId); // 사용자 소유 확인 포함
-        return getFailedBuildsForJob(job.getJenkinsInfo(), job.getName());
+    public CompletableFuture<List<FailedBuild>> getFailedBuildsForJobByUserAsync(UUID jobId, UUID userId) {
+        PipelineMeta job = getVerifiedJobWithPipeline(jobId, userId); // 사용자 소유 확인 포함
+        return getFailedBuildsForJobAsync(job.getJenkinsInfo(), job.getName());
     }
 
 
-    public FailedBuildSummary summarizeBuild(JenkinsInfo info, String jobName, int buildNumber) {
-        String url = info.getUri() + "/job/" + jobName + "/" + buildNumber + "/consoleText";
-        HttpEntity<?> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.TEXT_PLAIN));
-        String log = httpClientService.exchange(url, HttpMethod.GET, entity, String.class);
-
-        if (!log.contains("Exception") && !log.contains("FAILURE") && !log.contains("Caused by")) {
-            return FailedBuildSummary.builder()
-                    .jobName(jobName)
-                    .buildNumber(buildNumber)
-                    .naturalResponse("이 빌드는 에러 없이 정상적으로 완료된 것으로 보입니다.")
-                    .build();
+    /**
+     * 종료된 빌드의 요약은 BuildSummaryCache 에서 바로 반환합니다. (로그 다운로드, LLM 호출 없음)
+     * 캐시에 없으면 콘솔 로그를 스트림으로 읽으며 에러 발췌본만 만들고, 발췌본만 LLM 에 보냅니다.
+     * 로그 읽기와 LLM 호출은 blocking 이므로 jenkinsTaskExecutor 에서 실행합니다.
+     */
+    public CompletableFuture<FailedBuildSummary> summarizeBuildAsync(JenkinsInfo info, String jobName, int buildNumber) {
+        URI uri = UriComponentsBuilder
+                .fromUriString(info.getUri() + "/job/" + jobName + "/" + buildNumber + "/consoleText")
+                .encode()
+                .build().toUri();
+        HttpHeaders headers = httpClientService.buildHeaders(info, MediaType.TEXT_PLAIN);
+        return buildSummaryCache.getOrLoad(info, jobName, buildNumber,
+                        () -> CompletableFuture.supplyAsync(() -> summarizeLog(info, jobName, buildNumber, httpClientService.readStream(
+                                uri, headers, (body, responseHeaders) -> errorExcerptExtractor.extract(body))), jenkinsTaskExecutor))
+                .thenApply(summary -> FailedBuildSummary.builder()
+                        .jobName(jobName)
+                        .buildNumber(buildNumber)
+                        .naturalResponse(summary)
+                        .build());
+    }
+
+    /**
+     * 요약 재사용 순서: 같은 실패 묶음의 분석 → 같은 발췌본의 요약 → LLM 호출.
+     * 실패 묶음에는 종료된 빌드만 기록합니다. (진행 중인 빌드는 다시 요청될 수 있으므로)
+     */
+    private BuildSummaryCache.Loaded summarizeLog(JenkinsInfo info, String jobName, int buildNumber,
+                                                  ErrorExcerptExtractor.Excerpt excerpt) {
+        String excerptHash = BuildSummaryCache.hash(excerpt.getText());
+        if (!excerpt.isFailure()) {
+            return new BuildSummaryCache.Loaded(excerptHash, NO_ERROR_RESPONSE, excerpt.isFinished());
         }
 
-        String response = llmService.summarizeBuildLog(log);
+        FailureCluster cluster = excerpt.isFinished()
+                ? failureClusterService.record(info, failureFingerprinter.fingerprint(excerpt), jobName, buildNumber)
+                : null;
+        if (cluster != null && cluster.getAnalysis() != null) {
+            return new BuildSummaryCache.Loaded(excerptHash, cluster.getAnalysis(), true);
+        }
 
-        return FailedBuildSummary.builder()
-                .jobName(jobName)
-                .buildNumber(buildNumber)
-                .naturalResponse(response)
-                .build();
+        String summary = buildSummaryCache.findByExcerptHash(excerptHash)
+                .orElseGet(() -> llmService.summarizeBuildLog(excerpt.getText()));
+        if (cluster != null) {
+            failureClusterService.saveAnalysis(cluster, summary);
+        }
+        return new BuildSummaryCache.Loaded(excerptHash, summary, excerpt.isFinished());
     }
 
-    public FailedBuildSummary summarizeBuildByJob(JobSummaryDto dto, UUID userId) {
-        Pipeline job = getVerifiedJobWithPipeline(dto.getJobId(), userId);
-        return summarizeBuild(job.getJenkinsInfo(), job.getName(), dto.getBuildNumber());
+    public List<FailureClusterDto> getTopFailureClusters(UUID infoId, UUID userId, Integer limit) {
+        JenkinsInfo info = getJenkinsInfoByIdAndUser(infoId, userId);
+        return failureClusterService.getTopClusters(info.getId(), limit != null ? limit : DEFAULT_TOP_CLUSTERS);
     }
 
+    public CompletableFuture<FailedBuildSummary> summarizeBuildByJobAsync(JobSummaryDto dto, UUID userId) {
+        PipelineMeta job = getVerifiedJobWithPipeline(dto.getJobId(), userId);
+        return summarizeBuildAsync(job.getJenkinsInfo(), job.getName(), dto.getBuildNumber());
+    }
 
-    public List<FailedBuild> getRecentBuilds(JenkinsInfo info) {
-        List<FailedBuild> builds = new ArrayList<>();
 
-        String jobListUrl = info.getUri() + "/api/json?tree=jobs[name]";
-        HttpEntity<?> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
-        Map<?, ?> jobsResponse = httpClientService.exchange(jobListUrl, HttpMethod.GET, entity, Map.class);
-        List<Map<String, Object>> jobs = (List<Map<String, Object>>) jobsResponse.get("jobs");
-
-        if (jobs == null || jobs.isEmpty()) return builds;
-
-        for (Map<String, Object> job : jobs) {
-            String jobName = (String) job.get("name");
-
-            try {
-                FailedBuild build = getRecentBuild(info, jobName);
-                if (build != null) {
-                    builds.add(build);
-                }
-            } catch (CustomException e) {
-                log.warn("[SKIP] {}: {}", jobName, e.getMessage());
-            } catch (Exception e) {
-                // 혹시 모를 예상치 못한 오류도 잡아서 무시하고 넘어가기
-                log.warn("[SKIP] {}: 알 수 없는 예외 - {}", jobName, e.getMessage());
-            }
-        }
-        return builds;
+    /**
+     * 전체 Job 의 최근 빌드를 tree 쿼리 한 번으로 조회합니다.
+     * 폴더 등 bulk 응답에 빌드가 없는 Job 은 Job 별로 조회하며, 실패한 Job 은 skippedJobs 로 반환됩니다.
+     */
+    public CompletableFuture<JobBuilds> getRecentBuildsAsync(JenkinsInfo info) {
+        return jenkinsBuildQueryPlanner.queryAllJobs(info, BUILD_FIELDS, 1, this::toLatestBuild)
+                .thenApply(result -> JobBuilds.of(result.getResults(), result.getSkipped()));
     }
 
-    public List<FailedBuild> getFailedBuilds(JenkinsInfo info) {
-        List<FailedBuild> failedBuilds = new ArrayList<>();
+    /**
+     * 전체 Job 의 실패 빌드를 tree 쿼리 한 번으로 조회합니다.
+     * 폴더 등 bulk 응답에 빌드가 없는 Job 은 Job 별로 조회하며, 실패한 Job 은 skippedJobs 로 반환됩니다.
+     */
+    public CompletableFuture<JobBuilds> getFailedBuildsAsync(JenkinsInfo info) {
+        return jenkinsBuildQueryPlanner.queryAllJobs(info, BUILD_FIELDS, jenkinsBuildQueryPlanner.getMaxBuildsPerJob(), this::toFailedBuilds)
+                .thenApply(result -> JobBuilds.of(
+                        result.getResults().stream().flatMap(List::stream).toList(),
+                        result.getSkipped()));
+    }
 
-        String jobListUrl = info.getUri() + "/api/json?tree=jobs[name]";
-        HttpEntity<?> entity = new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
-        Map<?, ?> jobsResponse = httpClientService.exchange(jobListUrl, HttpMethod.GET, entity, Map.class);
-        List<Map<String, Object>> jobs = (List<Map<String, Object>>) jobsResponse.get("jobs");
-
-        if (jobs == null || jobs.isEmpty()) return failedBuilds;
-
-        for (Map<String, Object> job : jobs) {
-            String jobName = (String) job.get("name");
-            try {
-                failedBuilds.addAll(getFailedBuildsForJob(info, jobName));
-            } catch (CustomException e) {
-                log.warn("Job [{}] 실패 이력 조회 중 예외 발생: {}", jobName, e.getMessage());
-                continue;
-            }
+    // builds 는 최신순으로 내려오므로 첫 번째 항목이 lastBuild
+    private FailedBuild toLatestBuild(String jobName, Map<?, ?> jobInfo) {
+        List<Map<String, Object>> buildList = (List<Map<String, Object>>) jobInfo.get("builds");
+        if (buildList == null || buildList.isEmpty()) {
+            throw new CustomException(ErrorCode.JENKINS_BUILD_INFO_MISSING);
         }
-
-
-        return failedBuilds;
+        return toRecentBuild(jobName, buildList.get(0));
     }
 
     private void applyJenkinsConfig(JenkinsInfo info, String jobName, String configXml) {
@@ -234,7 +266,7 @@ public class ErrorService {
     /*public void retryWithRollback(UUID pipelineId, UUID userId) {
 
         // 1. 유저 권한 검증
-        Pipeline pipeline = getVerifiedJobWithPipeline(pipelineId, userId);
+        PipelineMeta pipeline = getVerifiedJobWithPipeline(pipelineId, userId);
         JenkinsInfo info = pipeline.getJenkinsInfo();
         String jobName = pipeline.getName();
 
@@ -0,0 +1,107 @@
+package com.example.backend.jenkins.error.service;
+
+import com.example.backend.jenkins.error.model.FailureCluster;
+import com.example.backend.jenkins.error.model.FailureClusterBuild;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailureClusterDto;
+import com.example.backend.jenkins.error.repository.FailureClusterBuildRepository;
+import com.example.backend.jenkins.error.repository.FailureClusterRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 실패 signature 별 묶음(FailureCluster)을 관리합니다.
+ * 같은 묶음에 이미 LLM 분석이 있으면 ErrorService 가 새로 요약하지 않고 재사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FailureClusterService {
+
+    private static final int MAX_TOP_CLUSTERS = 100;
+
+    private final FailureClusterRepository failureClusterRepository;
+    private final FailureClusterBuildRepository failureClusterBuildRepository;
+
+    /**
+     * 실패 빌드를 signature 에 해당하는 묶음에 기록하고 그 묶음을 반환합니다. (없으면 새로 생성)
+     * 이미 이 묶음에 집계된 (job, build) 를 다시 요약한 경우에는 횟수를 올리지 않습니다.
+     */
+    public FailureCluster record(JenkinsInfo info, FailureFingerprinter.Fingerprint fingerprint, String jobName, int buildNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return failureClusterRepository.findByJenkinsInfoIdAndSignature(info.getId(), fingerprint.getSignature())
+                .map(cluster -> {
+                    countOnce(cluster, jobName, buildNumber, now);
+                    return cluster;
+                })
+                .orElseGet(() -> create(info, fingerprint, jobName, buildNumber, now));
+    }
+
+    public void saveAnalysis(FailureCluster cluster, String analysis) {
+        failureClusterRepository.saveAnalysisIfAbsent(cluster.getId(), analysis);
+    }
+
+    public List<FailureClusterDto> getTopClusters(UUID jenkinsInfoId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TOP_CLUSTERS));
+        return failureClusterRepository.findByJenkinsInfoIdOrderByCountDescLastSeenDesc(jenkinsInfoId, PageRequest.of(0, size))
+                .stream()
+                .map(FailureClusterDto::from)
+                .toList();
+    }
+
+    private FailureCluster create(JenkinsInfo info, FailureFingerprinter.Fingerprint fingerprint,
+                                  String jobName, int buildNumber, LocalDateTime now) {
+        try {
+            FailureCluster cluster = failureClusterRepository.save(FailureCluster.builder()
+                    .jenkinsInfo(info)
+                    .signature(fingerprint.getSignature())
+                    .exceptionType(fingerprint.getExceptionType())
+                    .errorLine(fingerprint.getErrorLine())
+                    .failedStage(fingerprint.getFailedStage())
+                    .count(1L)
+                    .firstSeen(now)
+                    .lastSeen(now)
+                    .lastJobName(jobName)
+                    .lastBuildNumber(buildNumber)
+                    .build());
+            addBuild(cluster, jobName, buildNumber);
+            return cluster;
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 signature 가 처음 기록된 경우 먼저 저장된 묶음에 합침
+            log.debug("실패 묶음 동시 생성 - signature: {}", fingerprint.getSignature());
+            FailureCluster cluster = failureClusterRepository
+                    .findByJenkinsInfoIdAndSignature(info.getId(), fingerprint.getSignature())
+                    .orElseThrow(() -> e);
+            countOnce(cluster, jobName, buildNumber, now);
+            return cluster;
+        }
+    }
+
+    private void countOnce(FailureCluster cluster, String jobName, int buildNumber, LocalDateTime now) {
+        if (addBuild(cluster, jobName, buildNumber)) {
+            failureClusterRepository.increment(cluster.getId(), now, jobName, buildNumber);
+        }
+    }
+
+    // 묶음에 처음 들어온 빌드면 true, 이미 집계된 빌드면 (unique 제약 위반) false
+    private boolean addBuild(FailureCluster cluster, String jobName, int buildNumber) {
+        try {
+            failureClusterBuildRepository.save(FailureClusterBuild.builder()
+                    .cluster(cluster)
+                    .jobName(jobName)
+                    .buildNumber(buildNumber)
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 집계된 실패 빌드 - cluster: {}, jobName: {}, buildNumber: {}", cluster.getId(), jobName, buildNumber);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.backend.jenkins.error.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 에러 발췌본에서 실패 signature 를 만듭니다.
+ * <p>
+ * 대표 에러 줄(가장 안쪽 Caused by → 첫 예외 → 첫 ERROR/FAILED 순), 그 아래 stack frame 몇 줄, 실패한 stage 를
+ * 시각/UUID/16진수/경로/숫자를 치환해 정규화한 뒤 해시하므로, 빌드 번호나 작업 디렉터리만 다른 같은 실패는 같은 signature 가 됩니다.
+ */
+@Component
+public class FailureFingerprinter {
+
+    private static final int MAX_FRAMES = 5;
+    private static final int MAX_LINE_CHARS = 300;
+
+    private static final Pattern EXCEPTION_LINE = Pattern.compile("([\\w$]+\\.)*[\\w$]*(Exception|Error)\\b(:|$)");
+    private static final Pattern EXCEPTION_TYPE = Pattern.compile("((?:[\\w$]+\\.)*[\\w$]*(?:Exception|Error))\\b");
+    private static final Pattern ERROR_LINE = Pattern.compile("\\[ERROR]|\\bERROR\\b|\\berror:|FAILED|FAILURE");
+    private static final Pattern STACK_FRAME = Pattern.compile("^\\s+at ");
+
+    // 순서가 중요: 시각/UUID/16진수를 숫자보다 먼저 치환
+    private static final Pattern TIMESTAMP = Pattern.compile("\\d{4}-\\d{2}-\\d{2}[T ]\\d{2}:\\d{2}(:\\d{2}([.,]\\d+)?)?(Z|[+-]\\d{2}:?\\d{2})?|\\b\\d{2}:\\d{2}:\\d{2}([.,]\\d+)?\\b");
+    private static final Pattern UUID_PATTERN = Pattern.compile("\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+    private static final Pattern HEX = Pattern.compile("\\b0x[0-9a-fA-F]+\\b|\\b[0-9a-f]{7,}\\b");
+    private static final Pattern PATH = Pattern.compile("(?:[A-Za-z]:)?(?:[\\\\/][\\w.@~+-]+){2,}[\\\\/]?");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    public Fingerprint fingerprint(ErrorExcerptExtractor.Excerpt excerpt) {
+        List<String> lines = excerpt.getText().lines().toList();
+        int index = findErrorLine(lines);
+        String errorLine = index >= 0 ? lines.get(index).trim() : "";
+
+        List<String> frames = new ArrayList<>();
+        for (int i = index + 1; index >= 0 && i < lines.size() && frames.size() < MAX_FRAMES; i++) {
+            String line = lines.get(i);
+            if (STACK_FRAME.matcher(line).find()) {
+                frames.add(normalize(line));
+            } else if (!frames.isEmpty()) {
+                break;
+            }
+        }
+
+        Matcher type = EXCEPTION_TYPE.matcher(errorLine);
+        String exceptionType = type.find() ? type.group(1) : null;
+        String normalizedLine = normalize(errorLine);
+        String stage = excerpt.getFailedStage();
+
+        String signature = BuildSummaryCache.hash(String.join("\n",
+                String.valueOf(exceptionType), normalizedLine, String.valueOf(stage), String.join("\n", frames)));
+        return new Fingerprint(signature, exceptionType, normalizedLine, stage);
+    }
+
+    static String normalize(String line) {
+        String normalized = line.trim();
+        normalized = TIMESTAMP.matcher(normalized).replaceAll("<time>");
+        normalized = UUID_PATTERN.matcher(normalized).replaceAll("<uuid>");
+        normalized = HEX.matcher(normalized).replaceAll("<hex>");
+        normalized = PATH.matcher(normalized).replaceAll("<path>");
+        normalized = NUMBER.matcher(normalized).replaceAll("#");
+        normalized = SPACES.matcher(normalized).replaceAll(" ");
+        return normalized.length() > MAX_LINE_CHARS ? normalized.substring(0, MAX_LINE_CHARS) : normalized;
+    }
+
+    private static int findErrorLine(List<String> lines) {
+        // 가장 안쪽 원인
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            if (lines.get(i).trim().startsWith("Caused by:")) {
+                return i;
+            }
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (!STACK_FRAME.matcher(line).find() && EXCEPTION_LINE.matcher(line).find()) {
+                return i;
+            }
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (!line.startsWith("Finished: ") && ERROR_LINE.matcher(line).find()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Fingerprint {
+        private final String signature;
+        private final String exceptionType;
+        private final String errorLine;
+        private final String failedStage;
+    }
+}
@@ -26,7 +26,7 @@ public class LlmService {
 
     /**
      * Jenkins 빌드 로그를 요약하기 위한 메인 메서드.
-     * 로그 문자열을 받아서 LLM에게 전달하고 응답을 반환.
+     * ErrorExcerptExtractor 가 만든 에러 발췌본을 받아서 LLM에게 전달하고 응답을 반환.
      */
     public String summarizeBuildLog(String log) {
         String prompt = buildPrompt(log);
@@ -37,7 +37,7 @@ public class LlmService {
      * 전달받은 Jenkins 로그를 기반으로 LLM에 보낼 프롬프트 텍스트 생성
      */
     private String buildPrompt(String log) {
-        return "다음은 Jenkins 빌드 로그입니다. 실패 원인을 요약하고 해결책을 제시해주세요:\n\n" + log;
+        return "다음은 Jenkins 빌드 로그에서 에러 관련 부분만 발췌한 것입니다. 실패 원인을 요약하고 해결책을 제시해주세요:\n\n" + log;
     }
 
     /**
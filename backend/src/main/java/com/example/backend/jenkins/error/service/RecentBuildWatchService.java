@@ -0,0 +1,47 @@
+package com.example.backend.jenkins.error.service;
+
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuild;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.service.JenkinsStatusPoller;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * JenkinsInfo 의 전체 Job 최근 빌드를 JenkinsStatusPoller 로 공유 감시합니다.
+ * <p>
+ * 같은 Jenkins 를 보는 viewer 수와 무관하게 bulk tree 쿼리 하나만 반복하며, 최근 빌드가 바뀐 Job 만 전달합니다.
+ * 조회에 실패한 Job 은 이전 값과 비교할 수 없으므로 removed 로 전달됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecentBuildWatchService {
+
+    private final ErrorService errorService;
+    private final JenkinsStatusPoller jenkinsStatusPoller;
+
+    public SseEmitter subscribe(UUID infoId, UUID userId) {
+        JenkinsInfo info = errorService.getJenkinsInfoByIdAndUser(infoId, userId);
+        return jenkinsStatusPoller.subscribe("info:" + infoId, new JenkinsStatusPoller.Source<FailedBuild>() {
+            @Override
+            public CompletableFuture<Map<String, FailedBuild>> poll() {
+                return errorService.getRecentBuildsAsync(info).thenApply(jobBuilds -> {
+                    Map<String, FailedBuild> builds = new LinkedHashMap<>();
+                    jobBuilds.getBuilds().forEach(build -> builds.put(build.getJobName(), build));
+                    return builds;
+                });
+            }
+
+            // 진행 중인 빌드는 result 가 아직 없음
+            @Override
+            public boolean isActive(Map<String, FailedBuild> builds) {
+                return builds.values().stream().anyMatch(build -> build.getResult() == null);
+            }
+        });
+    }
+}
@@ -1,12 +1,12 @@
 package com.example.backend.jenkins.info.controller;
 
-import com.example.backend.auth.user.model.Users;
 import com.example.backend.exception.BaseResponse;
 import com.example.backend.jenkins.info.model.dto.InfoRequestDto.CreateDto;
 import com.example.backend.jenkins.info.model.dto.InfoRequestDto.InfoDto;
 import com.example.backend.jenkins.info.model.dto.InfoRequestDto.UpdateDto;
 import com.example.backend.jenkins.info.model.dto.InfoResponseDto.DetailInfoDto;
 import com.example.backend.jenkins.info.model.dto.InfoResponseDto.LightInfoDto;
+import com.example.backend.jenkins.info.model.dto.InfoResponseDto.NotificationTokenDto;
 import com.example.backend.jenkins.info.service.JenkinsInfoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -44,9 +44,9 @@ public class JenkinsInfoController {
     })
     @PostMapping("/create")
     public ResponseEntity<BaseResponse<String>> create(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid CreateDto request) {
-        jenkinsInfoService.createJenkinsInfo(user, request);
+        jenkinsInfoService.createJenkinsInfo(userId, request);
         return ResponseEntity.ok()
                 .body(BaseResponse.success("create jenkins info success"));
     }
@@ -64,10 +64,10 @@ public class JenkinsInfoController {
             @ApiResponse(responseCode = "404", description = "존재하지 않는 정보"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #request.infoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #request.infoId)")
     @PutMapping
     public ResponseEntity<BaseResponse<String>> update(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid UpdateDto request
     ) {
         jenkinsInfoService.updateJenkinsInfo(request);
@@ -87,10 +87,10 @@ public class JenkinsInfoController {
     })
     @GetMapping
     public ResponseEntity<BaseResponse<List<LightInfoDto>>> getAll(
-            @AuthenticationPrincipal(expression = "userEntity") Users user
+            @AuthenticationPrincipal(expression = "id") UUID userId
     ) {
         return ResponseEntity.ok()
-                .body(BaseResponse.success(jenkinsInfoService.getAllLightDtoByUser(user)));
+                .body(BaseResponse.success(jenkinsInfoService.getAllLightDtoByUser(userId)));
     }
 
     @Operation(
@@ -106,10 +106,10 @@ public class JenkinsInfoController {
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
 
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #dto.infoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #dto.infoId)")
     @PostMapping
     public ResponseEntity<BaseResponse<DetailInfoDto>> getById(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid InfoDto dto
     ) {
         return ResponseEntity.ok()
@@ -127,10 +127,10 @@ public class JenkinsInfoController {
             @ApiResponse(responseCode = "404", description = "존재하지 않는 정보"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #infoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #infoId)")
     @DeleteMapping("/{infoId}")
     public ResponseEntity<BaseResponse<String>> delete(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @Parameter(description = "삭제할 Jenkins 정보의 고유 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6", required = true)
             @PathVariable UUID infoId
     ) {
@@ -139,6 +139,28 @@ public class JenkinsInfoController {
                 .body(BaseResponse.success("delete Jenkins Info Success"));
     }
 
+    @Operation(
+            summary = "Jenkins 빌드 알림 토큰 발급",
+            description = "Jenkins 가 빌드 시작/종료/스테이지 완료 알림을 보낼 때 사용할 토큰을 새로 발급합니다.\n" +
+                    "- 알림은 응답의 endpoint 로 X-Pipely-Token 헤더와 함께 POST 합니다.\n" +
+                    "- 다시 발급하면 이전 토큰은 즉시 사용할 수 없습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 정보"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #infoId)")
+    @PostMapping("/{infoId}/notification-token")
+    public ResponseEntity<BaseResponse<NotificationTokenDto>> issueNotificationToken(
+            @AuthenticationPrincipal(expression = "id") UUID userId,
+            @Parameter(description = "Jenkins 정보의 고유 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6", required = true)
+            @PathVariable UUID infoId
+    ) {
+        return ResponseEntity.ok()
+                .body(BaseResponse.success(jenkinsInfoService.issueNotificationToken(infoId)));
+    }
+
     @Operation(
             summary = "Jenkins 정보 접근 검증",
             description = "등록된 Jenkins 정보로 실제 접근 테스트를 수행하여 유효성을 검증합니다.\n" +
@@ -151,10 +173,10 @@ public class JenkinsInfoController {
             @ApiResponse(responseCode = "404", description = "잘못된 Jenkins 정보로 인한 연결 실패"),
             @ApiResponse(responseCode = "500", description = "Jenkins 서버 오류")
     })
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #dto.infoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #dto.infoId)")
     @PostMapping("/verification")
     public ResponseEntity<BaseResponse<String>> getVerification(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid InfoDto dto
     ) {
         jenkinsInfoService.verificationJenkinsInfo(dto.getInfoId());
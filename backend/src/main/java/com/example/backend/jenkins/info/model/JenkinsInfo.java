@@ -82,6 +82,11 @@ public class JenkinsInfo {
     )
     private String uri;
 
+    @Column(name = "notification_token")
+    @Convert(converter = CryptoConverter.class)
+    @Schema(description = "Jenkins 빌드 알림 수신용 토큰 (암호화해서 저장, 발급 전에는 null)", hidden = true)
+    private String notificationToken;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @Schema(description = "연결된 사용자 정보 (내부 참조)", hidden = true)
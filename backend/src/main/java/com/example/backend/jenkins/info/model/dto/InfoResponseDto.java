@@ -99,4 +99,24 @@ public class InfoResponseDto {
                     .build();
         }
     }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(name = "NotificationTokenDto", description = "Jenkins 빌드 알림 토큰 발급 응답 DTO")
+    public static class NotificationTokenDto {
+
+        @Schema(
+                description = "알림 요청의 X-Pipely-Token 헤더 값 (발급 시에만 확인 가능)",
+                example = "pV1q0cK3n6m2yJ8hQ4tZ7wX9aB5dE1fG2hI3jK4lM5n"
+        )
+        private String token;
+
+        @Schema(
+                description = "Jenkins 가 알림을 보낼 경로",
+                example = "/api/jenkins/notifications/3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+        private String endpoint;
+    }
 }
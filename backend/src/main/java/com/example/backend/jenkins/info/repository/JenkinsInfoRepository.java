@@ -14,6 +14,8 @@ public interface JenkinsInfoRepository extends JpaRepository<JenkinsInfo, UUID>
 
     List<JenkinsInfo> findByUser(Users user);
 
+    List<JenkinsInfo> findByUserId(UUID userId);
+
     @Query("""
                 SELECT ji
                 FROM JenkinsInfo ji
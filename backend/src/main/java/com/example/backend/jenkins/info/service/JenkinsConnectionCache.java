@@ -0,0 +1,151 @@
+package com.example.backend.jenkins.info.service;
+
+import com.example.backend.auth.user.model.Users;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.info.repository.JenkinsInfoRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JenkinsInfo 별 연결 정보(Profile) 캐시.
+ * <p>
+ * Basic 인증 헤더 값과 끝의 '/' 를 제거한 base URI, 소유자 id 를 infoId 별로 한 번만 계산합니다.
+ * 엔티티로 조회할 때는 jenkinsId / apiToken / uri 가 캐시된 값과 같은지 확인하므로 다른 인스턴스에서 수정되어도 이전 인증 정보를 쓰지 않으며,
+ * JenkinsInfoService 의 수정/삭제 시 해당 항목을 제거합니다.
+ * infoId 로만 조회하는 경우에는 비교할 엔티티가 없으므로, ttl 이 지나면 DB 에서 다시 읽어 다른 인스턴스의 변경을 반영합니다.
+ * <p>
+ * Profile 의 info 는 영속성 컨텍스트와 분리된 복사본이므로 여러 요청이 함께 읽어도 되지만, 수정하거나 저장하면 안 됩니다.
+ */
+@Component
+public class JenkinsConnectionCache {
+
+    private final JenkinsInfoRepository jenkinsInfoRepository;
+    private final long ttlMillis;
+
+    private final Map<UUID, Entry> profiles = new ConcurrentHashMap<>();
+
+    public JenkinsConnectionCache(
+            JenkinsInfoRepository jenkinsInfoRepository,
+            @Value("${jenkins.connection-cache.ttl-ms:300000}") long ttlMillis
+    ) {
+        this.jenkinsInfoRepository = jenkinsInfoRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 방금 조회한 엔티티로 캐시된 값을 확인합니다. 값이 같으면 캐시된 Profile 을 그대로 쓰고 ttl 을 연장합니다.
+     */
+    public Profile get(JenkinsInfo info) {
+        if (info.getId() == null) {
+            return new Profile(info);
+        }
+        Entry cached = profiles.get(info.getId());
+        Profile profile = cached != null && cached.profile.matches(info) ? cached.profile : new Profile(info);
+        profiles.put(info.getId(), new Entry(profile, System.currentTimeMillis() + ttlMillis));
+        return profile;
+    }
+
+    /**
+     * 캐시에 없거나 ttl 이 지났을 때만 DB 에서 JenkinsInfo 를 조회합니다.
+     */
+    public Profile get(UUID infoId) {
+        Entry cached = profiles.get(infoId);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.profile;
+        }
+        JenkinsInfo info = jenkinsInfoRepository.findWithUserById(infoId)
+                .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_INFO_NOT_FOUND));
+        return get(info);
+    }
+
+    public void invalidate(UUID infoId) {
+        profiles.remove(infoId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 이전 값으로 다시 채운 경우 대비
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    profiles.remove(infoId);
+                }
+            });
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final Profile profile;
+        private final long expiresAt;
+    }
+
+    @Getter
+    public static class Profile {
+        private final UUID infoId;
+        private final UUID ownerId;
+        // 끝의 '/' 를 제거한 Jenkins 주소
+        private final String baseUri;
+        // "Basic base64(jenkinsId:apiToken)"
+        private final String authorization;
+        // 읽기 전용 복사본 (user 는 id 만 채워짐)
+        private final JenkinsInfo info;
+
+        // 캐시된 값이 최신인지 비교하기 위한 원본 값
+        @Getter(AccessLevel.NONE)
+        private final String jenkinsId;
+        @Getter(AccessLevel.NONE)
+        private final String apiToken;
+        @Getter(AccessLevel.NONE)
+        private final String uri;
+
+        Profile(JenkinsInfo info) {
+            this.infoId = info.getId();
+            this.ownerId = info.getUser() != null ? info.getUser().getId() : null;
+            this.baseUri = normalize(info.getUri());
+            this.authorization = "Basic " + HttpHeaders.encodeBasicAuth(info.getJenkinsId(), info.getApiToken(), StandardCharsets.ISO_8859_1);
+            this.jenkinsId = info.getJenkinsId();
+            this.apiToken = info.getApiToken();
+            this.uri = info.getUri();
+            this.info = JenkinsInfo.builder()
+                    .id(info.getId())
+                    .name(info.getName())
+                    .description(info.getDescription())
+                    .jenkinsId(info.getJenkinsId())
+                    .apiToken(info.getApiToken())
+                    .uri(info.getUri())
+                    .notificationToken(info.getNotificationToken())
+                    .user(ownerId != null ? Users.builder().id(ownerId).build() : null)
+                    .createdAt(info.getCreatedAt())
+                    .build();
+        }
+
+        boolean matches(JenkinsInfo info) {
+            return Objects.equals(jenkinsId, info.getJenkinsId())
+                    && Objects.equals(apiToken, info.getApiToken())
+                    && Objects.equals(uri, info.getUri());
+        }
+
+        private static String normalize(String uri) {
+            if (uri == null) {
+                return null;
+            }
+            int end = uri.length();
+            while (end > 0 && uri.charAt(end - 1) == '/') {
+                end--;
+            }
+            return uri.substring(0, end);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.jenkins.info.service;
 
 import com.example.backend.auth.user.model.Users;
+import com.example.backend.auth.user.repository.UserRepository;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
@@ -8,8 +9,10 @@ import com.example.backend.jenkins.info.model.dto.InfoRequestDto.CreateDto;
 import com.example.backend.jenkins.info.model.dto.InfoRequestDto.UpdateDto;
 import com.example.backend.jenkins.info.model.dto.InfoResponseDto.DetailInfoDto;
 import com.example.backend.jenkins.info.model.dto.InfoResponseDto.LightInfoDto;
+import com.example.backend.jenkins.info.model.dto.InfoResponseDto.NotificationTokenDto;
 import com.example.backend.jenkins.info.repository.JenkinsInfoRepository;
 import com.example.backend.service.HttpClientService;
+import com.example.backend.util.SecureRandomUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -31,12 +34,15 @@ public class JenkinsInfoService {
 
     private final HttpClientService httpClientService;
     private final JenkinsInfoRepository jenkinsInfoRepository;
+    private final JenkinsConnectionCache jenkinsConnectionCache;
+    private final UserRepository userRepository;
 
     /**
-     * 새로운 JenkinsInfo 생성
+     * 새로운 JenkinsInfo 생성. 소유자는 id 참조로만 연결하므로 사용자를 조회하지 않습니다.
      */
     @Transactional
-    public JenkinsInfo createJenkinsInfo(Users user, CreateDto createDto) {
+    public JenkinsInfo createJenkinsInfo(UUID userId, CreateDto createDto) {
+        Users user = userRepository.getReferenceById(userId);
 
         JenkinsInfo info = JenkinsInfo.builder()
                 .name(createDto.getName())
@@ -47,11 +53,7 @@ public class JenkinsInfoService {
                 .user(user)
                 .build();
 
-        JenkinsInfo saved = jenkinsInfoRepository.save(info);
-
-        user.getJenkinsInfoList().add(saved);
-
-        return saved;
+        return jenkinsInfoRepository.save(info);
     }
 
     /**
@@ -67,6 +69,7 @@ public class JenkinsInfoService {
         info.setApiToken(updateDto.getApiToken());
         info.setUri(updateDto.getUri());
         info.setJenkinsId(updateDto.getJenkinsId());
+        jenkinsConnectionCache.invalidate(info.getId());
 
         return jenkinsInfoRepository.save(info);
     }
@@ -81,13 +84,14 @@ public class JenkinsInfoService {
         JenkinsInfo info = jenkinsInfoRepository.findById(infoId)
                 .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_INFO_NOT_FOUND));
         jenkinsInfoRepository.delete(info);
+        jenkinsConnectionCache.invalidate(infoId);
     }
 
     /**
      * 특정 사용자의 모든 JenkinsInfo 조회
      */
-    public List<LightInfoDto> getAllLightDtoByUser(Users user) {
-        return jenkinsInfoRepository.findByUser(user).stream()
+    public List<LightInfoDto> getAllLightDtoByUser(UUID userId) {
+        return jenkinsInfoRepository.findByUserId(userId).stream()
                 .map(LightInfoDto::fromEntity)
                 .toList();
     }
@@ -112,25 +116,14 @@ public class JenkinsInfoService {
         JenkinsInfo jenkinsInfo = jenkinsInfoRepository.findById(infoId)
                 .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_INFO_NOT_FOUND));
 
-        String baseUri = jenkinsInfo.getUri();
-        String username = jenkinsInfo.getJenkinsId();
-        String apiToken = jenkinsInfo.getApiToken();
-
-        String auth = username + ":" + apiToken;
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
+        JenkinsConnectionCache.Profile profile = jenkinsConnectionCache.get(jenkinsInfo);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "xml", StandardCharsets.UTF_8));
-        headers.set("Authorization", "Basic " + encodedAuth);
+        headers.set(HttpHeaders.AUTHORIZATION, profile.getAuthorization());
 
         HttpEntity<String> requestEntity = new HttpEntity<>(headers);
 
-        String endpoint = baseUri;
-
-        if (baseUri.endsWith("/")) {
-            endpoint = baseUri + "api/json";
-        } else {
-            endpoint = baseUri + "/api/json";
-        }
+        String endpoint = profile.getBaseUri() + "/api/json";
 
         httpClientService.exchange(
                 endpoint,
@@ -140,15 +133,37 @@ public class JenkinsInfoService {
         );
     }
 
+    /**
+     * 빌드 알림 수신용 토큰을 새로 발급합니다. 이전 토큰은 즉시 사용할 수 없습니다.
+     *
+     * @param infoId JenkinsInfo 엔티티의 private key
+     * @return 발급한 토큰 (저장 시에는 암호화)
+     */
+    @Transactional
+    public NotificationTokenDto issueNotificationToken(UUID infoId) {
+        JenkinsInfo info = jenkinsInfoRepository.findById(infoId)
+                .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_INFO_NOT_FOUND));
+
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(SecureRandomUtil.nextBytes(32));
+
+        info.setNotificationToken(token);
+        jenkinsInfoRepository.save(info);
+        jenkinsConnectionCache.invalidate(infoId);
+
+        return NotificationTokenDto.builder()
+                .token(token)
+                .endpoint("/api/jenkins/notifications/" + infoId)
+                .build();
+    }
+
     public JenkinsInfo getJenkinsInfo(UUID infoId) {
         return jenkinsInfoRepository.findWithUserById(infoId)
                 .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_INFO_NOT_FOUND));
     }
 
-    public boolean isOwner(Users user, UUID infoId) {
-        JenkinsInfo info = getJenkinsInfo(infoId);
-        UUID userId = user.getId();
-        UUID confirmUserId = info.getUser().getId();
+    public boolean isOwner(UUID userId, UUID infoId) {
+        // 소유자 id 는 연결 정보 캐시에서 확인 (캐시에 없을 때만 DB 조회)
+        UUID confirmUserId = jenkinsConnectionCache.get(infoId).getOwnerId();
         return userId.equals(confirmUserId);
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.example.backend.jenkins.job.controller;
 
-import com.example.backend.auth.user.model.Users;
 import com.example.backend.exception.BaseResponse;
 import com.example.backend.jenkins.info.service.JenkinsInfoService;
 import com.example.backend.jenkins.job.model.dto.RequestDto;
@@ -39,10 +38,10 @@ public class JobController {
             @ApiResponse(responseCode = "404", description = "잘못된 JenkinsInfo Id"),
             @ApiResponse(responseCode = "500", description = "Jenkins 서버 문제로 인한 실패")
     })
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #requestDto.infoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #requestDto.infoId)")
     @PostMapping("/create")
     public ResponseEntity<BaseResponse<String>> create(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid RequestDto.CreateDto requestDto
     ) {
         pipelineService.createJob(requestDto);
@@ -60,10 +59,10 @@ public class JobController {
             @ApiResponse(responseCode = "404", description = "잘못된 job Id"),
             @ApiResponse(responseCode = "500", description = "Jenkins 서버 문제로 인한 실패")
     })
-    @PreAuthorize("@pipelineService.isOwner(#user, #requestDto.pipelineId)")
+    @PreAuthorize("@pipelineService.isOwner(#userId, #requestDto.pipelineId)")
     @PutMapping
     public ResponseEntity<BaseResponse<String>> update(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @RequestBody @Valid RequestDto.UpdateDto requestDto
     ) {
 
@@ -81,10 +80,10 @@ public class JobController {
             @ApiResponse(responseCode = "200", description = "Job 삭제 성공"),
             @ApiResponse(responseCode = "404", description = "잘못된 Job Id")
     })
-    @PreAuthorize("@pipelineService.isOwner(#user, #jobId)")
+    @PreAuthorize("@pipelineService.isOwner(#userId, #jobId)")
     @DeleteMapping
     public ResponseEntity<BaseResponse<String>> delete(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @Parameter(description = "삭제할 Job의 UUID", required = true)
             @RequestParam UUID jobId
     ) {
@@ -101,10 +100,10 @@ public class JobController {
             @ApiResponse(responseCode = "200", description = "Job 삭제 성공"),
             @ApiResponse(responseCode = "404", description = "잘못된 Job Id")
     })
-    @PreAuthorize("@pipelineService.isOwner(#user, #jobId)")
+    @PreAuthorize("@pipelineService.isOwner(#userId, #jobId)")
     @DeleteMapping("/hard")
     public ResponseEntity<BaseResponse<String>> hardDelete(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @Parameter(description = "삭제할 Job의 UUID", required = true)
             @RequestParam UUID jobId
     ) {
@@ -113,10 +112,10 @@ public class JobController {
                 .body(BaseResponse.success("delete freestyle success"));
     }
 
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #jenkinsInfoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #jenkinsInfoId)")
     @GetMapping
     public ResponseEntity<BaseResponse<List<ResponseDto.LightJobDto>>> getAll(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @Parameter(description = "조회할 jenkins info의 UUID", required = true)
             @RequestParam UUID jenkinsInfoId
     ) {
@@ -124,10 +123,10 @@ public class JobController {
                 .body(BaseResponse.success(pipelineService.getLightJobs(jenkinsInfoId)));
     }
 
-    @PreAuthorize("@pipelineService.isOwner(#user, #jobId)")
+    @PreAuthorize("@pipelineService.isOwner(#userId, #jobId)")
     @GetMapping("/detail")
     public ResponseEntity<BaseResponse<ResponseDto.DetailJobDto>> getDetail(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @Parameter(description = "조회할 job의 UUID", required = true)
             @RequestParam UUID jobId
     ) {
@@ -135,10 +134,10 @@ public class JobController {
                 .body(BaseResponse.success(pipelineService.getDetailJob(jobId)));
     }
 
-    @PreAuthorize("@jenkinsInfoService.isOwner(#user, #jenkinsInfoId)")
+    @PreAuthorize("@jenkinsInfoService.isOwner(#userId, #jenkinsInfoId)")
     @GetMapping("/deleted")
     public ResponseEntity<BaseResponse<List<ResponseDto.LightJobDto>>> getAllDeleted(
-            @AuthenticationPrincipal(expression = "userEntity") Users user,
+            @AuthenticationPrincipal(expression = "id") UUID userId,
             @Parameter(description = "조회할 jenkins info의 UUID", required = true)
             @RequestParam UUID jenkinsInfoId
     ) {
@@ -0,0 +1,95 @@
+package com.example.backend.jenkins.job.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Jenkins 에 보낼 Job 생성/수정/삭제 요청.
+ * <p>
+ * Pipeline 변경과 같은 트랜잭션에서 저장되고, JobOutboxDispatcher 가 커밋 이후 전달합니다.
+ * 인증 정보는 저장하지 않으며 전달 시점에 jenkinsInfoId 로 조회합니다.
+ * 보상 삭제 후에도 이력이 남도록 pipeline 과 FK 로 연결하지 않습니다.
+ */
+@Entity
+@Table(name = "job_outbox",
+        indexes = {
+                @Index(name = "idx_job_outbox_due", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_job_outbox_pipeline", columnList = "pipeline_id, status, created_at")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobOutbox {
+
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+
+    public enum Status {
+        // 전달 대기 (재시도 대기, 전달 중 포함)
+        PENDING,
+        // 전달 완료
+        SENT,
+        // 이후 수정 요청으로 대체되어 보내지 않음
+        SUPERSEDED,
+        // 재시도 초과 또는 재시도해도 실패할 오류
+        DEAD
+    }
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    @Column(name = "pipeline_id", nullable = false)
+    private UUID pipelineId;
+
+    @Column(nullable = false)
+    private UUID jenkinsInfoId;
+
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    // Jenkins 주소 뒤에 붙는 경로 (예: /createItem?name=job)
+    @Column(nullable = false, length = 1000)
+    private String path;
+
+    // config.xml (삭제 요청은 null)
+    @Lob
+    private String payload;
+
+    // type + pipelineId + path + payload 의 SHA-256. pipeline 의 마지막 대기 요청과 같으면 다시 저장하지 않음
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // 전달 시도 횟수 (가져갈 때 증가)
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후 전달 가능. 전달 중에는 lease 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+}
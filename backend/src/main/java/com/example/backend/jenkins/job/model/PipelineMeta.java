@@ -0,0 +1,30 @@
+package com.example.backend.jenkins.job.model;
+
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 빌드/로그/에러 조회에 필요한 Pipeline 의 메타데이터.
+ * config(@Lob) 와 script 는 포함하지 않으며, jenkinsInfo 는 읽기 전용 복사본입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PipelineMeta {
+
+    private final UUID id;
+    private final String name;
+    private final boolean deleted;
+    private final UUID jenkinsInfoId;
+    private final UUID ownerId;
+    // orderIndex 순 stage 이름
+    private final List<String> stageNames;
+    private final JenkinsInfo jenkinsInfo;
+
+    public PipelineMeta withJenkinsInfo(JenkinsInfo jenkinsInfo) {
+        return new PipelineMeta(id, name, deleted, jenkinsInfoId, ownerId, stageNames, jenkinsInfo);
+    }
+}
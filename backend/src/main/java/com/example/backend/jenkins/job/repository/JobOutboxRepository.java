@@ -0,0 +1,96 @@
+package com.example.backend.jenkins.job.repository;
+
+import com.example.backend.jenkins.job.model.JobOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobOutboxRepository extends JpaRepository<JobOutbox, UUID> {
+
+    /**
+     * 전달 가능한 요청. 같은 pipeline 의 앞선 요청이 대기 중(재시도 대기, 전달 중 포함)이면 제외하므로 pipeline 별 순서가 유지됩니다.
+     */
+    @Query("select o from JobOutbox o where o.status = :status and o.nextAttemptAt <= :now "
+            + "and not exists (select p.id from JobOutbox p where p.pipelineId = o.pipelineId and p.status = :status "
+            + "and (p.createdAt < o.createdAt or (p.createdAt = o.createdAt and p.id < o.id))) "
+            + "order by o.createdAt asc")
+    List<JobOutbox> findDeliverable(@Param("status") JobOutbox.Status status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    /**
+     * pipeline 의 status 요청 중 가장 마지막(큐의 끝) 요청의 idempotency key. 전달 순서와 같은 기준으로 정렬합니다.
+     */
+    @Query("select o.idempotencyKey from JobOutbox o where o.pipelineId = :pipelineId and o.status = :status "
+            + "order by o.createdAt desc, o.id desc")
+    List<String> findLatestKeys(@Param("pipelineId") UUID pipelineId,
+                                @Param("status") JobOutbox.Status status,
+                                Pageable pageable);
+
+    long countByStatus(JobOutbox.Status status);
+
+    Optional<JobOutbox> findFirstByStatusOrderByCreatedAtAsc(JobOutbox.Status status);
+
+    /**
+     * 전달할 요청을 가져갑니다. 다른 인스턴스가 먼저 가져갔거나 조회 이후 시도 횟수가 바뀌었으면 0 을 반환합니다.
+     * leaseUntil 까지 결과가 기록되지 않으면(인스턴스 종료 등) 다시 전달 대상이 됩니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update JobOutbox o set o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil "
+            + "where o.id = :id and o.status = :status and o.attempts = :attempts and o.nextAttemptAt <= :now")
+    int claim(@Param("id") UUID id, @Param("status") JobOutbox.Status status, @Param("attempts") int attempts,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update JobOutbox o set o.status = :status, o.sentAt = :now, o.lastError = null where o.id = :id")
+    void markSent(@Param("id") UUID id, @Param("status") JobOutbox.Status status, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update JobOutbox o set o.nextAttemptAt = :next, o.lastError = :error where o.id = :id and o.status = :status")
+    void reschedule(@Param("id") UUID id, @Param("status") JobOutbox.Status status,
+                    @Param("next") LocalDateTime next, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("update JobOutbox o set o.status = :status, o.lastError = :error where o.id = :id")
+    void markDead(@Param("id") UUID id, @Param("status") JobOutbox.Status status, @Param("error") String error);
+
+    /**
+     * pipeline 의 대기 중인 요청을 모두 status 로 바꿉니다. (생성 실패 시 이후 요청 정리)
+     */
+    @Transactional
+    @Modifying
+    @Query("update JobOutbox o set o.status = :to, o.lastError = :error where o.pipelineId = :pipelineId and o.status = :from")
+    int closePending(@Param("pipelineId") UUID pipelineId, @Param("from") JobOutbox.Status from,
+                     @Param("to") JobOutbox.Status to, @Param("error") String error);
+
+    /**
+     * 아직 한 번도 전달하지 않은 이전 수정 요청을 대체 처리합니다. 전달 중이거나 재시도 대기 중인 요청은 순서 보장을 위해 남겨둡니다.
+     */
+    @Modifying
+    @Query("update JobOutbox o set o.status = :to where o.pipelineId = :pipelineId and o.type = :type "
+            + "and o.status = :from and o.attempts = 0")
+    int supersede(@Param("pipelineId") UUID pipelineId, @Param("type") JobOutbox.Type type,
+                  @Param("from") JobOutbox.Status from, @Param("to") JobOutbox.Status to);
+
+    /**
+     * before 이전에 저장된 요청 중 statuses 상태인 요청을 삭제합니다. (끝난 요청 정리)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from JobOutbox o where o.status in :statuses and o.createdAt < :before")
+    int deleteByStatusInAndCreatedAtBefore(@Param("statuses") Collection<JobOutbox.Status> statuses,
+                                           @Param("before") LocalDateTime before);
+}
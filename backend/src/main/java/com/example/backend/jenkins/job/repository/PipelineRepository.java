@@ -20,16 +20,6 @@ public interface PipelineRepository extends JpaRepository<Pipeline, UUID> {
             """)
     Optional<Pipeline> findWithInfoAndScriptById(@Param("id") UUID id);
 
-    @Query("""
-            select p
-            from Pipeline p
-            left join fetch p.jenkinsInfo ji
-            left join fetch p.script s
-            left join fetch ji.user
-            where p.id = :id
-            """)
-    Optional<Pipeline> findWithInfoAndScriptAndUserById(@Param("id") UUID id);
-
 
     @Query("""
             select p
@@ -50,4 +40,40 @@ public interface PipelineRepository extends JpaRepository<Pipeline, UUID> {
     List<Pipeline> findDeletedWithScriptByJenkinsInfoId(@Param("jenkinsInfoId") UUID jenkinsInfoId);
 
     Optional<Pipeline> findByJenkinsInfoIdAndName(UUID jenkinsInfoId, String name);
+
+    /**
+     * Jenkins 알림의 Job 이름으로 삭제되지 않은 pipeline id 만 조회
+     */
+    @Query("""
+            select p.id
+            from Pipeline p
+            where p.jenkinsInfo.id = :jenkinsInfoId
+              and p.name = :name
+              and p.isDeleted = false
+            """)
+    Optional<UUID> findActiveIdByJenkinsInfoIdAndName(@Param("jenkinsInfoId") UUID jenkinsInfoId, @Param("name") String name);
+
+    /**
+     * config(@Lob) 와 script 를 읽지 않는 메타데이터 조회
+     */
+    @Query("""
+            select p.id as id, p.name as name, p.isDeleted as deleted,
+                   ji.id as jenkinsInfoId, ji.user.id as ownerId
+            from Pipeline p
+            join p.jenkinsInfo ji
+            where p.id = :id
+            """)
+    Optional<MetaView> findMetaById(@Param("id") UUID id);
+
+    interface MetaView {
+        UUID getId();
+
+        String getName();
+
+        Boolean getDeleted();
+
+        UUID getJenkinsInfoId();
+
+        UUID getOwnerId();
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -14,4 +15,7 @@ public interface StageRepository extends JpaRepository<Stage, UUID> {
     @Modifying
     @Query("delete from Stage s where s.pipeline.id = :pipelineId")
     void deleteByPipelineId(@Param("pipelineId") UUID pipelineId);
+
+    @Query("select s.name from Stage s where s.pipeline.id = :pipelineId order by s.orderIndex asc")
+    List<String> findNamesByPipelineId(@Param("pipelineId") UUID pipelineId);
 }
@@ -0,0 +1,353 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.TransportException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.FilterSpec;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.TagOpt;
+import org.eclipse.jgit.transport.Transport;
+import org.eclipse.jgit.transport.URIish;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Git 저장소의 빌드 도구(Gradle, Maven 등)와 빌드 디렉터리를 찾습니다.
+ * <p>
+ * ls-remote 로 브랜치의 commit SHA 를 확인한 뒤 (저장소 URL, SHA) 별로 결과를 캐시하므로, 같은 commit 은 다시 받지 않습니다.
+ * 처음 보는 commit 은 저장소별 로컬 bare mirror 에 depth 1, blob:none 필터로 해당 브랜치만 받아 checkout 없이 tree 의 경로만 읽습니다.
+ * (blob 필터를 지원하지 않는 서버는 필터 없이 받습니다.)
+ * 브랜치가 없거나 지정되지 않으면 원격 저장소의 기본 브랜치(HEAD)를 사용합니다.
+ * <p>
+ * 저장소 주소는 사용자 입력이므로 git.mirror.allowed-schemes 의 scheme(기본 https)만 허용하고,
+ * 로컬 경로와 내부망(loopback, 사설, link-local) 주소의 호스트는 git.mirror.allow-private-hosts 가 true 일 때만 허용합니다.
+ */
+@Slf4j
+@Component
+public class BuildToolDetector {
+
+    private final Path mirrorRoot;
+    private final int timeoutSeconds;
+    private final Set<String> allowedSchemes;
+    private final boolean allowPrivateHosts;
+    private final Map<String, Map<String, String>> results;
+
+    // 저장소별 mirror 동시 fetch 방지
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    // blob 필터를 지원하지 않는 저장소
+    private final Set<String> filterUnsupported = ConcurrentHashMap.newKeySet();
+
+    public BuildToolDetector(
+            @Value("${git.mirror.dir:${java.io.tmpdir}/pipely-git-mirrors}") String mirrorRoot,
+            @Value("${git.mirror.timeout-seconds:30}") int timeoutSeconds,
+            @Value("${git.mirror.cache.max-entries:1000}") int maxEntries,
+            @Value("${git.mirror.allowed-schemes:https}") Set<String> allowedSchemes,
+            @Value("${git.mirror.allow-private-hosts:false}") boolean allowPrivateHosts
+    ) {
+        this.mirrorRoot = Paths.get(mirrorRoot);
+        this.timeoutSeconds = timeoutSeconds;
+        this.allowedSchemes = allowedSchemes.stream().map(scheme -> scheme.trim().toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        this.allowPrivateHosts = allowPrivateHosts;
+        this.results = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, String>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param repoUrl git 저장소 주소 (git.mirror.allowed-schemes 의 scheme 만 허용)
+     * @param branch  브랜치 이름 (null 이면 기본 브랜치)
+     * @return buildTool, directory
+     */
+    public Map<String, String> detect(String repoUrl, String branch) {
+        if (repoUrl == null || repoUrl.isBlank()) {
+            throw new CustomException(ErrorCode.GIT_CLONE_FAILED);
+        }
+        String url = repoUrl.trim();
+        checkAllowed(url);
+
+        Ref ref = resolveBranch(url, branch);
+        ObjectId commitId = ref.getObjectId();
+        String key = url + "@" + commitId.name();
+
+        Map<String, String> cached = results.get(key);
+        if (cached != null) {
+            return new HashMap<>(cached);
+        }
+
+        Map<String, String> detected;
+        synchronized (locks.computeIfAbsent(url, k -> new Object())) {
+            try (Repository mirror = openMirror(url)) {
+                if (!mirror.getObjectDatabase().has(commitId)) {
+                    fetch(mirror, url, ref.getName());
+                }
+                detected = detect(listPaths(mirror, commitId));
+            } catch (IOException e) {
+                log.warn("Git 저장소 조회 실패 - {}: {}", url, e.getMessage());
+                throw new CustomException(ErrorCode.GIT_CLONE_FAILED);
+            }
+        }
+
+        results.put(key, Map.copyOf(detected));
+        return detected;
+    }
+
+    /**
+     * 저장소 경로 목록에서 빌드 도구와 디렉터리를 찾습니다. (Gradle wrapper 가 있으면 우선)
+     */
+    static Map<String, String> detect(Iterable<String> paths) {
+        String buildTool = "Unknown";
+        String scriptDir = ".";  // 디폴트: 루트
+        boolean hasPom = false, hasMvnw = false;
+        String pomDir = null, mvnwDir = null;
+
+        for (String path : paths) {
+            String fileName = path.substring(path.lastIndexOf('/') + 1);
+            if (fileName.equals("gradlew") || fileName.equals("gradlew.bat")) {
+                buildTool = "Gradle";
+                scriptDir = parentDir(path);
+                break;
+            }
+            if (path.endsWith("pom.xml")) {
+                hasPom = true;
+                pomDir = parentDir(path);
+            }
+            if (fileName.equals("mvnw") || fileName.equals("mvnw.cmd")) {
+                hasMvnw = true;
+                mvnwDir = parentDir(path);
+            }
+            if (path.endsWith("build.gradle") || path.endsWith("build.gradle.kts")) {
+                // Gradle 스크립트만 있는 경우
+                if (!"Gradle".equals(buildTool)) {
+                    buildTool = "Gradle";
+                    scriptDir = parentDir(path);
+                }
+            }
+            if (path.endsWith("build.sbt") && "Unknown".equals(buildTool)) {
+                buildTool = "SBT";
+                scriptDir = parentDir(path);
+            }
+            if ((path.equals("WORKSPACE") || path.equals("BUILD") || path.equals("BUILD.bazel"))
+                    && "Unknown".equals(buildTool)) {
+                buildTool = "Bazel";
+                scriptDir = parentDir(path);
+            }
+            if (path.endsWith("build.xml") && "Unknown".equals(buildTool)) {
+                buildTool = "Ant";
+                scriptDir = parentDir(path);
+            }
+        }
+
+        // pom + mvnw 조합이면 Maven Wrapper
+        if ("Unknown".equals(buildTool) && hasPom) {
+            if (hasMvnw) {
+                buildTool = "Maven_Wrapper";
+                scriptDir = mvnwDir != null ? mvnwDir : pomDir;
+            } else {
+                buildTool = "Maven";
+                scriptDir = pomDir;
+            }
+        }
+
+        // 최종 디렉터리 보정
+        if (scriptDir == null || scriptDir.isEmpty()) {
+            scriptDir = ".";
+        }
+
+        Map<String, String> result = new HashMap<>();
+        result.put("buildTool", buildTool);
+        result.put("directory", scriptDir.replace('\\', '/'));
+        return result;
+    }
+
+    int cachedResults() {
+        return results.size();
+    }
+
+    // 허용된 scheme 이 아니거나 내부망 호스트면 GIT_REPOSITORY_NOT_ALLOWED
+    private void checkAllowed(String url) {
+        URIish uri;
+        try {
+            uri = new URIish(url);
+        } catch (URISyntaxException e) {
+            throw new CustomException(ErrorCode.GIT_REPOSITORY_NOT_ALLOWED);
+        }
+        // scheme 이 없는 주소는 로컬 경로 또는 scp 형식(user@host:path)
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : null;
+        if (scheme == null || !allowedSchemes.contains(scheme)) {
+            log.warn("허용되지 않은 Git 저장소 scheme - {}", url);
+            throw new CustomException(ErrorCode.GIT_REPOSITORY_NOT_ALLOWED);
+        }
+        if ("file".equals(scheme) || allowPrivateHosts) {
+            return;
+        }
+        String host = uri.getHost();
+        if (host == null || host.isBlank() || isPrivateHost(host)) {
+            log.warn("허용되지 않은 Git 저장소 호스트 - {}", url);
+            throw new CustomException(ErrorCode.GIT_REPOSITORY_NOT_ALLOWED);
+        }
+    }
+
+    private static boolean isPrivateHost(String host) {
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new CustomException(ErrorCode.GIT_CLONE_FAILED);
+        }
+        for (InetAddress address : addresses) {
+            if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                    || address.isSiteLocalAddress() || address.isMulticastAddress()
+                    // IPv6 unique local (fc00::/7)
+                    || (address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Ref resolveBranch(String url, String branch) {
+        Map<String, Ref> refs;
+        try {
+            refs = Git.lsRemoteRepository()
+                    .setRemote(url)
+                    .setHeads(true)
+                    .setTimeout(timeoutSeconds)
+                    .callAsMap();
+        } catch (GitAPIException | RuntimeException e) {
+            log.warn("Git 원격 저장소 조회 실패 - {}: {}", url, e.getMessage());
+            throw new CustomException(ErrorCode.GIT_CLONE_FAILED);
+        }
+
+        if (branch != null && !branch.isBlank()) {
+            Ref ref = refs.get(Constants.R_HEADS + branch.trim());
+            if (ref != null) {
+                return ref;
+            }
+            log.warn("Git 브랜치가 존재하지 않아 기본 브랜치 사용 - {}: {}", url, branch);
+        }
+
+        Ref head = refs.get(Constants.HEAD);
+        if (head != null && head.isSymbolic()) {
+            Ref target = refs.get(head.getTarget().getName());
+            if (target != null) {
+                return target;
+            }
+        }
+        // HEAD 의 symref 를 알려주지 않는 서버
+        for (String fallback : List.of("main", "master")) {
+            Ref ref = refs.get(Constants.R_HEADS + fallback);
+            if (ref != null) {
+                return ref;
+            }
+        }
+        throw new CustomException(ErrorCode.GIT_CLONE_FAILED);
+    }
+
+    private Repository openMirror(String url) throws IOException {
+        File dir = mirrorRoot.resolve(hash(url) + ".git").toFile();
+        Repository repository = new FileRepositoryBuilder().setGitDir(dir).setBare().build();
+        if (!repository.getObjectDatabase().exists()) {
+            repository.create(true);
+        }
+        return repository;
+    }
+
+    private void fetch(Repository mirror, String url, String refName) throws IOException {
+        RefSpec refSpec = new RefSpec("+" + refName + ":" + refName);
+        boolean useFilter = !filterUnsupported.contains(url);
+        try {
+            fetch(mirror, url, refSpec, useFilter);
+        } catch (TransportException e) {
+            if (!useFilter) {
+                throw e;
+            }
+            // 서버가 partial clone 을 지원하지 않으면 필터 없이 다시 받음
+            log.info("Git 서버가 blob 필터를 지원하지 않아 필터 없이 fetch - {}: {}", url, e.getMessage());
+            filterUnsupported.add(url);
+            fetch(mirror, url, refSpec, false);
+        }
+    }
+
+    private void fetch(Repository mirror, String url, RefSpec refSpec, boolean useFilter) throws IOException {
+        try (Transport transport = Transport.open(mirror, new URIish(url))) {
+            transport.setDepth(1);
+            transport.setTagOpt(TagOpt.NO_TAGS);
+            transport.setTimeout(timeoutSeconds);
+            if (useFilter) {
+                transport.setFilterSpec(FilterSpec.fromFilterLine("blob:none"));
+            }
+            transport.fetch(NullProgressMonitor.INSTANCE, List.of(refSpec));
+        } catch (URISyntaxException e) {
+            throw new CustomException(ErrorCode.GIT_CLONE_FAILED);
+        }
+    }
+
+    private static List<String> listPaths(Repository repository, ObjectId commitId) throws IOException {
+        List<String> paths = new ArrayList<>();
+        try (RevWalk revWalk = new RevWalk(repository);
+             TreeWalk treeWalk = new TreeWalk(repository)) {
+            RevCommit commit = revWalk.parseCommit(commitId);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                paths.add(treeWalk.getPathString());
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * path가 "foo/bar/baz.ext" 면 "foo/bar" 반환, 단 루트면 "."
+     */
+    private static String parentDir(String path) {
+        int idx = path.lastIndexOf('/');
+        return idx > 0 ? path.substring(0, idx) : ".";
+    }
+
+    private static String hash(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.backend.jenkins.job.service;
 
-import com.example.backend.exception.CustomException;
-import com.example.backend.exception.ErrorCode;
 import com.example.backend.jenkins.job.repository.PipelineRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,15 +8,31 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
+/**
+ * Jenkins 요청이 최종 실패했을 때 DB 상태를 되돌립니다. (JobOutboxDispatcher 에서 호출)
+ */
 @Service
 @RequiredArgsConstructor
 public class CompensationService {
     private final PipelineRepository pipelineRepository;
+    private final PipelineMetaCache pipelineMetaCache;
 
+    // Jenkins 에 생성되지 않은 pipeline 삭제
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deletePipeline(UUID pipelineId) {
         pipelineRepository.findById(pipelineId)
                 .ifPresent(pipelineRepository::delete);
-        throw new CustomException(ErrorCode.JENKINS_SERVER_ERROR);
+        pipelineMetaCache.invalidate(pipelineId);
     }
-}
\ No newline at end of file
+
+    // Jenkins 에서 삭제되지 않은 pipeline 의 soft-delete 취소
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void restorePipeline(UUID pipelineId) {
+        pipelineRepository.findById(pipelineId)
+                .ifPresent(pipeline -> {
+                    pipeline.setIsDeleted(false);
+                    pipeline.setDeletedAt(null);
+                });
+        pipelineMetaCache.invalidate(pipelineId);
+    }
+}
@@ -1,40 +1,20 @@
 package com.example.backend.jenkins.job.service;
 
+import com.example.backend.jenkins.job.model.JobOutbox;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
 
 import java.util.UUID;
 
 public class JobEvent {
-    @Getter
-    @AllArgsConstructor
-    public static class JobCreatedEvent<T> {
-        private final UUID pipelineId;
-        private final String url;
-        private final HttpMethod method;
-        private final HttpEntity<?> requestEntity;
-        private final Class<T> responseType;
-    }
-
-    @Getter
-    @AllArgsConstructor
-    public static class JobUpdatedEvent<T> {
-        private final UUID pipelineId;
-        private final String url;
-        private final HttpMethod method;
-        private final HttpEntity<?> requestEntity;
-        private final Class<T> responseType;
-    }
 
+    /**
+     * Job 생성/수정/삭제 요청이 outbox 에 저장됨. Jenkins 요청 자체는 JobOutboxDispatcher 가 보냅니다.
+     */
     @Getter
     @AllArgsConstructor
-    public static class JobDeletedEvent<T> {
+    public static class JobChangedEvent {
         private final UUID pipelineId;
-        private final String url;
-        private final HttpMethod method;
-        private final HttpEntity<?> requestEntity;
-        private final Class<T> responseType;
+        private final JobOutbox.Type type;
     }
 }
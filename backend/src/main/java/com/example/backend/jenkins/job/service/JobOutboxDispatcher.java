@@ -0,0 +1,391 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
+import com.example.backend.jenkins.job.model.JobOutbox;
+import com.example.backend.jenkins.job.repository.JobOutboxRepository;
+import com.example.backend.service.HttpClientService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * job_outbox 의 Jenkins 요청을 요청 스레드와 분리해 전달합니다.
+ * <p>
+ * 커밋 직후(JobChangedEvent)와 주기적으로 깨어나 전달 가능한 요청을 조회하고, Jenkins 주소별로 묶어
+ * jenkinsTaskExecutor 에서 주소마다 하나의 작업이 순서대로 보냅니다. 같은 pipeline 의 요청은 앞선 요청이 끝나야 전달됩니다.
+ * 각 요청은 보내기 직전에 하나씩 가져가므로(claim), lease 는 같은 주소의 앞선 요청들이 아니라 요청 하나의 전달 시간만 감당하면 됩니다.
+ * <p>
+ * 네트워크 오류, timeout, 5xx 는 지수 backoff(jitter 포함)로 재시도하고, 재시도 초과 또는 그 외 오류는 DEAD 로 남깁니다.
+ * 생성이 DEAD 가 되면 pipeline 을 삭제하고 이후 요청도 DEAD 처리하며, 삭제가 DEAD 가 되면 soft-delete 를 되돌립니다.
+ * 응답을 받지 못한 생성 요청을 재시도할 때는 Job 이 이미 있는지 먼저 확인하고, 이미 없는 Job 의 삭제는 성공으로 처리합니다.
+ * <p>
+ * 끝난 요청(SENT, SUPERSEDED, DEAD)은 config.xml 을 담고 있으므로 retention-ms 가 지나면 주기적으로 삭제합니다.
+ */
+@Slf4j
+@Component
+public class JobOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final List<JobOutbox.Status> FINISHED =
+            List.of(JobOutbox.Status.SENT, JobOutbox.Status.SUPERSEDED, JobOutbox.Status.DEAD);
+
+    private final JobOutboxRepository jobOutboxRepository;
+    private final HttpClientService httpClientService;
+    private final JenkinsConnectionCache jenkinsConnectionCache;
+    private final CompensationService compensationService;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long leaseMillis;
+    private final long retentionMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    // 지표
+    private final Map<JobOutbox.Type, Timer> latencyTimers = new EnumMap<>(JobOutbox.Type.class);
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final AtomicLong oldestPendingSeconds = new AtomicLong();
+
+    public JobOutboxDispatcher(
+            JobOutboxRepository jobOutboxRepository,
+            HttpClientService httpClientService,
+            JenkinsConnectionCache jenkinsConnectionCache,
+            CompensationService compensationService,
+            @Qualifier("jenkinsTaskExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${jenkins.outbox.batch-size:100}") int batchSize,
+            @Value("${jenkins.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${jenkins.outbox.base-backoff-ms:1000}") long baseBackoffMillis,
+            @Value("${jenkins.outbox.max-backoff-ms:300000}") long maxBackoffMillis,
+            @Value("${jenkins.outbox.lease-ms:60000}") long leaseMillis,
+            @Value("${jenkins.outbox.retention-ms:604800000}") long retentionMillis
+    ) {
+        this.jobOutboxRepository = jobOutboxRepository;
+        this.httpClientService = httpClientService;
+        this.jenkinsConnectionCache = jenkinsConnectionCache;
+        this.compensationService = compensationService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.leaseMillis = leaseMillis;
+        this.retentionMillis = retentionMillis;
+
+        for (JobOutbox.Type type : JobOutbox.Type.values()) {
+            latencyTimers.put(type, Timer.builder("jenkins.outbox.delivery.latency")
+                    .description("outbox 저장부터 Jenkins 전달 완료까지 걸린 시간")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("jenkins.outbox.backlog", backlog, AtomicLong::get)
+                .description("전달 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("jenkins.outbox.oldest.age.seconds", oldestPendingSeconds, AtomicLong::get)
+                .description("가장 오래 대기 중인 요청의 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("jenkins.outbox.dead", deadLetters, AtomicLong::get)
+                .description("DEAD 로 남은 요청 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobChanged(JobEvent.JobChangedEvent evt) {
+        trigger();
+    }
+
+    // 재시도 대기가 끝난 요청, 다른 인스턴스가 놓친 요청 처리
+    @Scheduled(fixedDelayString = "${jenkins.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        trigger();
+    }
+
+    @Scheduled(fixedDelayString = "${jenkins.outbox.metrics-refresh-ms:15000}")
+    public void refreshMetrics() {
+        backlog.set(jobOutboxRepository.countByStatus(JobOutbox.Status.PENDING));
+        deadLetters.set(jobOutboxRepository.countByStatus(JobOutbox.Status.DEAD));
+        oldestPendingSeconds.set(jobOutboxRepository.findFirstByStatusOrderByCreatedAtAsc(JobOutbox.Status.PENDING)
+                .map(o -> Math.max(0, Duration.between(o.getCreatedAt(), LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+
+    @Scheduled(fixedDelayString = "${jenkins.outbox.cleanup-interval-ms:3600000}")
+    public void purgeFinished() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        int deleted = jobOutboxRepository.deleteByStatusInAndCreatedAtBefore(FINISHED, before);
+        if (deleted > 0) {
+            log.info("끝난 Jenkins 요청 정리 - {}건", deleted);
+        }
+    }
+
+    /**
+     * 전달을 시작합니다. 이미 전달 중이면 끝난 뒤 한 번 더 실행합니다.
+     */
+    public void trigger() {
+        wakeRequested.set(true);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("Jenkins 요청 전달 작업 등록 실패 - 다음 주기에 다시 시도합니다.");
+        }
+    }
+
+    private void dispatch() {
+        wakeRequested.set(false);
+
+        List<Delivery> batch;
+        try {
+            batch = selectBatch();
+        } catch (RuntimeException e) {
+            log.error("Jenkins 요청 outbox 조회 실패", e);
+            finish(false);
+            return;
+        }
+        if (batch.isEmpty()) {
+            finish(false);
+            return;
+        }
+
+        // Jenkins 주소별로 묶어 주소마다 하나의 작업이 순서대로 전달
+        Map<String, List<Delivery>> byHost = new LinkedHashMap<>();
+        for (Delivery delivery : batch) {
+            byHost.computeIfAbsent(delivery.profile.getBaseUri(), k -> new ArrayList<>()).add(delivery);
+        }
+
+        List<CompletableFuture<Void>> hosts = new ArrayList<>(byHost.size());
+        for (List<Delivery> deliveries : byHost.values()) {
+            try {
+                hosts.add(CompletableFuture.runAsync(() -> deliveries.forEach(this::claimAndDeliver), executor));
+            } catch (RejectedExecutionException e) {
+                // 아직 가져가지 않은 요청이므로 다음 주기에 다시 전달 대상이 됨
+                log.warn("Jenkins 요청 전달 작업 등록 실패 - {}건은 다음 주기에 재시도", deliveries.size());
+            }
+        }
+
+        boolean more = batch.size() >= batchSize;
+        CompletableFuture.allOf(hosts.toArray(CompletableFuture[]::new))
+                .whenComplete((v, e) -> finish(more));
+    }
+
+    private void finish(boolean more) {
+        running.set(false);
+        if (more || wakeRequested.get()) {
+            trigger();
+        }
+    }
+
+    private List<Delivery> selectBatch() {
+        List<Delivery> selected = new ArrayList<>();
+        for (JobOutbox outbox : jobOutboxRepository.findDeliverable(JobOutbox.Status.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize))) {
+            JenkinsConnectionCache.Profile profile;
+            try {
+                profile = jenkinsConnectionCache.get(outbox.getJenkinsInfoId());
+            } catch (CustomException e) {
+                if (claim(outbox)) {
+                    deadLetter(outbox, e.getErrorCode().name());
+                }
+                continue;
+            }
+            selected.add(new Delivery(outbox, profile));
+        }
+        return selected;
+    }
+
+    private void claimAndDeliver(Delivery delivery) {
+        try {
+            if (!claim(delivery.outbox)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Jenkins 요청 가져오기 실패 - outboxId: {}", delivery.outbox.getId(), e);
+            return;
+        }
+        deliver(delivery);
+    }
+
+    /**
+     * 보내기 직전에 요청을 가져갑니다. 다른 인스턴스가 먼저 가져갔거나 조회 이후 처리된 요청이면 false.
+     */
+    private boolean claim(JobOutbox outbox) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMillis));
+        if (jobOutboxRepository.claim(outbox.getId(), JobOutbox.Status.PENDING, outbox.getAttempts(), now, leaseUntil) != 1) {
+            return false;
+        }
+        outbox.setAttempts(outbox.getAttempts() + 1);
+        return true;
+    }
+
+    private void deliver(Delivery delivery) {
+        JobOutbox outbox = delivery.outbox;
+        JenkinsConnectionCache.Profile profile = delivery.profile;
+        try {
+            // 이전 시도가 Jenkins 에는 반영되고 응답만 받지 못한 경우
+            if (outbox.getType() == JobOutbox.Type.CREATE && outbox.getAttempts() > 1 && jobExists(profile, outbox.getJobName())) {
+                markSent(outbox);
+                return;
+            }
+
+            MediaType mediaType = outbox.getType() == JobOutbox.Type.DELETE
+                    ? MediaType.APPLICATION_FORM_URLENCODED
+                    : new MediaType("application", "xml", StandardCharsets.UTF_8);
+            HttpHeaders headers = httpClientService.buildHeaders(profile.getInfo(), mediaType);
+            headers.set("Idempotency-Key", outbox.getIdempotencyKey());
+
+            httpClientService.exchange(profile.getBaseUri() + outbox.getPath(), HttpMethod.POST,
+                    new HttpEntity<>(outbox.getPayload(), headers), String.class);
+            markSent(outbox);
+
+        } catch (CustomException e) {
+            if (outbox.getType() == JobOutbox.Type.DELETE && e.getErrorCode() == ErrorCode.JENKINS_ENDPOINT_NOT_FOUND) {
+                // Jenkins 에 이미 없는 Job
+                markSent(outbox);
+                return;
+            }
+            fail(outbox, e.getErrorCode().name(), isRetryable(e.getErrorCode()));
+        } catch (RestClientException e) {
+            // 연결 실패, read timeout 등
+            fail(outbox, e.getClass().getSimpleName() + ": " + e.getMessage(), true);
+        } catch (RuntimeException e) {
+            log.error("Jenkins 요청 전달 중 오류 - outboxId: {}", outbox.getId(), e);
+            fail(outbox, e.getClass().getSimpleName() + ": " + e.getMessage(), false);
+        }
+    }
+
+    private boolean jobExists(JenkinsConnectionCache.Profile profile, String jobName) {
+        try {
+            HttpHeaders headers = httpClientService.buildHeaders(profile.getInfo(), MediaType.APPLICATION_JSON);
+            httpClientService.exchange(profile.getBaseUri() + "/job/" + jobName + "/api/json?tree=name",
+                    HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            return true;
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.JENKINS_ENDPOINT_NOT_FOUND) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void markSent(JobOutbox outbox) {
+        LocalDateTime now = LocalDateTime.now();
+        jobOutboxRepository.markSent(outbox.getId(), JobOutbox.Status.SENT, now);
+        latencyTimers.get(outbox.getType()).record(Duration.between(outbox.getCreatedAt(), now));
+        count(outbox.getType(), "sent");
+    }
+
+    private void fail(JobOutbox outbox, String error, boolean retryable) {
+        if (retryable && outbox.getAttempts() < maxAttempts) {
+            long delay = backoffMillis(outbox.getAttempts());
+            jobOutboxRepository.reschedule(outbox.getId(), JobOutbox.Status.PENDING,
+                    LocalDateTime.now().plus(Duration.ofMillis(delay)), truncate(error));
+            count(outbox.getType(), "retry");
+            log.warn("Jenkins {} 요청 실패 - {}ms 후 재시도 ({}/{}), pipelineId: {}, 원인: {}",
+                    outbox.getType(), delay, outbox.getAttempts(), maxAttempts, outbox.getPipelineId(), error);
+            return;
+        }
+        deadLetter(outbox, error);
+    }
+
+    private void deadLetter(JobOutbox outbox, String error) {
+        jobOutboxRepository.markDead(outbox.getId(), JobOutbox.Status.DEAD, truncate(error));
+        count(outbox.getType(), "dead");
+        log.error("Jenkins {} 요청 최종 실패 - pipelineId: {}, 시도: {}회, 원인: {}",
+                outbox.getType(), outbox.getPipelineId(), outbox.getAttempts(), error);
+
+        try {
+            switch (outbox.getType()) {
+                case CREATE -> {
+                    // Jenkins 에 없는 Job 의 이후 요청은 보내지 않음
+                    jobOutboxRepository.closePending(outbox.getPipelineId(), JobOutbox.Status.PENDING,
+                            JobOutbox.Status.DEAD, "생성 요청 실패로 취소");
+                    compensationService.deletePipeline(outbox.getPipelineId());
+                }
+                case DELETE -> compensationService.restorePipeline(outbox.getPipelineId());
+                // 수정 실패는 이전 config 가 남아있으므로 기록만 남김
+                case UPDATE -> {
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Jenkins 요청 실패 보상 처리 중 오류 - pipelineId: {}", outbox.getPipelineId(), e);
+        }
+    }
+
+    /**
+     * base * 2^(attempts-1) 를 max 로 제한한 뒤 절반~전체 구간에서 무작위로 고릅니다. (동시에 실패한 요청이 한꺼번에 재시도되지 않도록)
+     */
+    long backoffMillis(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = Math.min(maxBackoffMillis, baseBackoffMillis << shift);
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private static boolean isRetryable(ErrorCode errorCode) {
+        return errorCode == ErrorCode.JENKINS_SERVER_ERROR
+                || errorCode == ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR;
+    }
+
+    private void count(JobOutbox.Type type, String result) {
+        Counter.builder("jenkins.outbox.delivery")
+                .description("Jenkins 요청 전달 결과")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @AllArgsConstructor
+    static class Delivery {
+        private final JobOutbox outbox;
+        private final JenkinsConnectionCache.Profile profile;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.jenkins.job.model.JobOutbox;
+import com.example.backend.jenkins.job.repository.JobOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobOutboxService {
+
+    private final JobOutboxRepository jobOutboxRepository;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Jenkins 요청을 호출한 트랜잭션 안에서 outbox 에 저장합니다.
+     * pipeline 의 마지막 대기 요청과 같으면 다시 저장하지 않고, 수정 요청은 아직 보내지 않은 이전 수정 요청을 대체합니다.
+     * 더 앞선 대기 요청과만 같은 경우는 그 사이 요청이 결과를 바꾸므로 새로 저장합니다. (A → B → A 수정)
+     * 커밋 이후 JobChangedEvent 로 dispatcher 를 깨웁니다.
+     *
+     * @param payload config.xml (삭제 요청은 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(UUID pipelineId, UUID jenkinsInfoId, String jobName, JobOutbox.Type type, String payload) {
+        String path = path(type, jobName);
+        String key = idempotencyKey(pipelineId, type, path, payload);
+
+        if (key.equals(latestPendingKey(pipelineId))) {
+            log.debug("동일한 Jenkins 요청이 마지막으로 대기 중 - pipelineId: {}, type: {}", pipelineId, type);
+        } else {
+            if (type == JobOutbox.Type.UPDATE) {
+                jobOutboxRepository.supersede(pipelineId, JobOutbox.Type.UPDATE,
+                        JobOutbox.Status.PENDING, JobOutbox.Status.SUPERSEDED);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            jobOutboxRepository.save(JobOutbox.builder()
+                    .pipelineId(pipelineId)
+                    .jenkinsInfoId(jenkinsInfoId)
+                    .jobName(jobName)
+                    .type(type)
+                    .path(path)
+                    .payload(payload)
+                    .idempotencyKey(key)
+                    .status(JobOutbox.Status.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+
+        publisher.publishEvent(new JobEvent.JobChangedEvent(pipelineId, type));
+    }
+
+    private String latestPendingKey(UUID pipelineId) {
+        List<String> keys = jobOutboxRepository.findLatestKeys(pipelineId, JobOutbox.Status.PENDING, PageRequest.of(0, 1));
+        return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    static String path(JobOutbox.Type type, String jobName) {
+        return switch (type) {
+            case CREATE -> "/createItem?name=" + jobName;
+            case UPDATE -> "/job/" + jobName + "/config.xml";
+            case DELETE -> "/job/" + jobName + "/doDelete";
+        };
+    }
+
+    static String idempotencyKey(UUID pipelineId, JobOutbox.Type type, String path, String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((type.name() + '\n' + pipelineId + '\n' + path + '\n').getBytes(StandardCharsets.UTF_8));
+            if (payload != null) {
+                digest.update(payload.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
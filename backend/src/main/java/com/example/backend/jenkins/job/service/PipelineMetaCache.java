@@ -0,0 +1,157 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.repository.PipelineRepository;
+import com.example.backend.jenkins.job.repository.StageRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * pipelineId 별 PipelineMeta 캐시.
+ * <p>
+ * 같은 id 를 동시에 조회하면 하나의 DB 조회 결과를 공유하며, config(@Lob) 와 script 는 읽지 않습니다.
+ * JenkinsInfo 는 JenkinsConnectionCache 의 복사본을 조회 시점에 붙이므로 JenkinsInfo 수정은 그쪽 무효화만으로 반영됩니다.
+ * Job 생성/수정/삭제 이벤트의 트랜잭션이 끝나면 해당 항목을 제거하고, 다른 인스턴스의 변경은 ttl 이 지나면 반영됩니다.
+ */
+@Slf4j
+@Component
+public class PipelineMetaCache {
+
+    private final PipelineRepository pipelineRepository;
+    private final StageRepository stageRepository;
+    private final JenkinsConnectionCache jenkinsConnectionCache;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    public PipelineMetaCache(
+            PipelineRepository pipelineRepository,
+            StageRepository stageRepository,
+            JenkinsConnectionCache jenkinsConnectionCache,
+            @Value("${jenkins.pipeline-cache.ttl-ms:300000}") long ttlMillis,
+            @Value("${jenkins.pipeline-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.pipelineRepository = pipelineRepository;
+        this.stageRepository = stageRepository;
+        this.jenkinsConnectionCache = jenkinsConnectionCache;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * JenkinsInfo 복사본이 붙은 PipelineMeta 를 반환합니다. 없으면 JENKINS_JOB_NOT_FOUND.
+     */
+    public PipelineMeta get(UUID pipelineId) {
+        PipelineMeta meta = getWithoutInfo(pipelineId);
+        return meta.withJenkinsInfo(jenkinsConnectionCache.get(meta.getJenkinsInfoId()).getInfo());
+    }
+
+    /**
+     * 소유자 확인 등 JenkinsInfo 가 필요 없는 경우에 사용합니다.
+     */
+    public PipelineMeta getWithoutInfo(UUID pipelineId) {
+        long now = System.currentTimeMillis();
+        Entry current = entries.get(pipelineId);
+        if (current != null && current.expiresAt > now) {
+            return join(current.future);
+        }
+
+        CompletableFuture<PipelineMeta> mine = new CompletableFuture<>();
+        Entry created = new Entry(mine, now + ttlMillis);
+        Entry running = entries.compute(pipelineId,
+                (id, existing) -> existing != null && existing.expiresAt > now ? existing : created);
+        if (running != created) {
+            return join(running.future);
+        }
+
+        try {
+            PipelineMeta meta = load(pipelineId);
+            mine.complete(meta);
+            trim();
+            return meta;
+        } catch (RuntimeException e) {
+            // 실패(없는 pipeline 포함)는 캐시하지 않음
+            entries.remove(pipelineId, created);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(UUID pipelineId) {
+        entries.remove(pipelineId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(pipelineId);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onJobChanged(JobEvent.JobChangedEvent evt) {
+        entries.remove(evt.getPipelineId());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private PipelineMeta load(UUID pipelineId) {
+        PipelineRepository.MetaView view = pipelineRepository.findMetaById(pipelineId)
+                .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND));
+        List<String> stageNames = List.copyOf(stageRepository.findNamesByPipelineId(pipelineId));
+        return new PipelineMeta(view.getId(), view.getName(), Boolean.TRUE.equals(view.getDeleted()),
+                view.getJenkinsInfoId(), view.getOwnerId(), stageNames, null);
+    }
+
+    private void trim() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        // 순서와 무관하게 초과분만큼 제거 (다음 조회 시 다시 적재)
+        int overflow = entries.size() - maxEntries;
+        Iterator<UUID> it = entries.keySet().iterator();
+        while (overflow-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        log.debug("Pipeline 메타데이터 캐시 정리 - 남은 항목: {}건", entries.size());
+    }
+
+    private static PipelineMeta join(CompletableFuture<PipelineMeta> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final CompletableFuture<PipelineMeta> future;
+        private final long expiresAt;
+    }
+}
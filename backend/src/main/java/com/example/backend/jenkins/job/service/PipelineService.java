@@ -1,28 +1,23 @@
 package com.example.backend.jenkins.job.service;
 
-import com.example.backend.auth.user.model.Users;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
 import com.example.backend.jenkins.info.service.JenkinsInfoService;
+import com.example.backend.jenkins.job.model.JobOutbox;
 import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
 import com.example.backend.jenkins.job.model.Script;
 import com.example.backend.jenkins.job.model.Stage;
 import com.example.backend.jenkins.job.model.dto.RequestDto;
 import com.example.backend.jenkins.job.model.dto.ResponseDto;
 import com.example.backend.jenkins.job.repository.PipelineRepository;
-import com.example.backend.service.HttpClientService;
 import com.example.backend.util.ScriptEditUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -34,14 +29,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PipelineService {
 
-    private final ApplicationEventPublisher publisher;
-    private final HttpClientService httpClientService;
     private final JenkinsInfoService jenkinsInfoService;
     private final ConfigService configService;
     private final ScriptService scriptService;
     private final ScriptEditUtil scriptEditUtil;
     private final PipelineRepository pipelineRepository;
     private final StageService stageService;
+    private final PipelineMetaCache pipelineMetaCache;
+    private final JobOutboxService jobOutboxService;
 
     @Transactional
     public void createJob(RequestDto.CreateDto requestDto) {
@@ -75,16 +70,8 @@ public class PipelineService {
         }
         info.getPipelineList().add(saved);
 
-        // jenkins에 http 요청
-        String jenkinsUrl = info.getUri() + "/createItem?name=" + requestDto.getName();
-        HttpEntity<String> req = new HttpEntity<>(
-                config,
-                httpClientService.buildHeaders(
-                        info,
-                        new MediaType("application", "xml", StandardCharsets.UTF_8)
-                )
-        );
-        publisher.publishEvent(new JobEvent.JobCreatedEvent<>(saved.getId(), jenkinsUrl, HttpMethod.POST, req, String.class));
+        // jenkins 요청은 outbox 에 저장하고 커밋 이후 전달
+        jobOutboxService.enqueue(saved.getId(), info.getId(), requestDto.getName(), JobOutbox.Type.CREATE, config);
     }
 
     @Transactional
@@ -131,16 +118,8 @@ public class PipelineService {
         // 수정된 job 저장
         Pipeline updated = pipelineRepository.save(pipeline);
 
-        // jenkins에 http 요청
-        String jenkinsUrl = info.getUri() + "/job/" + requestDto.getName() + "/config.xml";
-        HttpEntity<String> req = new HttpEntity<>(
-                config,
-                httpClientService.buildHeaders(
-                        info,
-                        new MediaType("application", "xml", StandardCharsets.UTF_8)
-                )
-        );
-        publisher.publishEvent(new JobEvent.JobUpdatedEvent<>(updated.getId(), jenkinsUrl, HttpMethod.POST, req, String.class));
+        // jenkins 요청은 outbox 에 저장하고 커밋 이후 전달
+        jobOutboxService.enqueue(updated.getId(), info.getId(), requestDto.getName(), JobOutbox.Type.UPDATE, config);
     }
 
     public Pipeline getPipelineById(UUID id) {
@@ -148,6 +127,13 @@ public class PipelineService {
                 .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND));
     }
 
+    /**
+     * 빌드/로그/에러 조회용 메타데이터 (캐시). 수정이 필요하면 getPipelineById 를 사용합니다.
+     */
+    public PipelineMeta getPipelineMeta(UUID id) {
+        return pipelineMetaCache.get(id);
+    }
+
     @Transactional
     public void softDeletePipelineById(UUID id) {
         Pipeline pipeline = getPipelineById(id);
@@ -159,14 +145,7 @@ public class PipelineService {
 
         pipelineRepository.save(pipeline);
 
-        String jenkinsUrl = info.getUri() + "/job/" + pipeline.getName() + "/doDelete";
-        HttpEntity<String> req = new HttpEntity<>(
-                httpClientService.buildHeaders(
-                        info,
-                        MediaType.APPLICATION_FORM_URLENCODED
-                )
-        );
-        publisher.publishEvent(new JobEvent.JobDeletedEvent<>(pipeline.getId(), jenkinsUrl, HttpMethod.POST, req, String.class));
+        jobOutboxService.enqueue(pipeline.getId(), info.getId(), pipeline.getName(), JobOutbox.Type.DELETE, null);
     }
 
     @Transactional
@@ -174,6 +153,7 @@ public class PipelineService {
         Pipeline pipeline = getPipelineById(id);
 
         pipelineRepository.delete(pipeline);
+        pipelineMetaCache.invalidate(id);
     }
 
     public List<ResponseDto.LightJobDto> getLightJobs(UUID jenkinsInfoId) {
@@ -192,15 +172,10 @@ public class PipelineService {
     }
 
     // Pipeline 권한 확인하는 AOP
-    public boolean isOwner(Users user, UUID pipelineId) {
+    public boolean isOwner(UUID userId, UUID pipelineId) {
 
-        Pipeline pipeline = pipelineRepository.findWithInfoAndScriptAndUserById(pipelineId)
-                .orElseThrow(() -> new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND));
-        JenkinsInfo info = pipeline.getJenkinsInfo();
-        UUID userId = user.getId();
-        UUID confirmUserId = info.getUser().getId();
-        log.info(user.getId().toString());
-        log.info(info.getUser().getId().toString());
+        // 이후 서비스 호출과 같은 캐시 항목을 사용
+        UUID confirmUserId = pipelineMetaCache.getWithoutInfo(pipelineId).getOwnerId();
         return userId.equals(confirmUserId);
     }
 }
@@ -23,6 +23,7 @@ public class ScriptService {
     private final ScriptEditUtil scriptEditUtil;
     private final ScriptRepository scriptRepository;
     private final JenkinsInfoService jenkinsInfoService;
+    private final ScriptValidationService scriptValidationService;
 
     public Script getScriptById(UUID scriptId) {
 
@@ -72,9 +73,7 @@ public class ScriptService {
 
         JenkinsInfo info = jenkinsInfoService.getJenkinsInfo(requestDto.getInfoId());
 
-        if (!scriptEditUtil.validateJenkinsfile(info, requestDto.getScript())) {
-            throw new CustomException(ErrorCode.JENKINS_SCRIPT_NOT_FOUND);
-        }
+        scriptValidationService.validate(info, requestDto.getScript());
 
     }
 
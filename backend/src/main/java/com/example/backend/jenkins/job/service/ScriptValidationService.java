@@ -0,0 +1,113 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.parser.Jenkinsfile;
+import com.example.backend.parser.JenkinsfileValidator;
+import com.example.backend.util.ScriptEditUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkinsfile 검증.
+ * <p>
+ * 먼저 JenkinsfileValidator 로 구조를 검사하고, 통과한 스크립트만 Jenkins 의 /pipeline-model-converter/validate 로 보냅니다.
+ * 두 결과 모두 스크립트 내용의 SHA-256 으로 캐시하며, Jenkins 결과는 설치된 플러그인에 따라 달라지므로 JenkinsInfo 별로 구분합니다.
+ * Jenkins 호출이 실패(연결 오류 등)한 경우는 캐시하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ScriptValidationService {
+
+    private final JenkinsfileValidator jenkinsfileValidator;
+    private final ScriptEditUtil scriptEditUtil;
+
+    // 스크립트 hash -> 구조 검사 결과
+    private final Map<String, List<Jenkinsfile.Problem>> localResults;
+    // infoId:스크립트 hash -> Jenkins 검증 결과
+    private final Map<String, Boolean> remoteResults;
+
+    public ScriptValidationService(
+            JenkinsfileValidator jenkinsfileValidator,
+            ScriptEditUtil scriptEditUtil,
+            @Value("${jenkins.script-validation.cache.max-entries:1000}") int maxEntries
+    ) {
+        this.jenkinsfileValidator = jenkinsfileValidator;
+        this.scriptEditUtil = scriptEditUtil;
+        this.localResults = lruMap(maxEntries);
+        this.remoteResults = lruMap(maxEntries);
+    }
+
+    /**
+     * 구조 검사 후, 처음 보는 스크립트만 Jenkins 에서 검증합니다. 실패하면 JENKINS_SCRIPT_NOT_VALID.
+     */
+    public void validate(JenkinsInfo info, String script) {
+        String hash = hash(script);
+
+        List<Jenkinsfile.Problem> problems = validateLocally(hash, script);
+        if (!problems.isEmpty()) {
+            Jenkinsfile.Problem first = problems.get(0);
+            log.info("Jenkinsfile 구조 검사 실패 - {}건, 첫 문제: {}:{} {}",
+                    problems.size(), first.getLine(), first.getColumn(), first.getMessage());
+            throw new CustomException(ErrorCode.JENKINS_SCRIPT_NOT_VALID);
+        }
+
+        String remoteKey = info.getId() + ":" + hash;
+        Boolean valid = remoteResults.get(remoteKey);
+        if (valid == null) {
+            valid = scriptEditUtil.validateJenkinsfile(info, script);
+            remoteResults.put(remoteKey, valid);
+        } else {
+            log.debug("Jenkinsfile 검증 결과 캐시 사용 - infoId: {}", info.getId());
+        }
+        if (!valid) {
+            throw new CustomException(ErrorCode.JENKINS_SCRIPT_NOT_VALID);
+        }
+    }
+
+    /**
+     * Jenkins 호출 없이 구조만 검사합니다.
+     */
+    public List<Jenkinsfile.Problem> validateLocally(String script) {
+        return validateLocally(hash(script), script);
+    }
+
+    private List<Jenkinsfile.Problem> validateLocally(String hash, String script) {
+        List<Jenkinsfile.Problem> cached = localResults.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        List<Jenkinsfile.Problem> problems = List.copyOf(jenkinsfileValidator.validate(script));
+        localResults.put(hash, problems);
+        return problems;
+    }
+
+    private static String hash(String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((script == null ? "" : script).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <V> Map<String, V> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+}
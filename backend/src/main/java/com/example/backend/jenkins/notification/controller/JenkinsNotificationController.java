@@ -0,0 +1,36 @@
+package com.example.backend.jenkins.notification.controller;
+
+import com.example.backend.exception.BaseResponse;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.BuildNotification;
+import com.example.backend.jenkins.notification.service.JenkinsNotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/jenkins/notifications")
+@Tag(name = "Jenkins Notification", description = "Jenkins 빌드 알림 수신 API")
+public class JenkinsNotificationController {
+
+    static final String TOKEN_HEADER = "X-Pipely-Token";
+
+    private final JenkinsNotificationService jenkinsNotificationService;
+
+    @Operation(summary = "Jenkins 빌드 알림 수신",
+            description = "Jenkins Notification 플러그인(또는 파이프라인 httpRequest)이 보내는 빌드 알림을 반영합니다. "
+                    + "JWT 대신 /api/jenkins/info/{infoId}/notification-token 으로 발급한 토큰을 X-Pipely-Token 헤더로 보내야 합니다.")
+    @PostMapping("/{infoId}")
+    public ResponseEntity<BaseResponse<String>> receive(
+            @PathVariable UUID infoId,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @RequestBody @Valid BuildNotification notification) {
+        jenkinsNotificationService.handle(infoId, token, notification);
+        return ResponseEntity.ok(BaseResponse.success("알림 수신 완료"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.backend.jenkins.notification.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * Jenkins 빌드 알림 단계.
+ * QUEUED ~ FINALIZED 는 Notification 플러그인의 phase 값이며, STAGE_COMPLETED 는 파이프라인에서 직접 보내는 스테이지 완료 알림입니다.
+ */
+public enum NotificationPhase {
+
+    QUEUED,
+    STARTED,
+    COMPLETED,
+    FINALIZED,
+    STAGE_COMPLETED;
+
+    /**
+     * null 이면 null 을 반환하고, 요청 DTO 의 @NotNull 검증에서 400 으로 거절됩니다.
+     */
+    @JsonCreator
+    public static NotificationPhase fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return NotificationPhase.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 알림 단계입니다: " + value);
+        }
+    }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FINALIZED;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.backend.jenkins.notification.model.dto;
+
+import com.example.backend.jenkins.notification.model.NotificationPhase;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class NotificationRequestDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Jenkins 빌드 알림 (Notification 플러그인 JSON 형식)")
+    public static class BuildNotification {
+
+        @Schema(description = "Job 이름", example = "build-backend")
+        @NotBlank(message = "name은 비어 있을 수 없습니다.")
+        private String name;
+
+        @Schema(description = "Job 상대 경로", example = "job/build-backend/")
+        private String url;
+
+        @Valid
+        @NotNull(message = "build는 필수입니다.")
+        private Build build;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Build {
+
+        @Schema(description = "빌드 번호", example = "42")
+        @NotNull(message = "build.number는 필수입니다.")
+        @Min(value = 1, message = "build.number는 1 이상이어야 합니다.")
+        private Integer number;
+
+        @Schema(description = "알림 단계", example = "COMPLETED")
+        @NotNull(message = "build.phase는 필수입니다.")
+        private NotificationPhase phase;
+
+        @Schema(description = "빌드 결과 (종료 알림에만 존재)", example = "FAILURE")
+        private String status;
+
+        @Schema(description = "빌드 전체 URL", example = "http://jenkins.example.com/job/build-backend/42/")
+        @JsonProperty("full_url")
+        private String fullUrl;
+
+        @Schema(description = "빌드 시작 시각 (epoch ms)", example = "1720589400000")
+        private Long timestamp;
+
+        @Schema(description = "빌드 소요 시간 (ms)", example = "12300")
+        private Long duration;
+
+        @Valid
+        @Schema(description = "완료된 스테이지 (STAGE_COMPLETED 에만 존재)")
+        private Stage stage;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stage {
+
+        @Schema(description = "스테이지 이름", example = "Test")
+        @NotBlank(message = "stage.name은 비어 있을 수 없습니다.")
+        private String name;
+
+        @Schema(description = "스테이지 결과", example = "SUCCESS")
+        private String status;
+
+        @Schema(description = "스테이지 소요 시간 (ms)", example = "5400")
+        private Long durationMillis;
+    }
+}
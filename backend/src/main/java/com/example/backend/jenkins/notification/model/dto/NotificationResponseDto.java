@@ -0,0 +1,30 @@
+package com.example.backend.jenkins.notification.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class NotificationResponseDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "스테이지 완료 (SSE stage 이벤트 데이터)")
+    public static class StageEvent {
+
+        @Schema(description = "빌드 번호", example = "42")
+        private int buildNumber;
+
+        @Schema(description = "스테이지 이름", example = "Test")
+        private String stage;
+
+        @Schema(description = "스테이지 결과", example = "SUCCESS")
+        private String status;
+
+        @Schema(description = "스테이지 소요 시간 (ms)", example = "5400")
+        private Long durationMillis;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.backend.jenkins.notification.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.build.service.BuildHistoryStore;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuild;
+import com.example.backend.jenkins.error.service.ErrorService;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.repository.PipelineRepository;
+import com.example.backend.jenkins.job.service.PipelineService;
+import com.example.backend.jenkins.notification.model.NotificationPhase;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.Build;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.BuildNotification;
+import com.example.backend.jenkins.notification.model.dto.NotificationResponseDto.StageEvent;
+import com.example.backend.service.JenkinsStatusPoller;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Jenkins 가 보내는 빌드 알림을 받아 BuildHistoryStore 에 반영하고, 감시 중인 viewer 에게 바로 전달합니다.
+ * <p>
+ * 알림을 받는 pipeline 은 poll 대신 알림으로 상태가 갱신되므로 JenkinsStatusPoller / BuildHistoryStore 는
+ * reconcile-interval 에 한 번씩만 Jenkins 와 다시 맞춥니다. (알림 유실 대비)
+ * 실패로 끝난 빌드는 viewer 가 요청하기 전에 에러 요약을 미리 만들어 BuildSummaryCache 에 채워 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JenkinsNotificationService {
+
+    static final String RESULT_FAILURE = "FAILURE";
+    static final String EVENT_STAGE = "stage";
+
+    private final JenkinsConnectionCache jenkinsConnectionCache;
+    private final PipelineRepository pipelineRepository;
+    private final PipelineService pipelineService;
+    private final BuildHistoryStore buildHistoryStore;
+    private final ErrorService errorService;
+    private final JenkinsStatusPoller jenkinsStatusPoller;
+
+    public void handle(UUID infoId, String token, BuildNotification notification) {
+        JenkinsConnectionCache.Profile profile = authenticate(infoId, token);
+
+        String jobName = notification.getName();
+        Build build = notification.getBuild();
+        Optional<UUID> pipelineId = pipelineRepository.findActiveIdByJenkinsInfoIdAndName(infoId, jobName);
+        if (pipelineId.isEmpty()) {
+            // Pipely 에서 관리하지 않는 Job 의 알림은 무시
+            log.debug("관리 대상이 아닌 Job 알림 무시 - infoId: {}, job: {}", infoId, jobName);
+            return;
+        }
+        if (build.getPhase() == NotificationPhase.QUEUED) {
+            return;
+        }
+
+        PipelineMeta pipeline = pipelineService.getPipelineMeta(pipelineId.get());
+        int buildNumber = build.getNumber();
+        BuildHistoryStore.Applied applied = buildHistoryStore.apply(pipeline, buildNumber, updateOf(profile, jobName, build));
+        BuildRecord record = applied.getRecord();
+
+        String pipelineKey = "pipeline:" + pipeline.getId();
+        if (build.getPhase() == NotificationPhase.STAGE_COMPLETED && build.getStage() != null) {
+            jenkinsStatusPoller.broadcast(pipelineKey, EVENT_STAGE, StageEvent.builder()
+                    .buildNumber(buildNumber)
+                    .stage(build.getStage().getName())
+                    .status(build.getStage().getStatus())
+                    .durationMillis(build.getStage().getDurationMillis())
+                    .build());
+        }
+        jenkinsStatusPoller.publish(pipelineKey, String.valueOf(buildNumber), BuildResponseDto.BuildInfo.from(record));
+
+        // 전체 Job 최근 빌드 감시는 Job 의 마지막 빌드만 보여주므로 최신 빌드일 때만 전달
+        if (buildNumber >= buildHistoryStore.getLatest(pipeline).getBuildNumber()) {
+            jenkinsStatusPoller.publish("info:" + infoId, jobName, FailedBuild.of(jobName, buildNumber,
+                    Boolean.TRUE.equals(record.getBuilding()) ? null : record.getResult(),
+                    record.getTimestamp(), record.getDuration()));
+        }
+
+        if (applied.isFinished() && RESULT_FAILURE.equals(record.getResult())) {
+            prefetchSummary(profile, jobName, buildNumber);
+        }
+    }
+
+    private JenkinsConnectionCache.Profile authenticate(UUID infoId, String token) {
+        JenkinsConnectionCache.Profile profile;
+        try {
+            profile = jenkinsConnectionCache.get(infoId);
+        } catch (CustomException e) {
+            // 존재하지 않는 infoId 도 토큰 불일치와 같은 응답으로 처리
+            throw new CustomException(ErrorCode.JENKINS_NOTIFICATION_UNAUTHORIZED);
+        }
+        String expected = profile.getInfo().getNotificationToken();
+        if (expected == null || token == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.JENKINS_NOTIFICATION_UNAUTHORIZED);
+        }
+        return profile;
+    }
+
+    private Consumer<BuildRecord> updateOf(JenkinsConnectionCache.Profile profile, String jobName, Build build) {
+        return record -> {
+            if (record.getBuildUrl() == null) {
+                record.setBuildUrl(build.getFullUrl() != null
+                        ? build.getFullUrl()
+                        : profile.getBaseUri() + "/job/" + jobName + "/" + build.getNumber() + "/");
+            }
+            if (build.getTimestamp() != null) {
+                record.setTimestamp(build.getTimestamp());
+            }
+            switch (build.getPhase()) {
+                case STARTED -> record.setBuilding(true);
+                case COMPLETED, FINALIZED -> {
+                    if (build.getStatus() == null) {
+                        throw new CustomException(ErrorCode.JENKINS_NOTIFICATION_INVALID);
+                    }
+                    record.setBuilding(false);
+                    record.setResult(build.getStatus());
+                    if (build.getDuration() != null) {
+                        record.setDuration(build.getDuration());
+                    }
+                }
+                // 스테이지 완료는 빌드 레코드만 보장
+                default -> {
+                }
+            }
+        };
+    }
+
+    private void prefetchSummary(JenkinsConnectionCache.Profile profile, String jobName, int buildNumber) {
+        try {
+            errorService.summarizeBuildAsync(profile.getInfo(), jobName, buildNumber)
+                    .exceptionally(ex -> {
+                        log.warn("실패 빌드 요약 미리 생성 실패 - job: {}, build: {}, 원인: {}", jobName, buildNumber, ex.getMessage());
+                        return null;
+                    });
+        } catch (RuntimeException ex) {
+            log.warn("실패 빌드 요약 미리 생성 실패 - job: {}, build: {}, 원인: {}", jobName, buildNumber, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.backend.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 줄 길이에 상한을 둔 line reader.
+ * BufferedReader.readLine 은 개행 없는 거대한 줄을 통째로 메모리에 올리므로, 콘솔 로그처럼 크기를 알 수 없는 입력에 사용합니다.
+ * maxLineChars 를 넘는 부분은 버리고 TRUNCATED_SUFFIX 를 붙입니다.
+ */
+public class BoundedLineReader {
+
+    public static final String TRUNCATED_SUFFIX = " …[truncated]";
+    private static final int READ_BUFFER_CHARS = 8192;
+
+    private final Reader reader;
+    private final int maxLineChars;
+    private final StringBuilder line = new StringBuilder();
+
+    public BoundedLineReader(Reader reader, int maxLineChars) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, READ_BUFFER_CHARS);
+        this.maxLineChars = maxLineChars;
+    }
+
+    public static BoundedLineReader utf8(InputStream body, int maxLineChars) {
+        return new BoundedLineReader(new InputStreamReader(body, StandardCharsets.UTF_8), maxLineChars);
+    }
+
+    /**
+     * @return 다음 줄 (개행 제외), EOF 이면 null
+     */
+    public String readLine() throws IOException {
+        line.setLength(0);
+        boolean truncated = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (c == '\n') {
+                break;
+            }
+            if (line.length() < maxLineChars) {
+                line.append((char) c);
+            } else {
+                truncated = true;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        if (truncated) {
+            line.append(TRUNCATED_SUFFIX);
+        }
+        return line.toString();
+    }
+
+    /**
+     * 내용을 보관하지 않고 한 줄을 건너뜁니다.
+     *
+     * @return EOF 이면 false
+     */
+    public boolean skipLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            c = reader.read();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,387 @@
+package com.example.backend.parser;
+
+import com.example.backend.parser.JenkinsfileLexer.Token;
+import com.example.backend.parser.JenkinsfileLexer.Type;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative pipeline 스크립트의 블록 구조(AST).
+ * <p>
+ * JenkinsfileLexer 의 토큰을 한 번 훑으며 `이름 (인자) {` 또는 `이름 {` 형태를 블록으로 만들고,
+ * pipeline / parameters / stage / when / post 를 이름으로 찾습니다. stage 의 label 은 첫 문자열 인자입니다.
+ * 수정은 edit() 로 위치별 삽입을 모은 뒤 apply() 에서 원문을 한 번 복사하며 반영합니다.
+ */
+@Getter
+public final class Jenkinsfile {
+
+    private static final String CONTINUATION = "+-*/%=&|^!?<>.~";
+
+    private final String source;
+    private final Block root;
+    private final List<Problem> errors;
+    @Getter(AccessLevel.NONE)
+    private final List<Token> tokens;
+
+    private Jenkinsfile(String source, Block root, List<Token> tokens, List<Problem> errors) {
+        this.source = source;
+        this.root = root;
+        this.tokens = tokens;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public static Jenkinsfile parse(String script) {
+        String source = script == null ? "" : script;
+        List<Problem> errors = new ArrayList<>();
+        List<Token> tokens = JenkinsfileLexer.tokenize(source, errors);
+
+        Block root = new Block(null, null, 0, -1);
+        Deque<Block> open = new ArrayDeque<>();
+        open.push(root);
+        Deque<Integer> parens = new ArrayDeque<>();
+        int[] parenOpenOf = new int[tokens.size()];
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            Block current = open.peek();
+            if (token.getType() == Type.IDENT && parens.size() == current.parenDepth
+                    && isStatementStart(source, tokens, i)) {
+                current.directives.add(new Directive(token.getText(), token.getStart(), i));
+            }
+            switch (token.getType()) {
+                case LPAREN -> parens.push(i);
+                case RPAREN -> {
+                    if (parens.isEmpty()) {
+                        errors.add(Problem.at(source, token.getStart(), "짝이 맞지 않는 ')'"));
+                        parenOpenOf[i] = -1;
+                    } else {
+                        parenOpenOf[i] = parens.pop();
+                    }
+                }
+                case LBRACE -> {
+                    Block block = header(tokens, i, parenOpenOf);
+                    block.firstToken = i;
+                    block.parenDepth = parens.size();
+                    open.peek().children.add(block);
+                    open.push(block);
+                }
+                case RBRACE -> {
+                    if (open.size() == 1) {
+                        errors.add(Problem.at(source, token.getStart(), "짝이 맞지 않는 '}'"));
+                    } else {
+                        Block block = open.pop();
+                        block.close = token.getStart();
+                        block.lastToken = i;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        while (open.size() > 1) {
+            Block block = open.pop();
+            errors.add(Problem.at(source, block.open, "닫히지 않은 블록" + (block.name != null ? ": " + block.name : "")));
+            block.close = source.length();
+            block.lastToken = tokens.size();
+        }
+        if (!parens.isEmpty()) {
+            errors.add(Problem.at(source, tokens.get(parens.peek()).getStart(), "닫히지 않은 '('"));
+        }
+        root.close = source.length();
+        root.lastToken = tokens.size();
+        return new Jenkinsfile(source, root, tokens, errors);
+    }
+
+    // '{' 앞의 `이름` 또는 `이름(인자)` 로 블록 이름과 label 을 정합니다.
+    private static Block header(List<Token> tokens, int brace, int[] parenOpenOf) {
+        Token lbrace = tokens.get(brace);
+        if (brace == 0) {
+            return new Block(null, null, lbrace.getStart(), lbrace.getStart());
+        }
+        Token prev = tokens.get(brace - 1);
+        if (prev.getType() == Type.IDENT) {
+            return new Block(prev.getText(), null, prev.getStart(), lbrace.getStart());
+        }
+        if (prev.getType() == Type.RPAREN && parenOpenOf[brace - 1] > 0) {
+            int lparen = parenOpenOf[brace - 1];
+            Token name = tokens.get(lparen - 1);
+            if (name.getType() == Type.IDENT) {
+                Token first = tokens.get(lparen + 1);
+                Token afterFirst = tokens.get(lparen + 2);
+                String label = first.getType() == Type.STRING
+                        && (afterFirst.getType() == Type.RPAREN || afterFirst.getType() == Type.COMMA)
+                        ? first.getText() : null;
+                return new Block(name.getText(), label, name.getStart(), lbrace.getStart());
+            }
+        }
+        return new Block(null, null, lbrace.getStart(), lbrace.getStart());
+    }
+
+    // 블록 시작/끝 직후이거나 줄의 첫 토큰이면 문장의 시작
+    private static boolean isStatementStart(String source, List<Token> tokens, int index) {
+        if (index == 0) {
+            return true;
+        }
+        Token prev = tokens.get(index - 1);
+        if (prev.getType() == Type.LBRACE || prev.getType() == Type.RBRACE) {
+            return true;
+        }
+        if (prev.getType() == Type.OTHER && ";".equals(prev.getText())) {
+            return true;
+        }
+        // 앞 줄이 연산자/쉼표로 끝나면 이어지는 식
+        boolean continued = prev.getType() == Type.COMMA || prev.getType() == Type.COLON
+                || (prev.getType() == Type.OTHER && CONTINUATION.indexOf(prev.getText().charAt(0)) >= 0);
+        return !continued && source.lastIndexOf('\n', tokens.get(index).getStart()) >= prev.getEnd();
+    }
+
+    /**
+     * directive 바로 뒤 괄호 안의 `이름: 값` 인자 (값이 문자열이 아니면 null)
+     * 예: booleanParam(name: 'A', defaultValue: true) -> {name=A, defaultValue=null}
+     */
+    public Map<String, String> getArguments(Directive directive) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        int i = directive.tokenIndex + 1;
+        if (i >= tokens.size() || tokens.get(i).getType() != Type.LPAREN) {
+            return arguments;
+        }
+        int depth = 0;
+        for (; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.getType() == Type.LPAREN) {
+                depth++;
+            } else if (token.getType() == Type.RPAREN) {
+                if (--depth == 0) {
+                    break;
+                }
+            } else if (depth == 1 && token.getType() == Type.IDENT && i + 1 < tokens.size()
+                    && tokens.get(i + 1).getType() == Type.COLON) {
+                Token value = i + 2 < tokens.size() ? tokens.get(i + 2) : null;
+                arguments.put(token.getText(), value != null && value.getType() == Type.STRING ? value.getText() : null);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * 최상위 pipeline 블록 (scripted pipeline 이면 null)
+     */
+    public Block getPipeline() {
+        return root.child("pipeline");
+    }
+
+    /**
+     * 문서 순서대로 label 이 있는 모든 stage (parallel / 중첩 stages 포함)
+     */
+    public List<Block> getStages() {
+        List<Block> stages = new ArrayList<>();
+        root.collect("stage", stages);
+        stages.removeIf(stage -> stage.label == null);
+        return stages;
+    }
+
+    public List<String> getStageNames() {
+        List<String> names = new ArrayList<>();
+        for (Block stage : getStages()) {
+            names.add(stage.label);
+        }
+        return names;
+    }
+
+    /**
+     * pipeline 바로 아래의 parameters 블록
+     */
+    public Block getParameters() {
+        Block pipeline = getPipeline();
+        return pipeline != null ? pipeline.child("parameters") : null;
+    }
+
+    /**
+     * parameters 블록의 `name: '...'` 값
+     */
+    public Set<String> getParameterNames() {
+        Set<String> names = new LinkedHashSet<>();
+        Block parameters = getParameters();
+        if (parameters == null) {
+            return names;
+        }
+        for (int i = parameters.firstToken + 1; i + 2 < parameters.lastToken; i++) {
+            Token token = tokens.get(i);
+            if (token.getType() == Type.IDENT && "name".equals(token.getText())
+                    && tokens.get(i + 1).getType() == Type.COLON
+                    && tokens.get(i + 2).getType() == Type.STRING) {
+                names.add(tokens.get(i + 2).getText());
+            }
+        }
+        return names;
+    }
+
+    public Editor edit() {
+        return new Editor(source);
+    }
+
+    /**
+     * `name (label) { ... }` 블록. open/close 는 '{' / '}' 의 위치입니다.
+     */
+    @Getter
+    public static final class Block {
+        private final String name;
+        private final String label;
+        private final int start;
+        private final int open;
+        private int close;
+        private final List<Block> children = new ArrayList<>();
+        // 블록 바로 안의 문장 (agent any, steps { ... } 의 steps 등)
+        private final List<Directive> directives = new ArrayList<>();
+        @Getter(AccessLevel.NONE)
+        private int parenDepth;
+        @Getter(AccessLevel.NONE)
+        private int firstToken;
+        @Getter(AccessLevel.NONE)
+        private int lastToken;
+
+        Block(String name, String label, int start, int open) {
+            this.name = name;
+            this.label = label;
+            this.start = start;
+            this.open = open;
+        }
+
+        /**
+         * 바로 아래 자식 중 처음 나오는 name 블록
+         */
+        public Block child(String name) {
+            for (Block child : children) {
+                if (name.equals(child.name)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        public boolean hasChild(String name) {
+            return child(name) != null;
+        }
+
+        public int count(String directive) {
+            int count = 0;
+            for (Directive d : directives) {
+                if (directive.equals(d.name)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void collect(String name, List<Block> result) {
+            for (Block child : children) {
+                if (name.equals(child.name)) {
+                    result.add(child);
+                }
+                child.collect(name, result);
+            }
+        }
+    }
+
+    /**
+     * 블록 바로 안에서 문장을 시작하는 식별자
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Directive {
+        private final String name;
+        private final int start;
+        @Getter(AccessLevel.NONE)
+        private final int tokenIndex;
+    }
+
+    /**
+     * 원문 위치에 문자열을 끼워 넣는 수정. 같은 위치는 추가한 순서대로 들어갑니다.
+     */
+    public static final class Editor {
+        private final String source;
+        private final List<Insertion> insertions = new ArrayList<>();
+        private int extra;
+
+        private Editor(String source) {
+            this.source = source;
+        }
+
+        public Editor insert(int offset, String text) {
+            insertions.add(new Insertion(offset, insertions.size(), text));
+            extra += text.length();
+            return this;
+        }
+
+        // '{' 바로 다음
+        public Editor insertAfterOpen(Block block, String text) {
+            return insert(block.open + 1, text);
+        }
+
+        // '}' 바로 앞
+        public Editor insertBeforeClose(Block block, String text) {
+            return insert(block.close, text);
+        }
+
+        public boolean isEmpty() {
+            return insertions.isEmpty();
+        }
+
+        public String apply() {
+            if (insertions.isEmpty()) {
+                return source;
+            }
+            insertions.sort((a, b) -> a.offset != b.offset
+                    ? Integer.compare(a.offset, b.offset)
+                    : Integer.compare(a.order, b.order));
+            StringBuilder out = new StringBuilder(source.length() + extra);
+            int copied = 0;
+            for (Insertion insertion : insertions) {
+                out.append(source, copied, insertion.offset).append(insertion.text);
+                copied = insertion.offset;
+            }
+            return out.append(source, copied, source.length()).toString();
+        }
+
+        @AllArgsConstructor
+        private static final class Insertion {
+            private final int offset;
+            private final int order;
+            private final String text;
+        }
+    }
+
+    /**
+     * 구문 문제 (line/column 은 1부터)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Problem {
+        private final int line;
+        private final int column;
+        private final String message;
+
+        static Problem at(String source, int offset, String message) {
+            int line = 1;
+            int lineStart = 0;
+            for (int i = 0; i < offset && i < source.length(); i++) {
+                if (source.charAt(i) == '\n') {
+                    line++;
+                    lineStart = i + 1;
+                }
+            }
+            return new Problem(line, offset - lineStart + 1, message);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.backend.parser;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jenkinsfile(Groovy) 을 stage/블록 구조 파악에 필요한 만큼만 토큰으로 나눕니다.
+ * <p>
+ * 문자열('...', "...", '''...''', """...""" 와 "${...}" 보간)과 주석 안의 괄호는 토큰으로 만들지 않으므로
+ * sh "echo }" 같은 step 이 블록 구조를 깨지 않습니다. 닫히지 않은 문자열/주석은 errors 에 기록하고 끝까지 읽습니다.
+ */
+final class JenkinsfileLexer {
+
+    enum Type { IDENT, STRING, LBRACE, RBRACE, LPAREN, RPAREN, COLON, COMMA, OTHER }
+
+    @Getter
+    @AllArgsConstructor
+    static final class Token {
+        private final Type type;
+        // IDENT 는 이름, STRING 은 따옴표를 뺀 내용, 그 외는 원문
+        private final String text;
+        private final int start;
+        private final int end;
+    }
+
+    private final String src;
+    private final List<Token> tokens = new ArrayList<>();
+    private final List<Jenkinsfile.Problem> errors;
+    private int pos;
+
+    private JenkinsfileLexer(String src, List<Jenkinsfile.Problem> errors) {
+        this.src = src;
+        this.errors = errors;
+    }
+
+    static List<Token> tokenize(String src, List<Jenkinsfile.Problem> errors) {
+        JenkinsfileLexer lexer = new JenkinsfileLexer(src, errors);
+        lexer.run();
+        return lexer.tokens;
+    }
+
+    private void run() {
+        int length = src.length();
+        if (src.startsWith("#!")) {
+            skipLine();
+        }
+        while (pos < length) {
+            char c = src.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '/' && peek(1) == '/') {
+                skipLine();
+            } else if (c == '/' && peek(1) == '*') {
+                skipBlockComment();
+            } else if (c == '\'' || c == '"') {
+                readString(c);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = pos;
+                while (pos < length && Character.isJavaIdentifierPart(src.charAt(pos))) {
+                    pos++;
+                }
+                tokens.add(new Token(Type.IDENT, src.substring(start, pos), start, pos));
+            } else {
+                Type type = switch (c) {
+                    case '{' -> Type.LBRACE;
+                    case '}' -> Type.RBRACE;
+                    case '(' -> Type.LPAREN;
+                    case ')' -> Type.RPAREN;
+                    case ':' -> Type.COLON;
+                    case ',' -> Type.COMMA;
+                    default -> Type.OTHER;
+                };
+                tokens.add(new Token(type, String.valueOf(c), pos, pos + 1));
+                pos++;
+            }
+        }
+    }
+
+    private void readString(char quote) {
+        int start = pos;
+        boolean triple = peek(1) == quote && peek(2) == quote;
+        int quoteLength = triple ? 3 : 1;
+        boolean interpolated = quote == '"';
+        pos += quoteLength;
+
+        StringBuilder value = new StringBuilder();
+        int length = src.length();
+        while (pos < length) {
+            char c = src.charAt(pos);
+            if (c == '\\' && pos + 1 < length) {
+                char next = src.charAt(pos + 1);
+                value.append(switch (next) {
+                    case 'n' -> '\n';
+                    case 't' -> '\t';
+                    default -> next;
+                });
+                pos += 2;
+                continue;
+            }
+            if (c == quote && (!triple || (peek(1) == quote && peek(2) == quote))) {
+                pos += quoteLength;
+                tokens.add(new Token(Type.STRING, value.toString(), start, pos));
+                return;
+            }
+            if (!triple && c == '\n') {
+                break;
+            }
+            if (interpolated && c == '$' && peek(1) == '{') {
+                int end = skipInterpolation(pos + 2);
+                value.append(src, pos, end);
+                pos = end;
+                continue;
+            }
+            value.append(c);
+            pos++;
+        }
+        errors.add(Jenkinsfile.Problem.at(src, start, "닫히지 않은 문자열"));
+        tokens.add(new Token(Type.STRING, value.toString(), start, pos));
+    }
+
+    // "${ ... }" 의 끝 다음 위치
+    private int skipInterpolation(int from) {
+        int depth = 1;
+        int i = from;
+        while (i < src.length() && depth > 0) {
+            char c = src.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == '\n') {
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private void skipLine() {
+        int end = src.indexOf('\n', pos);
+        pos = end < 0 ? src.length() : end + 1;
+    }
+
+    private void skipBlockComment() {
+        int end = src.indexOf("*/", pos + 2);
+        if (end < 0) {
+            errors.add(Jenkinsfile.Problem.at(src, pos, "닫히지 않은 주석"));
+            pos = src.length();
+        } else {
+            pos = end + 2;
+        }
+    }
+
+    private char peek(int offset) {
+        int i = pos + offset;
+        return i < src.length() ? src.charAt(i) : '\0';
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.backend.parser;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative pipeline 의 구조를 Jenkins 없이 검사합니다.
+ * <p>
+ * 괄호 짝, pipeline 의 agent / stages, stage 의 steps|stages|parallel|matrix, when 조건 개수, parameters 의 name,
+ * post 조건 이름만 확인하며 step 이름이나 인자 값은 검사하지 않습니다. (플러그인에 따라 달라지므로 Jenkins 검증에 맡김)
+ * when 조건도 플러그인이 추가할 수 있으므로 모르는 조건 이름은 문제로 보지 않고 Jenkins 검증에 맡깁니다.
+ */
+@Component
+public class JenkinsfileValidator {
+
+    private static final Set<String> SECTIONS = Set.of(
+            "agent", "stages", "parameters", "post", "options", "environment", "triggers", "tools", "libraries", "input");
+    private static final Set<String> STAGE_BODIES = Set.of("steps", "stages", "parallel", "matrix");
+    private static final Set<String> WHEN_CONDITIONS = Set.of(
+            "branch", "buildingTag", "changelog", "changeset", "changeRequest", "environment", "equals", "expression",
+            "tag", "not", "allOf", "anyOf", "triggeredBy", "isRestartedRun", "beforeAgent", "beforeInput", "beforeOptions");
+    private static final Set<String> WHEN_NESTED = Set.of("not", "allOf", "anyOf");
+    private static final Set<String> POST_CONDITIONS = Set.of(
+            "always", "changed", "fixed", "regression", "aborted", "failure", "success", "unstable", "unsuccessful", "cleanup");
+
+    /**
+     * @return 발견한 문제 목록 (비어 있으면 통과)
+     */
+    public List<Jenkinsfile.Problem> validate(String script) {
+        Jenkinsfile jenkinsfile = Jenkinsfile.parse(script);
+        if (!jenkinsfile.getErrors().isEmpty()) {
+            // 괄호가 맞지 않으면 블록 구조를 믿을 수 없으므로 구문 문제만 반환
+            return jenkinsfile.getErrors();
+        }
+
+        Checker checker = new Checker(jenkinsfile);
+        Jenkinsfile.Block pipeline = jenkinsfile.getPipeline();
+        if (pipeline == null) {
+            checker.add(0, "pipeline 블록이 없습니다.");
+            return checker.problems;
+        }
+        checker.pipeline(pipeline);
+        return checker.problems;
+    }
+
+    private static final class Checker {
+        private final Jenkinsfile jenkinsfile;
+        private final List<Jenkinsfile.Problem> problems = new ArrayList<>();
+
+        private Checker(Jenkinsfile jenkinsfile) {
+            this.jenkinsfile = jenkinsfile;
+        }
+
+        private void pipeline(Jenkinsfile.Block pipeline) {
+            for (String section : SECTIONS) {
+                if (pipeline.count(section) > 1) {
+                    add(pipeline.getStart(), section + " 은(는) pipeline 에 한 번만 선언할 수 있습니다.");
+                }
+            }
+            if (pipeline.count("agent") == 0) {
+                add(pipeline.getStart(), "pipeline 에 agent 가 없습니다.");
+            }
+
+            Jenkinsfile.Block stages = pipeline.child("stages");
+            if (stages == null) {
+                add(pipeline.getStart(), "pipeline 에 stages 블록이 없습니다.");
+            } else {
+                stages(stages);
+            }
+
+            Jenkinsfile.Block parameters = pipeline.child("parameters");
+            if (parameters != null) {
+                parameters(parameters);
+            }
+            Jenkinsfile.Block post = pipeline.child("post");
+            if (post != null) {
+                post(post);
+            }
+        }
+
+        private void stages(Jenkinsfile.Block stages) {
+            boolean hasStage = false;
+            for (Jenkinsfile.Directive directive : stages.getDirectives()) {
+                if (!"stage".equals(directive.getName())) {
+                    add(directive.getStart(), "stages 안에는 stage 만 올 수 있습니다: " + directive.getName());
+                }
+            }
+            for (Jenkinsfile.Block child : stages.getChildren()) {
+                if ("stage".equals(child.getName())) {
+                    hasStage = true;
+                    stage(child);
+                }
+            }
+            if (!hasStage) {
+                add(stages.getStart(), "stages 에 stage 가 없습니다.");
+            }
+        }
+
+        private void stage(Jenkinsfile.Block stage) {
+            String name = stage.getLabel();
+            if (name == null || name.isBlank()) {
+                add(stage.getStart(), "stage 이름이 없습니다.");
+                name = "";
+            }
+
+            int bodies = 0;
+            for (String body : STAGE_BODIES) {
+                bodies += stage.count(body);
+            }
+            if (bodies != 1) {
+                add(stage.getStart(), "stage '" + name + "' 에는 steps, stages, parallel, matrix 중 하나만 있어야 합니다.");
+            }
+            if (stage.count("when") > 1 || stage.count("post") > 1) {
+                add(stage.getStart(), "stage '" + name + "' 에 when 또는 post 가 중복되었습니다.");
+            }
+
+            for (Jenkinsfile.Block child : stage.getChildren()) {
+                if (child.getName() == null) {
+                    continue;
+                }
+                switch (child.getName()) {
+                    case "stages" -> stages(child);
+                    case "parallel" -> parallel(child);
+                    case "when" -> when(child, true);
+                    case "post" -> post(child);
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        private void parallel(Jenkinsfile.Block parallel) {
+            boolean hasStage = false;
+            for (Jenkinsfile.Block child : parallel.getChildren()) {
+                if ("stage".equals(child.getName())) {
+                    hasStage = true;
+                    stage(child);
+                }
+            }
+            if (!hasStage) {
+                add(parallel.getStart(), "parallel 에 stage 가 없습니다.");
+            }
+        }
+
+        private void when(Jenkinsfile.Block when, boolean top) {
+            int conditions = 0;
+            for (Jenkinsfile.Directive directive : when.getDirectives()) {
+                String name = directive.getName();
+                // 모르는 조건은 플러그인 조건일 수 있으므로 조건으로 세고 Jenkins 검증에 맡김
+                boolean option = WHEN_CONDITIONS.contains(name) && name.startsWith("before");
+                if (!option) {
+                    conditions++;
+                }
+                if (!top && option) {
+                    add(directive.getStart(), name + " 은(는) when 바로 아래에만 올 수 있습니다.");
+                }
+            }
+            if (conditions == 0) {
+                add(when.getStart(), "when 에 조건이 없습니다.");
+            }
+            for (Jenkinsfile.Block child : when.getChildren()) {
+                if (WHEN_NESTED.contains(child.getName())) {
+                    when(child, false);
+                }
+            }
+        }
+
+        private void parameters(Jenkinsfile.Block parameters) {
+            Set<String> names = new HashSet<>();
+            for (Jenkinsfile.Directive directive : parameters.getDirectives()) {
+                Map<String, String> arguments = jenkinsfile.getArguments(directive);
+                if (!arguments.containsKey("name")) {
+                    add(directive.getStart(), "parameters 의 " + directive.getName() + " 에 name 이 없습니다.");
+                } else if (arguments.get("name") != null && !names.add(arguments.get("name"))) {
+                    add(directive.getStart(), "파라미터 이름이 중복되었습니다: " + arguments.get("name"));
+                }
+            }
+        }
+
+        private void post(Jenkinsfile.Block post) {
+            Set<String> seen = new HashSet<>();
+            for (Jenkinsfile.Directive directive : post.getDirectives()) {
+                String name = directive.getName();
+                if (!POST_CONDITIONS.contains(name)) {
+                    add(directive.getStart(), "post 에 사용할 수 없는 조건입니다: " + name);
+                } else if (!seen.add(name)) {
+                    add(directive.getStart(), "post 조건이 중복되었습니다: " + name);
+                }
+            }
+            for (Jenkinsfile.Directive directive : post.getDirectives()) {
+                if (POST_CONDITIONS.contains(directive.getName()) && !hasBlock(post, directive)) {
+                    add(directive.getStart(), "post 조건 " + directive.getName() + " 은(는) 블록이어야 합니다.");
+                }
+            }
+        }
+
+        private static boolean hasBlock(Jenkinsfile.Block parent, Jenkinsfile.Directive directive) {
+            for (Jenkinsfile.Block child : parent.getChildren()) {
+                if (child.getStart() == directive.getStart()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(int offset, String message) {
+            problems.add(Jenkinsfile.Problem.at(jenkinsfile.getSource(), offset, message));
+        }
+    }
+}
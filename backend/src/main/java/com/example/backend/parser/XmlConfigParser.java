@@ -2,171 +2,620 @@ package com.example.backend.parser;
 
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.*;
-import org.xml.sax.InputSource;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.List;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Jenkins config.xml 을 StAX 로 읽고 고칩니다.
+ * <p>
+ * summarize 는 한 번 읽으면서 stage 이름, cron spec, 파라미터 이름과 수정에 필요한 구조 정보를 모읍니다.
+ * edit 는 summarize 결과를 바탕으로 원문을 한 번 더 읽으며 그대로 복사하다가 필요한 위치에서만 요소를 추가/교체/제거합니다.
+ * (DOM 을 만들거나 Transformer 로 다시 직렬화하지 않으며, factory 는 재사용하고 DTD/외부 엔티티는 읽지 않습니다.)
+ */
 @Component
 @Slf4j
 public class XmlConfigParser {
 
+    static final String PIPELINE_TRIGGERS_PROPERTY = "org.jenkinsci.plugins.workflow.job.properties.PipelineTriggersJobProperty";
+    static final String TIMER_TRIGGER = "hudson.triggers.TimerTrigger";
+    static final String PARAMETERS_PROPERTY = "hudson.model.ParametersDefinitionProperty";
+    static final String BOOLEAN_PARAMETER = "hudson.model.BooleanParameterDefinition";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     //TODO : 일단 freestyle 기준으로만 트리거 설정들인데 공용적으로 pipeline 테이블 생기면 바꿔야함
 
     /*
-    * stage 추출 파이프라인
-    * */
-
+     * stage 추출 파이프라인
+     * */
     public List<String> getPipelineStageNamesFromXml(String configXml) {
-        List<String> stageNames = new ArrayList<>();
         try {
-            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document doc = builder.parse(new InputSource(new StringReader(configXml)));
+            List<String> stageNames = summarize(configXml).getStageNames();
+            log.debug("추출된 스테이지들: {}", stageNames);
+            return stageNames;
+        } catch (XMLStreamException | RuntimeException e) {
+            log.error("Stage 파싱 중 오류 발생", e);
+            throw new RuntimeException("Stage 파싱 실패", e);
+        }
+    }
+
+    public static String getCronSpecFromConfig(String configXml) {
+        try {
+            ConfigSummary summary = summarize(configXml);
+            if (!summary.hasTimerTrigger) {
+                log.info("❗ TimerTrigger 자체가 없음");
+                return "없음";
+            }
+            if (summary.cronSpec == null) {
+                log.info("❗ spec 태그 자체가 존재하지 않음");
+                return "없음";
+            }
+            if (summary.cronSpec.isBlank()) {
+                log.info("❗ cron spec 태그는 존재하지만 내용이 비어있음");
+                return "없음";
+            }
+            log.debug("⏰ cron spec: '{}'", summary.cronSpec);
+            return summary.cronSpec.trim();
+        } catch (XMLStreamException | RuntimeException e) {
+            log.error("XML 파싱 실패", e);
+            return "파싱 실패";
+        }
+    }
+
+    /**
+     * 첫 TimerTrigger 의 spec 을 바꾸거나, 없으면 triggers(없으면 PipelineTriggersJobProperty 포함)에 추가합니다.
+     * PipelineTriggersJobProperty 가 여러 개면 TimerTrigger 가 없는 것은 제거합니다.
+     */
+    public static String updateCronSpecInXml(String originalXml, String newSpec) {
+        try {
+            return edit(originalXml, new Edits().cronSpec(newSpec));
+        } catch (XMLStreamException | RuntimeException e) {
+            log.error("CRON 스케줄 XML 수정 실패", e);
+            throw new CustomException(ErrorCode.JENKINS_XML_UPDATE_FAIL);
+        }
+    }
+
+    /**
+     * stage 별 DO_{STAGE} Boolean 파라미터를 추가하고(이미 있으면 생략), 스크립트의 각 stage 에 when 조건을 넣습니다.
+     */
+    public String injectStageParameters(String configXml, List<String> stages) {
+        try {
+            return edit(configXml, new Edits()
+                    .stageParameters(stages)
+                    .script(script -> injectStageConditions(script, stages)));
+        } catch (XMLStreamException | RuntimeException e) {
+            log.error("stage 파라미터 XML 수정 실패", e);
+            throw new CustomException(ErrorCode.JENKINS_CONFIG_XML_UPDATE_FAILED);
+        }
+    }
+
+    /**
+     * 첫 script 요소의 내용을 바꿉니다. (CDATA 로 기록)
+     */
+    public String replaceScript(String configXml, String script) {
+        try {
+            return edit(configXml, new Edits().script(ignored -> script).scriptAsCData());
+        } catch (XMLStreamException | RuntimeException e) {
+            log.error("script XML 수정 실패", e);
+            throw new CustomException(ErrorCode.JENKINS_CONFIG_XML_UPDATE_FAILED);
+        }
+    }
+
+    /**
+     * config.xml 을 한 번 읽어 stage 이름, cron spec, 파라미터 이름과 수정 위치 정보를 모읍니다.
+     */
+    public static ConfigSummary summarize(String configXml) throws XMLStreamException {
+        ConfigSummary summary = new ConfigSummary();
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(configXml));
+        try {
+            Deque<String> path = new ArrayDeque<>();
+            // 현재 읽고 있는 PipelineTriggersJobProperty 의 순번 (밖이면 -1)
+            int openTriggerProperty = -1;
+            int triggerPropertyDepth = -1;
+            boolean inFirstTimer = false;
+            int triggersCount = 0;
+            List<Integer> triggersOwner = new ArrayList<>();
 
-            // <script> 태그 중 정의 스크립트 추출
-            NodeList scripts = doc.getElementsByTagName("script");
+            StringBuilder text = null;
+            String textElement = null;
+            boolean pipelineScriptFound = false;
 
-            for (int i = 0; i < scripts.getLength(); i++) {
-                Node scriptNode = scripts.item(i);
-                if (scriptNode != null && scriptNode.getTextContent().contains("pipeline")) {
-                    String script = scriptNode.getTextContent();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        String parent = path.peek();
+                        path.push(name);
 
-                    // 정규식으로 stage 이름 추출
-                    Pattern pattern = Pattern.compile("stage\\([\"'](.+?)[\"']\\)");
-                    Matcher matcher = pattern.matcher(script);
+                        switch (name) {
+                            case "properties" -> summary.hasProperties = true;
+                            case "parameterDefinitions" -> summary.hasParameterDefinitions = true;
+                            case PIPELINE_TRIGGERS_PROPERTY -> {
+                                openTriggerProperty = summary.triggerPropertyHasTimer.size();
+                                triggerPropertyDepth = path.size();
+                                summary.triggerPropertyHasTimer.add(false);
+                            }
+                            case "triggers" -> {
+                                triggersOwner.add(openTriggerProperty);
+                                triggersCount++;
+                            }
+                            case TIMER_TRIGGER -> {
+                                if (openTriggerProperty >= 0) {
+                                    summary.triggerPropertyHasTimer.set(openTriggerProperty, true);
+                                }
+                                if (!summary.hasTimerTrigger) {
+                                    summary.hasTimerTrigger = true;
+                                    inFirstTimer = true;
+                                }
+                            }
+                            default -> {
+                            }
+                        }
 
-                    while (matcher.find()) {
-                        stageNames.add(matcher.group(1));
+                        boolean capture = ("script".equals(name))
+                                || ("spec".equals(name) && inFirstTimer && summary.cronSpec == null)
+                                || ("name".equals(name) && isParameterName(path, parent));
+                        if (capture) {
+                            text = new StringBuilder();
+                            textElement = name;
+                        } else {
+                            text = null;
+                            textElement = null;
+                        }
                     }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                        if (text != null) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                        if (event == XMLStreamConstants.CDATA && "script".equals(textElement)
+                                && summary.scriptCount == 0) {
+                            summary.scriptIsCData = true;
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String name = path.pop();
+                        if (text != null && name.equals(textElement)) {
+                            String value = text.toString();
+                            switch (name) {
+                                case "script" -> {
+                                    if (summary.scriptCount++ == 0) {
+                                        summary.script = value;
+                                    }
+                                    if (!pipelineScriptFound && value.contains("pipeline")) {
+                                        pipelineScriptFound = true;
+                                        summary.stageNames.addAll(Jenkinsfile.parse(value).getStageNames());
+                                    }
+                                }
+                                case "spec" -> summary.cronSpec = value;
+                                case "name" -> summary.parameterNames.add(value.trim());
+                                default -> {
+                                }
+                            }
+                        }
+                        text = null;
+                        textElement = null;
 
-                    break; // 첫 번째 pipeline script만 처리
+                        if (TIMER_TRIGGER.equals(name)) {
+                            inFirstTimer = false;
+                        }
+                        if (PIPELINE_TRIGGERS_PROPERTY.equals(name) && path.size() + 1 == triggerPropertyDepth) {
+                            openTriggerProperty = -1;
+                            triggerPropertyDepth = -1;
+                        }
+                    }
+                    default -> {
+                    }
                 }
             }
 
-            log.info("추출된 스테이지들: {}", stageNames);
-
-        } catch (Exception e) {
-            log.error("Stage 파싱 중 오류 발생", e);
-            throw new RuntimeException("Stage 파싱 실패", e);
+            // 제거되지 않는 첫 triggers 에 TimerTrigger 를 추가
+            for (int i = 0; i < triggersCount; i++) {
+                int owner = triggersOwner.get(i);
+                if (owner < 0 || !summary.isRemovedTriggerProperty(owner)) {
+                    summary.targetTriggers = i;
+                    break;
+                }
+            }
+        } finally {
+            reader.close();
         }
-        return stageNames;
+        return summary;
     }
 
+    /**
+     * 원문을 복사하면서 edits 를 적용합니다.
+     */
+    static String edit(String configXml, Edits edits) throws XMLStreamException {
+        ConfigSummary summary = summarize(configXml);
 
-    public static String getCronSpecFromConfig(String configXml) {
-        try {
-            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            org.w3c.dom.Document doc = builder.parse(new InputSource(new StringReader(configXml)));
-
-            NodeList triggers = doc.getElementsByTagName("hudson.triggers.TimerTrigger");
-            if (triggers.getLength() > 0) {
-                Element trigger = (Element) triggers.item(0);
-                NodeList specList = trigger.getElementsByTagName("spec");
-                if (specList.getLength() > 0) {
-                    String spec = specList.item(0).getTextContent();
-                    if (spec != null && !spec.trim().isEmpty()) {
-                        log.info("\u23f0 cron spec: '{}'", spec);
-                        return spec.trim();
-                    } else {
-                        log.info("\u2757 cron spec 태그는 존재하지만 내용이 비어있음");
-                        return "없음";
-                    }
-                } else {
-                    log.info("\u2757 spec 태그 자체가 존재하지 않음");
-                    return "없음";
+        List<String> newParameters = new ArrayList<>();
+        if (edits.stageParameters != null) {
+            for (String stage : edits.stageParameters) {
+                String paramName = "DO_" + stage.toUpperCase();
+                if (!summary.parameterNames.contains(paramName) && !newParameters.contains(paramName)) {
+                    newParameters.add(paramName);
                 }
-            } else {
-                log.info("\u2757 TimerTrigger 자체가 없음");
-                return "없음";
             }
-        } catch (Exception e) {
-            log.error("XML 파싱 실패", e);
-            return "파싱 실패";
         }
-    }
+        boolean addParameters = !newParameters.isEmpty();
+        boolean updateCron = edits.cronSpec != null;
+        if (updateCron && !summary.hasTimerTrigger && summary.targetTriggers < 0 && !summary.hasProperties) {
+            throw new IllegalStateException("properties 요소가 없어 TimerTrigger 를 추가할 수 없습니다.");
+        }
 
-    public static String updateCronSpecInXml(String originalXml, String newSpec) {
+        StringWriter out = new StringWriter(configXml.length() + 512);
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(configXml));
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
         try {
-            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document doc = builder.parse(new InputSource(new StringReader(originalXml)));
-
-            // Remove duplicate PipelineTriggersJobProperty
-            NodeList jobProps = doc.getElementsByTagName("org.jenkinsci.plugins.workflow.job.properties.PipelineTriggersJobProperty");
-            if (jobProps.getLength() > 1) {
-                for (int i = jobProps.getLength() - 1; i >= 0; i--) {
-                    Element prop = (Element) jobProps.item(i);
-                    NodeList timers = prop.getElementsByTagName("hudson.triggers.TimerTrigger");
-                    if (timers.getLength() == 0) {
-                        prop.getParentNode().removeChild(prop);
-                        log.info("🗑 중복된 빈 PipelineTriggersJobProperty 제거");
+            // 열린 요소마다 닫힐 때 처리할 표시
+            Deque<Mark> marks = new ArrayDeque<>();
+            int skipDepth = 0;
+            int triggerPropertyIndex = -1;
+            int triggersIndex = -1;
+            boolean timerSeen = false;
+            boolean inFirstTimer = false;
+            boolean specReplaced = false;
+            boolean scriptSeen = false;
+            boolean parameterDefinitionsSeen = false;
+            boolean propertiesSeen = false;
+
+            // reader 는 START_DOCUMENT 에서 시작하므로 선언이 있을 때만 먼저 기록
+            if (reader.getVersion() != null) {
+                writer.writeStartDocument(
+                        reader.getCharacterEncodingScheme() != null ? reader.getCharacterEncodingScheme() : "UTF-8",
+                        reader.getVersion());
+                writer.writeCharacters("\n");
+            }
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (skipDepth > 0) {
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        skipDepth++;
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        skipDepth--;
                     }
+                    continue;
                 }
-            }
 
-            NodeList timerTriggers = doc.getElementsByTagName("hudson.triggers.TimerTrigger");
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = reader.getLocalName();
+
+                        if (PIPELINE_TRIGGERS_PROPERTY.equals(name)) {
+                            triggerPropertyIndex++;
+                            if (updateCron && summary.isRemovedTriggerProperty(triggerPropertyIndex)) {
+                                log.info("🗑 중복된 빈 PipelineTriggersJobProperty 제거");
+                                skipDepth = 1;
+                                continue;
+                            }
+                        }
+                        if ("definition".equals(name) && addParameters && !summary.hasProperties && !propertiesSeen) {
+                            // properties 자체가 없는 경우 definition 앞에 추가
+                            propertiesSeen = true;
+                            writer.writeStartElement("properties");
+                            writeParametersProperty(writer, newParameters);
+                            writer.writeEndElement();
+                            writer.writeCharacters("\n  ");
+                        }
 
-            if (timerTriggers.getLength() > 0) {
-                Element trigger = (Element) timerTriggers.item(0);
-                NodeList specList = trigger.getElementsByTagName("spec");
+                        copyStartElement(reader, writer);
 
-                if (specList.getLength() > 0) {
-                    specList.item(0).setTextContent(newSpec);
-                    log.info("기존 cron spec 업데이트: {}", newSpec);
-                } else {
-                    Element spec = doc.createElement("spec");
-                    spec.setTextContent(newSpec);
-                    trigger.appendChild(spec);
-                    log.info("기존 TimerTrigger에 spec 추가: {}", newSpec);
+                        Mark mark = Mark.NONE;
+                        switch (name) {
+                            case "properties" -> {
+                                if (!propertiesSeen) {
+                                    propertiesSeen = true;
+                                    mark = Mark.FIRST_PROPERTIES;
+                                }
+                            }
+                            case "parameterDefinitions" -> {
+                                if (!parameterDefinitionsSeen) {
+                                    parameterDefinitionsSeen = true;
+                                    mark = Mark.FIRST_PARAMETER_DEFINITIONS;
+                                }
+                            }
+                            case "triggers" -> {
+                                if (++triggersIndex == summary.targetTriggers) {
+                                    mark = Mark.TARGET_TRIGGERS;
+                                }
+                            }
+                            case TIMER_TRIGGER -> {
+                                if (!timerSeen) {
+                                    timerSeen = true;
+                                    inFirstTimer = true;
+                                    mark = Mark.FIRST_TIMER;
+                                }
+                            }
+                            case "spec" -> {
+                                if (updateCron && inFirstTimer && !specReplaced) {
+                                    specReplaced = true;
+                                    writer.writeCharacters(edits.cronSpec);
+                                    log.info("기존 cron spec 업데이트: {}", edits.cronSpec);
+                                    mark = Mark.REPLACED_TEXT;
+                                }
+                            }
+                            case "script" -> {
+                                if (edits.script != null && !scriptSeen) {
+                                    String script = edits.script.apply(summary.script != null ? summary.script : "");
+                                    writeScript(writer, script, summary.scriptIsCData || edits.scriptAsCData);
+                                    mark = Mark.REPLACED_TEXT;
+                                }
+                                scriptSeen = true;
+                            }
+                            default -> {
+                            }
+                        }
+                        marks.push(mark);
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        Mark mark = marks.pop();
+                        switch (mark) {
+                            case FIRST_TIMER -> {
+                                inFirstTimer = false;
+                                if (updateCron && !specReplaced) {
+                                    writeTextElement(writer, "spec", edits.cronSpec);
+                                    log.info("기존 TimerTrigger에 spec 추가: {}", edits.cronSpec);
+                                }
+                            }
+                            case TARGET_TRIGGERS -> {
+                                if (updateCron && !summary.hasTimerTrigger) {
+                                    writeTimerTrigger(writer, edits.cronSpec);
+                                    log.info("기존 <triggers> 에 TimerTrigger 추가: {}", edits.cronSpec);
+                                }
+                            }
+                            case FIRST_PARAMETER_DEFINITIONS -> {
+                                if (addParameters) {
+                                    writeParameters(writer, newParameters);
+                                }
+                            }
+                            case FIRST_PROPERTIES -> {
+                                if (addParameters && !summary.hasParameterDefinitions) {
+                                    writeParametersProperty(writer, newParameters);
+                                }
+                                if (updateCron && !summary.hasTimerTrigger && summary.targetTriggers < 0) {
+                                    writer.writeStartElement(PIPELINE_TRIGGERS_PROPERTY);
+                                    writer.writeStartElement("triggers");
+                                    writeTimerTrigger(writer, edits.cronSpec);
+                                    writer.writeEndElement();
+                                    writer.writeEndElement();
+                                    log.info("<triggers> 및 <PipelineTriggersJobProperty> 생성");
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                        writer.writeEndElement();
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE -> {
+                        if (marks.peek() != Mark.REPLACED_TEXT) {
+                            writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    case XMLStreamConstants.CDATA -> {
+                        if (marks.peek() != Mark.REPLACED_TEXT) {
+                            writer.writeCData(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.COMMENT -> writer.writeComment(reader.getText());
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION ->
+                            writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                    case XMLStreamConstants.END_DOCUMENT -> writer.writeEndDocument();
+                    default -> {
+                    }
                 }
+            }
+            writer.flush();
+        } finally {
+            writer.close();
+            reader.close();
+        }
+        return out.toString();
+    }
 
+    private static void copyStartElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+        String prefix = reader.getPrefix();
+        String namespace = reader.getNamespaceURI();
+        if (namespace != null && !namespace.isEmpty()) {
+            writer.writeStartElement(prefix != null ? prefix : "", reader.getLocalName(), namespace);
+        } else {
+            writer.writeStartElement(reader.getLocalName());
+        }
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String nsPrefix = reader.getNamespacePrefix(i);
+            if (nsPrefix == null || nsPrefix.isEmpty()) {
+                writer.writeDefaultNamespace(reader.getNamespaceURI(i));
             } else {
-                NodeList triggersList = doc.getElementsByTagName("triggers");
-                Element triggersElem;
-
-                if (triggersList.getLength() > 0) {
-                    triggersElem = (Element) triggersList.item(0);
-                    log.info("기존 빈 <triggers/> 태그에 TimerTrigger 추가");
-                } else {
-                    triggersElem = doc.createElement("triggers");
-                    Element pipelineProp = doc.createElement("org.jenkinsci.plugins.workflow.job.properties.PipelineTriggersJobProperty");
-                    pipelineProp.appendChild(triggersElem);
-                    Node properties = doc.getElementsByTagName("properties").item(0);
-                    properties.appendChild(pipelineProp);
-                    log.info("<triggers> 및 <PipelineTriggersJobProperty> 생성");
-                }
+                writer.writeNamespace(nsPrefix, reader.getNamespaceURI(i));
+            }
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attrPrefix = reader.getAttributePrefix(i);
+            String attrNamespace = reader.getAttributeNamespace(i);
+            if (attrNamespace != null && !attrNamespace.isEmpty()) {
+                writer.writeAttribute(attrPrefix != null ? attrPrefix : "", attrNamespace,
+                        reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            } else {
+                writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private static void writeScript(XMLStreamWriter writer, String script, boolean cdata) throws XMLStreamException {
+        if (cdata && !script.contains("]]>")) {
+            writer.writeCData(script);
+        } else {
+            writer.writeCharacters(script);
+        }
+    }
+
+    private static void writeTimerTrigger(XMLStreamWriter writer, String spec) throws XMLStreamException {
+        writer.writeStartElement(TIMER_TRIGGER);
+        writeTextElement(writer, "spec", spec);
+        writer.writeEndElement();
+    }
 
-                Element timerTrigger = doc.createElement("hudson.triggers.TimerTrigger");
-                Element spec = doc.createElement("spec");
-                spec.setTextContent(newSpec);
-                timerTrigger.appendChild(spec);
-                triggersElem.appendChild(timerTrigger);
-                log.info("TimerTrigger + spec 추가: {}", newSpec);
+    private static void writeParametersProperty(XMLStreamWriter writer, List<String> parameters) throws XMLStreamException {
+        writer.writeStartElement(PARAMETERS_PROPERTY);
+        writer.writeStartElement("parameterDefinitions");
+        writeParameters(writer, parameters);
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private static void writeParameters(XMLStreamWriter writer, List<String> parameters) throws XMLStreamException {
+        for (String parameter : parameters) {
+            writer.writeStartElement(BOOLEAN_PARAMETER);
+            writeTextElement(writer, "name", parameter);
+            writeTextElement(writer, "defaultValue", "true");
+            // DO_BUILD -> "build step toggle"
+            writeTextElement(writer, "description", parameter.substring(3).toLowerCase() + " step toggle");
+            writer.writeEndElement();
+        }
+    }
+
+    private static void writeTextElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    // when 이 없는 stage 에만 DO_{STAGE} 조건을 넣고, stage 이름은 그대로 둡니다.
+    private static String injectStageConditions(String script, List<String> stages) {
+        Jenkinsfile jenkinsfile = Jenkinsfile.parse(script);
+        List<Jenkinsfile.Block> blocks = jenkinsfile.getStages();
+        Jenkinsfile.Editor editor = jenkinsfile.edit();
+        for (String stage : stages) {
+            Jenkinsfile.Block block = findStage(blocks, stage);
+            if (block != null && !block.hasChild("when")) {
+                editor.insertAfterOpen(block, "\n    when {\n        expression { params.DO_" + stage.toUpperCase() + " }\n    }");
             }
+        }
+        return editor.apply();
+    }
 
-            TransformerFactory tf = TransformerFactory.newInstance();
-            Transformer transformer = tf.newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            StringWriter writer = new StringWriter();
-            transformer.transform(new DOMSource(doc), new StreamResult(writer));
+    private static Jenkinsfile.Block findStage(List<Jenkinsfile.Block> blocks, String stage) {
+        for (Jenkinsfile.Block block : blocks) {
+            if (block.getLabel().equals(stage)) {
+                return block;
+            }
+        }
+        for (Jenkinsfile.Block block : blocks) {
+            if (block.getLabel().equalsIgnoreCase(stage)) {
+                return block;
+            }
+        }
+        return null;
+    }
 
-            return writer.toString();
+    // parameterDefinitions > *ParameterDefinition > name
+    private static boolean isParameterName(Deque<String> path, String parent) {
+        if (parent == null || !parent.endsWith("ParameterDefinition") || path.size() < 3) {
+            return false;
+        }
+        var it = path.iterator();
+        it.next(); // name
+        it.next(); // *ParameterDefinition
+        return "parameterDefinitions".equals(it.next());
+    }
 
-        } catch (Exception e) {
-            log.error("CRON 스케줄 XML 수정 실패", e);
-            throw new CustomException(ErrorCode.JENKINS_XML_UPDATE_FAIL);
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        try {
+            // JDK 구현에서 CDATA 를 별도 이벤트로 받기 위한 설정
+            factory.setProperty("http://java.sun.com/xml/stream/properties/report-cdata-event", true);
+        } catch (IllegalArgumentException ignored) {
+            // 지원하지 않는 구현은 CHARACTERS 로 전달
+        }
+        return factory;
+    }
+
+    private enum Mark {
+        NONE, FIRST_PROPERTIES, FIRST_PARAMETER_DEFINITIONS, TARGET_TRIGGERS, FIRST_TIMER, REPLACED_TEXT
+    }
+
+    /**
+     * 적용할 수정 목록. 설정하지 않은 항목은 원문 그대로 둡니다.
+     */
+    static final class Edits {
+        private String cronSpec;
+        private List<String> stageParameters;
+        private UnaryOperator<String> script;
+        private boolean scriptAsCData;
+
+        Edits cronSpec(String cronSpec) {
+            this.cronSpec = cronSpec;
+            return this;
+        }
+
+        Edits stageParameters(List<String> stages) {
+            this.stageParameters = stages;
+            return this;
+        }
+
+        Edits script(UnaryOperator<String> script) {
+            this.script = script;
+            return this;
+        }
+
+        // 원문이 CDATA 가 아니어도 CDATA 로 기록
+        Edits scriptAsCData() {
+            this.scriptAsCData = true;
+            return this;
+        }
+    }
+
+    /**
+     * summarize 결과. stage 이름은 pipeline 을 포함한 첫 script 기준이며, cron spec 은 첫 TimerTrigger 기준입니다.
+     */
+    @Getter
+    public static final class ConfigSummary {
+        private final List<String> stageNames = new ArrayList<>();
+        private final Set<String> parameterNames = new LinkedHashSet<>();
+        // 첫 TimerTrigger 의 spec (spec 요소가 없으면 null)
+        private String cronSpec;
+        // 첫 script 요소 내용
+        private String script;
+
+        // 수정 위치 정보
+        private boolean hasTimerTrigger;
+        private boolean hasProperties;
+        private boolean hasParameterDefinitions;
+        private boolean scriptIsCData;
+        private int scriptCount;
+        private int targetTriggers = -1;
+        private final List<Boolean> triggerPropertyHasTimer = new ArrayList<>();
+
+        public List<String> getStageNames() {
+            return Collections.unmodifiableList(stageNames);
+        }
+
+        // PipelineTriggersJobProperty 가 여러 개일 때 TimerTrigger 가 없는 것은 제거 대상
+        boolean isRemovedTriggerProperty(int index) {
+            return triggerPropertyHasTimer.size() > 1 && !triggerPropertyHasTimer.get(index);
         }
     }
 }
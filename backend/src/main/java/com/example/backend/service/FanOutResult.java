@@ -0,0 +1,29 @@
+package com.example.backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * JenkinsFanOutService 의 결과.
+ * 성공한 Job 결과는 요청 순서대로 results 에, 실패/마감 초과로 건너뛴 Job 은 skipped 에 담깁니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FanOutResult<T> {
+
+    private final List<T> results;
+    private final List<SkippedJob> skipped;
+
+    public boolean isPartial() {
+        return !skipped.isEmpty();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SkippedJob {
+        private final String jobName;
+        private final String reason;
+    }
+}
@@ -3,17 +3,44 @@ package com.example.backend.service;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class HttpClientService {
     private final RestTemplate restTemplate;
+    private final WebClient jenkinsWebClient;
+    private final CloseableHttpClient jenkinsHttpClient;
+    private final JenkinsConnectionCache jenkinsConnectionCache;
+
+    /**
+     * 응답 본문을 InputStream 으로 읽는 콜백. 필요한 만큼만 읽고 반환하면 됩니다.
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body, HttpHeaders responseHeaders) throws IOException;
+    }
 
     /**
      * HTTP 요청을 보내고, 응답 본문만 반환합니다.
@@ -38,31 +65,188 @@ public class HttpClientService {
                     requestEntity,
                     responseType
             );
-            HttpStatusCode httpStatusCode = response.getStatusCode();
-
-            if (httpStatusCode == HttpStatus.NOT_FOUND) {
-                throw new CustomException(ErrorCode.JENKINS_ENDPOINT_NOT_FOUND);
-            } else if (httpStatusCode == HttpStatus.UNAUTHORIZED) {
-                throw new CustomException(ErrorCode.JENKINS_AUTHENTICATION_FAILED);
-            } else if (httpStatusCode == HttpStatus.GATEWAY_TIMEOUT || httpStatusCode == HttpStatus.REQUEST_TIMEOUT) {
-                throw new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR);
-            } else if (httpStatusCode.is5xxServerError()) {
-                throw new CustomException(ErrorCode.JENKINS_SERVER_ERROR);
-            } else if (httpStatusCode.is4xxClientError()) {
-                throw new CustomException(ErrorCode.JENKINS_CONNECTION_FAILED);
-            } else {
-                return response.getBody();
-            }
+            checkStatus(response.getStatusCode());
+            return response.getBody();
 
         } catch (CancellationException ex) {
             throw new CustomException(ErrorCode.JENKINS_URI_NOT_FOUND);
         }
     }
 
+    /**
+     * 이미 인코딩된 URI 로 요청합니다.
+     * String url 은 URI 템플릿으로 해석되므로, Jenkins tree 범위 문법({from,to})처럼 중괄호가 들어가는 요청은 이 메서드를 사용합니다.
+     */
+    public <T> T exchange(
+            URI uri,
+            HttpMethod method,
+            HttpEntity<?> requestEntity,
+            Class<T> responseType
+    ) {
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(
+                    uri,
+                    method,
+                    requestEntity,
+                    responseType
+            );
+            checkStatus(response.getStatusCode());
+            return response.getBody();
+
+        } catch (CancellationException ex) {
+            throw new CustomException(ErrorCode.JENKINS_URI_NOT_FOUND);
+        }
+    }
+
+    /**
+     * exchange 의 non-blocking 버전입니다. 요청 스레드를 점유하지 않고 응답 본문을 CompletableFuture 로 반환합니다.
+     * 상태 코드 → ErrorCode 매핑은 exchange 와 동일하며, 실패 시 future 가 CustomException 으로 완료됩니다.
+     *
+     * @param url           요청 URL
+     * @param method        HTTP 메서드 (GET, POST 등)
+     * @param requestEntity 헤더·바디가 담긴 HttpEntity (null 허용)
+     * @param responseType  응답 바디를 매핑할 클래스
+     * @param <T>           응답 타입
+     * @return responseType으로 매핑된 본문을 담은 future
+     */
+    public <T> CompletableFuture<T> exchangeAsync(
+            String url,
+            HttpMethod method,
+            HttpEntity<?> requestEntity,
+            Class<T> responseType
+    ) {
+        return exchangeAsync(jenkinsWebClient.method(method).uri(url), requestEntity, responseType);
+    }
+
+    /**
+     * URI 버전의 exchangeAsync. 중괄호가 포함된 tree 쿼리 등 템플릿 확장이 필요 없는 요청에 사용합니다.
+     */
+    public <T> CompletableFuture<T> exchangeAsync(
+            URI uri,
+            HttpMethod method,
+            HttpEntity<?> requestEntity,
+            Class<T> responseType
+    ) {
+        return exchangeAsync(jenkinsWebClient.method(method).uri(uri), requestEntity, responseType);
+    }
+
+    /**
+     * 본문과 함께 응답 헤더가 필요한 요청에 사용합니다. (progressiveText 의 X-Text-Size / X-More-Data 등)
+     */
+    public <T> CompletableFuture<ResponseEntity<T>> exchangeForEntityAsync(
+            URI uri,
+            HttpMethod method,
+            HttpEntity<?> requestEntity,
+            Class<T> responseType
+    ) {
+        return exchangeAsync(jenkinsWebClient.method(method).uri(uri), requestEntity,
+                response -> response.toEntity(responseType));
+    }
+
+    /**
+     * GET 응답 본문을 Map 등으로 변환하지 않고 reader 로 읽는 non-blocking 버전입니다.
+     * 수신한 버퍼를 하나로 합쳐 InputStream 으로 전달하며, reader 가 null 을 반환하거나 본문이 없으면 null 로 완료됩니다.
+     */
+    public <T> CompletableFuture<T> readAsync(URI uri, HttpEntity<?> requestEntity, BodyReader<T> reader) {
+        return exchangeAsync(jenkinsWebClient.method(HttpMethod.GET).uri(uri), requestEntity,
+                response -> DataBufferUtils.join(response.bodyToFlux(DataBuffer.class))
+                        .handle((buffer, sink) -> {
+                            try (InputStream body = buffer.asInputStream(true)) {
+                                T value = reader.read(body, response.headers().asHttpHeaders());
+                                if (value != null) {
+                                    sink.next(value);
+                                }
+                            } catch (IOException ex) {
+                                sink.error(new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR));
+                            }
+                        }));
+    }
+
+    private <T> CompletableFuture<T> exchangeAsync(
+            WebClient.RequestBodySpec target,
+            HttpEntity<?> requestEntity,
+            Class<T> responseType
+    ) {
+        return exchangeAsync(target, requestEntity, response -> response.bodyToMono(responseType));
+    }
+
+    private <R> CompletableFuture<R> exchangeAsync(
+            WebClient.RequestBodySpec target,
+            HttpEntity<?> requestEntity,
+            Function<ClientResponse, Mono<R>> bodyExtractor
+    ) {
+        WebClient.RequestBodySpec spec = target
+                .headers(headers -> {
+                    if (requestEntity != null) {
+                        headers.addAll(requestEntity.getHeaders());
+                    }
+                });
+
+        WebClient.RequestHeadersSpec<?> request = (requestEntity != null && requestEntity.hasBody())
+                ? spec.bodyValue(requestEntity.getBody())
+                : spec;
+
+        return request
+                .exchangeToMono(response -> {
+                    checkStatus(response.statusCode());
+                    return bodyExtractor.apply(response);
+                })
+                .onErrorMap(WebClientRequestException.class,
+                        ex -> new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR))
+                .toFuture();
+    }
+
+    /**
+     * GET 응답 본문을 메모리에 올리지 않고 reader 로 스트리밍합니다. (blocking, jenkinsTaskExecutor 에서 호출)
+     * reader 가 본문을 끝까지 읽지 않고 반환하면 남은 데이터는 받지 않고 연결을 끊습니다.
+     * RestTemplate 은 응답을 닫을 때 남은 본문을 모두 drain 하므로 커넥션 풀의 클라이언트를 직접 사용합니다.
+     */
+    public <T> T readStream(URI uri, HttpHeaders headers, BodyReader<T> reader) {
+        HttpGet request = new HttpGet(uri);
+        headers.forEach((name, values) -> values.forEach(value -> request.addHeader(name, value)));
+
+        try {
+            ClassicHttpResponse response = jenkinsHttpClient.executeOpen(null, request, null);
+            try {
+                checkStatus(HttpStatusCode.valueOf(response.getCode()));
+
+                HttpHeaders responseHeaders = new HttpHeaders();
+                for (Header header : response.getHeaders()) {
+                    responseHeaders.add(header.getName(), header.getValue());
+                }
+                InputStream body = response.getEntity() != null
+                        ? response.getEntity().getContent()
+                        : InputStream.nullInputStream();
+                return reader.read(body, responseHeaders);
+            } finally {
+                // 읽지 않은 본문을 drain 하지 않도록 close 전에 요청을 취소
+                request.cancel();
+                response.close();
+            }
+        } catch (IOException ex) {
+            throw new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR);
+        }
+    }
+
+    private void checkStatus(HttpStatusCode httpStatusCode) {
+        if (httpStatusCode == HttpStatus.NOT_FOUND) {
+            throw new CustomException(ErrorCode.JENKINS_ENDPOINT_NOT_FOUND);
+        } else if (httpStatusCode == HttpStatus.UNAUTHORIZED) {
+            throw new CustomException(ErrorCode.JENKINS_AUTHENTICATION_FAILED);
+        } else if (httpStatusCode == HttpStatus.GATEWAY_TIMEOUT || httpStatusCode == HttpStatus.REQUEST_TIMEOUT) {
+            throw new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR);
+        } else if (httpStatusCode.is5xxServerError()) {
+            throw new CustomException(ErrorCode.JENKINS_SERVER_ERROR);
+        } else if (httpStatusCode.is4xxClientError()) {
+            throw new CustomException(ErrorCode.JENKINS_CONNECTION_FAILED);
+        }
+    }
+
     public HttpHeaders buildHeaders(JenkinsInfo info, MediaType mediaType) {
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setBasicAuth(info.getJenkinsId(), info.getApiToken());
+        // 인증 헤더는 JenkinsInfo 별로 미리 계산된 값을 사용
+        headers.set(HttpHeaders.AUTHORIZATION, jenkinsConnectionCache.get(info).getAuthorization());
         headers.setContentType(mediaType);
 
         return headers;
@@ -0,0 +1,229 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.util.FutureUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * Job 별 빌드 조회를 Jenkins tree 쿼리 하나로 묶어 실행하는 query planner.
+ * <p>
+ * 전체 Job 조회는 {@code /api/json?tree=jobs[name,jobs[name],builds[...]{0,N}]} 요청 1건으로 처리합니다.
+ * 하위 jobs 가 있는 항목(폴더, Organization Folder 등)은 빌드가 없으므로 건너뜁니다.
+ * 다음 경우에만 Job 별 요청(JenkinsFanOutService)으로 fallback 합니다.
+ * <ul>
+ *     <li>폴더가 아닌데 builds 필드가 없는 Job</li>
+ *     <li>bulk 요청이 네트워크 오류나 HTTP 오류로 실패한 경우 → 전체 Job 을 Job 별 요청으로 조회</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JenkinsBuildQueryPlanner {
+
+    // Job 별 요청으로는 성공할 수 있는 bulk 실패 (인증 실패 등은 Job 별로 다시 보내도 같은 결과)
+    private static final Set<ErrorCode> BULK_FALLBACK_ERRORS = Set.of(
+            ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR,
+            ErrorCode.JENKINS_SERVER_ERROR,
+            ErrorCode.JENKINS_CONNECTION_FAILED,
+            ErrorCode.JENKINS_ENDPOINT_NOT_FOUND
+    );
+
+    private final HttpClientService httpClientService;
+    private final JenkinsFanOutService jenkinsFanOutService;
+    private final int maxBuildsPerJob;
+
+    public JenkinsBuildQueryPlanner(
+            HttpClientService httpClientService,
+            JenkinsFanOutService jenkinsFanOutService,
+            @Value("${jenkins.query.max-builds-per-job:100}") int maxBuildsPerJob
+    ) {
+        this.httpClientService = httpClientService;
+        this.jenkinsFanOutService = jenkinsFanOutService;
+        this.maxBuildsPerJob = maxBuildsPerJob;
+    }
+
+    public int getMaxBuildsPerJob() {
+        return maxBuildsPerJob;
+    }
+
+    /**
+     * 단일 Job 의 빌드 목록 URI. builds 는 최신순이며 [from, to) 범위만 내려받습니다.
+     */
+    public URI jobBuildsUri(JenkinsInfo info, String jobName, String buildFields, int from, int to) {
+        return treeUri(info.getUri() + "/job/" + jobName + "/api/json",
+                "builds[" + buildFields + "]" + range(from, to));
+    }
+
+    /**
+     * 단일 Job 의 전체 빌드 목록 URI. Jenkins 의 builds 는 최근 100건으로 잘리므로, 그보다 이전 이력까지 넘겨 봐야 하는 경우 사용합니다.
+     * allBuilds 도 최신순이며 [from, to) 범위의 빌드만 읽습니다.
+     */
+    public URI jobAllBuildsUri(JenkinsInfo info, String jobName, String buildFields, int from, int to) {
+        return treeUri(info.getUri() + "/job/" + jobName + "/api/json",
+                "allBuilds[" + buildFields + "]" + range(from, to));
+    }
+
+    /**
+     * 단일 빌드의 정보 URI.
+     */
+    public URI buildUri(JenkinsInfo info, String jobName, int buildNumber, String buildFields) {
+        return treeUri(info.getUri() + "/job/" + jobName + "/" + buildNumber + "/api/json", buildFields);
+    }
+
+    /**
+     * 단일 빌드의 workflow API(스테이지별 상태/시작/소요 시간) URI. Pipeline Job 에만 존재합니다.
+     */
+    public URI workflowRunUri(JenkinsInfo info, String jobName, int buildNumber) {
+        return UriComponentsBuilder.fromUriString(info.getUri() + "/job/" + jobName + "/" + buildNumber + "/wfapi/describe")
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    /**
+     * Jenkins 의 모든 Job 에 대해 최근 limit 개의 빌드를 조회하고, Job 단위로 mapper 를 적용합니다.
+     * mapper 에는 {@code {"builds": [...]}} 형태의 Job 응답이 전달되며, mapper 가 던진 예외는 해당 Job 의 skipped 사유가 됩니다.
+     *
+     * @param info        대상 Jenkins
+     * @param buildFields builds[...] 안에 들어갈 필드 목록 (예: number,result,timestamp,duration)
+     * @param limit       Job 당 최대 빌드 수
+     * @param mapper      (jobName, jobInfo) → 결과
+     */
+    public <T> CompletableFuture<FanOutResult<T>> queryAllJobs(
+            JenkinsInfo info,
+            String buildFields,
+            int limit,
+            BiFunction<String, Map<?, ?>, T> mapper
+    ) {
+        URI bulkUri = treeUri(info.getUri() + "/api/json",
+                "jobs[name,jobs[name],builds[" + buildFields + "]" + range(0, limit) + "]");
+
+        CompletableFuture<Map> bulk = httpClientService.exchangeAsync(bulkUri, HttpMethod.GET, jsonEntity(info), Map.class);
+        return bulk
+                .thenCompose(response -> planFromBulk(info, buildFields, limit, mapper, response))
+                .exceptionallyCompose(ex -> {
+                    // bulk 요청 자체가 네트워크/HTTP 오류로 실패한 경우에만 전체 Job 을 Job 별로 다시 조회
+                    Throwable cause = FutureUtil.unwrap(ex);
+                    if (!bulk.isCompletedExceptionally() || !isBulkFallbackError(cause)) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    log.warn("Jenkins bulk 조회 실패, Job 별 조회로 전환 - uri: {}, 원인: {}", info.getUri(), cause.getMessage());
+                    return listJobNames(info)
+                            .thenCompose(jobNames -> fanOutPerJob(info, jobNames, buildFields, limit, mapper));
+                });
+    }
+
+    private <T> CompletableFuture<FanOutResult<T>> planFromBulk(
+            JenkinsInfo info,
+            String buildFields,
+            int limit,
+            BiFunction<String, Map<?, ?>, T> mapper,
+            Map<?, ?> response
+    ) {
+        List<Map<String, Object>> jobs = response == null ? null : (List<Map<String, Object>>) response.get("jobs");
+        if (jobs == null) {
+            return CompletableFuture.completedFuture(new FanOutResult<>(List.of(), List.of()));
+        }
+
+        List<T> results = new ArrayList<>();
+        List<FanOutResult.SkippedJob> skipped = new ArrayList<>();
+        List<String> fallbackJobs = new ArrayList<>();
+
+        for (Map<String, Object> job : jobs) {
+            String jobName = (String) job.get("name");
+            if (isFolder(job)) {
+                continue;
+            }
+            if (!(job.get("builds") instanceof List)) {
+                fallbackJobs.add(jobName);
+                continue;
+            }
+            try {
+                T result = mapper.apply(jobName, job);
+                if (result != null) {
+                    results.add(result);
+                }
+            } catch (CustomException e) {
+                skipped.add(new FanOutResult.SkippedJob(jobName, e.getErrorCode().getCode()));
+            }
+        }
+
+        if (fallbackJobs.isEmpty()) {
+            return CompletableFuture.completedFuture(new FanOutResult<>(results, skipped));
+        }
+
+        log.info("builds 필드가 없는 Job {}건 Job 별 조회 - uri: {}", fallbackJobs.size(), info.getUri());
+        return fanOutPerJob(info, fallbackJobs, buildFields, limit, mapper)
+                .thenApply(fallback -> {
+                    results.addAll(fallback.getResults());
+                    skipped.addAll(fallback.getSkipped());
+                    return new FanOutResult<>(results, skipped);
+                });
+    }
+
+    private <T> CompletableFuture<FanOutResult<T>> fanOutPerJob(
+            JenkinsInfo info,
+            List<String> jobNames,
+            String buildFields,
+            int limit,
+            BiFunction<String, Map<?, ?>, T> mapper
+    ) {
+        return jenkinsFanOutService.fanOut(info, jobNames, jobName ->
+                httpClientService.exchangeAsync(jobBuildsUri(info, jobName, buildFields, 0, limit), HttpMethod.GET, jsonEntity(info), Map.class)
+                        .thenApply(jobInfo -> mapper.apply(jobName, jobInfo)));
+    }
+
+    private CompletableFuture<List<String>> listJobNames(JenkinsInfo info) {
+        URI uri = treeUri(info.getUri() + "/api/json", "jobs[name,jobs[name]]");
+        return httpClientService.exchangeAsync(uri, HttpMethod.GET, jsonEntity(info), Map.class)
+                .thenApply(jobsResponse -> {
+                    if (jobsResponse == null) return List.<String>of();
+                    List<Map<String, Object>> jobs = (List<Map<String, Object>>) jobsResponse.get("jobs");
+                    if (jobs == null) return List.<String>of();
+                    return jobs.stream()
+                            .filter(job -> !isFolder(job))
+                            .map(job -> (String) job.get("name"))
+                            .toList();
+                });
+    }
+
+    // 하위 jobs 를 가진 항목은 폴더(Folder, Organization Folder, Multibranch 등)
+    private static boolean isFolder(Map<?, ?> job) {
+        return job.get("jobs") instanceof List;
+    }
+
+    private static boolean isBulkFallbackError(Throwable ex) {
+        return ex instanceof CustomException ce && BULK_FALLBACK_ERRORS.contains(ce.getErrorCode());
+    }
+
+    private HttpEntity<?> jsonEntity(JenkinsInfo info) {
+        return new HttpEntity<>(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON));
+    }
+
+    private static URI treeUri(String baseUrl, String tree) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("tree", "{tree}")
+                .encode()
+                .buildAndExpand(tree)
+                .toUri();
+    }
+
+    private static String range(int from, int to) {
+        return "{" + from + "," + to + "}";
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.util.FutureUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Jenkins 의 여러 Job 에 같은 요청을 병렬로 보내는 fan-out 엔진.
+ * <p>
+ * - 같은 Jenkins 서버(uri)로 동시에 나가는 요청 수는 max-concurrency-per-jenkins 로 제한됩니다.
+ * 여러 사용자의 요청이 겹쳐도 서버 단위로 공유되는 제한입니다.
+ * - 전체 요청은 deadline 안에 끝나며, 그때까지 완료되지 않은 Job 은 취소 후 skipped 로 반환합니다.
+ * - 개별 Job 실패는 전체를 실패시키지 않고 skipped 에 사유와 함께 기록됩니다.
+ * - 진행 중이거나 대기 중인 요청이 없는 Jenkins 의 제한 상태는 map 에서 제거되므로, 등록/삭제된 Jenkins 수만큼 계속 쌓이지 않습니다.
+ */
+@Slf4j
+@Service
+public class JenkinsFanOutService {
+
+    public static final String REASON_DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+
+    private final Executor jenkinsTaskExecutor;
+    private final int maxConcurrencyPerJenkins;
+    private final Duration deadline;
+    private final Map<String, JenkinsPermits> permitsByJenkins = new ConcurrentHashMap<>();
+
+    public JenkinsFanOutService(
+            @Qualifier("jenkinsTaskExecutor") Executor jenkinsTaskExecutor,
+            @Value("${jenkins.fan-out.max-concurrency-per-jenkins:8}") int maxConcurrencyPerJenkins,
+            @Value("${jenkins.fan-out.deadline:20s}") Duration deadline
+    ) {
+        this.jenkinsTaskExecutor = jenkinsTaskExecutor;
+        this.maxConcurrencyPerJenkins = maxConcurrencyPerJenkins;
+        this.deadline = deadline;
+    }
+
+    /**
+     * jobNames 각각에 task 를 실행하고, deadline 까지 모인 결과를 반환합니다.
+     * 반환된 future 는 예외로 완료되지 않습니다.
+     *
+     * @param info     대상 Jenkins (동시성 제한 단위)
+     * @param jobNames 조회할 Job 이름 목록
+     * @param task     Job 이름을 받아 비동기 결과를 반환하는 함수. null 결과는 results 에서 제외됩니다.
+     */
+    public <T> CompletableFuture<FanOutResult<T>> fanOut(
+            JenkinsInfo info,
+            List<String> jobNames,
+            Function<String, CompletableFuture<T>> task
+    ) {
+        if (jobNames.isEmpty()) {
+            return CompletableFuture.completedFuture(new FanOutResult<>(List.of(), List.of()));
+        }
+        // 예약은 map 잠금 안에서 하므로, 유휴 상태로 제거되는 중인 permits 에 작업이 들어가지 않음
+        JenkinsPermits permits = permitsByJenkins.compute(normalize(info.getUri()), (key, existing) -> {
+            JenkinsPermits target = existing != null ? existing : new JenkinsPermits(maxConcurrencyPerJenkins, jenkinsTaskExecutor,
+                    idle -> permitsByJenkins.computeIfPresent(key, (k, current) -> current == idle && idle.isIdle() ? null : current));
+            target.reserve(jobNames.size());
+            return target;
+        });
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(jobNames.size());
+        for (String jobName : jobNames) {
+            futures.add(permits.submit(() -> task.apply(jobName)));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, ex) -> collect(jobNames, futures));
+    }
+
+    private <T> FanOutResult<T> collect(List<String> jobNames, List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>();
+        List<FanOutResult.SkippedJob> skipped = new ArrayList<>();
+
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<T> future = futures.get(i);
+            String jobName = jobNames.get(i);
+
+            // 마감까지 끝나지 않은 Job 은 취소 → 대기 중이면 시작하지 않고, 진행 중이면 요청을 중단
+            if (future.cancel(true)) {
+                skipped.add(new FanOutResult.SkippedJob(jobName, REASON_DEADLINE_EXCEEDED));
+                continue;
+            }
+
+            try {
+                T result = future.join();
+                if (result != null) {
+                    results.add(result);
+                }
+            } catch (CompletionException e) {
+                String reason = reasonOf(e.getCause());
+                log.warn("[SKIP] {}: {}", jobName, reason);
+                skipped.add(new FanOutResult.SkippedJob(jobName, reason));
+            }
+        }
+
+        if (!skipped.isEmpty()) {
+            log.info("fan-out 부분 결과 - 성공: {}, 건너뜀: {}", results.size(), skipped.size());
+        }
+        return new FanOutResult<>(results, skipped);
+    }
+
+    private static String reasonOf(Throwable ex) {
+        if (ex instanceof CustomException ce) {
+            return ce.getErrorCode().getCode();
+        }
+        return ErrorCode.UNKNOWN_ERROR.getCode();
+    }
+
+    int trackedJenkinsCount() {
+        return permitsByJenkins.size();
+    }
+
+    private static String normalize(String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+
+    /**
+     * Jenkins 서버 하나에 대한 non-blocking 세마포어.
+     * 허용량을 넘는 작업은 큐에 쌓였다가 앞선 요청이 끝나면 executor 에서 시작됩니다.
+     * 예약된 작업이 모두 끝나면 onIdle 로 map 에서 제거를 요청합니다.
+     */
+    static class JenkinsPermits {
+        private final int maxConcurrency;
+        private final Executor executor;
+        private final Consumer<JenkinsPermits> onIdle;
+        private final Deque<Waiter> waiting = new ArrayDeque<>();
+        private int active;
+        // 예약(reserve)되었지만 아직 끝나지 않은 작업 수
+        private int pending;
+
+        JenkinsPermits(int maxConcurrency, Executor executor, Consumer<JenkinsPermits> onIdle) {
+            this.maxConcurrency = maxConcurrency;
+            this.executor = executor;
+            this.onIdle = onIdle;
+        }
+
+        synchronized void reserve(int count) {
+            pending += count;
+        }
+
+        synchronized boolean isIdle() {
+            return pending == 0 && active == 0;
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable start = () -> run(task, result);
+
+            synchronized (this) {
+                if (active >= maxConcurrency) {
+                    waiting.add(new Waiter(start, result));
+                    return result;
+                }
+                active++;
+            }
+            start.run();
+            return result;
+        }
+
+        private <T> void run(Supplier<CompletableFuture<T>> task, CompletableFuture<T> result) {
+            // 대기 중에 마감되어 취소된 작업은 요청을 보내지 않는다
+            if (result.isDone()) {
+                release();
+                return;
+            }
+
+            CompletableFuture<T> call;
+            try {
+                call = task.get();
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+
+            CompletableFuture<T> inFlight = call;
+            result.whenComplete((value, ex) -> {
+                if (result.isCancelled()) {
+                    inFlight.cancel(true);
+                }
+            });
+            inFlight.whenComplete((value, ex) -> {
+                release();
+                if (ex != null) {
+                    result.completeExceptionally(FutureUtil.unwrap(ex));
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+
+        // 끝난 작업의 permit 을 다음 대기 작업에 넘기고, 대기 작업이 없으면 반납
+        private void release() {
+            synchronized (this) {
+                pending--;
+            }
+            Waiter next;
+            while ((next = poll()) != null) {
+                try {
+                    // 대기 작업은 완료 콜백 스레드(HTTP I/O 스레드)가 아닌 executor 에서 시작
+                    executor.execute(next.start);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // 시작하지 못한 작업은 실패로 끝내고, permit 은 그다음 대기 작업에 넘김
+                    synchronized (this) {
+                        pending--;
+                    }
+                    next.result.completeExceptionally(new CustomException(ErrorCode.JENKINS_TASK_REJECTED));
+                }
+            }
+            if (isIdle()) {
+                onIdle.accept(this);
+            }
+        }
+
+        // 다음 대기 작업. 없으면 permit 을 반납하고 null
+        private synchronized Waiter poll() {
+            Waiter next = waiting.poll();
+            if (next == null) {
+                active--;
+            }
+            return next;
+        }
+
+        private record Waiter(Runnable start, CompletableFuture<?> result) {
+        }
+    }
+}
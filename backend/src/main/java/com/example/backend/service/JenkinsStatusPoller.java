@@ -0,0 +1,340 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.util.FutureUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 같은 대상(pipeline, JenkinsInfo 등)을 보는 viewer 들이 하나의 Jenkins poll 루프를 공유하도록 묶고, 바뀐 항목만 SSE 로 전달합니다.
+ * <p>
+ * key 마다 poll 루프는 하나이므로 Jenkins 요청 수는 viewer 수가 아니라 감시 중인 대상 수에 비례합니다.
+ * 진행 중인 빌드가 있거나 직전 조회에서 변경이 있으면 active-interval 로, 그렇지 않으면 간격을 두 배씩 늘려 idle-interval 까지 느리게 조회하며,
+ * viewer 가 모두 떠나면 루프도 중단합니다.
+ * publish/broadcast 로 Jenkins 알림 등 이미 알고 있는 변경을 바로 전달할 수 있으며,
+ * 알림이 대상 전체를 최신으로 유지하는 Source(isKeptByPush)는 그 뒤 reconcile-interval 동안 poll 을 느린 정합성 확인으로만 실행합니다.
+ * <ul>
+ *     <li>snapshot: 합류 시점의 전체 항목 (새 viewer 에게만)</li>
+ *     <li>changes: 직전 조회 대비 추가/변경된 항목과 사라진 항목 id</li>
+ *     <li>error: 연속 실패가 max-failures 에 도달해 스트림을 닫을 때</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JenkinsStatusPoller {
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_CHANGES = "changes";
+    static final String EVENT_ERROR = "error";
+
+    /**
+     * 감시 대상의 현재 상태를 조회합니다. 항목은 id → 값이며, 값의 equals 로 변경 여부를 판단합니다.
+     */
+    public interface Source<T> {
+        CompletableFuture<Map<String, T>> poll();
+
+        // 진행 중인 빌드가 있어 빠르게 조회해야 하는지
+        boolean isActive(Map<String, T> items);
+
+        // publish/broadcast 만으로 모든 항목이 최신으로 유지되는지 (예: pipeline 하나의 알림).
+        // 여러 Job 을 모은 대상처럼 알림이 일부 항목만 다루면 false 로 두어 poll 간격을 늦추지 않음
+        default boolean isKeptByPush() {
+            return false;
+        }
+    }
+
+    private final TaskScheduler taskScheduler;
+    private final Executor jenkinsTaskExecutor;
+    private final Duration activeInterval;
+    private final Duration idleInterval;
+    private final Duration emitterTimeout;
+    private final Duration reconcileInterval;
+    private final int maxFailures;
+
+    private final Map<String, Watch<?>> watches = new ConcurrentHashMap<>();
+
+    public JenkinsStatusPoller(
+            TaskScheduler taskScheduler,
+            @Qualifier("jenkinsTaskExecutor") Executor jenkinsTaskExecutor,
+            @Value("${jenkins.status-watch.active-interval:2s}") Duration activeInterval,
+            @Value("${jenkins.status-watch.idle-interval:30s}") Duration idleInterval,
+            @Value("${jenkins.status-watch.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${jenkins.status-watch.reconcile-interval:5m}") Duration reconcileInterval,
+            @Value("${jenkins.status-watch.max-failures:5}") int maxFailures
+    ) {
+        this.taskScheduler = taskScheduler;
+        this.jenkinsTaskExecutor = jenkinsTaskExecutor;
+        this.activeInterval = activeInterval;
+        this.idleInterval = idleInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.reconcileInterval = reconcileInterval;
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * key 의 poll 루프를 구독합니다. 이미 같은 key 를 보는 viewer 가 있으면 기존 루프에 합류하고 source 는 사용하지 않습니다.
+     */
+    public <T> SseEmitter subscribe(String key, Source<T> source) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        // key 단위로 원자적으로 합류하며, 닫힌 루프에는 붙지 않고 그 자리를 새 루프로 교체
+        watches.compute(key, (k, running) -> {
+            if (running != null && running.addViewer(emitter)) {
+                return running;
+            }
+            Watch<T> watch = new Watch<>(k, source);
+            watch.addViewer(emitter);
+            return watch;
+        });
+        return emitter;
+    }
+
+    /**
+     * key 를 감시 중이면 id 항목을 item 으로 바꾸고 변경분을 바로 전달합니다. (감시 중이 아니면 무시)
+     * item 은 해당 key 의 Source 가 반환하는 항목과 같은 타입이어야 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(String key, String id, Object item) {
+        Watch<Object> watch = (Watch<Object>) watches.get(key);
+        if (watch != null) {
+            watch.push(id, item);
+        }
+    }
+
+    /**
+     * key 를 감시 중인 viewer 에게 항목 비교와 무관한 이벤트(예: stage 완료)를 전달합니다.
+     */
+    public void broadcast(String key, String event, Object data) {
+        Watch<?> watch = watches.get(key);
+        if (watch != null) {
+            watch.broadcast(event, data);
+        }
+    }
+
+    int activeWatchCount() {
+        return watches.size();
+    }
+
+    /**
+     * changes 이벤트 데이터.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Changes<T> {
+        private final List<T> changed;
+        private final List<String> removed;
+    }
+
+    /**
+     * 하나의 key 에 대한 poll 루프. poll 은 항상 순차로 실행되므로 items/delay 는 poll 결과 처리에서만 변경합니다.
+     */
+    private class Watch<T> {
+
+        private final String key;
+        private final Source<T> source;
+        private final List<SseEmitter> viewers = new CopyOnWriteArrayList<>();
+
+        private Map<String, T> items;
+        private Duration delay;
+        private long version;
+        private long pushedAt;
+        private int failures;
+        private boolean started;
+        private boolean closed;
+
+        Watch(String key, Source<T> source) {
+            this.key = key;
+            this.source = source;
+        }
+
+        synchronized boolean addViewer(SseEmitter emitter) {
+            if (closed) {
+                return false;
+            }
+            viewers.add(emitter);
+            emitter.onCompletion(() -> removeViewer(emitter));
+            emitter.onTimeout(() -> removeViewer(emitter));
+            emitter.onError(ex -> removeViewer(emitter));
+
+            if (items != null) {
+                send(emitter, EVENT_SNAPSHOT, List.copyOf(items.values()));
+            }
+            if (!started) {
+                started = true;
+                schedule(Duration.ZERO);
+            }
+            return true;
+        }
+
+        private void removeViewer(SseEmitter emitter) {
+            if (dropViewer(emitter)) {
+                watches.remove(key, this);
+            }
+        }
+
+        // viewer 를 빼고 마지막 viewer 였다면 루프를 닫음 (이번에 닫았으면 true).
+        // watches.compute 는 map 잠금 안에서 addViewer(Watch 잠금)를 호출하므로, Watch 잠금 안에서는 map 을 변경하지 않음
+        private synchronized boolean dropViewer(SseEmitter emitter) {
+            viewers.remove(emitter);
+            if (viewers.isEmpty() && !closed) {
+                closed = true;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized boolean isClosed() {
+            return closed;
+        }
+
+        private void schedule(Duration after) {
+            taskScheduler.schedule(this::poll, Instant.now().plus(after));
+        }
+
+        private void poll() {
+            if (isClosed()) {
+                // 전송 실패로 닫힌 루프는 map 에 남아 있을 수 있으므로 여기서 정리
+                watches.remove(key, this);
+                return;
+            }
+            CompletableFuture<Map<String, T>> result;
+            try {
+                result = source.poll();
+            } catch (RuntimeException ex) {
+                // 조회 전에 실패해도(예: pipeline 삭제) 같은 재시도 규칙을 따름
+                result = CompletableFuture.failedFuture(ex);
+            }
+            result
+                    // emitter.send 는 느린 viewer 에서 blocking 될 수 있으므로 I/O 스레드가 아닌 executor 에서 전달
+                    .thenAcceptAsync(this::onResult, jenkinsTaskExecutor)
+                    .exceptionally(ex -> {
+                        onFailure(FutureUtil.unwrap(ex));
+                        return null;
+                    });
+        }
+
+        private void onResult(Map<String, T> next) {
+            failures = 0;
+            boolean changed = publish(next);
+
+            // 변경이 있었거나 진행 중인 빌드가 있으면 빠르게, 아니면 점점 느리게
+            if (changed || source.isActive(next) || delay == null) {
+                delay = activeInterval;
+            } else {
+                Duration doubled = delay.multipliedBy(2);
+                delay = doubled.compareTo(idleInterval) > 0 ? idleInterval : doubled;
+            }
+            schedule(source.isKeptByPush() && pushedRecently() && reconcileInterval.compareTo(delay) > 0 ? reconcileInterval : delay);
+        }
+
+        private synchronized boolean pushedRecently() {
+            return pushedAt > 0 && System.currentTimeMillis() - pushedAt < reconcileInterval.toMillis();
+        }
+
+        synchronized void push(String id, T item) {
+            pushedAt = System.currentTimeMillis();
+            if (items != null) {
+                if (Objects.equals(items.get(id), item)) {
+                    return;
+                }
+                Map<String, T> next = new LinkedHashMap<>(items);
+                next.put(id, item);
+                items = next;
+            }
+            version++;
+            Changes<T> changes = new Changes<>(List.of(item), List.of());
+            viewers.forEach(emitter -> send(emitter, EVENT_CHANGES, changes));
+        }
+
+        synchronized void broadcast(String event, Object data) {
+            pushedAt = System.currentTimeMillis();
+            viewers.forEach(emitter -> send(emitter, event, data));
+        }
+
+        private synchronized boolean publish(Map<String, T> next) {
+            Map<String, T> previous = items;
+            items = next;
+            if (previous == null) {
+                version++;
+                viewers.forEach(emitter -> send(emitter, EVENT_SNAPSHOT, List.copyOf(next.values())));
+                return false;
+            }
+
+            List<T> changed = new ArrayList<>();
+            next.forEach((id, value) -> {
+                if (!Objects.equals(previous.get(id), value)) {
+                    changed.add(value);
+                }
+            });
+            List<String> removed = previous.keySet().stream()
+                    .filter(id -> !next.containsKey(id))
+                    .toList();
+            if (changed.isEmpty() && removed.isEmpty()) {
+                return false;
+            }
+
+            version++;
+            Changes<T> changes = new Changes<>(changed, removed);
+            viewers.forEach(emitter -> send(emitter, EVENT_CHANGES, changes));
+            return true;
+        }
+
+        private void onFailure(Throwable ex) {
+            if (++failures < maxFailures) {
+                log.warn("상태 조회 실패, 재시도 - key: {}, 원인: {}", key, ex.getMessage());
+                schedule(delay != null ? delay : activeInterval);
+                return;
+            }
+            log.error("상태 감시 종료 - key: {}", key, ex);
+            ErrorCode errorCode = ex instanceof CustomException ce ? ce.getErrorCode() : ErrorCode.JENKINS_SERVER_ERROR;
+            Map<String, Object> error = Map.of("code", errorCode.getCode(), "message", errorCode.getMessage());
+            closeAndDrain().forEach(emitter -> {
+                send(emitter, EVENT_ERROR, error);
+                emitter.complete();
+            });
+        }
+
+        private List<SseEmitter> closeAndDrain() {
+            List<SseEmitter> targets;
+            synchronized (this) {
+                closed = true;
+                targets = List.copyOf(viewers);
+                viewers.clear();
+            }
+            watches.remove(key, this);
+            return targets;
+        }
+
+        private void send(SseEmitter emitter, String name, Object data) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(name)
+                        .id(String.valueOf(version))
+                        .data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException ex) {
+                // 연결이 끊긴 viewer 는 제외 (Watch 잠금 안에서 호출될 수 있으므로 map 정리는 다음 poll 에서)
+                dropViewer(emitter);
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * resources/template 의 Mustache 템플릿을 시작 시 모두 컴파일해 두고 이름(확장자 제외)으로 렌더링합니다.
+ * <p>
+ * 렌더링 결과는 스레드별로 재사용하는 버퍼에 기록하며, max-retained-chars 보다 커진 버퍼는 보관하지 않습니다.
+ * 템플릿 파일을 추가하면 별도 코드 없이 등록되고, 컴파일 오류가 있으면 애플리케이션이 시작되지 않습니다.
+ * <p>
+ * mustache.hot-reload 가 켜져 있고 reload-dir 이 존재하면(개발 환경) 해당 디렉터리에서 읽으며,
+ * 파일이 바뀌면 다음 렌더링 때 다시 컴파일합니다. 다시 컴파일하다 실패하면 이전 템플릿을 계속 사용합니다.
+ */
+@Slf4j
+@Component
+public class TemplateRegistry {
+
+    static final String LOCATION = "template/";
+    static final String SUFFIX = ".mustache";
+
+    private final Path reloadDir;
+    private final long reloadCheckMillis;
+    private final int initialChars;
+    private final int maxRetainedChars;
+    private final ThreadLocal<BufferWriter> buffers;
+
+    private volatile Map<String, Mustache> templates;
+    private volatile long loadedSignature;
+    private volatile long nextCheckAt;
+
+    public TemplateRegistry(
+            MustacheFactory mustacheFactory,
+            @Value("${mustache.hot-reload:false}") boolean hotReload,
+            @Value("${mustache.reload-dir:src/main/resources/template}") String reloadDir,
+            @Value("${mustache.reload-check-ms:1000}") long reloadCheckMillis,
+            @Value("${mustache.buffer.initial-chars:4096}") int initialChars,
+            @Value("${mustache.buffer.max-retained-chars:65536}") int maxRetainedChars
+    ) {
+        Path dir = Paths.get(reloadDir);
+        this.reloadDir = hotReload && Files.isDirectory(dir) ? dir : null;
+        this.reloadCheckMillis = reloadCheckMillis;
+        this.initialChars = initialChars;
+        this.maxRetainedChars = maxRetainedChars;
+        this.buffers = ThreadLocal.withInitial(() -> new BufferWriter(initialChars));
+
+        if (this.reloadDir != null) {
+            this.loadedSignature = signature(this.reloadDir);
+            this.templates = compileDirectory(this.reloadDir);
+            log.info("Mustache 템플릿 hot reload 사용 - {}", this.reloadDir.toAbsolutePath());
+        } else {
+            this.templates = compileClasspath(mustacheFactory);
+        }
+        log.info("Mustache 템플릿 {}개 컴파일 - {}", templates.size(), templates.keySet());
+    }
+
+    /**
+     * @param name 템플릿 파일 이름 (확장자 제외, 예: config)
+     */
+    public String render(String name, Object context) {
+        Mustache mustache = template(name);
+
+        BufferWriter writer = buffers.get();
+        boolean pooled = !writer.inUse;
+        if (!pooled) {
+            // 렌더링 중 다시 호출된 경우(람다 등) 별도 버퍼 사용
+            writer = new BufferWriter(initialChars);
+        }
+        writer.inUse = true;
+        try {
+            mustache.execute(writer, context);
+            return writer.buffer.toString();
+        } catch (RuntimeException e) {
+            log.error("Mustache 템플릿 렌더링 실패 - {}", name, e);
+            throw new CustomException(ErrorCode.MUSTACHE_EXECUTE_FAILED);
+        } finally {
+            writer.inUse = false;
+            writer.buffer.setLength(0);
+            if (pooled && writer.buffer.capacity() > maxRetainedChars) {
+                buffers.remove();
+            }
+        }
+    }
+
+    public Set<String> names() {
+        return templates.keySet();
+    }
+
+    private Mustache template(String name) {
+        if (reloadDir != null) {
+            reloadIfChanged();
+        }
+        Mustache mustache = templates.get(name);
+        if (mustache == null) {
+            throw new CustomException(ErrorCode.MUSTACHE_FILE_NOT_FOUND);
+        }
+        return mustache;
+    }
+
+    private void reloadIfChanged() {
+        long now = System.currentTimeMillis();
+        if (now < nextCheckAt) {
+            return;
+        }
+        synchronized (this) {
+            if (now < nextCheckAt) {
+                return;
+            }
+            nextCheckAt = now + reloadCheckMillis;
+            try {
+                long signature = signature(reloadDir);
+                if (signature != loadedSignature) {
+                    templates = compileDirectory(reloadDir);
+                    loadedSignature = signature;
+                    log.info("Mustache 템플릿 다시 컴파일 - {}", templates.keySet());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Mustache 템플릿 다시 컴파일 실패 - 이전 템플릿 사용: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, Mustache> compileClasspath(MustacheFactory mustacheFactory) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:" + LOCATION + "*" + SUFFIX);
+            Map<String, Mustache> compiled = new HashMap<>();
+            for (Resource resource : resources) {
+                String fileName = resource.getFilename();
+                compiled.put(stripSuffix(fileName), mustacheFactory.compile(LOCATION + fileName));
+            }
+            return Map.copyOf(compiled);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Mustache> compileDirectory(Path dir) {
+        // 이전 컴파일 결과가 factory 에 캐시되므로 매번 새로 생성
+        MustacheFactory factory = new DefaultMustacheFactory(dir.toFile());
+        Map<String, Mustache> compiled = new HashMap<>();
+        for (Path file : templateFiles(dir)) {
+            String fileName = file.getFileName().toString();
+            compiled.put(stripSuffix(fileName), factory.compile(fileName));
+        }
+        return Map.copyOf(compiled);
+    }
+
+    // 파일 추가/삭제/수정 여부 비교용
+    private static long signature(Path dir) {
+        long signature = 17;
+        for (Path file : templateFiles(dir)) {
+            try {
+                signature = 31 * signature + file.getFileName().toString().hashCode();
+                signature = 31 * signature + Files.getLastModifiedTime(file).toMillis();
+                signature = 31 * signature + Files.size(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return signature;
+    }
+
+    private static List<Path> templateFiles(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String stripSuffix(String fileName) {
+        return fileName.substring(0, fileName.length() - SUFFIX.length());
+    }
+
+    /**
+     * 동기화하지 않는 StringBuilder 기반 Writer. (StringWriter 는 StringBuffer 를 사용)
+     */
+    private static final class BufferWriter extends Writer {
+        private final StringBuilder buffer;
+        private boolean inUse;
+
+        private BufferWriter(int initialChars) {
+            this.buffer = new StringBuilder(initialChars);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            buffer.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(String str) {
+            buffer.append(str);
+        }
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            buffer.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
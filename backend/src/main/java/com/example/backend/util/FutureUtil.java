@@ -0,0 +1,19 @@
+package com.example.backend.util;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * CompletableFuture 콜백에서 공통으로 쓰는 도구.
+ */
+public final class FutureUtil {
+
+    private FutureUtil() {
+    }
+
+    /**
+     * CompletionException 으로 감싸진 원인 예외를 반환합니다. 감싸지 않았으면 그대로 반환.
+     */
+    public static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+}
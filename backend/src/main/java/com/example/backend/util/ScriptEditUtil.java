@@ -1,6 +1,7 @@
 package com.example.backend.util;
 
 import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.parser.Jenkinsfile;
 import com.example.backend.service.HttpClientService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpEntity;
@@ -11,133 +12,73 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class ScriptEditUtil {
 
-    private static final Pattern STAGE_PATTERN = Pattern.compile(
-            "stage\\s*\\(\\s*['\\\"]([^'\\\"]+)['\\\"]\\s*\\)\\s*\\{"
-    );
     private final HttpClientService httpClientService;
 
     /**
      * 주어진 Jenkins pipeline script에서 모든 stage 이름을 추출합니다.
      */
     public List<String> extractStageNames(String script) {
-        Matcher matcher = STAGE_PATTERN.matcher(script);
-        LinkedHashSet<String> stages = new LinkedHashSet<>();
-        while (matcher.find()) {
-            stages.add(matcher.group(1));
-        }
-        return new ArrayList<>(stages);
+        return new ArrayList<>(new LinkedHashSet<>(Jenkinsfile.parse(script).getStageNames()));
     }
 
     /**
      * 스크립트에 파라미터 블록과 when 제어 로직을 삽입합니다.
+     * 스크립트는 한 번만 파싱하고, 모든 삽입을 모아 한 번에 반영합니다.
      */
     public String injectBooleanParams(String script) {
-        List<String> stageNames = extractStageNames(script);
-
-        // 1) 파라미터 정의 리스트 생성
-        List<String> paramLines = stageNames.stream()
-                .map(name -> {
-                    String safe = "RUN_" + name.toUpperCase().replaceAll("\\W+", "_");
-                    return String.format(
-                            "    booleanParam(name: '%s', defaultValue: true, description: '%s 스테이지 실행 여부')",
-                            safe, name
-                    );
-                })
-                .collect(Collectors.toList());
+        Jenkinsfile jenkinsfile = Jenkinsfile.parse(script);
+        List<Jenkinsfile.Block> stages = jenkinsfile.getStages();
+        Jenkinsfile.Editor editor = jenkinsfile.edit();
+
+        // 1) 파라미터 정의 리스트 생성 (이미 선언된 이름 제외)
+        Set<String> existing = jenkinsfile.getParameterNames();
+        Set<String> added = new LinkedHashSet<>();
+        StringBuilder paramLines = new StringBuilder();
+        for (Jenkinsfile.Block stage : stages) {
+            String safe = paramName(stage.getLabel());
+            if (!existing.contains(safe) && added.add(safe)) {
+                paramLines.append(String.format(
+                        "    booleanParam(name: '%s', defaultValue: true, description: '%s 스테이지 실행 여부')\n",
+                        safe, stage.getLabel()
+                ));
+            }
+        }
 
         // 2) properties 블록 추가 또는 수정
-        script = mergeOrInsertParameters(script, paramLines);
-
-        // 3) 각 stage에 when 삽입
-        script = insertWhenConditions(script, stageNames);
-
-        return script;
-    }
-
-    private String mergeOrInsertParameters(String script, List<String> paramLines) {
-        Pattern paramsBlock = Pattern.compile("(?s)parameters\\s*\\{.*?\\}", Pattern.CASE_INSENSITIVE);
-        Matcher m = paramsBlock.matcher(script);
-        if (m.find()) {
-            String block = m.group();
-            String updated = addToExistingParams(block, paramLines);
-            return script.replace(block, updated);
-        } else {
-            String newBlock = buildParamsBlock(paramLines);
-            // pipeline { 다음 줄에 바로 삽입
-            return script.replaceFirst("(?m)(pipeline\\s*\\{)", "$1\n" + newBlock + "\n");
+        if (paramLines.length() > 0) {
+            Jenkinsfile.Block parameters = jenkinsfile.getParameters();
+            Jenkinsfile.Block pipeline = jenkinsfile.getPipeline();
+            if (parameters != null) {
+                editor.insertBeforeClose(parameters, "\n" + paramLines);
+            } else if (pipeline != null) {
+                // pipeline { 다음 줄에 바로 삽입
+                editor.insertAfterOpen(pipeline, "\nparameters {\n" + paramLines + "}\n");
+            }
         }
-    }
 
-    private String addToExistingParams(String block, List<String> paramLines) {
-        // parameters { (body) }
-        Pattern p = Pattern.compile("(?s)(parameters\\s*\\{)(.*?)(\\})");
-        Matcher m = p.matcher(block);
-        if (!m.find()) return block;
-        String head = m.group(1), body = m.group(2), tail = m.group(3);
-
-        // 이미 선언된 이름 수집
-        Set<String> existing = new HashSet<>();
-        Pattern namePat = Pattern.compile("booleanParam\\s*\\(\\s*name\\s*:\\s*'([A-Z0-9_]+)'");
-        Matcher nm = namePat.matcher(body);
-        while (nm.find()) existing.add(nm.group(1));
-
-        // 추가할 라인만 필터
-        List<String> toAdd = paramLines.stream()
-                .filter(line -> {
-                    Matcher mm = namePat.matcher(line);
-                    return mm.find() && !existing.contains(mm.group(1));
-                })
-                .collect(Collectors.toList());
-
-        String newBody = body.trim();
-        if (!toAdd.isEmpty()) {
-            newBody += "\n" + String.join("\n", toAdd) + "\n";
+        // 3) when 이 없는 stage 에 when 삽입
+        for (Jenkinsfile.Block stage : stages) {
+            if (!stage.hasChild("when")) {
+                editor.insertAfterOpen(stage, "\n      when { expression { params." + paramName(stage.getLabel()) + " } }");
+            }
         }
 
-        return head + "\n" + newBody + tail;
+        return editor.apply();
     }
 
-    private String buildParamsBlock(List<String> paramLines) {
-        String joined = paramLines.stream().collect(Collectors.joining("\n"));
-        return "parameters {\n" + joined + "\n}";
+    private static String paramName(String stageName) {
+        return "RUN_" + stageName.toUpperCase().replaceAll("\\W+", "_");
     }
 
-    private String insertWhenConditions(String script, List<String> stageNames) {
-        String result = script;
-        for (String name : stageNames) {
-            String safe = "RUN_" + name.toUpperCase().replaceAll("\\W+", "_");
-            String regex = "(?m)(stage\\s*\\(\\s*['\"]" + Pattern.quote(name) + "['\"]\\s*\\)\\s*\\{)";
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(result);
-            StringBuffer sb = new StringBuffer();
-            while (matcher.find()) {
-                int start = matcher.end(1);
-                int endIdx = result.indexOf('}', start);
-                String between = endIdx > start ? result.substring(start, endIdx) : "";
-                if (Pattern.compile("\\bwhen\\b").matcher(between).find()) {
-                    matcher.appendReplacement(sb, Matcher.quoteReplacement(matcher.group(1)));
-                } else {
-                    String replacement = matcher.group(1)
-                            + "\n      when { expression { params." + safe + " } }";
-                    matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
-                }
-            }
-            matcher.appendTail(sb);
-            result = sb.toString();
-        }
-        return result;
-    }
-
-
     /**
      * Jenkins Declarative Pipeline 스크립트 문법 검증.
      *
@@ -0,0 +1,36 @@
+package com.example.backend.util;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 애플리케이션 전체가 공유하는 SecureRandom.
+ * <p>
+ * getInstanceStrong() 은 컨테이너에서 엔트로피 부족 시 blocking 될 수 있으므로 DRBG 를 사용합니다.
+ * DRBG 는 thread-safe 하므로 요청마다 새로 만들지 않고 하나의 인스턴스를 공유합니다.
+ */
+public final class SecureRandomUtil {
+
+    private static final SecureRandom RANDOM = createRandom();
+
+    private SecureRandomUtil() {
+    }
+
+    /**
+     * size 바이트의 난수를 반환합니다.
+     */
+    public static byte[] nextBytes(int size) {
+        byte[] bytes = new byte[size];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static SecureRandom createRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG", DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
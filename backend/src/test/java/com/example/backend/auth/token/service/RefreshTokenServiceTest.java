@@ -4,6 +4,7 @@ import com.example.backend.auth.token.model.RefreshToken;
 import com.example.backend.auth.token.repository.RefreshTokenRepository;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.service.CustomUserDetails;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import com.example.backend.config.jwt.JwtTokenProvider;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
@@ -36,6 +37,9 @@ class RefreshTokenServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private JwtPrincipalCache jwtPrincipalCache;
+
     @Mock
     private Authentication authentication;
     @Mock
@@ -157,5 +161,6 @@ class RefreshTokenServiceTest {
     void deleteByUser_success() {
         refreshTokenService.deleteByUser(testUser);
         verify(refreshTokenRepository, times(1)).deleteByUser(testUser);
+        verify(jwtPrincipalCache).invalidate("user@example.com");
     }
 }
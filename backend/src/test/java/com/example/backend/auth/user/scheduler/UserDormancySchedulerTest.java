@@ -0,0 +1,64 @@
+package com.example.backend.auth.user.scheduler;
+
+import com.example.backend.auth.email.service.EmailService;
+import com.example.backend.auth.user.model.Users;
+import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.config.jwt.JwtPrincipalCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDormancySchedulerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JwtPrincipalCache jwtPrincipalCache;
+
+    @InjectMocks
+    private UserDormancyScheduler userDormancyScheduler;
+
+    @Test
+    @DisplayName("processDormantUsers - 휴면 처리한 사용자는 조회에서 빠지므로 매번 첫 페이지를 다시 읽어 누락 없이 처리")
+    void processDormantUsers_rereadsFirstPage() {
+        ReflectionTestUtils.setField(userDormancyScheduler, "dormancyPeriodDays", 365L);
+        List<Users> active = new ArrayList<>(IntStream.range(0, 150)
+                .mapToObj(i -> Users.builder().email("user" + i + "@example.com").status(Users.UserStatus.ACTIVE).build())
+                .toList());
+        // 실제 쿼리처럼 아직 ACTIVE 인 사용자만 페이지로 반환
+        when(userRepository.findByStatusAndLastLoginBefore(eq(Users.UserStatus.ACTIVE), any(LocalDateTime.class), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Pageable pageable = invocation.getArgument(2);
+                    List<Users> remaining = active.stream().filter(u -> u.getStatus() == Users.UserStatus.ACTIVE).toList();
+                    int from = (int) Math.min(pageable.getOffset(), remaining.size());
+                    int to = Math.min(from + pageable.getPageSize(), remaining.size());
+                    return new PageImpl<>(remaining.subList(from, to), pageable, remaining.size());
+                });
+
+        userDormancyScheduler.processDormantUsers();
+
+        assertTrue(active.stream().allMatch(u -> u.getStatus() == Users.UserStatus.DORMANT));
+        verify(emailService, times(150)).sendDormantNotificationEmail(any());
+        verify(userRepository, never()).findByStatusAndLastLoginBefore(any(), any(), eq(PageRequest.of(1, 100)));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.backend.auth.email.service.EmailService;
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.auth.user.model.dto.UserRequestDto.SignupDto;
 import com.example.backend.auth.user.repository.UserRepository;
+import com.example.backend.config.jwt.JwtPrincipalCache;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +37,9 @@ class UserServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private JwtPrincipalCache jwtPrincipalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -143,6 +147,7 @@ class UserServiceTest {
         assertEquals(Users.UserStatus.WITHDRAWN, sampleUser.getStatus());
         assertNotNull(sampleUser.getDeletedAt());
         verify(userRepository).save(sampleUser);
+        verify(jwtPrincipalCache).invalidate(sampleUser.getEmail());
     }
 
     @Test
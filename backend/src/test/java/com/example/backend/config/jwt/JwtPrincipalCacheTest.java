@@ -0,0 +1,91 @@
+package com.example.backend.config.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.example.backend.auth.user.model.Users;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtPrincipalCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger loads = new AtomicInteger();
+    private JwtPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JwtPrincipalCache(60_000L, 3, now::get);
+    }
+
+    @Test
+    @DisplayName("get - 같은 subject, 발급 시각이면 한 번만 로드")
+    void get_cachesPerToken() {
+        Date issuedAt = new Date(now.get());
+        Date expiration = new Date(now.get() + 600_000L);
+
+        JwtPrincipalCache.CachedPrincipal first = cache.get("a@example.com", issuedAt, expiration, loader("a@example.com"));
+        JwtPrincipalCache.CachedPrincipal second = cache.get("a@example.com", issuedAt, expiration, loader("a@example.com"));
+        cache.get("a@example.com", new Date(now.get() + 1000), expiration, loader("a@example.com"));
+
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("get - ttl 또는 토큰 만료 시각이 지나면 다시 로드")
+    void get_expires() {
+        Date issuedAt = new Date(now.get());
+
+        cache.get("a@example.com", issuedAt, new Date(now.get() + 600_000L), loader("a@example.com"));
+        now.addAndGet(60_000L);
+        cache.get("a@example.com", issuedAt, new Date(now.get() + 600_000L), loader("a@example.com"));
+        assertEquals(2, loads.get());
+
+        Date shortExpiration = new Date(now.get() + 1000);
+        cache.get("b@example.com", issuedAt, shortExpiration, loader("b@example.com"));
+        now.addAndGet(1000);
+        cache.get("b@example.com", issuedAt, shortExpiration, loader("b@example.com"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidate - 해당 사용자의 모든 토큰 항목 제거")
+    void invalidate_removesAllTokensOfSubject() {
+        Date expiration = new Date(now.get() + 600_000L);
+        cache.get("a@example.com", new Date(1), expiration, loader("a@example.com"));
+        cache.get("a@example.com", new Date(2), expiration, loader("a@example.com"));
+        cache.get("b@example.com", new Date(1), expiration, loader("b@example.com"));
+
+        cache.invalidate("a@example.com");
+
+        assertEquals(1, cache.size());
+        cache.get("a@example.com", new Date(1), expiration, loader("a@example.com"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("get - max-entries 를 넘지 않음")
+    void get_isBounded() {
+        for (int i = 0; i < 10; i++) {
+            now.incrementAndGet();
+            cache.get("user" + i, new Date(now.get()), new Date(now.get() + 600_000L), loader("user" + i));
+        }
+
+        assertTrue(cache.size() <= 3);
+    }
+
+    private Supplier<JwtPrincipalCache.CachedPrincipal> loader(String subject) {
+        return () -> {
+            loads.incrementAndGet();
+            return new JwtPrincipalCache.CachedPrincipal(UUID.randomUUID(), subject, Users.UserStatus.ACTIVE, List.of());
+        };
+    }
+}
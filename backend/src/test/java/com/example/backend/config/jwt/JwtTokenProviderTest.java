@@ -0,0 +1,60 @@
+package com.example.backend.config.jwt;
+
+import com.example.backend.auth.user.model.Users;
+import com.example.backend.auth.user.service.CustomUserDetails;
+import com.example.backend.auth.user.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    private JwtTokenProvider tokenProvider;
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(customUserDetailsService, new JwtPrincipalCache(60_000L, 100));
+        claims = Jwts.claims().setSubject("a@example.com");
+        claims.setIssuedAt(new Date());
+        claims.setExpiration(new Date(System.currentTimeMillis() + 600_000L));
+    }
+
+    @Test
+    @DisplayName("getAuthentication - 캐시된 요청도 요청마다 새 principal 을 만들고, Users 는 필요할 때만 조회")
+    void getAuthentication_doesNotShareUserEntity() {
+        Users user = Users.builder().id(UUID.randomUUID()).email("a@example.com")
+                .status(Users.UserStatus.ACTIVE).roles("USER").build();
+        when(customUserDetailsService.loadUserByUsername("a@example.com")).thenReturn(new CustomUserDetails(user));
+        when(customUserDetailsService.loadUserEntity("a@example.com"))
+                .thenAnswer(invocation -> Users.builder().id(user.getId()).email("a@example.com").build());
+
+        CustomUserDetails first = (CustomUserDetails) tokenProvider.getAuthentication(claims).getPrincipal();
+        CustomUserDetails second = (CustomUserDetails) tokenProvider.getAuthentication(claims).getPrincipal();
+
+        verify(customUserDetailsService, times(1)).loadUserByUsername("a@example.com");
+        verify(customUserDetailsService, never()).loadUserEntity(anyString());
+        assertNotSame(first, second);
+        assertEquals(user.getId(), second.getId());
+        assertEquals("ROLE_USER", second.getAuthorities().iterator().next().getAuthority());
+
+        assertNotSame(first.getUserEntity(), second.getUserEntity());
+        assertSame(first.getUserEntity(), first.getUserEntity());
+        verify(customUserDetailsService, times(2)).loadUserEntity("a@example.com");
+    }
+}
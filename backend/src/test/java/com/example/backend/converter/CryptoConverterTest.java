@@ -0,0 +1,54 @@
+package com.example.backend.converter;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CryptoConverterTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Test
+    @DisplayName("암호화 후 복호화하면 원문 (캐시 없이)")
+    void roundTrip_withoutCache() {
+        CryptoConverter writer = new CryptoConverter(KEY, 0);
+        CryptoConverter reader = new CryptoConverter(KEY, 0);
+
+        String first = writer.convertToDatabaseColumn("jenkins-api-token");
+        String second = writer.convertToDatabaseColumn("jenkins-api-token");
+
+        assertNotEquals(first, second);
+        assertEquals("jenkins-api-token", reader.convertToEntityAttribute(first));
+        assertEquals("jenkins-api-token", reader.convertToEntityAttribute(second));
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 오래된 항목부터 제거")
+    void cache_isBounded() throws Exception {
+        CryptoEngine engine = new CryptoEngine(new byte[32], 2);
+        CryptoEngine writer = new CryptoEngine(new byte[32], 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("token-" + i, engine.decrypt(writer.encrypt("token-" + i)));
+        }
+
+        assertEquals(2, engine.cacheSize());
+    }
+
+    @Test
+    @DisplayName("변조된 암호문은 복호화 실패")
+    void tampered_throws() {
+        CryptoConverter converter = new CryptoConverter(KEY, 16);
+        byte[] combined = Base64.getDecoder().decode(converter.convertToDatabaseColumn("secret"));
+        combined[combined.length - 1] ^= 1;
+        String tampered = Base64.getEncoder().encodeToString(combined);
+
+        CustomException ex = assertThrows(CustomException.class, () -> converter.convertToEntityAttribute(tampered));
+        assertEquals(ErrorCode.JENKINS_SECRET_DECRYPTION_FAIL, ex.getErrorCode());
+    }
+}
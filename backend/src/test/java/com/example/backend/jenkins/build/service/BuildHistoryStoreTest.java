@@ -0,0 +1,290 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.repository.BuildRecordRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.service.HttpClientService;
+import com.example.backend.service.JenkinsBuildQueryPlanner;
+import com.example.backend.service.JenkinsFanOutService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildHistoryStoreTest {
+
+    @Mock
+    private HttpClientService httpClientService;
+    @Mock
+    private BuildRecordRepository buildRecordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JenkinsBuildQueryPlanner planner;
+    private BuildHistoryStore store;
+    private PipelineMeta pipeline;
+    private JenkinsInfo info;
+
+    @BeforeEach
+    void setUp() {
+        planner = new JenkinsBuildQueryPlanner(httpClientService,
+                new JenkinsFanOutService(Runnable::run, 4, Duration.ofSeconds(5)), 100);
+        store = new BuildHistoryStore(httpClientService, planner, buildRecordRepository,
+                new BuildJsonDecoder(objectMapper), Runnable::run, 2, Duration.ofMinutes(5));
+        info = JenkinsInfo.builder().uri("http://jenkins.local").build();
+        pipeline = new PipelineMeta(UUID.randomUUID(), "job", false, null, null, List.of(), info);
+        lenient().when(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON)).thenReturn(new HttpHeaders());
+    }
+
+    @Test
+    @DisplayName("refresh - 저장된 번호보다 큰 빌드와 진행 중 빌드만 Jenkins에서 조회")
+    void refresh_fetchesOnlyNewAndBuilding() {
+        BuildRecord running = BuildRecord.builder().pipeline(Pipeline.builder().id(pipeline.getId()).build()).buildNumber(4).building(true).build();
+        when(buildRecordRepository.findMaxBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(5));
+        when(buildRecordRepository.findBuildingNumbersByPipelineId(pipeline.getId())).thenReturn(List.of(4));
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberIn(eq(pipeline.getId()), anyCollection()))
+                .thenReturn(List.of(running));
+
+        URI page0 = planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 0, 2);
+        // 다음 구간은 두 배 크기
+        URI page1 = planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 2, 6);
+        URI build4 = planner.buildUri(info, "job", 4, BuildHistoryStore.BUILD_FIELDS);
+        stubJenkins(page0, Map.of("allBuilds", List.of(build(8, null, true), build(7, "SUCCESS", false))));
+        stubJenkins(page1, Map.of("allBuilds", List.of(build(6, "FAILURE", false), build(5, "SUCCESS", false), build(4, null, true))));
+        stubJenkins(build4, build(4, "SUCCESS", false));
+
+        store.refresh(pipeline).join();
+
+        ArgumentCaptor<List<BuildRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(buildRecordRepository).saveAll(saved.capture());
+        assertEquals(List.of(8, 7, 6, 4), saved.getValue().stream().map(BuildRecord::getBuildNumber).toList());
+        assertSame(running, saved.getValue().get(3));
+        assertFalse(running.getBuilding());
+        assertEquals("SUCCESS", running.getResult());
+        verify(httpClientService, times(3)).readAsync(any(URI.class), any(HttpEntity.class), any());
+    }
+
+    @Test
+    @DisplayName("refresh - 동기화 사이에 max-builds-per-job 보다 많은 빌드가 생겨도 저장된 번호까지 모두 조회")
+    void refresh_pagesUntilStoredMax() {
+        planner = new JenkinsBuildQueryPlanner(httpClientService,
+                new JenkinsFanOutService(Runnable::run, 4, Duration.ofSeconds(5)), 4);
+        store = new BuildHistoryStore(httpClientService, planner, buildRecordRepository,
+                new BuildJsonDecoder(objectMapper), Runnable::run, 2, Duration.ofMinutes(5));
+        when(buildRecordRepository.findMaxBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(5));
+        when(buildRecordRepository.findBuildingNumbersByPipelineId(pipeline.getId())).thenReturn(List.of());
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberIn(eq(pipeline.getId()), anyCollection())).thenReturn(List.of());
+        // 20 ~ 6 이 새 빌드: 구간 크기 2 → 4 (max-builds-per-job) 로 저장된 5 를 만날 때까지 조회
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 0, 2), builds(20, 19));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 2, 6), builds(18, 15));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 6, 10), builds(14, 11));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 10, 14), builds(10, 7));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 14, 18), builds(6, 3));
+
+        store.refresh(pipeline).join();
+
+        ArgumentCaptor<List<BuildRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(buildRecordRepository).saveAll(saved.capture());
+        assertEquals(IntStream.iterate(20, n -> n - 1).limit(15).boxed().toList(),
+                saved.getValue().stream().map(BuildRecord::getBuildNumber).toList());
+    }
+
+    @Test
+    @DisplayName("refresh - 최신 구간은 저장된 빌드도 다시 읽어 빠지거나 바뀐 빌드만 반영")
+    void refresh_reconcilesRecentWindow() {
+        // 9 알림만 도착하고 8 알림은 유실된 상태 (8 은 저장되지 않음)
+        BuildRecord stored = record(9);
+        stored.setResult("SUCCESS");
+        stored.setBuilding(false);
+        stored.setTimestamp(1000L);
+        stored.setDuration(10L);
+        stored.setTriggeredBy("unknown");
+        stored.setBuildUrl("http://jenkins.local/job/job/9/");
+        when(buildRecordRepository.findMaxBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(9));
+        when(buildRecordRepository.findBuildingNumbersByPipelineId(pipeline.getId())).thenReturn(List.of());
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberIn(eq(pipeline.getId()), anyCollection())).thenReturn(List.of(stored));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 0, 2), builds(9, 8));
+
+        store.refresh(pipeline).join();
+
+        ArgumentCaptor<List<BuildRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(buildRecordRepository).saveAll(saved.capture());
+        assertEquals(List.of(8), saved.getValue().stream().map(BuildRecord::getBuildNumber).toList());
+        verify(httpClientService, times(1)).readAsync(any(URI.class), any(HttpEntity.class), any());
+    }
+
+    @Test
+    @DisplayName("refresh - Jenkins 장애 시 저장된 이력이 있으면 그대로 사용")
+    void refresh_keepsStoredHistoryWhenJenkinsFails() {
+        when(buildRecordRepository.findMaxBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(3));
+        when(buildRecordRepository.findBuildingNumbersByPipelineId(pipeline.getId())).thenReturn(List.of());
+        when(httpClientService.readAsync(any(URI.class), any(HttpEntity.class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR)));
+
+        assertDoesNotThrow(() -> store.refresh(pipeline).join());
+        verify(buildRecordRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("refresh - 저장된 이력이 없으면 Jenkins 오류를 전달")
+    void refresh_propagatesErrorWithoutHistory() {
+        when(buildRecordRepository.findMaxBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.empty());
+        when(buildRecordRepository.findBuildingNumbersByPipelineId(pipeline.getId())).thenReturn(List.of());
+        when(httpClientService.readAsync(any(URI.class), any(HttpEntity.class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_SERVER_ERROR)));
+
+        assertThrows(Exception.class, () -> store.refresh(pipeline).join());
+    }
+
+    @Test
+    @DisplayName("refresh - 처음 동기화할 때는 첫 구간만 조회")
+    void refresh_initialSyncFetchesFirstWindowOnly() {
+        when(buildRecordRepository.findMaxBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.empty());
+        when(buildRecordRepository.findBuildingNumbersByPipelineId(pipeline.getId())).thenReturn(List.of());
+        URI page0 = planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 0, 2);
+        stubJenkins(page0, Map.of("allBuilds", List.of(build(8, "SUCCESS", false), build(7, "SUCCESS", false))));
+
+        store.refresh(pipeline).join();
+
+        verify(httpClientService, times(1)).readAsync(any(URI.class), any(HttpEntity.class), any());
+        verify(buildRecordRepository).saveAll(argThat(records -> ((List<?>) records).size() == 2));
+    }
+
+    @Test
+    @DisplayName("getSliceBefore - 저장된 이력으로 충분하면 Jenkins 를 호출하지 않고 nextCursor 반환")
+    void getSliceBefore_usesStoredHistory() {
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberLessThanOrderByBuildNumberDesc(eq(pipeline.getId()), eq(10), any()))
+                .thenReturn(List.of(record(9), record(8), record(7)));
+
+        BuildHistoryStore.HistorySlice slice = store.getSliceBefore(pipeline, 10, 2).join();
+
+        assertEquals(List.of(9, 8), slice.getRecords().stream().map(BuildRecord::getBuildNumber).toList());
+        assertTrue(slice.isHasNext());
+        assertEquals(8, slice.getNextCursor());
+        verify(httpClientService, never()).readAsync(any(URI.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("getSliceBefore - 저장된 이력이 부족하면 Jenkins 목록에서 찾은 위치의 다음 구간만 받아 채움")
+    void getSliceBefore_backfillsNextWindow() {
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberLessThanOrderByBuildNumberDesc(eq(pipeline.getId()), eq(6), any()))
+                .thenReturn(List.of(record(5)), List.of(record(5), record(4), record(3)));
+        // 9, 8, 5 만 저장된 상태 (7 은 저장되지 않았고 6 은 Jenkins 에서 삭제됨) → 저장 건수(3)와 Jenkins 위치(4)가 다름
+        when(buildRecordRepository.countByPipelineId(pipeline.getId())).thenReturn(3L);
+        when(buildRecordRepository.findMinBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(5));
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberIn(eq(pipeline.getId()), anyCollection())).thenReturn(List.of());
+        stubJenkins(planner.jobAllBuildsUri(info, "job", "number", 0, 5), numbers(9, 8, 7, 5, 4));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 4, 6),
+                Map.of("allBuilds", List.of(build(4, "FAILURE", false), build(3, "SUCCESS", false))));
+
+        BuildHistoryStore.HistorySlice slice = store.getSliceBefore(pipeline, 6, 2).join();
+
+        ArgumentCaptor<List<BuildRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(buildRecordRepository).saveAll(saved.capture());
+        assertEquals(List.of(4, 3), saved.getValue().stream().map(BuildRecord::getBuildNumber).toList());
+        assertEquals(List.of(5, 4), slice.getRecords().stream().map(BuildRecord::getBuildNumber).toList());
+        assertEquals(4, slice.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("getSliceBefore - max-builds-per-job 보다 오래된 이력도 이어서 채움")
+    void getSliceBefore_backfillsBeyondMaxBuildsPerJob() {
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberLessThanOrderByBuildNumberDesc(eq(pipeline.getId()), eq(51), any()))
+                .thenReturn(List.of(), List.of(record(50), record(49)));
+        when(buildRecordRepository.countByPipelineId(pipeline.getId())).thenReturn(150L);
+        when(buildRecordRepository.findMinBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(51));
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberIn(eq(pipeline.getId()), anyCollection())).thenReturn(List.of());
+        // 번호 위치는 두 번째 구간에서 찾음 (그 사이 새 빌드 2건)
+        stubJenkins(planner.jobAllBuildsUri(info, "job", "number", 0, 152), numbers(IntStream.iterate(202, n -> n - 1).limit(152).toArray()));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", "number", 152, 304), numbers(IntStream.iterate(50, n -> n - 1).limit(50).toArray()));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", BuildHistoryStore.BUILD_FIELDS, 152, 154),
+                Map.of("allBuilds", List.of(build(50, "SUCCESS", false), build(49, "SUCCESS", false))));
+
+        BuildHistoryStore.HistorySlice slice = store.getSliceBefore(pipeline, 51, 1).join();
+
+        verify(buildRecordRepository).saveAll(argThat(records -> ((List<?>) records).size() == 2));
+        assertEquals(List.of(50), slice.getRecords().stream().map(BuildRecord::getBuildNumber).toList());
+        assertTrue(slice.isHasNext());
+    }
+
+    @Test
+    @DisplayName("getSliceBefore - Jenkins 에 남은 빌드가 없으면 다음 페이지 없음으로 기록하고 다시 조회하지 않음")
+    void getSliceBefore_marksFullyLoaded() {
+        when(buildRecordRepository.findByPipelineIdAndBuildNumberLessThanOrderByBuildNumberDesc(eq(pipeline.getId()), eq(3), any()))
+                .thenReturn(List.of(record(2)));
+        when(buildRecordRepository.countByPipelineId(pipeline.getId())).thenReturn(5L);
+        when(buildRecordRepository.findMinBuildNumberByPipelineId(pipeline.getId())).thenReturn(Optional.of(2));
+        stubJenkins(planner.jobAllBuildsUri(info, "job", "number", 0, 7), numbers(6, 5, 4, 3, 2));
+
+        BuildHistoryStore.HistorySlice first = store.getSliceBefore(pipeline, 3, 2).join();
+        BuildHistoryStore.HistorySlice second = store.getSliceBefore(pipeline, 3, 2).join();
+
+        assertFalse(first.isHasNext());
+        assertNull(first.getNextCursor());
+        assertEquals(List.of(2), second.getRecords().stream().map(BuildRecord::getBuildNumber).toList());
+        verify(httpClientService, times(1)).readAsync(any(URI.class), any(HttpEntity.class), any());
+        verify(buildRecordRepository, never()).saveAll(any());
+    }
+
+    // Jenkins 응답 JSON 을 reader 에 그대로 전달
+    private void stubJenkins(URI uri, Map<String, Object> body) {
+        when(httpClientService.readAsync(eq(uri), any(HttpEntity.class), any())).thenAnswer(invocation -> {
+            HttpClientService.BodyReader<?> reader = invocation.getArgument(2);
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return CompletableFuture.completedFuture(reader.read(new ByteArrayInputStream(json), new HttpHeaders()));
+        });
+    }
+
+    // 번호만 있는 allBuilds 응답 (최신순)
+    private Map<String, Object> numbers(int... numbers) {
+        return Map.of("allBuilds", Arrays.stream(numbers).mapToObj(number -> Map.of("number", number)).toList());
+    }
+
+    // newest ~ oldest 번호의 종료된 빌드 응답
+    private Map<String, Object> builds(int newest, int oldest) {
+        return Map.of("allBuilds", IntStream.iterate(newest, n -> n >= oldest, n -> n - 1)
+                .mapToObj(number -> build(number, "SUCCESS", false))
+                .toList());
+    }
+
+    private BuildRecord record(int number) {
+        return BuildRecord.builder().pipeline(Pipeline.builder().id(pipeline.getId()).build()).buildNumber(number).build();
+    }
+
+    private Map<String, Object> build(int number, String result, boolean building) {
+        Map<String, Object> build = new java.util.HashMap<>();
+        build.put("number", number);
+        build.put("result", result);
+        build.put("building", building);
+        build.put("timestamp", 1000L);
+        build.put("duration", 10L);
+        build.put("url", "http://jenkins.local/job/job/" + number + "/");
+        return build;
+    }
+}
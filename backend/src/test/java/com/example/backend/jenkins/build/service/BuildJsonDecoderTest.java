@@ -0,0 +1,113 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.JenkinsBuild;
+import com.example.backend.jenkins.build.model.WorkflowRun;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildJsonDecoderTest {
+
+    private final BuildJsonDecoder decoder = new BuildJsonDecoder(new ObjectMapper());
+
+    private static final String BUILDS = """
+            {"_class":"org.jenkinsci.plugins.workflow.job.WorkflowJob","builds":[
+              {"_class":"WorkflowRun","actions":[{},null,{"_class":"ParametersAction","parameters":[{"name":"DO_BUILD","value":true}]},
+                {"causes":[{"shortDescription":"Started by timer"},{"userName":"admin","userId":"admin"}]},
+                {"causes":[{"userName":"other"}]}],
+               "building":true,"duration":0,"number":12,"result":null,"timestamp":1720585800000,
+               "url":"http://jenkins.local/job/sample/12/","changeSets":[{"items":[{"msg":"x"}]}]},
+              {"number":11,"result":"SUCCESS","building":false,"duration":12300,"timestamp":1720585700000,
+               "url":"http://jenkins.local/job/sample/11/","actions":[]},
+              {"number":10,"result":"FAILURE","building":false,"duration":100,"timestamp":1720585600000,
+               "url":"http://jenkins.local/job/sample/10/"}
+            ]}
+            """;
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("readBuilds - 필요한 필드만 읽고 나머지 중첩 값은 건너뜀")
+    void readBuilds_readsTypedFields() throws IOException {
+        BuildJsonDecoder.BuildsPage page = decoder.readBuilds(json(BUILDS), 0);
+
+        assertEquals(3, page.getSeen());
+        assertFalse(page.isReachedStop());
+        JenkinsBuild running = page.getBuilds().get(0);
+        assertEquals(12, running.getNumber());
+        assertTrue(running.isBuilding());
+        assertNull(running.getResult());
+        assertEquals("admin", running.getTriggeredBy());
+        assertEquals(1720585800000L, running.getTimestamp());
+        assertEquals("unknown", page.getBuilds().get(1).getTriggeredBy());
+        assertEquals(12300L, page.getBuilds().get(1).getDuration());
+    }
+
+    @Test
+    @DisplayName("readBuilds - 저장된 번호를 만나면 멈춤")
+    void readBuilds_stopsAtStoredNumber() throws IOException {
+        BuildJsonDecoder.BuildsPage page = decoder.readBuilds(json(BUILDS), 11);
+
+        assertTrue(page.isReachedStop());
+        assertEquals(List.of(12), page.getBuilds().stream().map(JenkinsBuild::getNumber).toList());
+    }
+
+    @Test
+    @DisplayName("readLatest - 첫 빌드만 읽고 나머지 본문은 읽지 않음")
+    void readLatest_readsOnlyFirstBuild() throws IOException {
+        // 첫 빌드 뒤가 잘린 본문도 최신 빌드는 읽을 수 있음
+        String truncated = "{\"builds\":[{\"number\":7,\"result\":\"SUCCESS\"},{\"number\":6,\"res";
+
+        assertEquals(7, decoder.readLatest(json(truncated)).getNumber());
+        assertNull(decoder.readLatest(json("{\"builds\":[]}")));
+        assertEquals(3, decoder.readBuild(json("{\"number\":3,\"building\":false}")).getNumber());
+    }
+
+    @Test
+    @DisplayName("readWorkflowRun - 빌드 status 와 스테이지별 실행 정보만 읽음")
+    void readWorkflowRun_readsStages() throws IOException {
+        String describe = """
+                {"_links":{"self":{"href":"/job/sample/12/wfapi/describe"}},"id":"12","name":"#12","status":"FAILED",
+                 "startTimeMillis":1720585800000,"endTimeMillis":1720585820000,"durationMillis":20000,
+                 "stages":[
+                   {"_links":{"self":{"href":"/execution/node/6/wfapi/describe"}},"id":"6","name":"Build","execNode":"",
+                    "status":"SUCCESS","startTimeMillis":1720585801000,"durationMillis":12000,"pauseDurationMillis":0},
+                   {"id":"14","name":"Test","status":"FAILED","startTimeMillis":1720585813000,"durationMillis":7000,
+                    "pauseDurationMillis":1500,"error":{"message":"script returned exit code 1","type":"hudson.AbortException"}},
+                   {"id":"20","name":"Deploy","status":"NOT_EXECUTED","startTimeMillis":1720585820000,"durationMillis":0}
+                 ]}
+                """;
+
+        WorkflowRun run = decoder.readWorkflowRun(json(describe));
+
+        assertEquals("FAILED", run.getStatus());
+        assertTrue(run.isCompleted());
+        assertEquals(List.of("Build", "Test", "Deploy"), run.getStages().stream().map(WorkflowRun.Stage::getName).toList());
+        WorkflowRun.Stage test = run.getStages().get(1);
+        assertEquals("FAILED", test.getStatus());
+        assertEquals(1720585813000L, test.getStartTimeMillis());
+        assertEquals(7000L, test.getDurationMillis());
+        assertEquals(1500L, test.getPauseDurationMillis());
+        assertFalse(decoder.readWorkflowRun(json("{\"status\":\"IN_PROGRESS\",\"stages\":[]}")).isCompleted());
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON 은 파싱 오류")
+    void malformedJson() {
+        CustomException e = assertThrows(CustomException.class, () -> decoder.readBuilds(json("{\"builds\":[{\"number\":}"), 0));
+
+        assertEquals(ErrorCode.JENKINS_BUILD_HISTORY_PARSE_ERROR, e.getErrorCode());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.service.PipelineService;
+import com.example.backend.service.HttpClientService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildLogStreamServiceTest {
+
+    @Mock
+    private HttpClientService httpClientService;
+    @Mock
+    private PipelineService pipelineService;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final Deque<Runnable> scheduled = new ArrayDeque<>();
+    private BuildLogStreamService service;
+    private PipelineMeta pipeline;
+
+    @BeforeEach
+    void setUp() {
+        service = new BuildLogStreamService(httpClientService, pipelineService, taskScheduler, Runnable::run,
+                Duration.ofMillis(10), Duration.ofMinutes(1), 1024, 2);
+
+        JenkinsInfo info = JenkinsInfo.builder().uri("http://jenkins.local").build();
+        pipeline = new PipelineMeta(UUID.randomUUID(), "job", false, null, null, List.of(), info);
+        when(pipelineService.getPipelineMeta(pipeline.getId())).thenReturn(pipeline);
+        lenient().when(httpClientService.buildHeaders(eq(info), any(MediaType.class))).thenReturn(new HttpHeaders());
+        when(httpClientService.exchangeAsync(eq("http://jenkins.local/job/job/lastBuild/buildNumber"),
+                eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(CompletableFuture.completedFuture("7\n"));
+        lenient().when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("subscribe - 같은 빌드의 viewer 는 하나의 poller 를 공유하고 새 오프셋부터만 조회")
+    void subscribe_sharesPollerAndAdvancesOffset() {
+        when(httpClientService.exchangeForEntityAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(CompletableFuture.completedFuture(chunk("Started\n", 8, true)))
+                .thenReturn(CompletableFuture.completedFuture(chunk("Finished\n", 17, false)));
+
+        service.subscribe(pipeline.getId());
+        service.subscribe(pipeline.getId());
+        assertEquals(1, service.activeStreamCount());
+
+        runScheduled();
+
+        ArgumentCaptor<URI> uris = ArgumentCaptor.forClass(URI.class);
+        verify(httpClientService, times(2)).exchangeForEntityAsync(uris.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+        assertEquals(List.of(
+                URI.create("http://jenkins.local/job/job/7/logText/progressiveText?start=0"),
+                URI.create("http://jenkins.local/job/job/7/logText/progressiveText?start=8")), uris.getAllValues());
+        assertEquals(0, service.activeStreamCount());
+    }
+
+    @Test
+    @DisplayName("subscribe - 연속 실패가 한도를 넘으면 스트림을 닫음")
+    void subscribe_closesAfterRepeatedFailures() {
+        when(httpClientService.exchangeForEntityAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_SERVER_ERROR)));
+
+        service.subscribe(pipeline.getId());
+        runScheduled();
+
+        verify(httpClientService, times(2)).exchangeForEntityAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+        assertEquals(0, service.activeStreamCount());
+    }
+
+    @Test
+    @DisplayName("subscribe - 모든 viewer 가 끊겨 닫힌 스트림에는 합류하지 않고 새 스트림을 시작")
+    void subscribe_replacesClosedStream() {
+        when(httpClientService.exchangeForEntityAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(CompletableFuture.completedFuture(chunk("Started\n", 8, true)))
+                .thenReturn(CompletableFuture.completedFuture(chunk("Step\n", 13, true)))
+                .thenReturn(CompletableFuture.completedFuture(chunk("Started\nStep\n", 13, true)));
+
+        SseEmitter emitter = service.subscribe(pipeline.getId());
+        scheduled.poll().run();
+
+        // 연결이 끊긴 viewer 로 전송이 실패하면 스트림이 닫힘
+        emitter.complete();
+        scheduled.poll().run();
+        service.subscribe(pipeline.getId());
+        // 닫힌 스트림의 예약된 poll 은 조회 없이 끝나고, 새 스트림은 처음부터 조회
+        scheduled.poll().run();
+        scheduled.poll().run();
+
+        ArgumentCaptor<URI> uris = ArgumentCaptor.forClass(URI.class);
+        verify(httpClientService, times(3)).exchangeForEntityAsync(uris.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+        assertEquals(URI.create("http://jenkins.local/job/job/7/logText/progressiveText?start=0"), uris.getAllValues().get(2));
+        assertEquals(1, service.activeStreamCount());
+    }
+
+    private void runScheduled() {
+        while (!scheduled.isEmpty()) {
+            scheduled.poll().run();
+        }
+    }
+
+    private ResponseEntity<String> chunk(String text, long textSize, boolean more) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Text-Size", String.valueOf(textSize));
+        if (more) {
+            headers.add("X-More-Data", "true");
+        }
+        return new ResponseEntity<>(text, headers, HttpStatus.OK);
+    }
+}
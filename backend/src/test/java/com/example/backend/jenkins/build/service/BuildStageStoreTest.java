@@ -0,0 +1,145 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.model.BuildStageRecord;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto.StageDurationStat;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto.StageTimeline;
+import com.example.backend.jenkins.build.repository.BuildStageRecordRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.service.HttpClientService;
+import com.example.backend.service.JenkinsBuildQueryPlanner;
+import com.example.backend.service.JenkinsFanOutService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildStageStoreTest {
+
+    @Mock
+    private HttpClientService httpClientService;
+    @Mock
+    private BuildStageRecordRepository buildStageRecordRepository;
+    @Mock
+    private BuildHistoryStore buildHistoryStore;
+
+    private JenkinsBuildQueryPlanner planner;
+    private BuildStageStore store;
+    private PipelineMeta pipeline;
+    private JenkinsInfo info;
+
+    @BeforeEach
+    void setUp() {
+        planner = new JenkinsBuildQueryPlanner(httpClientService,
+                new JenkinsFanOutService(Runnable::run, 4, Duration.ofSeconds(5)), 100);
+        store = new BuildStageStore(httpClientService, planner, buildStageRecordRepository, buildHistoryStore,
+                new BuildJsonDecoder(new ObjectMapper()), Runnable::run, 10);
+        info = JenkinsInfo.builder().uri("http://jenkins.local").build();
+        pipeline = new PipelineMeta(UUID.randomUUID(), "job", false, null, null, List.of(), info);
+        lenient().when(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON)).thenReturn(new HttpHeaders());
+    }
+
+    @Test
+    @DisplayName("getTimeline - 종료된 빌드는 저장 후 다시 Jenkins 나 DB 를 조회하지 않음")
+    void getTimeline_storesCompletedBuild() {
+        when(buildStageRecordRepository.findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(pipeline.getId(), 5)).thenReturn(List.of());
+        stubDescribe(5, describe("SUCCESS", stage("Build", "SUCCESS", 3000), stage("Test", "SUCCESS", 5000)));
+
+        StageTimeline first = store.getTimeline(pipeline, 5).join();
+        StageTimeline second = store.getTimeline(pipeline, 5).join();
+
+        assertTrue(first.isCompleted());
+        assertSame(first, second);
+        assertEquals(List.of("Build", "Test"), first.getStages().stream().map(stage -> stage.getName()).toList());
+        verify(httpClientService, times(1)).readAsync(any(URI.class), any(HttpEntity.class), any());
+        verify(buildStageRecordRepository, times(1)).findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(pipeline.getId(), 5);
+        verify(buildStageRecordRepository).saveAll(argThat(records -> ((List<?>) records).size() == 2));
+    }
+
+    @Test
+    @DisplayName("getTimeline - 저장된 빌드는 Jenkins 를 호출하지 않음")
+    void getTimeline_usesStoredStages() {
+        when(buildStageRecordRepository.findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(pipeline.getId(), 5)).thenReturn(List.of(
+                BuildStageRecord.builder().buildNumber(5).orderIndex(0).stageName("Build").status("SUCCESS").durationMillis(3000L).build()));
+
+        StageTimeline timeline = store.getTimeline(pipeline, 5).join();
+
+        assertEquals(3000L, timeline.getStages().get(0).getDurationMillis());
+        verifyNoInteractions(httpClientService);
+    }
+
+    @Test
+    @DisplayName("getTimeline - 진행 중인 빌드는 저장하지 않고 매번 조회")
+    void getTimeline_doesNotStoreRunningBuild() {
+        when(buildStageRecordRepository.findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(pipeline.getId(), 6)).thenReturn(List.of());
+        stubDescribe(6, describe("IN_PROGRESS", stage("Build", "IN_PROGRESS", 1000)));
+
+        assertFalse(store.getTimeline(pipeline, 6).join().isCompleted());
+        store.getTimeline(pipeline, 6).join();
+
+        verify(httpClientService, times(2)).readAsync(any(URI.class), any(HttpEntity.class), any());
+        verify(buildStageRecordRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("getSlowestStages - 종료된 빌드만 스테이지별로 집계해 평균이 긴 순으로 반환")
+    void getSlowestStages_aggregatesByStage() {
+        when(buildHistoryStore.refresh(pipeline)).thenReturn(CompletableFuture.completedFuture(null));
+        when(buildHistoryStore.getSliceBefore(pipeline, null, 3)).thenReturn(CompletableFuture.completedFuture(
+                BuildHistoryStore.HistorySlice.of(List.of(record(9, true), record(8, false), record(7, false)), 3)));
+        when(buildStageRecordRepository.findByPipelineIdAndBuildNumberOrderByOrderIndexAsc(eq(pipeline.getId()), anyInt())).thenReturn(List.of());
+        stubDescribe(8, describe("FAILED", stage("Build", "SUCCESS", 2000), stage("Test", "FAILED", 9000), stage("Deploy", "NOT_EXECUTED", 0)));
+        stubDescribe(7, describe("SUCCESS", stage("Build", "SUCCESS", 4000), stage("Test", "SUCCESS", 5000), stage("Deploy", "SUCCESS", 1000)));
+
+        List<StageDurationStat> stats = store.getSlowestStages(pipeline, 3).join();
+
+        assertEquals(List.of("Test", "Build", "Deploy"), stats.stream().map(StageDurationStat::getName).toList());
+        StageDurationStat test = stats.get(0);
+        assertEquals(2, test.getBuilds());
+        assertEquals(7000L, test.getAvgDurationMillis());
+        assertEquals(9000L, test.getMaxDurationMillis());
+        assertEquals(1, test.getFailures());
+        assertEquals(1, stats.get(2).getBuilds());
+    }
+
+    private void stubDescribe(int buildNumber, String body) {
+        URI uri = planner.workflowRunUri(info, "job", buildNumber);
+        when(httpClientService.readAsync(eq(uri), any(HttpEntity.class), any())).thenAnswer(invocation -> {
+            HttpClientService.BodyReader<?> reader = invocation.getArgument(2);
+            return CompletableFuture.completedFuture(reader.read(
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), new HttpHeaders()));
+        });
+    }
+
+    private BuildRecord record(int number, boolean building) {
+        return BuildRecord.builder().buildNumber(number).building(building).build();
+    }
+
+    private static String describe(String status, String... stages) {
+        return "{\"status\":\"" + status + "\",\"stages\":[" + String.join(",", stages) + "]}";
+    }
+
+    private static String stage(String name, String status, long durationMillis) {
+        return "{\"name\":\"" + name + "\",\"status\":\"" + status + "\",\"startTimeMillis\":1720585800000,\"durationMillis\":" + durationMillis + "}";
+    }
+}
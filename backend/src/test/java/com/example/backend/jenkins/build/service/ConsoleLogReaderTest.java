@@ -0,0 +1,113 @@
+package com.example.backend.jenkins.build.service;
+
+import com.example.backend.jenkins.build.model.LogWindow;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.parser.BoundedLineReader;
+import com.example.backend.service.HttpClientService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsoleLogReaderTest {
+
+    private static final String LOG = "line1\nline2\r\nline3\nline4\nline5\n";
+
+    @Mock
+    private HttpClientService httpClientService;
+
+    private ConsoleLogReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new ConsoleLogReader(httpClientService, 100, 1024, 10);
+    }
+
+    @Test
+    @DisplayName("PAGE - 앞 페이지를 건너뛰고 요청한 줄만 반환")
+    void readPage_returnsRequestedWindow() throws Exception {
+        BuildResponseDto.BuildLogDto page1 = reader.readPage(stream(LOG), 1, 2, LogWindow.PAGE);
+
+        assertEquals(List.of("line3", "line4"), page1.getLog());
+        assertEquals(3L, page1.getFirstLine());
+        assertTrue(page1.isHasNext());
+        assertNull(page1.getTotalLines());
+
+        BuildResponseDto.BuildLogDto last = reader.readPage(stream(LOG), 2, 2, LogWindow.PAGE);
+        assertEquals(List.of("line5"), last.getLog());
+        assertFalse(last.isHasNext());
+        assertEquals(5L, last.getTotalLines());
+    }
+
+    @Test
+    @DisplayName("TAIL - 마지막 size 줄과 전체 줄 수를 반환")
+    void readTail_keepsLastLines() throws Exception {
+        BuildResponseDto.BuildLogDto tail = reader.readTail(stream(LOG), 2);
+
+        assertEquals(List.of("line4", "line5"), tail.getLog());
+        assertEquals(4L, tail.getFirstLine());
+        assertEquals(5L, tail.getTotalLines());
+        assertFalse(tail.isHasNext());
+    }
+
+    @Test
+    @DisplayName("긴 줄은 max-line-chars 까지만 보관")
+    void readPage_truncatesLongLines() throws Exception {
+        BuildResponseDto.BuildLogDto head = reader.readPage(stream("0123456789ABCDEF\nnext\n"), 0, 2, LogWindow.HEAD);
+
+        assertEquals(List.of("0123456789" + BoundedLineReader.TRUNCATED_SUFFIX, "next"), head.getLog());
+    }
+
+    @Test
+    @DisplayName("BYTES - 멀티바이트 문자가 잘리지 않도록 다음 오프셋을 조정")
+    void readBytes_respectsUtf8Boundary() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Text-Size", "100");
+        // "ab한" = 2 + 3 바이트, 4 바이트만 읽으면 '한' 이 잘림
+        BuildResponseDto.BuildLogDto chunk = reader.readBytes(stream("ab한글"), headers, 10, 4);
+
+        assertEquals(List.of("ab"), chunk.getLog());
+        assertEquals(12L, chunk.getNextStart());
+        assertEquals(100L, chunk.getTotalBytes());
+        assertTrue(chunk.isHasNext());
+    }
+
+    @Test
+    @DisplayName("read - 줄 단위는 consoleText, 바이트 단위는 progressiveText 를 스트림으로 조회")
+    void read_usesStreamingEndpoints() {
+        JenkinsInfo info = JenkinsInfo.builder().uri("http://jenkins.local").build();
+        when(httpClientService.buildHeaders(info, MediaType.TEXT_PLAIN)).thenReturn(new HttpHeaders());
+        when(httpClientService.readStream(any(URI.class), any(HttpHeaders.class), any())).thenAnswer(invocation -> {
+            HttpClientService.BodyReader<?> bodyReader = invocation.getArgument(2);
+            return bodyReader.read(stream(LOG), new HttpHeaders());
+        });
+
+        BuildResponseDto.BuildLogDto tail = reader.read(info, "job", "7", LogWindow.TAIL, 0, 1, 0, 0);
+        BuildResponseDto.BuildLogDto bytes = reader.read(info, "job", "7", LogWindow.BYTES, 0, 0, 5, 6);
+
+        assertEquals(List.of("line5"), tail.getLog());
+        assertEquals(11L, bytes.getNextStart());
+        verify(httpClientService).readStream(eq(URI.create("http://jenkins.local/job/job/7/consoleText")), any(HttpHeaders.class), any());
+        verify(httpClientService).readStream(eq(URI.create("http://jenkins.local/job/job/7/logText/progressiveText?start=5")), any(HttpHeaders.class), any());
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.backend.jenkins.error.controller;
+
+import com.example.backend.auth.user.model.Users;
+import com.example.backend.auth.user.service.CustomOAuth2UserService;
+import com.example.backend.auth.user.service.CustomUserDetails;
+import com.example.backend.config.SecurityConfig;
+import com.example.backend.config.jwt.JwtAuthenticationFilter;
+import com.example.backend.config.jwt.JwtTokenProvider;
+import com.example.backend.handler.OAuth2LoginSuccessHandler;
+import com.example.backend.jenkins.error.model.dto.ErrorRequestDto;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto;
+import com.example.backend.jenkins.error.service.ErrorService;
+import com.example.backend.jenkins.error.service.RecentBuildWatchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 SecurityFilterChain 과 JWT 필터를 거쳐 async 응답까지 받는지 확인합니다.
+ */
+@WebMvcTest(controllers = ErrorController.class,
+        excludeAutoConfiguration = {
+                OAuth2ClientAutoConfiguration.class,
+                OAuth2ResourceServerAutoConfiguration.class
+        },
+        properties = "jwt.access-name=access"
+)
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class})
+class ErrorControllerSecurityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    ErrorService errorService;
+    @MockitoBean
+    RecentBuildWatchService recentBuildWatchService;
+    @MockitoBean
+    JwtTokenProvider jwtTokenProvider;
+    @MockitoBean
+    CustomOAuth2UserService customOAuth2UserService;
+    @MockitoBean
+    OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+    @MockitoBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    UUID jobId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("async 응답 - 인증된 요청은 async dispatch 에서도 200")
+    void asyncDispatch_keepsAuthenticatedRequest() throws Exception {
+        Users user = Users.builder().id(UUID.randomUUID()).email("a@example.com").roles("USER").build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        Claims claims = Jwts.claims().setSubject("a@example.com");
+        when(jwtTokenProvider.parseClaims("token")).thenReturn(Optional.of(claims));
+        when(jwtTokenProvider.getAuthentication(claims))
+                .thenReturn(new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
+        when(errorService.getRecentBuildByJobAsync(eq(jobId), any())).thenReturn(CompletableFuture.completedFuture(
+                ErrorResponseDto.FailedBuild.of("JobA", 1, "FAILURE", 1000L, 100L)));
+
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/recent")
+                        .cookie(new Cookie("access", "token"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ErrorRequestDto.JobDto(jobId, "JobA"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.jobName").value("JobA"));
+    }
+
+    @Test
+    @DisplayName("async 응답 - 토큰이 없으면 최초 요청에서 401")
+    void initialDispatch_rejectsAnonymous() throws Exception {
+        mockMvc.perform(post("/api/jenkins-error/recent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ErrorRequestDto.JobDto(jobId, "JobA"))))
+                .andExpect(status().isUnauthorized());
+    }
+}
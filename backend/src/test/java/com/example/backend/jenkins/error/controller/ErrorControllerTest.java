@@ -6,6 +6,7 @@ import com.example.backend.config.jwt.JwtTokenProvider;
 import com.example.backend.jenkins.error.model.dto.ErrorRequestDto;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto;
 import com.example.backend.jenkins.error.service.ErrorService;
+import com.example.backend.jenkins.error.service.RecentBuildWatchService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,13 +22,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ErrorController.class,
@@ -47,6 +52,8 @@ class ErrorControllerTest {
 
     @MockitoBean
     ErrorService errorService;
+    @MockitoBean
+    RecentBuildWatchService recentBuildWatchService;
     Users testUser;
     UUID jobId = UUID.randomUUID();
     UUID infoId = UUID.randomUUID();
@@ -64,16 +71,20 @@ class ErrorControllerTest {
     @DisplayName("최근 빌드 1건 조회")
     void getRecentBuildTest() throws Exception {
         ErrorResponseDto.FailedBuild mockRes = ErrorResponseDto.FailedBuild.of("JobA", 1, "FAILURE", 1000L, 100L);
-        when(errorService.getRecentBuildByJob(eq(jobId), any())).thenReturn(mockRes);
+        when(errorService.getRecentBuildByJobAsync(eq(jobId), any())).thenReturn(CompletableFuture.completedFuture(mockRes));
 
         ErrorRequestDto.JobDto reqDto = new ErrorRequestDto.JobDto(jobId, "JobA");
 
-        mockMvc.perform(post("/api/jenkins-error/recent")
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/recent")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqDto))
                         .with(SecurityMockMvcRequestPostProcessors.authentication(
                                 new UsernamePasswordAuthenticationToken(testUser, null)))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.jobName").value("JobA"));
     }
@@ -81,35 +92,49 @@ class ErrorControllerTest {
     @Test
     @DisplayName("전체 빌드 조회")
     void getBuildsByJobTest() throws Exception {
-        when(errorService.getBuildsForJobByUser(eq(jobId), any()))
-                .thenReturn(List.of(ErrorResponseDto.FailedBuild.of("JobA", 1, "FAILURE", 1000L, 100L)));
+        when(errorService.getBuildsForJobByUserAsync(eq(jobId), any(), eq(20), eq(10)))
+                .thenReturn(CompletableFuture.completedFuture(ErrorResponseDto.BuildPage.builder()
+                        .builds(List.of(ErrorResponseDto.FailedBuild.of("JobA", 9, "FAILURE", 1000L, 100L)))
+                        .size(20)
+                        .hasNext(true)
+                        .nextCursor(9)
+                        .build()));
 
-        ErrorRequestDto.JobDto reqDto = new ErrorRequestDto.JobDto(jobId, "JobA");
+        ErrorRequestDto.JobHistoryDto reqDto = new ErrorRequestDto.JobHistoryDto(jobId, "JobA", 20, 10);
 
-        mockMvc.perform(post("/api/jenkins-error/history")
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/history")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqDto))
                         .with(SecurityMockMvcRequestPostProcessors.authentication(
                                 new UsernamePasswordAuthenticationToken(testUser, null)))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].jobName").value("JobA"));
+                .andExpect(jsonPath("$.data.builds[0].jobName").value("JobA"))
+                .andExpect(jsonPath("$.data.nextCursor").value(9));
     }
 
     @Test
     @DisplayName("실패한 빌드만 조회")
     void getFailedBuildsByJobTest() throws Exception {
-        when(errorService.getFailedBuildsForJobByUser(eq(jobId), any()))
-                .thenReturn(List.of(ErrorResponseDto.FailedBuild.of("JobA", 2, "FAILURE", 2000L, 200L)));
+        when(errorService.getFailedBuildsForJobByUserAsync(eq(jobId), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(ErrorResponseDto.FailedBuild.of("JobA", 2, "FAILURE", 2000L, 200L))));
 
         ErrorRequestDto.JobDto reqDto = new ErrorRequestDto.JobDto(jobId, "JobA");
 
-        mockMvc.perform(post("/api/jenkins-error/history/failed")
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/history/failed")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqDto))
                         .with(SecurityMockMvcRequestPostProcessors.authentication(
                                 new UsernamePasswordAuthenticationToken(testUser, null)))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].buildNumber").value(2));
     }
@@ -118,16 +143,21 @@ class ErrorControllerTest {
     @DisplayName("전체 최근 빌드 조회")
     void getAllRecentBuildsTest() throws Exception {
         when(errorService.getJenkinsInfoByIdAndUser(eq(infoId), any())).thenReturn(null);
-        when(errorService.getRecentBuilds(any())).thenReturn(List.of());
+        when(errorService.getRecentBuildsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(ErrorResponseDto.JobBuilds.of(List.of(), List.of())));
 
         ErrorRequestDto.JenkinsDto reqDto = new ErrorRequestDto.JenkinsDto(infoId, "JobA");
 
-        mockMvc.perform(post("/api/jenkins-error/recent/all")
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/recent/all")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqDto))
                         .with(SecurityMockMvcRequestPostProcessors.authentication(
                                 new UsernamePasswordAuthenticationToken(testUser, null)))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
@@ -135,37 +165,46 @@ class ErrorControllerTest {
     @DisplayName("전체 실패 빌드 조회")
     void getFailedBuildsTest() throws Exception {
         when(errorService.getJenkinsInfoByIdAndUser(eq(infoId), any())).thenReturn(null);
-        when(errorService.getFailedBuilds(any())).thenReturn(List.of());
+        when(errorService.getFailedBuildsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(ErrorResponseDto.JobBuilds.of(List.of(), List.of())));
 
         ErrorRequestDto.JenkinsDto reqDto = new ErrorRequestDto.JenkinsDto(infoId, "JobA");
 
-        mockMvc.perform(post("/api/jenkins-error/failed/all")
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/failed/all")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqDto))
                         .with(SecurityMockMvcRequestPostProcessors.authentication(
                                 new UsernamePasswordAuthenticationToken(testUser, null)))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
     @Test
     @DisplayName("GPT 빌드 요약 응답")
     void getBuildSummaryWithSolutionTest() throws Exception {
-        when(errorService.summarizeBuildByJob(any(), any()))
-                .thenReturn(ErrorResponseDto.FailedBuildSummary.builder()
+        when(errorService.summarizeBuildByJobAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(ErrorResponseDto.FailedBuildSummary.builder()
                         .jobName("JobA")
                         .buildNumber(1)
                         .naturalResponse("에러는 ~ 때문입니다")
-                        .build());
+                        .build()));
 
         ErrorRequestDto.JobSummaryDto reqDto = ErrorRequestDto.JobSummaryDto.builder().jobId(jobId).buildNumber(1).build();
 
-        mockMvc.perform(post("/api/jenkins-error/summary")
+        MvcResult result = mockMvc.perform(post("/api/jenkins-error/summary")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqDto))
                         .with(SecurityMockMvcRequestPostProcessors.authentication(
                                 new UsernamePasswordAuthenticationToken(testUser, null)))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.naturalResponse").value("에러는 ~ 때문입니다"));
     }
@@ -187,4 +226,27 @@ class ErrorControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data").value("Retry with rollback triggered."));
     }*/
+
+    @Test
+    @DisplayName("실패 묶음 상위 목록 조회")
+    void getTopFailureClustersTest() throws Exception {
+        ErrorResponseDto.FailureClusterDto cluster = ErrorResponseDto.FailureClusterDto.builder()
+                .exceptionType("java.lang.OutOfMemoryError")
+                .count(7)
+                .build();
+        when(errorService.getTopFailureClusters(eq(infoId), any(), eq(5))).thenReturn(List.of(cluster));
+
+        ErrorRequestDto.TopClustersDto reqDto = new ErrorRequestDto.TopClustersDto(infoId, 5);
+
+        mockMvc.perform(post("/api/jenkins-error/clusters/top")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reqDto))
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(
+                                new UsernamePasswordAuthenticationToken(testUser, null)))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].exceptionType").value("java.lang.OutOfMemoryError"))
+                .andExpect(jsonPath("$.data[0].count").value(7));
+    }
+
 }
@@ -0,0 +1,114 @@
+package com.example.backend.jenkins.error.service;
+
+import com.example.backend.jenkins.error.model.BuildSummary;
+import com.example.backend.jenkins.error.repository.BuildSummaryRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuildSummaryCacheTest {
+
+    @Mock
+    private BuildSummaryRepository buildSummaryRepository;
+
+    private BuildSummaryCache cache;
+    private JenkinsInfo info;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BuildSummaryCache(buildSummaryRepository, Runnable::run, 2);
+        info = JenkinsInfo.builder().id(UUID.randomUUID()).uri("http://jenkins.local").build();
+    }
+
+    @Test
+    @DisplayName("getOrLoad - 저장된 요약이 있으면 loader 를 호출하지 않음")
+    void getOrLoad_hitSkipsLoader() {
+        BuildSummary cached = BuildSummary.builder().id(UUID.randomUUID()).summary("캐시된 요약").build();
+        when(buildSummaryRepository.findByJenkinsInfoIdAndJobNameAndBuildNumber(info.getId(), "job", 3))
+                .thenReturn(Optional.of(cached));
+
+        String summary = cache.getOrLoad(info, "job", 3, () -> fail("loader 가 호출되면 안 됨")).join();
+
+        assertEquals("캐시된 요약", summary);
+        verify(buildSummaryRepository).touch(eq(cached.getId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("getOrLoad - 동시에 들어온 같은 요청은 loader 를 한 번만 실행하고 결과를 저장")
+    void getOrLoad_singleFlightAndStore() {
+        when(buildSummaryRepository.findByJenkinsInfoIdAndJobNameAndBuildNumber(info.getId(), "job", 3))
+                .thenReturn(Optional.empty());
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<BuildSummaryCache.Loaded> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = cache.getOrLoad(info, "job", 3, () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = cache.getOrLoad(info, "job", 3, () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        pending.complete(new BuildSummaryCache.Loaded("hash", "요약", true));
+
+        assertEquals("요약", first.join());
+        assertEquals("요약", second.join());
+        assertEquals(1, loads.get());
+
+        ArgumentCaptor<BuildSummary> saved = ArgumentCaptor.forClass(BuildSummary.class);
+        verify(buildSummaryRepository).save(saved.capture());
+        assertEquals("hash", saved.getValue().getExcerptHash());
+        assertEquals(3, saved.getValue().getBuildNumber());
+    }
+
+    @Test
+    @DisplayName("getOrLoad - 진행 중인 빌드의 요약은 저장하지 않음")
+    void getOrLoad_runningBuildNotStored() {
+        when(buildSummaryRepository.findByJenkinsInfoIdAndJobNameAndBuildNumber(info.getId(), "job", 4))
+                .thenReturn(Optional.empty());
+
+        String summary = cache.getOrLoad(info, "job", 4,
+                () -> CompletableFuture.completedFuture(new BuildSummaryCache.Loaded("hash", "요약", false))).join();
+
+        assertEquals("요약", summary);
+        verify(buildSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("evict - 최대 개수를 넘은 만큼 오래된 항목 삭제")
+    void evict_removesOverflow() {
+        List<UUID> oldest = List.of(UUID.randomUUID());
+        when(buildSummaryRepository.count()).thenReturn(3L);
+        when(buildSummaryRepository.findIdsOrderByLastAccessedAt(PageRequest.of(0, 1))).thenReturn(oldest);
+
+        cache.evict();
+
+        verify(buildSummaryRepository).deleteAllByIdInBatch(oldest);
+    }
+
+    @Test
+    @DisplayName("hash - 같은 발췌본은 같은 해시")
+    void hash_isStable() {
+        assertEquals(BuildSummaryCache.hash("Caused by: x"), BuildSummaryCache.hash("Caused by: x"));
+        assertNotEquals(BuildSummaryCache.hash("Caused by: x"), BuildSummaryCache.hash("Caused by: y"));
+        assertEquals(64, BuildSummaryCache.hash("a").length());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.jenkins.error.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorExcerptExtractorTest {
+
+    private final ErrorExcerptExtractor extractor = new ErrorExcerptExtractor(2, 2, 3, 2, 200, 3000);
+
+    @Test
+    @DisplayName("extract - 실패 지점 앞뒤 문맥만 남기고 나머지는 생략 표시")
+    void extract_keepsContextAroundAnchors() {
+        StringBuilder log = new StringBuilder();
+        for (int i = 1; i <= 100; i++) {
+            log.append("noise ").append(i).append('\n');
+        }
+        log.append("java.lang.IllegalStateException: boom\n");
+        for (int i = 101; i <= 200; i++) {
+            log.append("noise ").append(i).append('\n');
+        }
+        log.append("Finished: FAILURE\n");
+
+        ErrorExcerptExtractor.Excerpt excerpt = extractor.extract(log.toString());
+
+        String text = excerpt.getText();
+        assertTrue(excerpt.isFailure());
+        assertTrue(excerpt.isFinished());
+        assertEquals(202, excerpt.getTotalLines());
+        assertTrue(text.contains("... (98줄 생략)\nnoise 99\nnoise 100\njava.lang.IllegalStateException: boom\nnoise 101\nnoise 102\n"));
+        assertTrue(text.endsWith("noise 200\nFinished: FAILURE\n"));
+        assertFalse(text.contains("noise 50\n"));
+    }
+
+    @Test
+    @DisplayName("extract - 긴 stack trace 와 반복 줄을 접음")
+    void extract_collapsesFramesAndRepeats() {
+        StringBuilder log = new StringBuilder("Caused by: java.io.IOException: closed\n");
+        for (int i = 0; i < 50; i++) {
+            log.append("\tat com.example.Foo.bar(Foo.java:").append(i).append(")\n");
+        }
+        log.append("[ERROR] same\n[ERROR] same\n[ERROR] same\n");
+
+        String text = extractor.extract(log.toString()).getText();
+
+        assertTrue(text.contains("Foo.java:2)"));
+        assertFalse(text.contains("Foo.java:3)"));
+        assertTrue(text.contains("stack frame 47개 생략"));
+        assertTrue(text.contains("(이전 줄 2회 반복)"));
+    }
+
+    @Test
+    @DisplayName("extract - token budget 을 넘으면 앞부분과 뒷부분만 유지")
+    void extract_enforcesTokenBudget() throws Exception {
+        ErrorExcerptExtractor small = new ErrorExcerptExtractor(0, 0, 3, 0, 200, 50);
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            log.append("ERROR failure number ").append(i).append('\n');
+        }
+
+        ErrorExcerptExtractor.Excerpt excerpt = small.extract(new ByteArrayInputStream(log.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(excerpt.isTruncated());
+        assertTrue(excerpt.getText().length() < 300);
+        assertTrue(excerpt.getText().startsWith("ERROR failure number 0\n"));
+        assertTrue(excerpt.getText().endsWith("ERROR failure number 999\n"));
+    }
+
+    @Test
+    @DisplayName("extract - 실패 표시가 없으면 failure=false, 진행 중이면 finished=false")
+    void extract_successAndRunningBuild() {
+        ErrorExcerptExtractor.Excerpt excerpt = extractor.extract("Started\nBuilding...\n");
+
+        assertFalse(excerpt.isFailure());
+        assertFalse(excerpt.isFinished());
+        assertEquals("Started\nBuilding...\n", excerpt.getText());
+    }
+}
@@ -2,27 +2,39 @@ package com.example.backend.jenkins.error.service;
 
 import com.example.backend.auth.user.model.Users;
 import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.service.BuildHistoryStore;
+import com.example.backend.jenkins.error.model.FailureCluster;
 import com.example.backend.jenkins.error.model.dto.ErrorResponseDto;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
 import com.example.backend.jenkins.info.repository.JenkinsInfoRepository;
-import com.example.backend.jenkins.job.model.Pipeline;
+import com.example.backend.jenkins.job.model.PipelineMeta;
 import com.example.backend.jenkins.job.repository.PipelineRepository;
 import com.example.backend.jenkins.job.service.PipelineService;
 import com.example.backend.service.HttpClientService;
+import com.example.backend.service.FanOutResult;
+import com.example.backend.service.JenkinsBuildQueryPlanner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,12 +57,24 @@ class ErrorServiceTest {
     @Mock
     private PipelineRepository pipelineRepository;
     @Mock
-    private Pipeline pipeline;
+    private JenkinsBuildQueryPlanner jenkinsBuildQueryPlanner;
+    @Spy
+    private ErrorExcerptExtractor errorExcerptExtractor = new ErrorExcerptExtractor(5, 10, 8, 20, 2000, 3000);
+    @Spy
+    private FailureFingerprinter failureFingerprinter = new FailureFingerprinter();
+    @Mock
+    private FailureClusterService failureClusterService;
+    @Mock
+    private BuildSummaryCache buildSummaryCache;
+    @Mock
+    private BuildHistoryStore buildHistoryStore;
+    @Mock
+    private Executor jenkinsTaskExecutor;
 
     private UUID userId;
     private UUID jobId;
     private JenkinsInfo mockInfo;
-    private Pipeline mockJob;
+    private PipelineMeta mockJob;
 
     @BeforeEach
     void setUp() {
@@ -58,14 +82,14 @@ class ErrorServiceTest {
         jobId = UUID.randomUUID();
         Users user = Users.builder().id(userId).build();
         mockInfo = JenkinsInfo.builder().uri("http://jenkins.local").user(user).build();
-        mockJob = Pipeline.builder().id(jobId).name("test-job").jenkinsInfo(mockInfo).build();
+        mockJob = new PipelineMeta(jobId, "test-job", false, null, userId, List.of(), mockInfo);
     }
 
     @Test
     @DisplayName("getVerifiedJob - 소유자이면 정상 반환")
     void getVerifiedJob_success() {
-        when(pipelineService.getPipelineById(jobId)).thenReturn(mockJob);
-        Pipeline result = errorService.getVerifiedJobWithPipeline(jobId, userId);
+        when(pipelineService.getPipelineMeta(jobId)).thenReturn(mockJob);
+        PipelineMeta result = errorService.getVerifiedJobWithPipeline(jobId, userId);
         assertEquals(mockJob, result);
     }
 
@@ -74,16 +98,16 @@ class ErrorServiceTest {
     void getVerifiedJob_unauthorized() {
         Users otherUser = Users.builder().id(UUID.randomUUID()).build();
         JenkinsInfo otherInfo = JenkinsInfo.builder().user(otherUser).build();
-        Pipeline job = Pipeline.builder().jenkinsInfo(otherInfo).build();
+        PipelineMeta job = new PipelineMeta(jobId, "other-job", false, null, otherUser.getId(), List.of(), otherInfo);
 
-        when(pipelineService.getPipelineById(jobId)).thenReturn(job);
+        when(pipelineService.getPipelineMeta(jobId)).thenReturn(job);
 
         assertThrows(CustomException.class, () -> errorService.getVerifiedJobWithPipeline(jobId, userId));
     }
 
     @Test
-    @DisplayName("getRecentBuild - 정상 Jenkins 응답이면 DTO 반환")
-    void getRecentBuild_success() {
+    @DisplayName("getRecentBuildAsync - 정상 Jenkins 응답이면 DTO 반환")
+    void getRecentBuildAsync_success() {
         Map<String, Object> mockResponse = Map.of(
                 "number", 10,
                 "result", "FAILURE",
@@ -92,40 +116,110 @@ class ErrorServiceTest {
         );
 
         when(httpClientService.buildHeaders(mockInfo, MediaType.APPLICATION_JSON)).thenReturn(new HttpHeaders());
-        when(httpClientService.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(mockResponse);
+        when(httpClientService.exchangeAsync(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockResponse));
 
-        ErrorResponseDto.FailedBuild result = errorService.getRecentBuild(mockInfo, "test-job");
+        ErrorResponseDto.FailedBuild result = errorService.getRecentBuildAsync(mockInfo, "test-job").join();
 
         assertEquals("FAILURE", result.getResult());
         assertEquals(10, result.getBuildNumber());
     }
 
     @Test
-    @DisplayName("summarizeBuild - 예외 로그 포함 시 LLM 호출")
-    void summarizeBuild_failureLog() {
-        String buildLog = "Exception in thread main";
-        when(httpClientService.buildHeaders(mockInfo, MediaType.TEXT_PLAIN)).thenReturn(new HttpHeaders());
-        when(httpClientService.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(buildLog);
+    @DisplayName("getBuildsForJobByUserAsync - 저장된 이력을 커서 페이지로 반환하고 페이지 크기는 최대 100")
+    void getBuildsForJobByUserAsync_returnsCursorPage() {
+        when(pipelineService.getPipelineMeta(jobId)).thenReturn(mockJob);
+        when(buildHistoryStore.refresh(mockJob)).thenReturn(CompletableFuture.completedFuture(null));
+        BuildRecord record = BuildRecord.builder().buildNumber(9).result("FAILURE").timestamp(1000L).duration(10L).build();
+        when(buildHistoryStore.getSliceBefore(mockJob, 10, 100))
+                .thenReturn(CompletableFuture.completedFuture(new BuildHistoryStore.HistorySlice(List.of(record), true, 9)));
+
+        ErrorResponseDto.BuildPage result = errorService.getBuildsForJobByUserAsync(jobId, userId, 500, 10).join();
+
+        assertEquals(9, result.getBuilds().get(0).getBuildNumber());
+        assertEquals("test-job", result.getBuilds().get(0).getJobName());
+        assertEquals(100, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(9, result.getNextCursor());
+        verifyNoInteractions(httpClientService);
+    }
+
+    @Test
+    @DisplayName("summarizeBuildAsync - 예외 로그 포함 시 LLM 호출")
+    void summarizeBuildAsync_failureLog() {
+        stubConsoleLog("test-job", 11, "Exception in thread main");
         when(llmService.summarizeBuildLog(anyString())).thenReturn("에러는 ~ 때문입니다.");
 
-        ErrorResponseDto.FailedBuildSummary result = errorService.summarizeBuild(mockInfo, "test-job", 11);
+        ErrorResponseDto.FailedBuildSummary result = errorService.summarizeBuildAsync(mockInfo, "test-job", 11).join();
 
         assertEquals("에러는 ~ 때문입니다.", result.getNaturalResponse());
         assertEquals("test-job", result.getJobName());
     }
 
     @Test
-    @DisplayName("summarizeBuild - 예외 없는 로그는 고정 응답")
-    void summarizeBuild_successLog() {
-        String log = "빌드 성공!";
-        when(httpClientService.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(log);
-        when(httpClientService.buildHeaders(any(), eq(MediaType.TEXT_PLAIN))).thenReturn(new HttpHeaders());
+    @DisplayName("summarizeBuildAsync - 같은 실패 묶음에 분석이 있으면 LLM 을 호출하지 않음")
+    void summarizeBuildAsync_reusesClusterAnalysis() {
+        String buildLog = "[Pipeline] { (Test)\njava.lang.OutOfMemoryError: Java heap space\nFinished: FAILURE\n";
+        FailureCluster cluster = FailureCluster.builder().id(UUID.randomUUID()).analysis("테스트 중 메모리 부족").build();
+
+        stubConsoleLog("test-job", 11, buildLog);
+        when(failureClusterService.record(eq(mockInfo), any(), eq("test-job"), eq(11))).thenReturn(cluster);
+
+        ErrorResponseDto.FailedBuildSummary result = errorService.summarizeBuildAsync(mockInfo, "test-job", 11).join();
+
+        assertEquals("테스트 중 메모리 부족", result.getNaturalResponse());
+        verifyNoInteractions(llmService);
+        verify(failureClusterService, never()).saveAnalysis(any(), any());
+    }
+
+    @Test
+    @DisplayName("summarizeBuildAsync - 예외 없는 로그는 고정 응답")
+    void summarizeBuildAsync_successLog() {
+        stubConsoleLog("jobA", 2, "빌드 성공!");
 
-        ErrorResponseDto.FailedBuildSummary result = errorService.summarizeBuild(mockInfo, "jobA", 2);
+        ErrorResponseDto.FailedBuildSummary result = errorService.summarizeBuildAsync(mockInfo, "jobA", 2).join();
 
         assertTrue(result.getNaturalResponse().contains("정상적으로 완료"));
+        verifyNoInteractions(llmService);
+    }
+
+    @Test
+    @DisplayName("getRecentBuildsAsync - Job별 최신 빌드를 매핑하고 빌드가 없는 Job은 건너뜀")
+    void getRecentBuildsAsync_mapsLatestBuild() {
+        when(jenkinsBuildQueryPlanner.queryAllJobs(eq(mockInfo), anyString(), eq(1), any()))
+                .thenAnswer(invocation -> {
+                    BiFunction<String, Map<?, ?>, ErrorResponseDto.FailedBuild> mapper = invocation.getArgument(3);
+                    ErrorResponseDto.FailedBuild latest = mapper.apply("jobB", Map.of("builds", List.of(
+                            Map.of("number", 3, "result", "SUCCESS", "timestamp", 1000L, "duration", 10L))));
+                    assertThrows(CustomException.class, () -> mapper.apply("jobA", Map.of("builds", List.of())));
+                    return CompletableFuture.completedFuture(new FanOutResult<>(
+                            List.of(latest),
+                            List.of(new FanOutResult.SkippedJob("jobA", ErrorCode.JENKINS_BUILD_INFO_MISSING.getCode()))));
+                });
+
+        ErrorResponseDto.JobBuilds result = errorService.getRecentBuildsAsync(mockInfo).join();
+
+        assertEquals(1, result.getBuilds().size());
+        assertEquals("jobB", result.getBuilds().get(0).getJobName());
+        assertEquals(3, result.getBuilds().get(0).getBuildNumber());
+        assertTrue(result.isPartial());
+        assertEquals("jobA", result.getSkippedJobs().get(0).getJobName());
+    }
+
+    // 요약 캐시에 없는 빌드의 콘솔 로그를 executor 에서 바로 읽도록 stub
+    private void stubConsoleLog(String jobName, int buildNumber, String buildLog) {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(jenkinsTaskExecutor).execute(any(Runnable.class));
+        when(httpClientService.buildHeaders(mockInfo, MediaType.TEXT_PLAIN)).thenReturn(new HttpHeaders());
+        when(httpClientService.readStream(any(), any(HttpHeaders.class), any())).thenAnswer(invocation -> {
+            HttpClientService.BodyReader<?> reader = invocation.getArgument(2);
+            return reader.read(new java.io.ByteArrayInputStream(buildLog.getBytes()), new HttpHeaders());
+        });
+        when(buildSummaryCache.getOrLoad(eq(mockInfo), eq(jobName), eq(buildNumber), any())).thenAnswer(invocation -> {
+            Supplier<CompletableFuture<BuildSummaryCache.Loaded>> loader = invocation.getArgument(3);
+            return loader.get().thenApply(BuildSummaryCache.Loaded::getSummary);
+        });
     }
 }
@@ -0,0 +1,68 @@
+package com.example.backend.jenkins.error.service;
+
+import com.example.backend.jenkins.error.model.FailureCluster;
+import com.example.backend.jenkins.error.model.FailureClusterBuild;
+import com.example.backend.jenkins.error.repository.FailureClusterBuildRepository;
+import com.example.backend.jenkins.error.repository.FailureClusterRepository;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FailureClusterServiceTest {
+
+    @Mock
+    private FailureClusterRepository failureClusterRepository;
+    @Mock
+    private FailureClusterBuildRepository failureClusterBuildRepository;
+
+    @InjectMocks
+    private FailureClusterService failureClusterService;
+
+    private final JenkinsInfo info = JenkinsInfo.builder().id(UUID.randomUUID()).build();
+    private final FailureFingerprinter.Fingerprint fingerprint =
+            new FailureFingerprinter.Fingerprint("sig", "java.lang.IllegalStateException", "boom", "Build");
+
+    @Test
+    @DisplayName("record - 처음 들어온 빌드는 기존 묶음의 횟수를 올림")
+    void record_incrementsForNewBuild() {
+        FailureCluster cluster = FailureCluster.builder().id(UUID.randomUUID()).count(1L).build();
+        when(failureClusterRepository.findByJenkinsInfoIdAndSignature(info.getId(), "sig")).thenReturn(Optional.of(cluster));
+
+        FailureCluster result = failureClusterService.record(info, fingerprint, "job", 7);
+
+        assertSame(cluster, result);
+        verify(failureClusterBuildRepository).save(any(FailureClusterBuild.class));
+        verify(failureClusterRepository).increment(eq(cluster.getId()), any(LocalDateTime.class), eq("job"), eq(7));
+    }
+
+    @Test
+    @DisplayName("record - 이미 집계된 (job, build) 를 다시 요약하면 횟수를 올리지 않음")
+    void record_skipsIncrementForSeenBuild() {
+        FailureCluster cluster = FailureCluster.builder().id(UUID.randomUUID()).count(1L).build();
+        when(failureClusterRepository.findByJenkinsInfoIdAndSignature(info.getId(), "sig")).thenReturn(Optional.of(cluster));
+        when(failureClusterBuildRepository.save(any(FailureClusterBuild.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_failure_cluster_build"));
+
+        FailureCluster result = failureClusterService.record(info, fingerprint, "job", 7);
+
+        assertSame(cluster, result);
+        verify(failureClusterRepository, never()).increment(any(), any(), anyString(), anyInt());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.jenkins.error.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailureFingerprinterTest {
+
+    private final ErrorExcerptExtractor extractor = new ErrorExcerptExtractor(5, 10, 8, 20, 2000, 3000);
+    private final FailureFingerprinter fingerprinter = new FailureFingerprinter();
+
+    @Test
+    @DisplayName("fingerprint - 빌드 번호, 경로, 시각만 다른 같은 실패는 같은 signature")
+    void fingerprint_ignoresVolatileTokens() {
+        FailureFingerprinter.Fingerprint first = fingerprinter.fingerprint(extractor.extract(log(12, "2025-01-01 10:00:01", "Test")));
+        FailureFingerprinter.Fingerprint second = fingerprinter.fingerprint(extractor.extract(log(98, "2025-03-09 23:59:59", "Test")));
+
+        assertEquals(first.getSignature(), second.getSignature());
+        assertEquals("java.io.IOException", first.getExceptionType());
+        assertEquals("Test", first.getFailedStage());
+        assertEquals("Caused by: java.io.IOException: cannot read <path> at <time>", first.getErrorLine());
+    }
+
+    @Test
+    @DisplayName("fingerprint - 실패한 stage 가 다르면 다른 signature")
+    void fingerprint_includesStage() {
+        FailureFingerprinter.Fingerprint test = fingerprinter.fingerprint(extractor.extract(log(12, "2025-01-01 10:00:01", "Test")));
+        FailureFingerprinter.Fingerprint deploy = fingerprinter.fingerprint(extractor.extract(log(12, "2025-01-01 10:00:01", "Deploy")));
+
+        assertNotEquals(test.getSignature(), deploy.getSignature());
+    }
+
+    @Test
+    @DisplayName("fingerprint - 예외가 없으면 첫 ERROR 줄을 사용")
+    void fingerprint_fallsBackToErrorLine() {
+        FailureFingerprinter.Fingerprint fingerprint = fingerprinter.fingerprint(extractor.extract(
+                "Compiling 42 files\n[ERROR] /work/job-7/src/Main.java:[10,5] cannot find symbol\nBUILD FAILURE\nFinished: FAILURE\n"));
+
+        assertNull(fingerprint.getExceptionType());
+        assertEquals("[ERROR] <path>:[#,#] cannot find symbol", fingerprint.getErrorLine());
+    }
+
+    private static String log(int buildNumber, String time, String stage) {
+        return "Started by user admin\n"
+                + "[Pipeline] { (" + stage + ")\n"
+                + "Running in /var/lib/jenkins/workspace/api-" + buildNumber + "\n"
+                + "java.lang.RuntimeException: wrapper " + buildNumber + "\n"
+                + "\tat com.example.Foo.run(Foo.java:" + (buildNumber + 1) + ")\n"
+                + "Caused by: java.io.IOException: cannot read /tmp/build-" + buildNumber + "/out.bin at " + time + "\n"
+                + "\tat com.example.Reader.read(Reader.java:" + buildNumber + ")\n"
+                + "\tat com.example.Foo.run(Foo.java:20)\n"
+                + "Finished: FAILURE\n";
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.backend.jenkins.info.service;
+
+import com.example.backend.auth.user.model.Users;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.info.repository.JenkinsInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JenkinsConnectionCacheTest {
+
+    @Mock
+    private JenkinsInfoRepository jenkinsInfoRepository;
+
+    private JenkinsConnectionCache jenkinsConnectionCache;
+
+    private UUID infoId;
+    private UUID ownerId;
+    private JenkinsInfo info;
+
+    @BeforeEach
+    void setUp() {
+        jenkinsConnectionCache = new JenkinsConnectionCache(jenkinsInfoRepository, 300_000L);
+        infoId = UUID.randomUUID();
+        ownerId = UUID.randomUUID();
+        info = JenkinsInfo.builder()
+                .id(infoId)
+                .jenkinsId("admin")
+                .apiToken("token")
+                .uri("http://jenkins:8080//")
+                .user(Users.builder().id(ownerId).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("get(info) - 인증 헤더와 base URI 를 한 번만 계산")
+    void get_buildsProfileOnce() {
+        JenkinsConnectionCache.Profile first = jenkinsConnectionCache.get(info);
+        JenkinsConnectionCache.Profile second = jenkinsConnectionCache.get(info);
+
+        assertSame(first, second);
+        assertEquals("Basic YWRtaW46dG9rZW4=", first.getAuthorization());
+        assertEquals("http://jenkins:8080", first.getBaseUri());
+        assertEquals(ownerId, first.getOwnerId());
+    }
+
+    @Test
+    @DisplayName("get(info) - 인증 정보가 바뀐 엔티티면 다시 계산")
+    void get_rebuildsWhenCredentialsChanged() {
+        JenkinsConnectionCache.Profile before = jenkinsConnectionCache.get(info);
+        info.setApiToken("rotated");
+
+        JenkinsConnectionCache.Profile after = jenkinsConnectionCache.get(info);
+
+        assertNotSame(before, after);
+        assertEquals("Basic YWRtaW46cm90YXRlZA==", after.getAuthorization());
+    }
+
+    @Test
+    @DisplayName("get(infoId) - 캐시에 있으면 DB 를 조회하지 않고, invalidate 후에는 다시 조회")
+    void getById_usesCacheUntilInvalidated() {
+        when(jenkinsInfoRepository.findWithUserById(infoId)).thenReturn(Optional.of(info));
+
+        jenkinsConnectionCache.get(infoId);
+        jenkinsConnectionCache.get(infoId);
+        verify(jenkinsInfoRepository, times(1)).findWithUserById(infoId);
+
+        jenkinsConnectionCache.invalidate(infoId);
+        jenkinsConnectionCache.get(infoId);
+        verify(jenkinsInfoRepository, times(2)).findWithUserById(infoId);
+    }
+
+    @Test
+    @DisplayName("get(infoId) - ttl 이 지나면 DB 에서 다시 읽어 변경된 인증 정보를 반영")
+    void getById_reloadsAfterTtl() {
+        jenkinsConnectionCache = new JenkinsConnectionCache(jenkinsInfoRepository, 0L);
+        JenkinsInfo rotated = JenkinsInfo.builder()
+                .id(infoId)
+                .jenkinsId("admin")
+                .apiToken("rotated")
+                .uri("http://jenkins:8080//")
+                .user(Users.builder().id(ownerId).build())
+                .build();
+        when(jenkinsInfoRepository.findWithUserById(infoId)).thenReturn(Optional.of(info), Optional.of(rotated));
+
+        JenkinsConnectionCache.Profile before = jenkinsConnectionCache.get(infoId);
+        JenkinsConnectionCache.Profile after = jenkinsConnectionCache.get(infoId);
+
+        verify(jenkinsInfoRepository, times(2)).findWithUserById(infoId);
+        assertEquals("Basic YWRtaW46dG9rZW4=", before.getAuthorization());
+        assertEquals("Basic YWRtaW46cm90YXRlZA==", after.getAuthorization());
+    }
+
+    @Test
+    @DisplayName("get(infoId) - 없는 JenkinsInfo 면 예외")
+    void getById_notFound() {
+        when(jenkinsInfoRepository.findWithUserById(infoId)).thenReturn(Optional.empty());
+
+        CustomException ex = assertThrows(CustomException.class, () -> jenkinsConnectionCache.get(infoId));
+        assertEquals(ErrorCode.JENKINS_INFO_NOT_FOUND, ex.getErrorCode());
+    }
+}
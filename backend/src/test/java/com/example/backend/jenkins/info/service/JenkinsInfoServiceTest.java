@@ -1,6 +1,7 @@
 package com.example.backend.jenkins.info.service;
 
 import com.example.backend.auth.user.model.Users;
+import com.example.backend.auth.user.repository.UserRepository;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.jenkins.info.model.JenkinsInfo;
@@ -38,6 +39,12 @@ class JenkinsInfoServiceTest {
     @Mock
     private JenkinsInfoRepository jenkinsInfoRepository;
 
+    @Mock
+    private JenkinsConnectionCache jenkinsConnectionCache;
+
+    @Mock
+    private UserRepository userRepository;
+
     @InjectMocks
     private JenkinsInfoService jenkinsInfoService;
 
@@ -47,7 +54,7 @@ class JenkinsInfoServiceTest {
 
     @BeforeEach
     void setUp() {
-        user = new Users();
+        user = Users.builder().id(UUID.randomUUID()).build();
         infoId = UUID.randomUUID();
         existingInfo = JenkinsInfo.builder()
                 .id(infoId)
@@ -70,14 +77,15 @@ class JenkinsInfoServiceTest {
                 .apiToken("token")
                 .uri("http://jenkins")
                 .build();
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
         when(jenkinsInfoRepository.save(any(JenkinsInfo.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        JenkinsInfo result = jenkinsInfoService.createJenkinsInfo(user, dto);
+        JenkinsInfo result = jenkinsInfoService.createJenkinsInfo(user.getId(), dto);
 
         assertNotNull(result);
         assertEquals("Name", result.getName());
+        assertSame(user, result.getUser());
         verify(jenkinsInfoRepository).save(any(JenkinsInfo.class));
-        assertTrue(user.getJenkinsInfoList().contains(result));
     }
 
     @Test
@@ -109,6 +117,7 @@ class JenkinsInfoServiceTest {
 
         assertEquals("New", updated.getName());
         verify(jenkinsInfoRepository).save(existingInfo);
+        verify(jenkinsConnectionCache).invalidate(infoId);
     }
 
     @Test
@@ -129,14 +138,15 @@ class JenkinsInfoServiceTest {
         jenkinsInfoService.deleteJenkinsInfo(infoId);
 
         verify(jenkinsInfoRepository).delete(existingInfo);
+        verify(jenkinsConnectionCache).invalidate(infoId);
     }
 
     @Test
     @DisplayName("getAllLightDtoByUser: 리스트 반환")
     void getAllLightDtoByUser() {
-        when(jenkinsInfoRepository.findByUser(user)).thenReturn(List.of(existingInfo));
+        when(jenkinsInfoRepository.findByUserId(user.getId())).thenReturn(List.of(existingInfo));
 
-        List<LightInfoDto> list = jenkinsInfoService.getAllLightDtoByUser(user);
+        List<LightInfoDto> list = jenkinsInfoService.getAllLightDtoByUser(user.getId());
 
         assertEquals(1, list.size());
         assertEquals(infoId, list.get(0).getId());
@@ -176,6 +186,7 @@ class JenkinsInfoServiceTest {
     @DisplayName("verificationJenkinsInfo: 올바른 엔드포인트 호출")
     void verificationJenkinsInfo_success() {
         when(jenkinsInfoRepository.findById(infoId)).thenReturn(Optional.of(existingInfo));
+        when(jenkinsConnectionCache.get(existingInfo)).thenReturn(new JenkinsConnectionCache.Profile(existingInfo));
 
         jenkinsInfoService.verificationJenkinsInfo(infoId);
 
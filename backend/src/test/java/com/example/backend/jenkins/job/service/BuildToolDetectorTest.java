@@ -0,0 +1,137 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildToolDetectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path source;
+    private Git git;
+    private String url;
+    private BuildToolDetector detector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        source = tempDir.resolve("source");
+        git = Git.init().setDirectory(source.toFile()).setInitialBranch("main").call();
+        url = source.toUri().toString();
+        // 테스트에서만 로컬 file:// 저장소 허용
+        detector = new BuildToolDetector(tempDir.resolve("mirrors").toString(), 10, 100, Set.of("file"), false);
+    }
+
+    @Test
+    @DisplayName("detect - checkout 없이 기본 브랜치 tree 에서 Gradle wrapper 디렉터리 탐지")
+    void detect_gradleWrapperOnDefaultBranch() throws Exception {
+        commit("backend/gradlew", "backend/build.gradle", "README.md");
+
+        Map<String, String> result = detector.detect(url, null);
+
+        assertEquals("Gradle", result.get("buildTool"));
+        assertEquals("backend", result.get("directory"));
+        // mirror 는 bare 저장소이므로 작업 트리가 없음
+        File[] mirrors = tempDir.resolve("mirrors").toFile().listFiles();
+        assertNotNull(mirrors);
+        assertEquals(1, mirrors.length);
+        assertFalse(new File(mirrors[0], "backend").exists());
+    }
+
+    @Test
+    @DisplayName("detect - 같은 commit 은 캐시, 새 commit 은 다시 탐지")
+    void detect_cachesPerCommit() throws Exception {
+        commit("pom.xml");
+        assertEquals("Maven", detector.detect(url, "main").get("buildTool"));
+        assertEquals("Maven", detector.detect(url, "main").get("buildTool"));
+        assertEquals(1, detector.cachedResults());
+
+        commit("mvnw");
+        Map<String, String> result = detector.detect(url, "main");
+
+        assertEquals("Maven_Wrapper", result.get("buildTool"));
+        assertEquals(".", result.get("directory"));
+        assertEquals(2, detector.cachedResults());
+    }
+
+    @Test
+    @DisplayName("detect - 요청한 브랜치의 tree 를 사용하고, 없는 브랜치는 기본 브랜치 사용")
+    void detect_requestedBranch() throws Exception {
+        commit("build.xml");
+        git.checkout().setCreateBranch(true).setName("feature").call();
+        commit("app/build.sbt");
+
+        assertEquals("SBT", detector.detect(url, "feature").get("buildTool"));
+        assertEquals("Ant", detector.detect(url, "main").get("buildTool"));
+        assertEquals("Ant", detector.detect(url, "no-such-branch").get("buildTool"));
+    }
+
+    @Test
+    @DisplayName("detect - blob 필터를 허용한 서버에서도 동일하게 탐지")
+    void detect_withPartialCloneServer() throws Exception {
+        git.getRepository().getConfig().setBoolean("uploadpack", null, "allowfilter", true);
+        git.getRepository().getConfig().save();
+        commit("service/build.gradle.kts");
+
+        Map<String, String> result = detector.detect(url, null);
+
+        assertEquals("Gradle", result.get("buildTool"));
+        assertEquals("service", result.get("directory"));
+    }
+
+    @Test
+    @DisplayName("detect - 접근할 수 없는 저장소는 GIT_CLONE_FAILED")
+    void detect_invalidRepository() {
+        String missing = tempDir.resolve("missing").toUri().toString();
+
+        CustomException ex = assertThrows(CustomException.class, () -> detector.detect(missing, null));
+        assertEquals(ErrorCode.GIT_CLONE_FAILED, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("detect - 허용되지 않은 scheme, 로컬 경로, 내부망 호스트는 조회하지 않음")
+    void detect_rejectsDisallowedRepository() {
+        BuildToolDetector httpsOnly = new BuildToolDetector(tempDir.resolve("mirrors").toString(), 10, 100, Set.of("https"), false);
+
+        for (String repoUrl : List.of(url, source.toString(), "http://github.com/a/b.git", "git@github.com:a/b.git",
+                "https://127.0.0.1/a/b.git", "https://10.0.0.5/a/b.git", "https://169.254.169.254/latest")) {
+            CustomException ex = assertThrows(CustomException.class, () -> httpsOnly.detect(repoUrl, null), repoUrl);
+            assertEquals(ErrorCode.GIT_REPOSITORY_NOT_ALLOWED, ex.getErrorCode(), repoUrl);
+        }
+        assertFalse(tempDir.resolve("mirrors").toFile().exists());
+    }
+
+    @Test
+    @DisplayName("detect(paths) - gradlew 가 있으면 다른 빌드 파일보다 우선")
+    void detectPaths_gradleWrapperWins() {
+        Map<String, String> result = BuildToolDetector.detect(List.of("pom.xml", "mvnw", "api/gradlew"));
+
+        assertEquals("Gradle", result.get("buildTool"));
+        assertEquals("api", result.get("directory"));
+        assertEquals("Unknown", BuildToolDetector.detect(List.of("README.md")).get("buildTool"));
+    }
+
+    private void commit(String... paths) throws Exception {
+        for (String path : paths) {
+            Path file = source.resolve(path);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, path + System.nanoTime());
+            git.add().addFilepattern(path).call();
+        }
+        git.commit().setMessage("add " + String.join(", ", paths)).setSign(false).call();
+    }
+}
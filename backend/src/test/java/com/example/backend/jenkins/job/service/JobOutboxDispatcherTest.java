@@ -0,0 +1,246 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
+import com.example.backend.jenkins.job.model.JobOutbox;
+import com.example.backend.jenkins.job.repository.JobOutboxRepository;
+import com.example.backend.service.HttpClientService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private JobOutboxRepository jobOutboxRepository;
+    @Mock
+    private HttpClientService httpClientService;
+    @Mock
+    private JenkinsConnectionCache jenkinsConnectionCache;
+    @Mock
+    private CompensationService compensationService;
+    @Mock
+    private JenkinsConnectionCache.Profile profile;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobOutboxDispatcher dispatcher;
+    private UUID pipelineId;
+    private UUID infoId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 전달 작업을 호출 스레드에서 바로 실행
+        dispatcher = new JobOutboxDispatcher(jobOutboxRepository, httpClientService, jenkinsConnectionCache,
+                compensationService, Runnable::run, meterRegistry, 100, MAX_ATTEMPTS, 1000, 60_000, 60_000, 86_400_000);
+        pipelineId = UUID.randomUUID();
+        infoId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("trigger - 가져간 요청을 Jenkins 에 보내고 SENT 로 기록")
+    void trigger_deliversAndMarksSent() {
+        JobOutbox outbox = outbox(JobOutbox.Type.CREATE, 0);
+        givenDeliverable(outbox);
+        givenHeaders();
+
+        dispatcher.trigger();
+
+        ArgumentCaptor<HttpEntity<?>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(httpClientService).exchange(eq("http://jenkins.local/createItem?name=job"), eq(HttpMethod.POST),
+                request.capture(), eq(String.class));
+        assertEquals("<flow-definition/>", request.getValue().getBody());
+        assertEquals(outbox.getIdempotencyKey(), request.getValue().getHeaders().getFirst("Idempotency-Key"));
+        verify(jobOutboxRepository).markSent(eq(outbox.getId()), eq(JobOutbox.Status.SENT), any());
+        assertEquals(1, meterRegistry.get("jenkins.outbox.delivery.latency").tag("type", "CREATE").timer().count());
+    }
+
+    @Test
+    @DisplayName("trigger - 다른 인스턴스가 먼저 가져간 요청은 보내지 않음")
+    void trigger_skipsUnclaimed() {
+        JobOutbox outbox = outbox(JobOutbox.Type.UPDATE, 0);
+        when(jobOutboxRepository.findDeliverable(eq(JobOutbox.Status.PENDING), any(), any())).thenReturn(List.of(outbox));
+        when(jobOutboxRepository.claim(eq(outbox.getId()), eq(JobOutbox.Status.PENDING), eq(0), any(), any())).thenReturn(0);
+        when(jenkinsConnectionCache.get(infoId)).thenReturn(profile);
+        when(profile.getBaseUri()).thenReturn("http://jenkins.local");
+
+        dispatcher.trigger();
+
+        verifyNoInteractions(httpClientService);
+    }
+
+    @Test
+    @DisplayName("trigger - 같은 주소의 요청은 보내기 직전에 하나씩 가져가므로 lease 가 앞선 요청의 전달 시간에 소모되지 않음")
+    void trigger_claimsEachRowBeforeSending() {
+        JobOutbox first = outbox(JobOutbox.Type.UPDATE, 0);
+        JobOutbox second = outbox(JobOutbox.Type.UPDATE, 0);
+        second.setPipelineId(UUID.randomUUID());
+        when(jobOutboxRepository.findDeliverable(eq(JobOutbox.Status.PENDING), any(), any())).thenReturn(List.of(first, second));
+        when(jobOutboxRepository.claim(any(), eq(JobOutbox.Status.PENDING), eq(0), any(), any())).thenReturn(1);
+        when(jenkinsConnectionCache.get(infoId)).thenReturn(profile);
+        when(profile.getBaseUri()).thenReturn("http://jenkins.local");
+        givenHeaders();
+
+        dispatcher.trigger();
+
+        InOrder order = inOrder(jobOutboxRepository, httpClientService);
+        order.verify(jobOutboxRepository).claim(eq(first.getId()), any(), anyInt(), any(), any());
+        order.verify(httpClientService).exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class));
+        order.verify(jobOutboxRepository).claim(eq(second.getId()), any(), anyInt(), any(), any());
+        order.verify(httpClientService).exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("trigger - 5xx 는 backoff 후 재시도하도록 다시 예약")
+    void trigger_retryableFailureIsRescheduled() {
+        JobOutbox outbox = outbox(JobOutbox.Type.UPDATE, 0);
+        givenDeliverable(outbox);
+        givenHeaders();
+        when(httpClientService.exchange(anyString(), any(), any(), eq(String.class)))
+                .thenThrow(new CustomException(ErrorCode.JENKINS_SERVER_ERROR));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.trigger();
+
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobOutboxRepository).reschedule(eq(outbox.getId()), eq(JobOutbox.Status.PENDING), next.capture(),
+                eq("JENKINS_SERVER_ERROR"));
+        assertTrue(next.getValue().isAfter(before.plusNanos(400_000_000)));
+        verify(jobOutboxRepository, never()).markDead(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("trigger - 네트워크 오류로 재시도를 모두 소진한 생성 요청은 DEAD 처리 후 pipeline 보상 삭제")
+    void trigger_exhaustedCreateIsDeadLettered() {
+        JobOutbox outbox = outbox(JobOutbox.Type.CREATE, MAX_ATTEMPTS - 1);
+        givenDeliverable(outbox);
+        givenHeaders();
+        // 재시도이므로 Job 존재 여부를 먼저 확인
+        when(httpClientService.exchange(contains("/api/json"), eq(HttpMethod.GET), any(), eq(String.class)))
+                .thenThrow(new CustomException(ErrorCode.JENKINS_ENDPOINT_NOT_FOUND));
+        when(httpClientService.exchange(contains("/createItem"), eq(HttpMethod.POST), any(), eq(String.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        dispatcher.trigger();
+
+        verify(jobOutboxRepository).markDead(eq(outbox.getId()), eq(JobOutbox.Status.DEAD), contains("ResourceAccessException"));
+        verify(jobOutboxRepository).closePending(eq(pipelineId), eq(JobOutbox.Status.PENDING), eq(JobOutbox.Status.DEAD), anyString());
+        verify(compensationService).deletePipeline(pipelineId);
+        verify(jobOutboxRepository, never()).reschedule(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("trigger - 응답을 받지 못했던 생성 요청은 Job 이 이미 있으면 다시 보내지 않음")
+    void trigger_createRetrySkipsExistingJob() {
+        JobOutbox outbox = outbox(JobOutbox.Type.CREATE, 1);
+        givenDeliverable(outbox);
+        givenHeaders();
+        when(httpClientService.exchange(eq("http://jenkins.local/job/job/api/json?tree=name"), eq(HttpMethod.GET), any(), eq(String.class)))
+                .thenReturn("{\"name\":\"job\"}");
+
+        dispatcher.trigger();
+
+        verify(httpClientService, never()).exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class));
+        verify(jobOutboxRepository).markSent(eq(outbox.getId()), eq(JobOutbox.Status.SENT), any());
+    }
+
+    @Test
+    @DisplayName("trigger - 이미 없는 Job 의 삭제는 성공, 인증 실패한 삭제는 soft-delete 복구")
+    void trigger_deleteOutcomes() {
+        JobOutbox missing = outbox(JobOutbox.Type.DELETE, 0);
+        givenDeliverable(missing);
+        givenHeaders();
+        when(httpClientService.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
+                .thenThrow(new CustomException(ErrorCode.JENKINS_ENDPOINT_NOT_FOUND))
+                .thenThrow(new CustomException(ErrorCode.JENKINS_AUTHENTICATION_FAILED));
+
+        dispatcher.trigger();
+        verify(jobOutboxRepository).markSent(eq(missing.getId()), eq(JobOutbox.Status.SENT), any());
+
+        JobOutbox unauthorized = outbox(JobOutbox.Type.DELETE, 0);
+        givenDeliverable(unauthorized);
+        dispatcher.trigger();
+
+        verify(jobOutboxRepository).markDead(unauthorized.getId(), JobOutbox.Status.DEAD, "JENKINS_AUTHENTICATION_FAILED");
+        verify(compensationService).restorePipeline(pipelineId);
+        verify(compensationService, never()).deletePipeline(any());
+    }
+
+    @Test
+    @DisplayName("purgeFinished - retention 이 지난 끝난 요청만 삭제")
+    void purgeFinished_deletesOldFinishedRows() {
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+
+        dispatcher.purgeFinished();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobOutboxRepository).deleteByStatusInAndCreatedAtBefore(
+                eq(List.of(JobOutbox.Status.SENT, JobOutbox.Status.SUPERSEDED, JobOutbox.Status.DEAD)), cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(before.plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("backoffMillis - 시도마다 두 배로 늘어나고 최대값으로 제한")
+    void backoffMillis_growsAndIsCapped() {
+        for (int attempts = 1; attempts <= 10; attempts++) {
+            long expected = Math.min(60_000, 1000L << (attempts - 1));
+            long delay = dispatcher.backoffMillis(attempts);
+            assertTrue(delay >= expected / 2 && delay <= expected, "attempts=" + attempts + ", delay=" + delay);
+        }
+    }
+
+    private JobOutbox outbox(JobOutbox.Type type, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return JobOutbox.builder()
+                .id(UUID.randomUUID())
+                .pipelineId(pipelineId)
+                .jenkinsInfoId(infoId)
+                .jobName("job")
+                .type(type)
+                .path(JobOutboxService.path(type, "job"))
+                .payload(type == JobOutbox.Type.DELETE ? null : "<flow-definition/>")
+                .idempotencyKey(JobOutboxService.idempotencyKey(pipelineId, type, JobOutboxService.path(type, "job"), null))
+                .status(JobOutbox.Status.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    private void givenDeliverable(JobOutbox outbox) {
+        when(jobOutboxRepository.findDeliverable(eq(JobOutbox.Status.PENDING), any(), any())).thenReturn(List.of(outbox));
+        when(jobOutboxRepository.claim(eq(outbox.getId()), eq(JobOutbox.Status.PENDING), eq(outbox.getAttempts()), any(), any())).thenReturn(1);
+        when(jenkinsConnectionCache.get(infoId)).thenReturn(profile);
+        when(profile.getBaseUri()).thenReturn("http://jenkins.local");
+    }
+
+    private void givenHeaders() {
+        JenkinsInfo info = JenkinsInfo.builder().id(infoId).uri("http://jenkins.local").build();
+        when(profile.getInfo()).thenReturn(info);
+        when(httpClientService.buildHeaders(eq(info), any())).thenAnswer(invocation -> new HttpHeaders());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.jenkins.job.model.JobOutbox;
+import com.example.backend.jenkins.job.repository.JobOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOutboxServiceTest {
+
+    @Mock
+    private JobOutboxRepository jobOutboxRepository;
+    @Mock
+    private ApplicationEventPublisher publisher;
+    @InjectMocks
+    private JobOutboxService jobOutboxService;
+
+    private UUID pipelineId;
+    private UUID infoId;
+
+    @BeforeEach
+    void setUp() {
+        pipelineId = UUID.randomUUID();
+        infoId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("enqueue - 대기 상태로 저장하고 변경 이벤트 발행")
+    void enqueue_savesPendingRow() {
+        jobOutboxService.enqueue(pipelineId, infoId, "job", JobOutbox.Type.CREATE, "<flow-definition/>");
+
+        ArgumentCaptor<JobOutbox> saved = ArgumentCaptor.forClass(JobOutbox.class);
+        verify(jobOutboxRepository).save(saved.capture());
+        assertEquals(JobOutbox.Status.PENDING, saved.getValue().getStatus());
+        assertEquals("/createItem?name=job", saved.getValue().getPath());
+        assertEquals(0, saved.getValue().getAttempts());
+        assertEquals(64, saved.getValue().getIdempotencyKey().length());
+
+        ArgumentCaptor<JobEvent.JobChangedEvent> event = ArgumentCaptor.forClass(JobEvent.JobChangedEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertEquals(pipelineId, event.getValue().getPipelineId());
+        verify(jobOutboxRepository, never()).supersede(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("enqueue - 같은 요청이 마지막으로 대기 중이면 다시 저장하지 않음")
+    void enqueue_skipsDuplicatePending() {
+        String key = JobOutboxService.idempotencyKey(pipelineId, JobOutbox.Type.UPDATE, "/job/job/config.xml", "<a/>");
+        when(jobOutboxRepository.findLatestKeys(eq(pipelineId), eq(JobOutbox.Status.PENDING), any())).thenReturn(List.of(key));
+
+        jobOutboxService.enqueue(pipelineId, infoId, "job", JobOutbox.Type.UPDATE, "<a/>");
+
+        verify(jobOutboxRepository, never()).save(any());
+        verify(publisher).publishEvent(any(JobEvent.JobChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("enqueue - 같은 요청이 앞에 있어도 마지막 대기 요청이 다르면 저장 (A → B → A)")
+    void enqueue_savesWhenOnlyEarlierPendingMatches() {
+        String other = JobOutboxService.idempotencyKey(pipelineId, JobOutbox.Type.UPDATE, "/job/job/config.xml", "<b/>");
+        when(jobOutboxRepository.findLatestKeys(eq(pipelineId), eq(JobOutbox.Status.PENDING), any())).thenReturn(List.of(other));
+
+        jobOutboxService.enqueue(pipelineId, infoId, "job", JobOutbox.Type.UPDATE, "<a/>");
+
+        verify(jobOutboxRepository).save(any(JobOutbox.class));
+    }
+
+    @Test
+    @DisplayName("enqueue - 수정 요청은 보내지 않은 이전 수정 요청을 대체")
+    void enqueue_updateSupersedesOlderUpdates() {
+        jobOutboxService.enqueue(pipelineId, infoId, "job", JobOutbox.Type.UPDATE, "<b/>");
+
+        verify(jobOutboxRepository).supersede(pipelineId, JobOutbox.Type.UPDATE,
+                JobOutbox.Status.PENDING, JobOutbox.Status.SUPERSEDED);
+        verify(jobOutboxRepository).save(any(JobOutbox.class));
+        assertNotEquals(
+                JobOutboxService.idempotencyKey(pipelineId, JobOutbox.Type.UPDATE, "/job/job/config.xml", "<a/>"),
+                JobOutboxService.idempotencyKey(pipelineId, JobOutbox.Type.UPDATE, "/job/job/config.xml", "<b/>"));
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
+import com.example.backend.jenkins.job.model.JobOutbox;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.repository.PipelineRepository;
+import com.example.backend.jenkins.job.repository.StageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineMetaCacheTest {
+
+    @Mock
+    private PipelineRepository pipelineRepository;
+    @Mock
+    private StageRepository stageRepository;
+    @Mock
+    private JenkinsConnectionCache jenkinsConnectionCache;
+    @Mock
+    private JenkinsConnectionCache.Profile profile;
+
+    private PipelineMetaCache cache;
+    private UUID pipelineId;
+    private UUID infoId;
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PipelineMetaCache(pipelineRepository, stageRepository, jenkinsConnectionCache, 60_000L, 100);
+        pipelineId = UUID.randomUUID();
+        infoId = UUID.randomUUID();
+        ownerId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("get - 두 번째 조회부터 DB 를 조회하지 않고 JenkinsInfo 복사본을 붙여 반환")
+    void get_cachesMetadata() {
+        JenkinsInfo info = JenkinsInfo.builder().id(infoId).uri("http://jenkins.local").build();
+        when(pipelineRepository.findMetaById(pipelineId)).thenReturn(Optional.of(view()));
+        when(stageRepository.findNamesByPipelineId(pipelineId)).thenReturn(List.of("Build", "Test"));
+        when(jenkinsConnectionCache.get(infoId)).thenReturn(profile);
+        when(profile.getInfo()).thenReturn(info);
+
+        cache.get(pipelineId);
+        PipelineMeta meta = cache.get(pipelineId);
+
+        assertEquals("job", meta.getName());
+        assertEquals(ownerId, meta.getOwnerId());
+        assertEquals(List.of("Build", "Test"), meta.getStageNames());
+        assertSame(info, meta.getJenkinsInfo());
+        verify(pipelineRepository, times(1)).findMetaById(pipelineId);
+    }
+
+    @Test
+    @DisplayName("getWithoutInfo - 동시에 조회해도 DB 조회는 한 번")
+    void getWithoutInfo_singleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pipelineRepository.findMetaById(pipelineId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(view());
+        });
+        when(stageRepository.findNamesByPipelineId(pipelineId)).thenReturn(List.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<PipelineMeta> first = CompletableFuture.supplyAsync(() -> cache.getWithoutInfo(pipelineId), executor);
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            CompletableFuture<PipelineMeta> second = CompletableFuture.supplyAsync(() -> cache.getWithoutInfo(pipelineId), executor);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(pipelineRepository, times(1)).findMetaById(pipelineId);
+    }
+
+    @Test
+    @DisplayName("getWithoutInfo - 없는 pipeline 은 캐시하지 않음")
+    void getWithoutInfo_notFoundIsNotCached() {
+        when(pipelineRepository.findMetaById(pipelineId)).thenReturn(Optional.empty());
+
+        CustomException ex = assertThrows(CustomException.class, () -> cache.getWithoutInfo(pipelineId));
+        assertEquals(ErrorCode.JENKINS_JOB_NOT_FOUND, ex.getErrorCode());
+        assertThrows(CustomException.class, () -> cache.getWithoutInfo(pipelineId));
+
+        assertEquals(0, cache.size());
+        verify(pipelineRepository, times(2)).findMetaById(pipelineId);
+    }
+
+    @Test
+    @DisplayName("Job 수정/삭제 이벤트와 invalidate 후에는 다시 조회")
+    void events_evictEntry() {
+        when(pipelineRepository.findMetaById(pipelineId)).thenReturn(Optional.of(view()));
+        when(stageRepository.findNamesByPipelineId(pipelineId)).thenReturn(List.of());
+
+        cache.getWithoutInfo(pipelineId);
+        cache.onJobChanged(new JobEvent.JobChangedEvent(pipelineId, JobOutbox.Type.UPDATE));
+        cache.getWithoutInfo(pipelineId);
+        cache.onJobChanged(new JobEvent.JobChangedEvent(pipelineId, JobOutbox.Type.DELETE));
+        cache.getWithoutInfo(pipelineId);
+        cache.invalidate(pipelineId);
+        cache.getWithoutInfo(pipelineId);
+
+        verify(pipelineRepository, times(4)).findMetaById(pipelineId);
+    }
+
+    private PipelineRepository.MetaView view() {
+        return new PipelineRepository.MetaView() {
+            @Override
+            public UUID getId() {
+                return pipelineId;
+            }
+
+            @Override
+            public String getName() {
+                return "job";
+            }
+
+            @Override
+            public Boolean getDeleted() {
+                return false;
+            }
+
+            @Override
+            public UUID getJenkinsInfoId() {
+                return infoId;
+            }
+
+            @Override
+            public UUID getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.jenkins.job.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.parser.JenkinsfileValidator;
+import com.example.backend.util.ScriptEditUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptValidationServiceTest {
+
+    private static final String VALID = "pipeline {\n  agent any\n  stages {\n    stage('Build') { steps { echo 'b' } }\n  }\n}\n";
+
+    @Mock
+    private ScriptEditUtil scriptEditUtil;
+
+    private ScriptValidationService service;
+    private JenkinsInfo info;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScriptValidationService(new JenkinsfileValidator(), scriptEditUtil, 100);
+        info = JenkinsInfo.builder().id(UUID.randomUUID()).uri("http://jenkins.local").build();
+    }
+
+    @Test
+    @DisplayName("구조 검사에 실패하면 Jenkins 를 호출하지 않음")
+    void localFailure_skipsRemote() {
+        CustomException e = assertThrows(CustomException.class,
+                () -> service.validate(info, "pipeline { agent any "));
+
+        assertEquals(ErrorCode.JENKINS_SCRIPT_NOT_VALID, e.getErrorCode());
+        verifyNoInteractions(scriptEditUtil);
+    }
+
+    @Test
+    @DisplayName("같은 스크립트는 Jenkins 검증을 한 번만 호출")
+    void remoteResultIsCachedByHash() {
+        when(scriptEditUtil.validateJenkinsfile(info, VALID)).thenReturn(true);
+
+        service.validate(info, VALID);
+        service.validate(info, VALID);
+
+        verify(scriptEditUtil, times(1)).validateJenkinsfile(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Jenkins 가 거절한 결과도 캐시하며, 다른 Jenkins 는 따로 검증")
+    void remoteRejectionIsCachedPerJenkins() {
+        JenkinsInfo other = JenkinsInfo.builder().id(UUID.randomUUID()).uri("http://other.local").build();
+        when(scriptEditUtil.validateJenkinsfile(info, VALID)).thenReturn(false);
+        when(scriptEditUtil.validateJenkinsfile(other, VALID)).thenReturn(true);
+
+        assertThrows(CustomException.class, () -> service.validate(info, VALID));
+        assertThrows(CustomException.class, () -> service.validate(info, VALID));
+        service.validate(other, VALID);
+
+        verify(scriptEditUtil, times(1)).validateJenkinsfile(info, VALID);
+        verify(scriptEditUtil, times(1)).validateJenkinsfile(other, VALID);
+    }
+
+    @Test
+    @DisplayName("Jenkins 호출 오류는 캐시하지 않음")
+    void remoteErrorIsNotCached() {
+        when(scriptEditUtil.validateJenkinsfile(info, VALID))
+                .thenThrow(new CustomException(ErrorCode.JENKINS_CONNECTION_FAILED))
+                .thenReturn(true);
+
+        assertThrows(CustomException.class, () -> service.validate(info, VALID));
+        service.validate(info, VALID);
+
+        verify(scriptEditUtil, times(2)).validateJenkinsfile(info, VALID);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.jenkins.notification.controller;
+
+import com.example.backend.config.jwt.JwtAuthenticationFilter;
+import com.example.backend.config.jwt.JwtTokenProvider;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.notification.model.NotificationPhase;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.BuildNotification;
+import com.example.backend.jenkins.notification.service.JenkinsNotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Jenkins Notification 플러그인이 보내는 형식의 JSON 을 그대로 전송해 수신 경로를 확인합니다.
+ */
+@WebMvcTest(controllers = JenkinsNotificationController.class,
+        excludeAutoConfiguration = {
+                SecurityAutoConfiguration.class,
+                OAuth2ClientAutoConfiguration.class,
+                OAuth2ResourceServerAutoConfiguration.class
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+class JenkinsNotificationControllerTest {
+
+    private static final String COMPLETED = """
+            {
+              "name": "build-backend",
+              "url": "job/build-backend/",
+              "build": {
+                "full_url": "http://jenkins.example.com/job/build-backend/42/",
+                "number": 42,
+                "phase": "COMPLETED",
+                "status": "FAILURE",
+                "url": "job/build-backend/42/",
+                "timestamp": 1720589400000,
+                "duration": 12300,
+                "scm": {},
+                "log": "",
+                "artifacts": {}
+              }
+            }
+            """;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    JenkinsNotificationService jenkinsNotificationService;
+    @MockitoBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    UUID infoId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Notification 플러그인 JSON 수신")
+    void receiveTest() throws Exception {
+        mockMvc.perform(post("/api/jenkins/notifications/" + infoId)
+                        .header("X-Pipely-Token", "token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(COMPLETED))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<BuildNotification> captor = ArgumentCaptor.forClass(BuildNotification.class);
+        verify(jenkinsNotificationService).handle(eq(infoId), eq("token"), captor.capture());
+        BuildNotification notification = captor.getValue();
+        assertEquals("build-backend", notification.getName());
+        assertEquals(42, notification.getBuild().getNumber());
+        assertEquals(NotificationPhase.COMPLETED, notification.getBuild().getPhase());
+        assertEquals("FAILURE", notification.getBuild().getStatus());
+        assertEquals("http://jenkins.example.com/job/build-backend/42/", notification.getBuild().getFullUrl());
+    }
+
+    @Test
+    @DisplayName("토큰이 맞지 않으면 401")
+    void receiveUnauthorizedTest() throws Exception {
+        doThrow(new CustomException(ErrorCode.JENKINS_NOTIFICATION_UNAUTHORIZED))
+                .when(jenkinsNotificationService).handle(eq(infoId), any(), any());
+
+        mockMvc.perform(post("/api/jenkins/notifications/" + infoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(COMPLETED))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("build 가 없으면 400")
+    void receiveInvalidTest() throws Exception {
+        mockMvc.perform(post("/api/jenkins/notifications/" + infoId)
+                        .header("X-Pipely-Token", "token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"build-backend\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(jenkinsNotificationService);
+    }
+
+    @Test
+    @DisplayName("phase 가 null 이면 400")
+    void receiveNullPhaseTest() throws Exception {
+        mockMvc.perform(post("/api/jenkins/notifications/" + infoId)
+                        .header("X-Pipely-Token", "token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(COMPLETED.replace("\"COMPLETED\"", "null")))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(jenkinsNotificationService);
+    }
+}
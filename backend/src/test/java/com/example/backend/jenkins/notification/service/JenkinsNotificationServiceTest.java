@@ -0,0 +1,211 @@
+package com.example.backend.jenkins.notification.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.build.model.BuildRecord;
+import com.example.backend.jenkins.build.model.dto.BuildResponseDto;
+import com.example.backend.jenkins.build.service.BuildHistoryStore;
+import com.example.backend.jenkins.error.model.dto.ErrorResponseDto.FailedBuild;
+import com.example.backend.jenkins.error.service.ErrorService;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import com.example.backend.jenkins.info.service.JenkinsConnectionCache;
+import com.example.backend.jenkins.job.model.PipelineMeta;
+import com.example.backend.jenkins.job.repository.PipelineRepository;
+import com.example.backend.jenkins.job.service.PipelineService;
+import com.example.backend.jenkins.notification.model.NotificationPhase;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.Build;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.BuildNotification;
+import com.example.backend.jenkins.notification.model.dto.NotificationRequestDto.Stage;
+import com.example.backend.jenkins.notification.model.dto.NotificationResponseDto.StageEvent;
+import com.example.backend.service.JenkinsStatusPoller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JenkinsNotificationServiceTest {
+
+    private static final String TOKEN = "notification-token";
+
+    @Mock
+    private JenkinsConnectionCache jenkinsConnectionCache;
+    @Mock
+    private JenkinsConnectionCache.Profile profile;
+    @Mock
+    private PipelineRepository pipelineRepository;
+    @Mock
+    private PipelineService pipelineService;
+    @Mock
+    private BuildHistoryStore buildHistoryStore;
+    @Mock
+    private ErrorService errorService;
+    @Mock
+    private JenkinsStatusPoller jenkinsStatusPoller;
+
+    private JenkinsNotificationService service;
+
+    private final UUID infoId = UUID.randomUUID();
+    private final UUID pipelineId = UUID.randomUUID();
+    private JenkinsInfo info;
+    private PipelineMeta pipeline;
+
+    @BeforeEach
+    void setUp() {
+        service = new JenkinsNotificationService(jenkinsConnectionCache, pipelineRepository, pipelineService,
+                buildHistoryStore, errorService, jenkinsStatusPoller);
+        info = JenkinsInfo.builder().id(infoId).uri("http://jenkins").notificationToken(TOKEN).build();
+        pipeline = new PipelineMeta(pipelineId, "build-backend", false, infoId, UUID.randomUUID(), List.of(), info);
+
+        lenient().when(jenkinsConnectionCache.get(infoId)).thenReturn(profile);
+        lenient().when(profile.getInfo()).thenReturn(info);
+        lenient().when(profile.getBaseUri()).thenReturn("http://jenkins");
+        lenient().when(pipelineRepository.findActiveIdByJenkinsInfoIdAndName(infoId, "build-backend")).thenReturn(Optional.of(pipelineId));
+        lenient().when(pipelineService.getPipelineMeta(pipelineId)).thenReturn(pipeline);
+    }
+
+    @Test
+    @DisplayName("handle - 토큰이 다르면 401")
+    void handle_rejectsWrongToken() {
+        CustomException ex = assertThrows(CustomException.class,
+                () -> service.handle(infoId, "wrong", notification(NotificationPhase.STARTED, 7, null)));
+
+        assertEquals(ErrorCode.JENKINS_NOTIFICATION_UNAUTHORIZED, ex.getErrorCode());
+        verifyNoInteractions(buildHistoryStore, jenkinsStatusPoller);
+    }
+
+    @Test
+    @DisplayName("handle - 토큰을 발급하지 않은 JenkinsInfo 는 401")
+    void handle_rejectsWithoutIssuedToken() {
+        info.setNotificationToken(null);
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> service.handle(infoId, TOKEN, notification(NotificationPhase.STARTED, 7, null)));
+
+        assertEquals(ErrorCode.JENKINS_NOTIFICATION_UNAUTHORIZED, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("handle - STARTED 는 진행 중 레코드로 저장하고 두 감시 key 에 바로 전달")
+    void handle_startedPublishes() {
+        BuildRecord record = stubApply(7, true);
+        when(buildHistoryStore.getLatest(pipeline)).thenReturn(BuildResponseDto.BuildInfo.builder().buildNumber(7).build());
+
+        service.handle(infoId, TOKEN, notification(NotificationPhase.STARTED, 7, null));
+
+        assertTrue(record.getBuilding());
+        assertEquals(1720589400000L, record.getTimestamp());
+        assertEquals("http://jenkins/job/build-backend/7/", record.getBuildUrl());
+        verify(jenkinsStatusPoller).publish(eq("pipeline:" + pipelineId), eq("7"), any(BuildResponseDto.BuildInfo.class));
+        ArgumentCaptor<Object> recent = ArgumentCaptor.forClass(Object.class);
+        verify(jenkinsStatusPoller).publish(eq("info:" + infoId), eq("build-backend"), recent.capture());
+        assertNull(((FailedBuild) recent.getValue()).getResult());
+        verifyNoInteractions(errorService);
+    }
+
+    @Test
+    @DisplayName("handle - 실패로 끝난 빌드는 에러 요약을 미리 생성")
+    void handle_completedFailurePrefetchesSummary() {
+        BuildRecord record = stubApply(7, true);
+        when(buildHistoryStore.getLatest(pipeline)).thenReturn(BuildResponseDto.BuildInfo.builder().buildNumber(7).build());
+        when(errorService.summarizeBuildAsync(info, "build-backend", 7)).thenReturn(new CompletableFuture<>());
+
+        service.handle(infoId, TOKEN, notification(NotificationPhase.COMPLETED, 7, "FAILURE"));
+
+        assertFalse(record.getBuilding());
+        assertEquals("FAILURE", record.getResult());
+        assertEquals(12300L, record.getDuration());
+        verify(errorService).summarizeBuildAsync(info, "build-backend", 7);
+    }
+
+    @Test
+    @DisplayName("handle - 이미 끝난 빌드의 FINALIZED 는 요약을 다시 만들지 않고, 최신 빌드가 아니면 info 감시에 전달하지 않음")
+    void handle_finalizedOlderBuild() {
+        stubApply(5, false);
+        when(buildHistoryStore.getLatest(pipeline)).thenReturn(BuildResponseDto.BuildInfo.builder().buildNumber(7).build());
+
+        service.handle(infoId, TOKEN, notification(NotificationPhase.FINALIZED, 5, "FAILURE"));
+
+        verify(jenkinsStatusPoller).publish(eq("pipeline:" + pipelineId), eq("5"), any());
+        verify(jenkinsStatusPoller, never()).publish(eq("info:" + infoId), anyString(), any());
+        verifyNoInteractions(errorService);
+    }
+
+    @Test
+    @DisplayName("handle - STAGE_COMPLETED 는 stage 이벤트로 전달")
+    void handle_stageCompletedBroadcasts() {
+        stubApply(7, true);
+        when(buildHistoryStore.getLatest(pipeline)).thenReturn(BuildResponseDto.BuildInfo.builder().buildNumber(7).build());
+        BuildNotification notification = BuildNotification.builder()
+                .name("build-backend")
+                .build(Build.builder()
+                        .number(7)
+                        .phase(NotificationPhase.STAGE_COMPLETED)
+                        .stage(new Stage("Test", "SUCCESS", 5400L))
+                        .build())
+                .build();
+
+        service.handle(infoId, TOKEN, notification);
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(jenkinsStatusPoller).broadcast(eq("pipeline:" + pipelineId), eq("stage"), event.capture());
+        StageEvent stage = (StageEvent) event.getValue();
+        assertEquals(7, stage.getBuildNumber());
+        assertEquals("Test", stage.getStage());
+        assertEquals(5400L, stage.getDurationMillis());
+    }
+
+    @Test
+    @DisplayName("handle - 관리하지 않는 Job 의 알림은 무시")
+    void handle_ignoresUnknownJob() {
+        when(pipelineRepository.findActiveIdByJenkinsInfoIdAndName(infoId, "other-job")).thenReturn(Optional.empty());
+
+        service.handle(infoId, TOKEN, BuildNotification.builder()
+                .name("other-job")
+                .build(Build.builder().number(1).phase(NotificationPhase.STARTED).build())
+                .build());
+
+        verifyNoInteractions(buildHistoryStore, jenkinsStatusPoller);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BuildRecord stubApply(int buildNumber, boolean wasBuilding) {
+        BuildRecord record = BuildRecord.builder()
+                .buildNumber(buildNumber)
+                .building(wasBuilding)
+                .timestamp(0L)
+                .duration(0L)
+                .build();
+        when(buildHistoryStore.apply(eq(pipeline), eq(buildNumber), any())).thenAnswer(invocation -> {
+            ((Consumer<BuildRecord>) invocation.getArgument(2)).accept(record);
+            return new BuildHistoryStore.Applied(record, wasBuilding);
+        });
+        return record;
+    }
+
+    private BuildNotification notification(NotificationPhase phase, int number, String status) {
+        return BuildNotification.builder()
+                .name("build-backend")
+                .build(Build.builder()
+                        .number(number)
+                        .phase(phase)
+                        .status(status)
+                        .timestamp(1720589400000L)
+                        .duration(12300L)
+                        .build())
+                .build();
+    }
+}
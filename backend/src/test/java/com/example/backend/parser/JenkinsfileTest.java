@@ -0,0 +1,84 @@
+package com.example.backend.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JenkinsfileTest {
+
+    private static final String SCRIPT = """
+            pipeline {
+              agent any
+              parameters {
+                booleanParam(name: 'RUN_BUILD', defaultValue: true, description: "build")
+              }
+              stages {
+                stage('Build') {
+                  steps {
+                    sh "echo '}' && echo ${env.BUILD_ID}"   // stage('Fake') {
+                  }
+                }
+                /* stage('Commented') { } */
+                stage("Test") {
+                  when { branch 'main' }
+                  parallel {
+                    stage('Unit') { steps { sh '''echo "{"''' } }
+                    stage('Lint') { steps { echo 'lint' } }
+                  }
+                }
+              }
+              post {
+                always { echo 'done' }
+              }
+            }
+            """;
+
+    @Test
+    @DisplayName("parse - 문자열/주석 안의 괄호와 stage 는 무시하고 중첩 stage 까지 추출")
+    void parse_stagesAreStringAndCommentAware() {
+        Jenkinsfile jenkinsfile = Jenkinsfile.parse(SCRIPT);
+
+        assertTrue(jenkinsfile.getErrors().isEmpty());
+        assertEquals(List.of("Build", "Test", "Unit", "Lint"), jenkinsfile.getStageNames());
+        assertEquals(Set.of("RUN_BUILD"), jenkinsfile.getParameterNames());
+        assertNotNull(jenkinsfile.getPipeline().child("post"));
+
+        List<Jenkinsfile.Block> stages = jenkinsfile.getStages();
+        assertFalse(stages.get(0).hasChild("when"));
+        assertTrue(stages.get(1).hasChild("when"));
+        assertEquals('}', SCRIPT.charAt(stages.get(0).getClose()));
+    }
+
+    @Test
+    @DisplayName("parse - 짝이 맞지 않는 괄호와 닫히지 않은 문자열은 위치와 함께 기록")
+    void parse_reportsProblems() {
+        Jenkinsfile jenkinsfile = Jenkinsfile.parse("pipeline {\n  stages {\n    stage('A') {\n      sh 'x\n  }\n}\n");
+
+        List<String> messages = jenkinsfile.getErrors().stream().map(Jenkinsfile.Problem::getMessage).toList();
+        assertTrue(messages.contains("닫히지 않은 문자열"));
+        assertTrue(messages.stream().anyMatch(m -> m.startsWith("닫히지 않은 블록")));
+        assertEquals(4, jenkinsfile.getErrors().get(0).getLine());
+    }
+
+    @Test
+    @DisplayName("edit - 여러 위치의 삽입을 한 번에 반영")
+    void edit_appliesInsertionsInOnePass() {
+        String script = "pipeline { stages { stage('A') { steps { echo 'a' } } } }";
+        Jenkinsfile jenkinsfile = Jenkinsfile.parse(script);
+        Jenkinsfile.Block stage = jenkinsfile.getStages().get(0);
+
+        String edited = jenkinsfile.edit()
+                .insertBeforeClose(stage, "post { always { echo 'p' } } ")
+                .insertAfterOpen(stage, " when { expression { true } }")
+                .insertAfterOpen(jenkinsfile.getPipeline(), " agent any")
+                .apply();
+
+        assertEquals("pipeline { agent any stages { stage('A') { when { expression { true } } steps { echo 'a' } "
+                + "post { always { echo 'p' } } } } }", edited);
+        assertTrue(Jenkinsfile.parse(edited).getErrors().isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.parser;
+
+import com.example.backend.service.TemplateRegistry;
+import com.example.backend.util.ScriptEditUtil;
+import com.github.mustachejava.DefaultMustacheFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JenkinsfileValidatorTest {
+
+    private final JenkinsfileValidator validator = new JenkinsfileValidator();
+
+    private List<String> messages(String script) {
+        return validator.validate(script).stream().map(Jenkinsfile.Problem::getMessage).toList();
+    }
+
+    @Test
+    @DisplayName("script 템플릿으로 만든 스크립트는 통과")
+    void generatedScriptPasses() {
+        TemplateRegistry registry = new TemplateRegistry(new DefaultMustacheFactory(), false, "does-not-exist", 1000, 1024, 65536);
+        String script = registry.render("script", Map.of(
+                "githubUrl", "https://github.com/example/repo", "branch", "main",
+                "isBuildSelected", true, "isTestSelected", true, "Gradle", "Gradle"));
+
+        assertEquals(List.of(), validator.validate(new ScriptEditUtil(null).injectBooleanParams(script)));
+    }
+
+    @Test
+    @DisplayName("agent / stages 누락과 stage 본문 누락을 찾음")
+    void missingSections() {
+        List<String> messages = messages("""
+                pipeline {
+                  stages {
+                    stage('Build') {
+                      echo 'no steps'
+                    }
+                  }
+                }
+                """);
+
+        assertTrue(messages.contains("pipeline 에 agent 가 없습니다."));
+        assertTrue(messages.contains("stage 'Build' 에는 steps, stages, parallel, matrix 중 하나만 있어야 합니다."));
+        assertTrue(messages("pipeline { agent any }").contains("pipeline 에 stages 블록이 없습니다."));
+        assertTrue(messages("node { stage('A') { } }").contains("pipeline 블록이 없습니다."));
+    }
+
+    @Test
+    @DisplayName("when / parameters / post 의 잘못된 항목을 찾음")
+    void invalidSections() {
+        List<String> messages = messages("""
+                pipeline {
+                  agent any
+                  parameters {
+                    booleanParam(name: 'A', defaultValue: true)
+                    string(defaultValue: 'x')
+                    choice(name: 'A', choices: ['1', '2'])
+                  }
+                  stages {
+                    stage('Deploy') {
+                      when {
+                        onlyOnSunday true
+                      }
+                      steps { echo 'deploy' }
+                    }
+                    stage('Retry') {
+                      when { isRestartedRun() }
+                      steps { echo 'retry' }
+                    }
+                  }
+                  post {
+                    finally { echo 'x' }
+                    always { echo 'y' }
+                  }
+                }
+                """);
+
+        // 모르는 when 조건(플러그인 조건일 수 있음)은 Jenkins 검증에 맡김
+        assertTrue(messages.stream().noneMatch(message -> message.startsWith("when ")));
+        assertTrue(messages.contains("parameters 의 string 에 name 이 없습니다."));
+        assertTrue(messages.contains("파라미터 이름이 중복되었습니다: A"));
+        assertTrue(messages.contains("post 에 사용할 수 없는 조건입니다: finally"));
+        assertFalse(messages.contains("post 에 사용할 수 없는 조건입니다: always"));
+    }
+
+    @Test
+    @DisplayName("괄호가 맞지 않으면 줄 번호와 함께 구문 문제만 반환")
+    void unbalancedBraces() {
+        List<Jenkinsfile.Problem> problems = validator.validate("pipeline {\n  agent any\n  stages {\n    stage('A') { steps { echo 'a' }\n  }\n}\n");
+
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).getMessage().startsWith("닫히지 않은 블록"));
+        assertEquals(1, problems.get(0).getLine());
+    }
+}
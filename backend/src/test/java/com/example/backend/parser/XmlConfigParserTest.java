@@ -0,0 +1,164 @@
+package com.example.backend.parser;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlConfigParserTest {
+
+    private static final String CONFIG = """
+            <?xml version='1.1' encoding='UTF-8'?>
+            <flow-definition plugin="workflow-job">
+              <actions/>
+              <description>설명 &amp; 메모</description>
+              <properties>
+                <hudson.model.ParametersDefinitionProperty>
+                  <parameterDefinitions>
+                    <hudson.model.BooleanParameterDefinition>
+                      <name>DO_BUILD</name>
+                      <defaultValue>true</defaultValue>
+                    </hudson.model.BooleanParameterDefinition>
+                  </parameterDefinitions>
+                </hudson.model.ParametersDefinitionProperty>
+              </properties>
+              <definition class="org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition" plugin="workflow-cps">
+                <script><![CDATA[
+            pipeline {
+              stages {
+                stage('Build') {
+                  steps { sh 'a && b' }
+                }
+                stage("Test") {
+                  steps { sh 'echo <ok>' }
+                }
+              }
+            }
+                ]]></script>
+                <sandbox>true</sandbox>
+              </definition>
+              <triggers>
+                <hudson.triggers.TimerTrigger>
+                  <spec> H 2 * * * </spec>
+                </hudson.triggers.TimerTrigger>
+              </triggers>
+            </flow-definition>
+            """;
+
+    private final XmlConfigParser parser = new XmlConfigParser();
+
+    @Test
+    @DisplayName("summarize - 한 번 읽어 stage, cron, 파라미터를 함께 추출")
+    void summarize_extractsEverythingInOnePass() throws XMLStreamException {
+        XmlConfigParser.ConfigSummary summary = XmlConfigParser.summarize(CONFIG);
+
+        assertEquals(List.of("Build", "Test"), summary.getStageNames());
+        assertEquals(" H 2 * * * ", summary.getCronSpec());
+        assertTrue(summary.getParameterNames().contains("DO_BUILD"));
+        assertEquals("H 2 * * *", XmlConfigParser.getCronSpecFromConfig(CONFIG));
+    }
+
+    @Test
+    @DisplayName("getCronSpecFromConfig - TimerTrigger 가 없으면 '없음', 잘못된 XML 은 '파싱 실패'")
+    void getCronSpec_missingAndMalformed() {
+        assertEquals("없음", XmlConfigParser.getCronSpecFromConfig("<flow-definition><triggers/></flow-definition>"));
+        assertEquals("파싱 실패", XmlConfigParser.getCronSpecFromConfig("<flow-definition>"));
+    }
+
+    @Test
+    @DisplayName("getPipelineStageNamesFromXml - 잘못된 XML 은 예외")
+    void getStageNames_malformed() {
+        assertThrows(RuntimeException.class, () -> parser.getPipelineStageNamesFromXml("<script>pipeline"));
+    }
+
+    @Test
+    @DisplayName("DTD 와 외부 엔티티는 읽지 않음")
+    void externalEntitiesAreNotResolved() {
+        String xxe = "<?xml version=\"1.0\"?><!DOCTYPE x [<!ENTITY e SYSTEM \"file:///etc/passwd\">]>"
+                + "<flow-definition><definition><script>pipeline { stage('A') { } } &e;</script></definition></flow-definition>";
+
+        assertThrows(RuntimeException.class, () -> parser.getPipelineStageNamesFromXml(xxe));
+    }
+
+    @Test
+    @DisplayName("injectStageParameters - 없는 파라미터만 추가하고 script 는 CDATA 로 유지")
+    void injectStageParameters_addsMissingParametersAndConditions() throws XMLStreamException {
+        String updated = parser.injectStageParameters(CONFIG, List.of("Build", "Test"));
+
+        XmlConfigParser.ConfigSummary summary = XmlConfigParser.summarize(updated);
+        assertEquals(List.of("DO_BUILD", "DO_TEST"), List.copyOf(summary.getParameterNames()));
+        assertTrue(summary.getScript().contains("expression { params.DO_BUILD }"));
+        assertTrue(summary.getScript().contains("sh 'a && b'"));
+        assertTrue(updated.startsWith("<?xml version=\"1.1\" encoding=\"UTF-8\"?>"));
+        assertTrue(updated.contains("<![CDATA["));
+        assertTrue(updated.contains("<description>설명 &amp; 메모</description>"));
+        assertTrue(updated.contains("plugin=\"workflow-cps\""));
+        assertEquals(1, count(updated, "<hudson.model.ParametersDefinitionProperty>"));
+    }
+
+    @Test
+    @DisplayName("injectStageParameters - properties 가 없으면 definition 앞에 생성")
+    void injectStageParameters_createsProperties() throws XMLStreamException {
+        String xml = "<flow-definition><definition><script>pipeline { stage('Deploy') { } }</script></definition></flow-definition>";
+
+        String updated = parser.injectStageParameters(xml, List.of("Deploy"));
+
+        assertTrue(updated.indexOf("<properties>") < updated.indexOf("<definition>"));
+        assertEquals(List.of("DO_DEPLOY"), List.copyOf(XmlConfigParser.summarize(updated).getParameterNames()));
+    }
+
+    @Test
+    @DisplayName("updateCronSpecInXml - 기존 spec 교체")
+    void updateCron_replacesExistingSpec() {
+        String updated = XmlConfigParser.updateCronSpecInXml(CONFIG, "H 5 * * 1");
+
+        assertEquals("H 5 * * 1", XmlConfigParser.getCronSpecFromConfig(updated));
+        assertEquals(1, count(updated, "<spec>"));
+    }
+
+    @Test
+    @DisplayName("updateCronSpecInXml - TimerTrigger 가 없으면 PipelineTriggersJobProperty 를 생성하고 중복 빈 property 는 제거")
+    void updateCron_createsTriggerAndRemovesEmptyDuplicates() {
+        String empty = "<flow-definition><properties>"
+                + "<" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + "><triggers/></" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + ">"
+                + "</properties></flow-definition>";
+        String created = XmlConfigParser.updateCronSpecInXml(empty, "H * * * *");
+        assertEquals("H * * * *", XmlConfigParser.getCronSpecFromConfig(created));
+        assertEquals(1, count(created, "<" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + ">"));
+
+        String duplicated = "<flow-definition><properties>"
+                + "<" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + "><triggers/></" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + ">"
+                + "<" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + "><triggers><hudson.triggers.TimerTrigger/></triggers></"
+                + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + ">"
+                + "</properties></flow-definition>";
+        String cleaned = XmlConfigParser.updateCronSpecInXml(duplicated, "H 1 * * *");
+        assertEquals(1, count(cleaned, "<" + XmlConfigParser.PIPELINE_TRIGGERS_PROPERTY + ">"));
+        assertEquals("H 1 * * *", XmlConfigParser.getCronSpecFromConfig(cleaned));
+
+        CustomException e = assertThrows(CustomException.class,
+                () -> XmlConfigParser.updateCronSpecInXml("<flow-definition/>", "H * * * *"));
+        assertEquals(ErrorCode.JENKINS_XML_UPDATE_FAIL, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("replaceScript - 첫 script 만 교체")
+    void replaceScript() throws XMLStreamException {
+        String updated = parser.replaceScript(CONFIG, "pipeline { stage('Only') { } }");
+
+        assertEquals(List.of("Only"), XmlConfigParser.summarize(updated).getStageNames());
+        assertTrue(updated.contains("<sandbox>true</sandbox>"));
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+}
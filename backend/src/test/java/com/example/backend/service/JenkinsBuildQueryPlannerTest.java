@@ -0,0 +1,123 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JenkinsBuildQueryPlannerTest {
+
+    private static final String FIELDS = "number,result";
+
+    @Mock
+    private HttpClientService httpClientService;
+
+    private JenkinsBuildQueryPlanner planner;
+    private final JenkinsInfo info = JenkinsInfo.builder().uri("http://jenkins.local").build();
+
+    @BeforeEach
+    void setUp() {
+        planner = new JenkinsBuildQueryPlanner(
+                httpClientService,
+                new JenkinsFanOutService(Runnable::run, 4, Duration.ofSeconds(5)),
+                100);
+        lenient().when(httpClientService.buildHeaders(info, MediaType.APPLICATION_JSON)).thenReturn(new HttpHeaders());
+    }
+
+    @Test
+    @DisplayName("jobBuildsUri - 범위 문법의 중괄호와 대괄호를 인코딩")
+    void jobBuildsUri_encodesRange() {
+        URI uri = planner.jobBuildsUri(info, "my job", FIELDS, 0, 5);
+
+        assertEquals("http://jenkins.local/job/my%20job/api/json?tree=builds%5Bnumber%2Cresult%5D%7B0%2C5%7D", uri.toString());
+    }
+
+    @Test
+    @DisplayName("queryAllJobs - bulk 요청 1건으로 처리하고, 폴더는 건너뛰며 builds 가 없는 Job 만 Job 별로 조회")
+    void queryAllJobs_bulkWithMissingBuildsFallback() {
+        URI bulkUri = URI.create("http://jenkins.local/api/json?tree=jobs%5Bname%2Cjobs%5Bname%5D%2Cbuilds%5Bnumber%2Cresult%5D%7B0%2C1%7D%5D");
+        URI noBuildsUri = planner.jobBuildsUri(info, "no-builds", FIELDS, 0, 1);
+
+        when(httpClientService.exchangeAsync(eq(bulkUri), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of("jobs", List.of(
+                        Map.of("name", "a", "builds", List.of(Map.of("number", 7))),
+                        Map.of("name", "empty", "builds", List.of()),
+                        Map.of("name", "folder", "jobs", List.of(Map.of("name", "child"))),
+                        Map.of("name", "no-builds")))));
+        when(httpClientService.exchangeAsync(eq(noBuildsUri), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND)));
+
+        FanOutResult<Integer> result = planner.queryAllJobs(info, FIELDS, 1, this::firstBuildNumber).join();
+
+        assertEquals(List.of(7), result.getResults());
+        assertEquals(List.of("empty", "no-builds"), result.getSkipped().stream().map(FanOutResult.SkippedJob::getJobName).toList());
+        verify(httpClientService, times(2)).exchangeAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    @DisplayName("queryAllJobs - bulk 요청 실패 시 전체 Job 을 Job 별로 조회")
+    void queryAllJobs_bulkFailureFallsBackPerJob() {
+        URI jobListUri = URI.create("http://jenkins.local/api/json?tree=jobs%5Bname%2Cjobs%5Bname%5D%5D");
+
+        when(httpClientService.exchangeAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    URI uri = invocation.getArgument(0);
+                    if (uri.equals(jobListUri)) {
+                        return CompletableFuture.completedFuture(Map.of("jobs", List.of(Map.of("name", "a"), Map.of("name", "b"),
+                                Map.of("name", "folder", "jobs", List.of()))));
+                    }
+                    if (uri.getPath().startsWith("/job/")) {
+                        return CompletableFuture.completedFuture(Map.of("builds", List.of(Map.of("number", uri.getPath().contains("/a/") ? 1 : 2))));
+                    }
+                    return CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_CONNECTION_TIMEOUT_OR_NETWORK_ERROR));
+                });
+
+        FanOutResult<Integer> result = planner.queryAllJobs(info, FIELDS, 1, this::firstBuildNumber).join();
+
+        assertEquals(List.of(1, 2), result.getResults());
+        assertFalse(result.isPartial());
+    }
+
+    @Test
+    @DisplayName("queryAllJobs - 네트워크/HTTP 오류가 아닌 bulk 실패는 Job 별 조회 없이 그대로 실패")
+    void queryAllJobs_authFailureDoesNotFallBack() {
+        when(httpClientService.exchangeAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_AUTHENTICATION_FAILED)));
+
+        CompletableFuture<FanOutResult<Integer>> result = planner.queryAllJobs(info, FIELDS, 1, this::firstBuildNumber);
+
+        CompletionException ex = assertThrows(CompletionException.class, result::join);
+        assertEquals(ErrorCode.JENKINS_AUTHENTICATION_FAILED, ((CustomException) ex.getCause()).getErrorCode());
+        verify(httpClientService, times(1)).exchangeAsync(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class));
+    }
+
+    private Integer firstBuildNumber(String jobName, Map<?, ?> jobInfo) {
+        List<Map<String, Object>> builds = (List<Map<String, Object>>) jobInfo.get("builds");
+        if (builds == null || builds.isEmpty()) {
+            throw new CustomException(ErrorCode.JENKINS_BUILD_INFO_MISSING);
+        }
+        return (Integer) builds.get(0).get("number");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.jenkins.info.model.JenkinsInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JenkinsFanOutServiceTest {
+
+    private final JenkinsInfo info = JenkinsInfo.builder().uri("http://jenkins.local").build();
+
+    @Test
+    @DisplayName("fanOut - Jenkins 별 동시 요청 수를 넘지 않는다")
+    void fanOut_respectsConcurrencyCap() {
+        JenkinsFanOutService fanOutService = new JenkinsFanOutService(Runnable::run, 2, Duration.ofSeconds(5));
+        List<String> jobs = List.of("a", "b", "c", "d", "e");
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        CompletableFuture<FanOutResult<String>> result = fanOutService.fanOut(info, jobs, job -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<String> call = new CompletableFuture<>();
+            pending.add(call);
+            return call.whenComplete((v, ex) -> inFlight.decrementAndGet());
+        });
+
+        assertEquals(2, pending.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            pending.get(i).complete(jobs.get(i));
+        }
+
+        FanOutResult<String> fanOutResult = result.join();
+        assertEquals(2, maxInFlight.get());
+        assertEquals(jobs, fanOutResult.getResults());
+        assertFalse(fanOutResult.isPartial());
+    }
+
+    @Test
+    @DisplayName("fanOut - 실패한 Job과 마감을 넘긴 Job은 skipped로 반환")
+    void fanOut_collectsSkippedJobs() {
+        JenkinsFanOutService fanOutService = new JenkinsFanOutService(Runnable::run, 4, Duration.ofMillis(200));
+        CompletableFuture<String> neverCompletes = new CompletableFuture<>();
+
+        FanOutResult<String> result = fanOutService.fanOut(info, List.of("ok", "broken", "slow"), job -> switch (job) {
+            case "ok" -> CompletableFuture.completedFuture("ok");
+            case "broken" -> CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_JOB_NOT_FOUND));
+            default -> neverCompletes;
+        }).join();
+
+        assertEquals(List.of("ok"), result.getResults());
+        assertTrue(result.isPartial());
+        assertEquals(2, result.getSkipped().size());
+        assertEquals("JENKINS_JOB_NOT_FOUND_404", result.getSkipped().get(0).getReason());
+        assertEquals("slow", result.getSkipped().get(1).getJobName());
+        assertEquals(JenkinsFanOutService.REASON_DEADLINE_EXCEEDED, result.getSkipped().get(1).getReason());
+        assertTrue(neverCompletes.isCancelled());
+    }
+
+    @Test
+    @DisplayName("fanOut - executor 가 대기 작업을 거부하면 그 Job 만 skipped 로 반환하고 다음 대기 작업을 시작")
+    void fanOut_skipsRejectedWaiter() {
+        AtomicInteger executions = new AtomicInteger();
+        // 첫 대기 작업만 거부
+        Executor rejectFirst = command -> {
+            if (executions.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("full");
+            }
+            command.run();
+        };
+        JenkinsFanOutService fanOutService = new JenkinsFanOutService(rejectFirst, 1, Duration.ofSeconds(5));
+        CompletableFuture<String> first = new CompletableFuture<>();
+
+        CompletableFuture<FanOutResult<String>> result = fanOutService.fanOut(info, List.of("a", "b", "c"),
+                job -> "a".equals(job) ? first : CompletableFuture.completedFuture(job));
+        first.complete("a");
+
+        FanOutResult<String> fanOutResult = result.join();
+        assertEquals(List.of("a", "c"), fanOutResult.getResults());
+        assertEquals(1, fanOutResult.getSkipped().size());
+        assertEquals("b", fanOutResult.getSkipped().get(0).getJobName());
+        assertEquals(ErrorCode.JENKINS_TASK_REJECTED.getCode(), fanOutResult.getSkipped().get(0).getReason());
+        assertEquals(0, fanOutService.trackedJenkinsCount());
+    }
+
+    @Test
+    @DisplayName("fanOut - 진행 중인 요청이 없는 Jenkins 의 제한 상태는 제거")
+    void fanOut_evictsIdlePermits() {
+        JenkinsFanOutService fanOutService = new JenkinsFanOutService(Runnable::run, 2, Duration.ofSeconds(5));
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<FanOutResult<String>> result = fanOutService.fanOut(info, List.of("a"), job -> call);
+        assertEquals(1, fanOutService.trackedJenkinsCount());
+
+        call.complete("a");
+        assertEquals(List.of("a"), result.join().getResults());
+        assertEquals(0, fanOutService.trackedJenkinsCount());
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.Mock;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JenkinsStatusPollerTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final Deque<Runnable> scheduled = new ArrayDeque<>();
+    private final List<Duration> delays = new ArrayList<>();
+    private JenkinsStatusPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new JenkinsStatusPoller(taskScheduler, Runnable::run,
+                Duration.ofSeconds(10), Duration.ofSeconds(80), Duration.ofMinutes(1), Duration.ofMinutes(5), 2);
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            delays.add(Duration.between(Instant.now(), invocation.getArgument(1)));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("subscribe - 같은 key 의 viewer 는 하나의 poll 루프를 공유")
+    void subscribe_sharesLoop() {
+        AtomicInteger polls = new AtomicInteger();
+        poller.subscribe("pipeline:1", source(polls, List.of(Map.of("1", "SUCCESS")), false));
+        poller.subscribe("pipeline:1", source(polls, List.of(Map.of("1", "SUCCESS")), false));
+        poller.subscribe("pipeline:2", source(polls, List.of(Map.of("1", "SUCCESS")), false));
+
+        assertEquals(2, poller.activeWatchCount());
+        assertEquals(2, scheduled.size());
+        runNext();
+        runNext();
+        assertEquals(2, polls.get());
+    }
+
+    @Test
+    @DisplayName("subscribe - 모든 viewer 가 끊겨 닫힌 루프에는 합류하지 않고 새 루프를 시작")
+    void subscribe_replacesClosedLoop() {
+        AtomicInteger oldPolls = new AtomicInteger();
+        AtomicInteger newPolls = new AtomicInteger();
+        SseEmitter emitter = poller.subscribe("pipeline:1", source(oldPolls, List.of(Map.of("1", "SUCCESS")), false));
+        runNext();
+
+        // 연결이 끊긴 viewer 로 전송이 실패하면 루프가 닫힘
+        emitter.complete();
+        poller.publish("pipeline:1", "2", "BUILDING");
+        poller.subscribe("pipeline:1", source(newPolls, List.of(Map.of("1", "SUCCESS")), false));
+        // 닫힌 루프의 예약된 poll 은 조회 없이 끝남
+        runNext();
+        runNext();
+
+        assertEquals(1, poller.activeWatchCount());
+        assertEquals(1, oldPolls.get());
+        assertEquals(1, newPolls.get());
+    }
+
+    @Test
+    @DisplayName("poll - 변경이 없으면 간격을 두 배씩 늘리고, 변경이 생기면 다시 빠르게 조회")
+    void poll_adaptsInterval() {
+        AtomicInteger polls = new AtomicInteger();
+        Map<String, String> idle = Map.of("1", "SUCCESS");
+        Map<String, String> newBuild = Map.of("1", "SUCCESS", "2", "FAILURE");
+        poller.subscribe("pipeline:1", source(polls, List.of(idle, idle, idle, idle, idle, newBuild), false));
+
+        for (int i = 0; i < 6; i++) {
+            runNext();
+        }
+
+        // 첫 delay 는 즉시 실행
+        List<Long> seconds = delays.subList(1, delays.size()).stream().map(d -> Math.round(d.toMillis() / 1000.0)).toList();
+        assertEquals(List.of(10L, 20L, 40L, 80L, 80L, 10L), seconds);
+    }
+
+    @Test
+    @DisplayName("poll - 진행 중인 빌드가 있으면 변경이 없어도 빠르게 조회")
+    void poll_staysFastWhileActive() {
+        AtomicInteger polls = new AtomicInteger();
+        Map<String, String> running = Map.of("3", "BUILDING");
+        poller.subscribe("pipeline:1", source(polls, List.of(running, running, running), true));
+
+        for (int i = 0; i < 3; i++) {
+            runNext();
+        }
+
+        List<Long> seconds = delays.subList(1, delays.size()).stream().map(d -> Math.round(d.toMillis() / 1000.0)).toList();
+        assertEquals(List.of(10L, 10L, 10L), seconds);
+    }
+
+    @Test
+    @DisplayName("publish - 알림으로 변경을 전달한 뒤에는 reconcile-interval 로만 조회")
+    void publish_slowsPollToReconcile() {
+        AtomicInteger polls = new AtomicInteger();
+        poller.subscribe("pipeline:1", source(polls, List.of(Map.of("1", "SUCCESS")), true, true));
+        runNext();
+
+        poller.publish("pipeline:1", "2", "BUILDING");
+        poller.publish("pipeline:2", "1", "SUCCESS");
+        runNext();
+
+        assertEquals(Duration.ofMinutes(5).toSeconds(), Math.round(delays.get(delays.size() - 1).toMillis() / 1000.0));
+        assertEquals(1, poller.activeWatchCount());
+    }
+
+    @Test
+    @DisplayName("publish - 알림이 일부 항목만 다루는 대상은 publish 후에도 평소 간격으로 조회")
+    void publish_keepsPollWhenNotKeptByPush() {
+        AtomicInteger polls = new AtomicInteger();
+        poller.subscribe("info:1", source(polls, List.of(Map.of("jobA", "SUCCESS", "jobB", "SUCCESS")), true));
+        runNext();
+
+        poller.publish("info:1", "jobA", "FAILURE");
+        runNext();
+
+        assertEquals(10L, Math.round(delays.get(delays.size() - 1).toMillis() / 1000.0));
+    }
+
+    @Test
+    @DisplayName("poll - 연속 실패가 max-failures 에 도달하면 루프를 닫음")
+    void poll_closesAfterMaxFailures() {
+        poller.subscribe("info:1", new JenkinsStatusPoller.Source<String>() {
+            @Override
+            public CompletableFuture<Map<String, String>> poll() {
+                return CompletableFuture.failedFuture(new CustomException(ErrorCode.JENKINS_SERVER_ERROR));
+            }
+
+            @Override
+            public boolean isActive(Map<String, String> items) {
+                return false;
+            }
+        });
+
+        runNext();
+        assertEquals(1, poller.activeWatchCount());
+        runNext();
+
+        assertEquals(0, poller.activeWatchCount());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    private JenkinsStatusPoller.Source<String> source(AtomicInteger polls, List<Map<String, String>> results, boolean active) {
+        return source(polls, results, active, false);
+    }
+
+    private JenkinsStatusPoller.Source<String> source(AtomicInteger polls, List<Map<String, String>> results, boolean active,
+                                                      boolean keptByPush) {
+        return new JenkinsStatusPoller.Source<>() {
+            @Override
+            public CompletableFuture<Map<String, String>> poll() {
+                int index = polls.getAndIncrement();
+                return CompletableFuture.completedFuture(results.get(Math.min(index, results.size() - 1)));
+            }
+
+            @Override
+            public boolean isActive(Map<String, String> items) {
+                return active;
+            }
+
+            @Override
+            public boolean isKeptByPush() {
+                return keptByPush;
+            }
+        };
+    }
+
+    private void runNext() {
+        scheduled.removeFirst().run();
+    }
+}
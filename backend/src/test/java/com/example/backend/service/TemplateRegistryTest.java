@@ -0,0 +1,87 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.github.mustachejava.DefaultMustacheFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateRegistryTest {
+
+    @TempDir
+    Path templateDir;
+
+    @Test
+    @DisplayName("classpath 의 템플릿을 모두 컴파일하고 이름으로 렌더링")
+    void render_classpathTemplates() {
+        TemplateRegistry registry = classpathRegistry(64);
+
+        assertTrue(registry.names().containsAll(Set.of("config", "script")));
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("description", "배포 job");
+        context.put("script", "pipeline { agent any }");
+        context.put("cronExpression", "H 2 * * *");
+        String config = registry.render("config", context);
+
+        assertTrue(config.contains("<description>배포 job</description>"));
+        assertTrue(config.contains("pipeline { agent any }"));
+        assertTrue(config.contains("<spec>H 2 * * *</spec>"));
+        assertFalse(config.contains("GitHubPushTrigger"));
+    }
+
+    @Test
+    @DisplayName("재사용 버퍼에 이전 렌더링 결과가 남지 않음")
+    void render_reusesBufferWithoutLeftovers() {
+        TemplateRegistry registry = classpathRegistry(64);
+
+        String large = registry.render("config", Map.of("script", "x".repeat(10_000), "description", "large"));
+        String small = registry.render("config", Map.of("description", "small"));
+
+        assertTrue(large.length() > 10_000);
+        assertFalse(small.contains("xxxx"));
+        assertTrue(small.startsWith("<?xml"));
+        assertEquals(small, registry.render("config", Map.of("description", "small")));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 템플릿은 MUSTACHE_FILE_NOT_FOUND")
+    void render_unknownTemplate() {
+        TemplateRegistry registry = classpathRegistry(65536);
+
+        CustomException ex = assertThrows(CustomException.class, () -> registry.render("k8s-deploy", Map.of()));
+        assertEquals(ErrorCode.MUSTACHE_FILE_NOT_FOUND, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("hot reload - 파일이 바뀌거나 추가되면 다시 컴파일")
+    void render_hotReload() throws Exception {
+        Path greeting = templateDir.resolve("greeting.mustache");
+        Files.writeString(greeting, "Hello {{name}}");
+        TemplateRegistry registry = new TemplateRegistry(new DefaultMustacheFactory(), true,
+                templateDir.toString(), 0, 64, 65536);
+
+        assertEquals("Hello pipely", registry.render("greeting", Map.of("name", "pipely")));
+
+        Files.writeString(greeting, "Bye {{name}}");
+        Files.setLastModifiedTime(greeting, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        Files.writeString(templateDir.resolve("deploy.mustache"), "kubectl apply -n {{namespace}}");
+
+        assertEquals("Bye pipely", registry.render("greeting", Map.of("name", "pipely")));
+        assertEquals("kubectl apply -n prod", registry.render("deploy", Map.of("namespace", "prod")));
+    }
+
+    private static TemplateRegistry classpathRegistry(int maxRetainedChars) {
+        return new TemplateRegistry(new DefaultMustacheFactory(), false, "does-not-exist", 1000, 64, maxRetainedChars);
+    }
+}
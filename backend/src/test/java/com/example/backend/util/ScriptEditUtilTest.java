@@ -0,0 +1,63 @@
+package com.example.backend.util;
+
+import com.example.backend.parser.Jenkinsfile;
+import com.example.backend.service.HttpClientService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptEditUtilTest {
+
+    @InjectMocks
+    private ScriptEditUtil scriptEditUtil;
+
+    @Mock
+    private HttpClientService httpClientService;
+
+    @Test
+    @DisplayName("injectBooleanParams - parameters 블록을 만들고 중첩 블록이 있는 stage 에도 when 삽입")
+    void injectBooleanParams_createsParametersAndWhen() {
+        String script = """
+                pipeline {
+                  agent any
+                  stages {
+                    stage('Git clone') {
+                      steps { script { if (true) { echo 'x' } } }
+                    }
+                    stage('Build') {
+                      steps { sh './gradlew build' }
+                    }
+                  }
+                }
+                """;
+
+        String injected = scriptEditUtil.injectBooleanParams(script);
+
+        Jenkinsfile result = Jenkinsfile.parse(injected);
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(Set.of("RUN_GIT_CLONE", "RUN_BUILD"), result.getParameterNames());
+        assertTrue(result.getStages().stream().allMatch(stage -> stage.hasChild("when")));
+        assertTrue(injected.contains("when { expression { params.RUN_GIT_CLONE } }"));
+    }
+
+    @Test
+    @DisplayName("injectBooleanParams - 다시 적용해도 파라미터와 when 이 중복되지 않음")
+    void injectBooleanParams_isIdempotent() {
+        String script = "pipeline {\n  parameters {\n  }\n  stages {\n    stage('Test') { steps { echo 't' } }\n  }\n}\n";
+
+        String once = scriptEditUtil.injectBooleanParams(script);
+        String twice = scriptEditUtil.injectBooleanParams(once);
+
+        assertEquals(once, twice);
+        assertEquals(List.of("Test"), scriptEditUtil.extractStageNames(twice));
+    }
+}